@@ -1,28 +1,44 @@
 package com.concertcomparison.application.service;
 
+import com.concertcomparison.domain.event.ConcertChangedEvent;
 import com.concertcomparison.domain.exception.ConcertNotFoundException;
 import com.concertcomparison.domain.model.Concert;
 import com.concertcomparison.domain.model.Seat;
 import com.concertcomparison.domain.repository.ConcertFilterCriteria;
 import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.ConcertSummaryView;
 import com.concertcomparison.domain.repository.SeatAvailabilityAggregate;
 import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.cache.ConcertCatalogCache;
+import com.concertcomparison.infrastructure.search.ConcertFacetDocument;
+import com.concertcomparison.infrastructure.search.ConcertFacetIndex;
+import com.concertcomparison.infrastructure.search.ConcertFacetQuery;
+import com.concertcomparison.infrastructure.search.ConcertFacetResult;
 import com.concertcomparison.presentation.dto.ConcertListItemDTO;
 import com.concertcomparison.presentation.dto.CreateConcertRequestDTO;
 import com.concertcomparison.presentation.dto.CreateSeatRequestDTO;
 import com.concertcomparison.presentation.dto.ConcertResponseDTO;
+import com.concertcomparison.presentation.dto.FacetedConcertResponseDTO;
 import com.concertcomparison.presentation.dto.PagedConcertResponseDTO;
+import com.concertcomparison.presentation.dto.SeatReplaceMode;
+import com.concertcomparison.presentation.dto.SeatReplaceResultDTO;
 import com.concertcomparison.presentation.dto.UpdateConcertRequestDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -40,6 +56,8 @@ import org.springframework.data.domain.Sort;
  * - Service kümmert sich um Orchestrierung und DTO-Mapping
  * - @Transactional für Transaktionsgrenzen
  * - Cache-Invalidierung bei Änderungen
+ * - ConcertChangedEvent bei Änderungen (hält u.a. den Facetten-Index und den
+ *   {@link ConcertCatalogCache} nach Commit aktuell)
  */
 @Service
 @Transactional
@@ -47,13 +65,25 @@ public class ConcertApplicationService {
     
     private static final Logger logger = LoggerFactory.getLogger(ConcertApplicationService.class);
     
+    /** Max. Anzahl IDs pro DELETE ... IN (...) beim Seat-Abgleich. */
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    
     private final ConcertRepository concertRepository;
     private final SeatRepository seatRepository;
+    private final ConcertFacetIndex facetIndex;
+    private final ConcertCatalogCache catalogCache;
+    private final ApplicationEventPublisher eventPublisher;
     
     public ConcertApplicationService(ConcertRepository concertRepository, 
-                                    SeatRepository seatRepository) {
+                                    SeatRepository seatRepository,
+                                    ConcertFacetIndex facetIndex,
+                                    ConcertCatalogCache catalogCache,
+                                    ApplicationEventPublisher eventPublisher) {
         this.concertRepository = concertRepository;
         this.seatRepository = seatRepository;
+        this.facetIndex = facetIndex;
+        this.catalogCache = catalogCache;
+        this.eventPublisher = eventPublisher;
     }
     
     /**
@@ -72,7 +102,6 @@ public class ConcertApplicationService {
      * @throws IllegalArgumentException wenn Name oder Venue null/leer
      * @throws com.concertcomparison.domain.exception.InvalidConcertDateException wenn Datum in der Vergangenheit liegt
      */
-    @CacheEvict(value = "concertCache", allEntries = true)
     public ConcertResponseDTO createConcert(CreateConcertRequestDTO request) {
         logger.info("Creating new concert: {}", request.getName());
         
@@ -83,12 +112,15 @@ public class ConcertApplicationService {
             request.getVenue(),
             request.getDescription()
         );
+        concert.scheduleOnSale(request.getOnSaleAt());
         
         // Persistieren
         Concert saved = concertRepository.save(concert);
         
         logger.info("Concert created successfully with ID: {}", saved.getId());
         
+        eventPublisher.publishEvent(ConcertChangedEvent.created(saved.getId()));
+        
         // Zu DTO mappen
         return mapToResponseDTO(saved);
     }
@@ -98,14 +130,13 @@ public class ConcertApplicationService {
      * 
      * Use Case: Admin aktualisiert Konzert-Metadaten.
      * 
-     * Aktualisierbare Felder: name, date, venue, description.
+     * Aktualisierbare Felder: name, date, venue, description, onSaleAt.
      * 
      * @param concertId ID des zu aktualisierenden Concerts
      * @param request UpdateConcertRequestDTO mit neuen Daten
      * @return ConcertResponseDTO mit aktualisiertem Concert
      * @throws IllegalArgumentException wenn Concert nicht gefunden oder Validierung fehlschlägt
      */
-    @CacheEvict(value = "concertCache", allEntries = true)
     public ConcertResponseDTO updateConcert(Long concertId, UpdateConcertRequestDTO request) {
         logger.info("Updating concert with ID: {}", concertId);
         
@@ -120,12 +151,15 @@ public class ConcertApplicationService {
             request.getVenue(),
             request.getDescription()
         );
+        concert.scheduleOnSale(request.getOnSaleAt());
         
         // Persistieren (JPA @PreUpdate wird aufgerufen)
         Concert updated = concertRepository.save(concert);
         
         logger.info("Concert updated successfully: {}", concertId);
         
+        eventPublisher.publishEvent(ConcertChangedEvent.updated(concertId));
+        
         // Zu DTO mappen
         return mapToResponseDTO(updated);
     }
@@ -141,7 +175,7 @@ public class ConcertApplicationService {
      * @param concertId ID des zu löschenden Concerts
      * @throws IllegalArgumentException wenn Concert nicht gefunden
      */
-    @CacheEvict(value = "concertCache", allEntries = true)
+    @CacheEvict(value = "inventorySummary", key = "#concertId")
     public void deleteConcert(Long concertId) {
         logger.warn("Deleting concert with ID: {}", concertId);
         
@@ -162,6 +196,8 @@ public class ConcertApplicationService {
         concertRepository.deleteById(concertId);
         
         logger.info("Concert successfully deleted: {}", concertId);
+        
+        eventPublisher.publishEvent(ConcertChangedEvent.deleted(concertId));
     }
     
     /**
@@ -184,7 +220,7 @@ public class ConcertApplicationService {
      * @param seatDTOs Liste von CreateSeatRequestDTO
      * @throws IllegalArgumentException wenn Concert nicht gefunden oder keine Seats vorhanden
      */
-    @CacheEvict(value = "seatAvailability", allEntries = true)
+    @CacheEvict(value = "inventorySummary", key = "#concertId")
     public void createSeats(Long concertId, List<CreateSeatRequestDTO> seatDTOs) {
         // Validierung: Mindestens 1 Seat erforderlich
         if (seatDTOs == null || seatDTOs.isEmpty()) {
@@ -195,7 +231,7 @@ public class ConcertApplicationService {
         logger.info("Creating {} seats for concert ID: {}", seatDTOs.size(), concertId);
         
         // Prüfe ob Concert existiert
-        concertRepository.findById(concertId)
+        Concert concert = concertRepository.findById(concertId)
             .orElseThrow(() -> new IllegalArgumentException("Concert mit ID " + concertId + " nicht gefunden"));
         
         // Erstelle Seat Entities aus DTOs
@@ -216,20 +252,37 @@ public class ConcertApplicationService {
         List<Seat> saved = seatRepository.saveAllBatch(seatsToCreate);
         
         logger.info("Successfully created {} seats for concert ID: {}", saved.size(), concertId);
+        
+        // Layout hat sich geändert → neue Layout-Version (ETag / Cache-Key für Clients)
+        concert.bumpSeatLayoutVersion();
+        concertRepository.save(concert);
+        
+        eventPublisher.publishEvent(ConcertChangedEvent.seatsChanged(concertId));
     }
     
     /**
-     * Ersetzt ALLE Sitzplätze eines Concerts (Delete + Create).
+     * Ersetzt die Sitzplätze eines Concerts.
+     * 
+     * Modus RECONCILE (Standard): Abgleich über die Sitzplatznummer.
+     * - Geänderte Seats (Kategorie, Block, Reihe, Nummer, Preis) → gebatchte UPDATEs
+     * - Neue Seats → gebatchte INSERTs
+     * - Entfernte Seats → DELETE nur, wenn AVAILABLE
+     * - HELD/SOLD Seats werden weder geändert noch gelöscht (retained)
+     * - Seat-IDs unveränderter Seats bleiben stabil
+     * - Identischer Upload (gleicher Seat-Set-Hash) → No-Op ohne Laden der Seats
      * 
-     * Löscht erst alle vorhandenen Sitze, dann erstellt die neuen.
+     * Modus FULL: Löscht erst alle vorhandenen Sitze, dann erstellt die neuen.
      * WARNUNG: Vorhandene Reservierungen (HELD, SOLD) werden auch gelöscht!
      * 
      * @param concertId ID des Concerts
      * @param seatDTOs Liste der neuen Seats
-     * @throws IllegalArgumentException wenn Concert nicht gefunden oder keine Seats vorhanden
+     * @param mode Abgleich oder vollständiges Ersetzen
+     * @return Anzahl eingefügter, geänderter, gelöschter und unveränderter Seats
+     * @throws IllegalArgumentException wenn Concert nicht gefunden, keine Seats vorhanden
+     *         oder Sitzplatznummern doppelt sind
      */
-    @CacheEvict(value = "seatAvailability", allEntries = true)
-    public void replaceSeats(Long concertId, List<CreateSeatRequestDTO> seatDTOs) {
+    @CacheEvict(value = "inventorySummary", key = "#concertId")
+    public SeatReplaceResultDTO replaceSeats(Long concertId, List<CreateSeatRequestDTO> seatDTOs, SeatReplaceMode mode) {
         // Validierung: Mindestens 1 Seat erforderlich
         if (seatDTOs == null || seatDTOs.isEmpty()) {
             logger.warn("replaceSeats called with null or empty seat list for concert ID: {}", concertId);
@@ -237,45 +290,155 @@ public class ConcertApplicationService {
         }
         
         // Prüfe ob Concert existiert
-        concertRepository.findById(concertId)
+        Concert concert = concertRepository.findById(concertId)
             .orElseThrow(() -> new IllegalArgumentException("Concert mit ID " + concertId + " nicht gefunden"));
         
+        Map<String, CreateSeatRequestDTO> incoming = indexBySeatNumber(seatDTOs);
+        String seatSetHash = seatSetHash(incoming);
+        
+        SeatReplaceResultDTO result = mode == SeatReplaceMode.FULL
+            ? replaceAllSeats(concert, incoming)
+            : reconcileSeats(concert, incoming, seatSetHash);
+        
+        if (result.noOp()) {
+            return result;
+        }
+        
+        // Nur bei vollständig übernommenem Upload: sonst würde ein späterer identischer Upload
+        // (nach Freigabe der HELD Seats) fälschlich als No-Op erkannt
+        concert.recordSeatSetHash(result.retained() == 0 ? seatSetHash : null);
+        concertRepository.save(concert);
+        
+        logger.info("Replaced seats for concert ID: {} ({}). Inserted: {}, Updated: {}, Deleted: {}, Unchanged: {}, Retained: {}",
+                   concertId, mode, result.inserted(), result.updated(), result.deleted(), result.unchanged(), result.retained());
+        
+        return result;
+    }
+    
+    private SeatReplaceResultDTO replaceAllSeats(Concert concert, Map<String, CreateSeatRequestDTO> incoming) {
+        Long concertId = concert.getId();
+        
         // 1. Lösche alle vorhandenen Seats
         int deletedCount = seatRepository.deleteAllByConcertId(concertId);
-        logger.info("Deleted {} existing seats for concert ID: {}", deletedCount, concertId);
         
         // 2. Erstelle neue Seats
-        List<Seat> seatsToCreate = seatDTOs.stream()
-            .map(dto -> new Seat(
-                concertId,
-                dto.getSeatNumber(),
-                dto.getCategory(),
-                dto.getBlock(),
-                dto.getRow(),
-                dto.getNumber(),
-                dto.getPrice()
-            ))
+        List<Seat> seatsToCreate = incoming.values().stream()
+            .map(dto -> toSeat(concertId, dto))
             .collect(Collectors.toList());
+        seatRepository.saveAllBatch(seatsToCreate);
         
-        List<Seat> saved = seatRepository.saveAllBatch(seatsToCreate);
+        concert.bumpSeatLayoutVersion();
+        eventPublisher.publishEvent(ConcertChangedEvent.seatsChanged(concertId));
         
-        logger.info("Successfully replaced seats for concert ID: {}. Deleted: {}, Created: {}", 
-                   concertId, deletedCount, saved.size());
+        return new SeatReplaceResultDTO(String.valueOf(concertId), SeatReplaceMode.FULL,
+            seatsToCreate.size(), 0, deletedCount, 0, 0, false, concert.getSeatLayoutVersion());
+    }
+    
+    private SeatReplaceResultDTO reconcileSeats(Concert concert, Map<String, CreateSeatRequestDTO> incoming,
+                                                String seatSetHash) {
+        Long concertId = concert.getId();
+        
+        if (seatSetHash.equals(concert.getSeatSetHash())) {
+            logger.info("Seat set for concert ID: {} unchanged (hash match), skipping replace", concertId);
+            return new SeatReplaceResultDTO(String.valueOf(concertId), SeatReplaceMode.RECONCILE,
+                0, 0, 0, incoming.size(), 0, true, concert.getSeatLayoutVersion());
+        }
+        
+        int updated = 0;
+        int unchanged = 0;
+        int retained = 0;
+        List<Long> toDelete = new ArrayList<>();
+        Map<String, CreateSeatRequestDTO> toInsert = new LinkedHashMap<>(incoming);
+        
+        for (Seat seat : seatRepository.findByConcertId(concertId)) {
+            CreateSeatRequestDTO dto = toInsert.remove(seat.getSeatNumber());
+            if (!seat.isAvailable()) {
+                retained++;
+            } else if (dto == null) {
+                toDelete.add(seat.getId());
+            } else if (seat.changeLayout(dto.getCategory(), dto.getBlock(), dto.getRow(), dto.getNumber(), dto.getPrice())) {
+                // Dirty Checking → gebatchte UPDATEs beim Flush
+                updated++;
+            } else {
+                unchanged++;
+            }
+        }
+        
+        int deleted = 0;
+        for (int from = 0; from < toDelete.size(); from += DELETE_CHUNK_SIZE) {
+            deleted += seatRepository.deleteAvailableByIdIn(
+                toDelete.subList(from, Math.min(from + DELETE_CHUNK_SIZE, toDelete.size())));
+        }
+        // Zwischenzeitlich reservierte Seats wurden nicht gelöscht
+        retained += toDelete.size() - deleted;
+        
+        List<Seat> seatsToCreate = toInsert.values().stream()
+            .map(dto -> toSeat(concertId, dto))
+            .collect(Collectors.toList());
+        seatRepository.saveAllBatch(seatsToCreate);
+        
+        boolean layoutChanged = updated > 0 || deleted > 0 || !seatsToCreate.isEmpty();
+        if (layoutChanged) {
+            concert.bumpSeatLayoutVersion();
+            eventPublisher.publishEvent(ConcertChangedEvent.seatsChanged(concertId));
+        }
+        
+        return new SeatReplaceResultDTO(String.valueOf(concertId), SeatReplaceMode.RECONCILE,
+            seatsToCreate.size(), updated, deleted, unchanged, retained, false, concert.getSeatLayoutVersion());
+    }
+    
+    private static Map<String, CreateSeatRequestDTO> indexBySeatNumber(List<CreateSeatRequestDTO> seatDTOs) {
+        Map<String, CreateSeatRequestDTO> bySeatNumber = new LinkedHashMap<>();
+        for (CreateSeatRequestDTO dto : seatDTOs) {
+            if (bySeatNumber.put(dto.getSeatNumber(), dto) != null) {
+                throw new IllegalArgumentException("Sitzplatznummer doppelt vorhanden: " + dto.getSeatNumber());
+            }
+        }
+        return bySeatNumber;
+    }
+    
+    /**
+     * SHA-256 über das nach Sitzplatznummer sortierte Seat-Set (unabhängig von der Upload-Reihenfolge).
+     */
+    private static String seatSetHash(Map<String, CreateSeatRequestDTO> seats) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 nicht verfügbar", e);
+        }
+        seats.values().stream()
+            .sorted(Comparator.comparing(CreateSeatRequestDTO::getSeatNumber))
+            .forEach(dto -> digest.update((dto.getSeatNumber() + '|' + dto.getCategory() + '|' + dto.getBlock() + '|'
+                + dto.getRow() + '|' + dto.getNumber() + '|' + dto.getPrice() + '\n').getBytes(StandardCharsets.UTF_8)));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
+    private static Seat toSeat(Long concertId, CreateSeatRequestDTO dto) {
+        return new Seat(
+            concertId,
+            dto.getSeatNumber(),
+            dto.getCategory(),
+            dto.getBlock(),
+            dto.getRow(),
+            dto.getNumber(),
+            dto.getPrice()
+        );
     }
     
     /**
      * Ruft alle Concerts ab (Read-Only).
      * 
+     * Zusammengesetzt aus der gecachten ID-Liste und den gecachten Concert-Einträgen
+     * ({@link ConcertCatalogCache}); nur fehlende Einträge werden nachgeladen.
+     * 
      * @return List von ConcertResponseDTOs
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "concertCache")
     public List<ConcertResponseDTO> getAllConcerts() {
         logger.debug("Fetching all concerts");
         
-        List<Concert> concerts = concertRepository.findAll();
-        
-        return concerts.stream()
+        return catalogCache.summaries(catalogCache.concertIds()).stream()
             .map(this::mapToResponseDTO)
             .collect(Collectors.toList());
     }
@@ -349,6 +512,38 @@ public class ConcertApplicationService {
 
         return new PagedConcertResponseDTO(items, metadata);
     }
+
+    /**
+     * Facettierte Konzertsuche über den In-Memory {@link ConcertFacetIndex}.
+     *
+     * Liefert die gefilterte Seite und die Zählungen aller Facetten in einem Aufruf,
+     * ohne pro Facette eine eigene findAllWithFilters-Query auszuführen.
+     *
+     * @param query    Facetten-Filter (venue, month, priceBucket, availability)
+     * @param pageable Pageable inkl. Sortierung (date|name|price)
+     * @return Seite + Facetten-Zählungen
+     */
+    @Transactional(readOnly = true)
+    public FacetedConcertResponseDTO browseConcerts(ConcertFacetQuery query, Pageable pageable) {
+        ConcertFacetResult result = facetIndex.search(query, pageable);
+
+        List<ConcertListItemDTO> items = result.content().stream()
+            .map(this::mapToListItem)
+            .toList();
+
+        int totalPages = pageable.getPageSize() == 0
+            ? 1
+            : (int) Math.ceil((double) result.totalElements() / pageable.getPageSize());
+
+        PagedConcertResponseDTO.PageMetadata metadata = new PagedConcertResponseDTO.PageMetadata(
+            pageable.getPageNumber(),
+            pageable.getPageSize(),
+            result.totalElements(),
+            totalPages
+        );
+
+        return new FacetedConcertResponseDTO(items, metadata, result.facets());
+    }
     
     /**
      * Ruft ein Concert anhand der ID ab (Read-Only).
@@ -361,7 +556,7 @@ public class ConcertApplicationService {
     public ConcertResponseDTO getConcertById(Long concertId) {
         logger.debug("Fetching concert with ID: {}", concertId);
         
-        Concert concert = concertRepository.findById(concertId)
+        ConcertSummaryView concert = catalogCache.summary(concertId)
             .orElseThrow(() -> new ConcertNotFoundException(concertId));
         
         return mapToResponseDTO(concert);
@@ -377,9 +572,7 @@ public class ConcertApplicationService {
     public List<ConcertResponseDTO> searchConcertsByName(String name) {
         logger.debug("Searching concerts by name: {}", name);
         
-        List<Concert> concerts = concertRepository.findByNameContainingIgnoreCase(name);
-        
-        return concerts.stream()
+        return concertRepository.findSummariesByNameContainingIgnoreCase(name).stream()
             .map(this::mapToResponseDTO)
             .collect(Collectors.toList());
     }
@@ -399,6 +592,26 @@ public class ConcertApplicationService {
             .description(concert.getDescription())
             .createdAt(concert.getCreatedAt())
             .updatedAt(concert.getUpdatedAt())
+            .onSaleAt(concert.getOnSaleAt())
+            .build();
+    }
+
+    /**
+     * Hilfsmethode: Mappt Concert-Lese-Sicht zu ConcertResponseDTO.
+     * 
+     * @param concert Concert Summary (Projection)
+     * @return ConcertResponseDTO
+     */
+    private ConcertResponseDTO mapToResponseDTO(ConcertSummaryView concert) {
+        return ConcertResponseDTO.builder()
+            .id(String.valueOf(concert.id()))
+            .name(concert.name())
+            .date(concert.date())
+            .venue(concert.venue())
+            .description(concert.description())
+            .createdAt(concert.createdAt())
+            .updatedAt(concert.updatedAt())
+            .onSaleAt(concert.onSaleAt())
             .build();
     }
 
@@ -430,4 +643,19 @@ public class ConcertApplicationService {
             .availabilityStatus(availabilityStatus)
             .build();
     }
+
+    private ConcertListItemDTO mapToListItem(ConcertFacetDocument document) {
+        return ConcertListItemDTO.builder()
+            .id(String.valueOf(document.concertId()))
+            .name(document.name())
+            .date(document.date())
+            .venue(document.venue())
+            .description(document.description())
+            .totalSeats(document.totalSeats())
+            .availableSeats(document.availableSeats())
+            .minPrice(document.minPrice())
+            .maxPrice(document.maxPrice())
+            .availabilityStatus(document.availabilityStatus())
+            .build();
+    }
 }
@@ -0,0 +1,177 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.presentation.dto.ConcertComparisonItemDTO;
+import com.concertcomparison.presentation.dto.ConcertComparisonResponseDTO;
+import com.concertcomparison.presentation.dto.ConcertInventorySummaryDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Application Service für den Vergleich mehrerer Konzerte in einem Round-Trip.
+ * 
+ * Ablauf:
+ * 1. Concert-Metadaten aller IDs in einem Query laden
+ * 2. Inventar-Zusammenfassungen (gecacht, siehe {@link InventorySummaryService})
+ *    parallel auf einem begrenzten Thread-Pool laden
+ * 3. Auf alle Ergebnisse höchstens bis zum Latenz-Budget warten; nicht
+ *    rechtzeitig fertige Konzerte werden als TIMEOUT markiert (Partial Result)
+ * 
+ * Der Pool ist bewusst eigenständig (kein Spring Executor Bean), damit er
+ * nicht den Default-Executor für @Async ersetzt. Ist die Queue voll, wird der
+ * Task abgelehnt und das Konzert als FAILED geliefert statt den Request zu blockieren.
+ */
+@Service
+public class ConcertComparisonService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ConcertComparisonService.class);
+    
+    private final ConcertRepository concertRepository;
+    private final InventorySummaryService inventorySummaryService;
+    private final ExecutorService executor;
+    private final int maxConcerts;
+    private final long timeoutMs;
+    
+    public ConcertComparisonService(ConcertRepository concertRepository,
+                                    InventorySummaryService inventorySummaryService,
+                                    @Value("${concert.compare.max-concerts:10}") int maxConcerts,
+                                    @Value("${concert.compare.timeout-ms:800}") long timeoutMs,
+                                    @Value("${concert.compare.pool-size:8}") int poolSize,
+                                    @Value("${concert.compare.queue-capacity:64}") int queueCapacity) {
+        this.concertRepository = concertRepository;
+        this.inventorySummaryService = inventorySummaryService;
+        this.maxConcerts = maxConcerts;
+        this.timeoutMs = timeoutMs;
+        
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "concert-compare-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        ((ThreadPoolExecutor) this.executor).allowCoreThreadTimeOut(true);
+    }
+    
+    /**
+     * Use Case: Mehrere Konzerte nebeneinander vergleichen.
+     * 
+     * @param concertIds IDs der Konzerte (Duplikate werden ignoriert, Reihenfolge bleibt erhalten)
+     * @return Vergleich inkl. Kennzeichnung nicht gefundener bzw. nicht rechtzeitig geladener Konzerte
+     * @throws IllegalArgumentException wenn keine oder zu viele IDs übergeben werden
+     */
+    public ConcertComparisonResponseDTO compareConcerts(List<Long> concertIds) {
+        long start = System.nanoTime();
+        
+        if (concertIds == null || concertIds.isEmpty()) {
+            throw new IllegalArgumentException("Mindestens eine Concert-ID erforderlich");
+        }
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(concertIds));
+        if (distinctIds.size() > maxConcerts) {
+            throw new IllegalArgumentException(
+                "Maximal " + maxConcerts + " Konzerte können verglichen werden");
+        }
+        
+        Map<Long, Concert> concerts = concertRepository.findAllById(distinctIds).stream()
+            .collect(Collectors.toMap(Concert::getId, Function.identity()));
+        
+        // Fan-out: Inventar-Zusammenfassungen parallel laden
+        Map<Long, Future<ConcertInventorySummaryDTO>> futures = new LinkedHashMap<>();
+        for (Long concertId : distinctIds) {
+            if (concerts.containsKey(concertId)) {
+                futures.put(concertId, submit(concertId));
+            }
+        }
+        
+        // Fan-in: gemeinsame Deadline für alle Ergebnisse
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        List<ConcertComparisonItemDTO> items = new ArrayList<>();
+        List<String> notFoundIds = new ArrayList<>();
+        boolean complete = true;
+        
+        for (Long concertId : distinctIds) {
+            Concert concert = concerts.get(concertId);
+            if (concert == null) {
+                notFoundIds.add(String.valueOf(concertId));
+                continue;
+            }
+            
+            ConcertComparisonItemDTO.Builder item = ConcertComparisonItemDTO.builder()
+                .id(String.valueOf(concert.getId()))
+                .name(concert.getName())
+                .date(concert.getDate())
+                .venue(concert.getVenue());
+            
+            Future<ConcertInventorySummaryDTO> future = futures.get(concertId);
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                item.inventory(future.get(remaining, TimeUnit.NANOSECONDS))
+                    .status(ConcertComparisonItemDTO.STATUS_COMPLETE);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                item.status(ConcertComparisonItemDTO.STATUS_TIMEOUT);
+                complete = false;
+                logger.warn("Inventory summary for concert {} exceeded budget of {} ms", concertId, timeoutMs);
+            } catch (ExecutionException e) {
+                item.status(ConcertComparisonItemDTO.STATUS_FAILED);
+                complete = false;
+                logger.error("Failed to load inventory summary for concert {}", concertId, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                item.status(ConcertComparisonItemDTO.STATUS_FAILED);
+                complete = false;
+            }
+            items.add(item.build());
+        }
+        
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.debug("Compared {} concerts in {} ms (complete={})", items.size(), durationMs, complete);
+        
+        return new ConcertComparisonResponseDTO(items, notFoundIds, complete, durationMs);
+    }
+    
+    /**
+     * FutureTask statt CompletableFuture: nur so unterbricht cancel(true) den laufenden
+     * Task und gibt den Pool-Thread nach Ablauf des Budgets frei.
+     */
+    private Future<ConcertInventorySummaryDTO> submit(Long concertId) {
+        try {
+            return executor.submit(() -> inventorySummaryService.getInventorySummary(concertId));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Comparison executor saturated, skipping concert {}", concertId);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -9,8 +9,10 @@ import com.concertcomparison.domain.model.Seat;
 import com.concertcomparison.domain.model.SeatStatus;
 import com.concertcomparison.domain.repository.ReservationRepository;
 import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.cache.SeatConcertLookup;
+import com.concertcomparison.infrastructure.metrics.BookingMetrics;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
 import com.concertcomparison.presentation.dto.HoldResponseDTO;
-import jakarta.persistence.OptimisticLockException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,6 +34,9 @@ public class HoldApplicationService {
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final SeatConcertLookup seatConcertLookup;
+    private final HoldQuotaTracker holdQuotaTracker;
+    private final BookingMetrics bookingMetrics;
 
     @Value("${concert.hold.ttl-minutes:15}")
     private int holdTtlMinutes;
@@ -39,10 +44,16 @@ public class HoldApplicationService {
     public HoldApplicationService(
             SeatRepository seatRepository,
             ReservationRepository reservationRepository,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            SeatConcertLookup seatConcertLookup,
+            HoldQuotaTracker holdQuotaTracker,
+            BookingMetrics bookingMetrics) {
         this.seatRepository = seatRepository;
         this.reservationRepository = reservationRepository;
         this.eventPublisher = eventPublisher;
+        this.seatConcertLookup = seatConcertLookup;
+        this.holdQuotaTracker = holdQuotaTracker;
+        this.bookingMetrics = bookingMetrics;
     }
 
     /**
@@ -51,47 +62,42 @@ public class HoldApplicationService {
      * Business Rules:
      * - Seat muss existieren
      * - Seat muss AVAILABLE sein
-     * - Kein anderer aktiver Hold für diesen Seat
+     * - Kein anderer aktiver Hold für diesen Seat (AVAILABLE impliziert: keine aktive Reservation)
+     * 
+     * Ablauf (2 Statements statt Read-Modify-Write):
+     * 1. Reservation persistieren → ID kommt aus dem Sequence-Block, INSERT erst beim Commit
+     * 2. Bedingtes UPDATE seats ... WHERE id = ? AND status = 'AVAILABLE' mit dieser Reservation-ID
+     * 3. 0 betroffene Zeilen → Seat vergeben: Exception, Rollback verwirft den nie geschriebenen INSERT
      * 
      * @param seatId ID des Seats
      * @param userId ID des Users
      * @return HoldResponseDTO mit holdId, seatId, ttlSeconds, expiresAt
-     * @throws IllegalArgumentException wenn Seat nicht existiert
-     * @throws IllegalStateException wenn Seat nicht AVAILABLE ist
-     * @throws OptimisticLockException bei Concurrency Conflict
+     * @throws SeatNotFoundException wenn Seat nicht existiert
+     * @throws SeatNotAvailableException wenn Seat nicht AVAILABLE ist
      */
     @Transactional
     public HoldResponseDTO createHold(Long seatId, String userId) {
         logger.info("Creating hold for seatId={}, userId={}", seatId, userId);
 
-        // 1. Seat laden
-        Seat seat = seatRepository.findById(seatId)
-            .orElseThrow(() -> new SeatNotFoundException(seatId));
-
-        // 2. Prüfen ob bereits ein aktiver Hold existiert
-        reservationRepository.findActiveBySeatId(seatId).ifPresent(existingHold -> {
+        // 1. Reservation-ID vorab vergeben (persist ohne Flush)
+        Reservation reservation = reservationRepository.save(
+            Reservation.createHold(seatId, userId, holdTtlMinutes));
+
+        // 2. Seat bedingt auf HELD setzen - genau ein Gewinner
+        int updated = seatRepository.holdIfAvailable(
+            seatId, String.valueOf(reservation.getId()), reservation.getExpiresAt());
+        if (updated == 0) {
+            if (!seatRepository.existsById(seatId)) {
+                throw new SeatNotFoundException(seatId);
+            }
             throw new SeatNotAvailableException(
-                String.format("Seat %d hat bereits einen aktiven Hold (holdId=%d)", 
-                    seatId, existingHold.getId())
-            );
-        });
-
-        // 3. Seat auf HELD setzen (Domain Logic)
-        seat.hold(String.valueOf(seatId), holdTtlMinutes);
-        seatRepository.save(seat);
-
-        // 4. Reservation erstellen
-        Reservation reservation = Reservation.createHold(seatId, userId, holdTtlMinutes);
-        reservation = reservationRepository.save(reservation);
-
-        // 5. Seat holdReservationId mit finaler Reservation ID aktualisieren
-        seat.updateHoldReservationId(String.valueOf(reservation.getId()));
-        seatRepository.save(seat);
+                String.format("Seat %d ist nicht verfügbar (bereits reserviert oder verkauft)", seatId));
+        }
 
-        // 6. Event publishen für Cache-Invalidierung (AVAILABLE → HELD)
+        // 3. Event publishen für Cache-Invalidierung (AVAILABLE → HELD)
         SeatStatusChangedEvent event = SeatStatusChangedEvent.holdCreated(
             seatId,
-            seat.getConcertId(),
+            seatConcertLookup.concertIdOf(seatId),
             userId
         );
         eventPublisher.publishEvent(event);
@@ -99,7 +105,7 @@ public class HoldApplicationService {
         logger.info("Hold created: holdId={}, seatId={}, expiresAt={}",
             reservation.getId(), seatId, reservation.getExpiresAt());
 
-        // 7. Response DTO erstellen
+        // 4. Response DTO erstellen
         int ttlSeconds = (int) Duration.ofMinutes(holdTtlMinutes).getSeconds();
         return new HoldResponseDTO(
             String.valueOf(reservation.getId()),
@@ -116,6 +122,8 @@ public class HoldApplicationService {
      * - Hold muss existieren
      * - Hold muss ACTIVE sein
      * - Seat wird auf AVAILABLE zurückgesetzt
+     * - Hold-Quota des Users wird nach Commit freigegeben
+     * - Zählt booking.hold.released{reason=cancelled}
      * 
      * @param holdId ID des Holds
      * @throws IllegalArgumentException wenn Hold nicht existiert
@@ -156,8 +164,10 @@ public class HoldApplicationService {
             eventPublisher.publishEvent(event);
         }
 
-        // 3. Reservation löschen
+        // 3. Reservation löschen und Hold-Quota freigeben
         reservationRepository.delete(reservation);
+        holdQuotaTracker.releaseAfterCommit(reservation.getUserId(), seat.getConcertId());
+        bookingMetrics.holdReleased(seat.getConcertId(), BookingMetrics.ReleaseReason.CANCELLED);
 
         logger.info("Hold released: holdId={}, seatId={}", holdId, reservation.getSeatId());
     }
@@ -1,14 +1,18 @@
 package com.concertcomparison.application.service;
 
+import com.concertcomparison.domain.event.SeatStatusChangedEvent;
+import com.concertcomparison.domain.exception.SeatNotAvailableException;
 import com.concertcomparison.domain.exception.SeatNotFoundException;
 import com.concertcomparison.domain.model.Reservation;
 import com.concertcomparison.domain.model.Seat;
 import com.concertcomparison.domain.repository.ReservationRepository;
 import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
 import com.concertcomparison.presentation.dto.HoldResponseDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,15 +50,21 @@ public class HoldApplicationServicePessimistic {
 
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HoldQuotaTracker holdQuotaTracker;
 
     @Value("${concert.hold.ttl-minutes:15}")
     private int holdTtlMinutes;
 
     public HoldApplicationServicePessimistic(
             SeatRepository seatRepository,
-            ReservationRepository reservationRepository) {
+            ReservationRepository reservationRepository,
+            ApplicationEventPublisher eventPublisher,
+            HoldQuotaTracker holdQuotaTracker) {
         this.seatRepository = seatRepository;
         this.reservationRepository = reservationRepository;
+        this.eventPublisher = eventPublisher;
+        this.holdQuotaTracker = holdQuotaTracker;
     }
 
     /**
@@ -81,7 +91,7 @@ public class HoldApplicationServicePessimistic {
      * @param userId ID des Users
      * @return HoldResponseDTO
      * @throws IllegalArgumentException wenn Seat nicht existiert
-     * @throws IllegalStateException wenn Seat nicht verfügbar
+     * @throws SeatNotAvailableException wenn Seat nicht verfügbar (bereits gehalten oder verkauft)
      */
     @Transactional
     public HoldResponseDTO createHoldWithPessimisticLock(Long seatId, String userId) {
@@ -97,7 +107,7 @@ public class HoldApplicationServicePessimistic {
 
         // 2. Prüfen ob bereits Hold existiert
         reservationRepository.findActiveBySeatId(seatId).ifPresent(existingHold -> {
-            throw new IllegalStateException(
+            throw new SeatNotAvailableException(
                 String.format("Seat %d hat bereits einen aktiven Hold (holdId=%d)", 
                     seatId, existingHold.getId())
             );
@@ -116,6 +126,9 @@ public class HoldApplicationServicePessimistic {
         seat.updateHoldReservationId(String.valueOf(reservation.getId()));
         seatRepository.save(seat);
 
+        // Event publishen für Cache-Invalidierung (AVAILABLE → HELD)
+        eventPublisher.publishEvent(SeatStatusChangedEvent.holdCreated(seatId, seat.getConcertId(), userId));
+
         logger.info("[PESSIMISTIC] Hold created: holdId={}, seatId={}, expiresAt={}", 
             reservation.getId(), seatId, reservation.getExpiresAt());
 
@@ -163,8 +176,13 @@ public class HoldApplicationServicePessimistic {
         seat.releaseHold();
         seatRepository.save(seat);
 
-        // Reservation löschen
+        // Event publishen für Cache-Invalidierung (HELD → AVAILABLE)
+        eventPublisher.publishEvent(SeatStatusChangedEvent.holdCancelled(
+            reservation.getSeatId(), seat.getConcertId(), reservation.getUserId()));
+
+        // Reservation löschen und Hold-Quota freigeben
         reservationRepository.delete(reservation);
+        holdQuotaTracker.releaseAfterCommit(reservation.getUserId(), seat.getConcertId());
 
         logger.info("[PESSIMISTIC] Hold released: holdId={}, seatId={}", holdId, reservation.getSeatId());
     }
@@ -0,0 +1,286 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.exception.HoldQuotaExceededException;
+import com.concertcomparison.domain.exception.SeatNotAvailableException;
+import com.concertcomparison.domain.exception.SeatNotFoundException;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.infrastructure.cache.SeatConcertLookup;
+import com.concertcomparison.infrastructure.concurrency.ContentionSketch;
+import com.concertcomparison.infrastructure.metrics.BookingMetrics;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmapRegistry;
+import com.concertcomparison.presentation.dto.HoldResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Wählt pro Hold-Request die Locking-Strategie anhand der gemessenen Konfliktrate.
+ *
+ * Strategien:
+ * - OPTIMISTIC: {@link HoldApplicationService} (bedingtes UPDATE) - schnell, solange selten konkurriert wird
+ * - QUEUED: Requests auf denselben Seat warten in-JVM in einer fairen Warteschlange und laufen
+ *   nacheinander über den optimistischen Pfad - kein DB-Lock und keine Version-Konflikte,
+ *   nach dem ersten Erfolg scheitern die Wartenden sofort an "Seat nicht verfügbar"
+ *
+ * Einen SELECT ... FOR UPDATE-Pfad gibt es hier nicht: Das bedingte UPDATE sperrt die Zeile
+ * bereits für genau ein Statement, ein vorgelagerter Lock brächte nur zusätzliche Roundtrips.
+ *
+ * Konfliktraten werden pro Seat und pro Concert in je einem {@link ContentionSketch} gezählt.
+ * Maßgeblich ist die höhere der beiden Raten (ein heißes Konzert macht alle Seats vorsichtiger),
+ * sobald mindestens {@code min-samples} Versuche gezählt wurden. Als Konflikt zählt nur ein
+ * verlorenes Rennen (siehe {@link #isConflict}); Holds auf längst vergebene Seats zählen als
+ * konfliktfreie Versuche, damit die Rate z.B. nach einem Ausverkauf wieder abklingt.
+ *
+ * Metriken (Micrometer):
+ * - hold.attempts{strategy, outcome=success|conflict|error}
+ * - hold.contention.rate{scope=seat|concert} - geschätzte Konfliktrate bei der Auswahl
+ * - booking.hold{concert, outcome} - Dauer inkl. Quota-Prüfung und Wartezeit, über alle Strategien
+ *   ({@link BookingMetrics}); die Strategie-Anteile stehen in hold.attempts
+ *
+ * Vor jeder Strategie wird die Hold-Quota des Users geprüft ({@link HoldQuotaTracker}, O(1),
+ * ohne DB-Zugriff); scheitert der Hold, wird der belegte Slot zurückgegeben.
+ *
+ * Mit {@code concert.hold.strategy=OPTIMISTIC|QUEUED} wird die Strategie fest
+ * vorgegeben (Benchmarks), Default ist ADAPTIVE.
+ */
+@Service
+public class HoldCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoldCoordinator.class);
+
+    private static final int QUEUE_STRIPES = 1024;
+
+    /**
+     * Locking-Strategie für einen Hold.
+     */
+    public enum Strategy {
+        OPTIMISTIC,
+        QUEUED
+    }
+
+    private final HoldApplicationService optimisticService;
+    private final SeatConcertLookup seatConcertLookup;
+    private final SeatStatusBitmapRegistry seatStatusRegistry;
+    private final HoldQuotaTracker holdQuotaTracker;
+    private final BookingMetrics bookingMetrics;
+
+    private final Strategy fixedStrategy;
+    private final double queuedThreshold;
+    private final int minSamples;
+    private final long queueTimeoutMs;
+
+    private final ContentionSketch seatContention;
+    private final ContentionSketch concertContention;
+    private final ReentrantLock[] queueStripes = new ReentrantLock[QUEUE_STRIPES];
+
+    private final Map<Strategy, Counter> successes = new EnumMap<>(Strategy.class);
+    private final Map<Strategy, Counter> conflicts = new EnumMap<>(Strategy.class);
+    private final Map<Strategy, Counter> errors = new EnumMap<>(Strategy.class);
+    private final DistributionSummary seatRate;
+    private final DistributionSummary concertRate;
+
+    public HoldCoordinator(HoldApplicationService optimisticService,
+                           SeatConcertLookup seatConcertLookup,
+                           SeatStatusBitmapRegistry seatStatusRegistry,
+                           HoldQuotaTracker holdQuotaTracker,
+                           MeterRegistry meterRegistry,
+                           BookingMetrics bookingMetrics,
+                           @Value("${concert.hold.strategy:ADAPTIVE}") String strategy,
+                           @Value("${concert.hold.contention.queued-threshold:0.5}") double queuedThreshold,
+                           @Value("${concert.hold.contention.min-samples:10}") int minSamples,
+                           @Value("${concert.hold.contention.sketch-width:4096}") int sketchWidth,
+                           @Value("${concert.hold.contention.queue-timeout-ms:2000}") long queueTimeoutMs) {
+        if (queuedThreshold <= 0 || queuedThreshold > 1) {
+            throw new IllegalArgumentException("queued-threshold muss zwischen 0 (exklusiv) und 1 liegen");
+        }
+        this.optimisticService = optimisticService;
+        this.seatConcertLookup = seatConcertLookup;
+        this.seatStatusRegistry = seatStatusRegistry;
+        this.holdQuotaTracker = holdQuotaTracker;
+        this.bookingMetrics = bookingMetrics;
+        this.fixedStrategy = "ADAPTIVE".equalsIgnoreCase(strategy)
+            ? null
+            : Strategy.valueOf(strategy.trim().toUpperCase(Locale.ROOT));
+        this.queuedThreshold = queuedThreshold;
+        this.minSamples = minSamples;
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.seatContention = new ContentionSketch(sketchWidth);
+        this.concertContention = new ContentionSketch(sketchWidth);
+        for (int i = 0; i < QUEUE_STRIPES; i++) {
+            queueStripes[i] = new ReentrantLock(true);
+        }
+
+        for (Strategy s : Strategy.values()) {
+            String tag = s.name().toLowerCase(Locale.ROOT);
+            successes.put(s, Counter.builder("hold.attempts").tag("strategy", tag).tag("outcome", "success")
+                .description("Hold-Versuche nach Strategie und Ergebnis").register(meterRegistry));
+            conflicts.put(s, Counter.builder("hold.attempts").tag("strategy", tag).tag("outcome", "conflict")
+                .description("Hold-Versuche nach Strategie und Ergebnis").register(meterRegistry));
+            errors.put(s, Counter.builder("hold.attempts").tag("strategy", tag).tag("outcome", "error")
+                .description("Hold-Versuche nach Strategie und Ergebnis").register(meterRegistry));
+        }
+        this.seatRate = DistributionSummary.builder("hold.contention.rate").tag("scope", "seat")
+            .description("Geschätzte Konfliktrate bei der Strategie-Auswahl").register(meterRegistry);
+        this.concertRate = DistributionSummary.builder("hold.contention.rate").tag("scope", "concert")
+            .description("Geschätzte Konfliktrate bei der Strategie-Auswahl").register(meterRegistry);
+    }
+
+    /**
+     * Erstellt einen Hold über die aktuell passende Strategie.
+     *
+     * @param seatId ID des Seats
+     * @param userId ID des Users
+     * @return HoldResponseDTO
+     * @throws SeatNotFoundException wenn Seat nicht existiert
+     * @throws HoldQuotaExceededException wenn der User bereits zu viele aktive Holds hat
+     * @throws SeatNotAvailableException wenn der Seat vergeben ist oder die Warteschlange nicht rechtzeitig dran ist
+     */
+    public HoldResponseDTO createHold(Long seatId, String userId) {
+        Timer.Sample sample = bookingMetrics.start();
+        Long concertId = null;
+        try {
+            concertId = seatConcertLookup.concertIdOf(seatId);
+            HoldResponseDTO response = createHold(seatId, userId, concertId);
+            bookingMetrics.recordHold(sample, concertId, null);
+            return response;
+        } catch (RuntimeException e) {
+            bookingMetrics.recordHold(sample, concertId, e);
+            throw e;
+        }
+    }
+
+    private HoldResponseDTO createHold(Long seatId, String userId, Long concertId) {
+        holdQuotaTracker.acquire(userId, concertId);
+        Strategy strategy = selectStrategy(seatId, concertId);
+        boolean availableBefore = wasAvailable(seatId, concertId);
+
+        boolean held = false;
+        try {
+            HoldResponseDTO response = switch (strategy) {
+                case OPTIMISTIC -> optimisticService.createHold(seatId, userId);
+                case QUEUED -> createHoldQueued(seatId, userId);
+            };
+            held = true;
+            record(strategy, seatId, concertId, false);
+            successes.get(strategy).increment();
+            return response;
+        } catch (RuntimeException e) {
+            if (e instanceof SeatNotAvailableException && !availableBefore) {
+                // Seat war schon vorher vergeben: kein Rennen. In hold.attempts ein Konflikt (409),
+                // in der Konfliktrate ein konfliktfreier Versuch
+                record(strategy, seatId, concertId, false);
+                conflicts.get(strategy).increment();
+                throw e;
+            }
+            if (!isConflict(e)) {
+                errors.get(strategy).increment();
+                throw e;
+            }
+            record(strategy, seatId, concertId, true);
+            conflicts.get(strategy).increment();
+            if (e instanceof PessimisticLockingFailureException) {
+                throw new SeatNotAvailableException(
+                    String.format("Seat %d ist gerade gesperrt, bitte erneut versuchen", seatId), e);
+            }
+            throw e;
+        } finally {
+            if (!held) {
+                holdQuotaTracker.release(userId, concertId);
+            }
+        }
+    }
+
+    /**
+     * Wählt die Strategie für einen Seat anhand der geschätzten Konfliktraten.
+     *
+     * @param seatId    ID des Seats
+     * @param concertId ID des zugehörigen Concerts
+     * @return gewählte Strategie
+     */
+    public Strategy selectStrategy(Long seatId, Long concertId) {
+        if (fixedStrategy != null) {
+            return fixedStrategy;
+        }
+        double seatConflictRate = rate(seatContention.estimate(seatId));
+        double concertConflictRate = rate(concertContention.estimate(concertId));
+        seatRate.record(seatConflictRate);
+        concertRate.record(concertConflictRate);
+
+        double contention = Math.max(seatConflictRate, concertConflictRate);
+        return contention >= queuedThreshold ? Strategy.QUEUED : Strategy.OPTIMISTIC;
+    }
+
+    private HoldResponseDTO createHoldQueued(Long seatId, String userId) {
+        ReentrantLock lock = queueStripes[(Long.hashCode(seatId) & 0x7fffffff) % QUEUE_STRIPES];
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SeatNotAvailableException(String.format("Warten auf Seat %d abgebrochen", seatId), e);
+        }
+        if (!acquired) {
+            throw new SeatNotAvailableException(
+                String.format("Seat %d ist stark nachgefragt, Warteschlange nicht rechtzeitig abgearbeitet", seatId));
+        }
+        try {
+            // Transaktion des optimistischen Pfads ist beim Verlassen committed → nächster Wartender sieht HELD
+            return optimisticService.createHold(seatId, userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double rate(ContentionSketch.Estimate estimate) {
+        return estimate.attempts() < minSamples ? 0.0 : estimate.conflictRate();
+    }
+
+    private void record(Strategy strategy, Long seatId, Long concertId, boolean conflict) {
+        seatContention.record(seatId, conflict);
+        concertContention.record(concertId, conflict);
+        if (conflict) {
+            logger.debug("Hold conflict: seatId={}, concertId={}, strategy={}", seatId, concertId, strategy);
+        }
+    }
+
+    /**
+     * Status des Seats vor dem Versuch laut Seat-Status-Bitmap (im Speicher, nach Commit
+     * aktualisiert). Ist der Status nicht bestimmbar, gilt der Seat als verfügbar - ein
+     * Fehlschlag zählt dann wie bisher als Konflikt.
+     */
+    private boolean wasAvailable(Long seatId, Long concertId) {
+        try {
+            SeatStatus status = seatStatusRegistry.getOrLoad(concertId).statusOf(seatId);
+            return status == null || status == SeatStatus.AVAILABLE;
+        } catch (RuntimeException e) {
+            logger.debug("Seat status of seat {} unknown before hold: {}", seatId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Nur echte Konkurrenz um den Seat zählt als Konflikt: ein bedingtes UPDATE ohne Treffer
+     * auf einen Seat, der vorher AVAILABLE war, oder ein Lock-Fehler. Andere Fehler (z.B.
+     * IllegalStateException aus Zustandsprüfungen) würden sonst die Konfliktrate treiben
+     * und unnötig auf QUEUED umschalten.
+     */
+    private static boolean isConflict(RuntimeException e) {
+        return e instanceof SeatNotAvailableException
+            || e instanceof OptimisticLockingFailureException
+            || e instanceof PessimisticLockingFailureException;
+    }
+}
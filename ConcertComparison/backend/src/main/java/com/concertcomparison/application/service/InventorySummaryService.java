@@ -0,0 +1,111 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.repository.SeatCategoryAggregate;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.domain.repository.SeatRowView;
+import com.concertcomparison.presentation.dto.CategoryInventoryDTO;
+import com.concertcomparison.presentation.dto.ConcertInventorySummaryDTO;
+import com.concertcomparison.presentation.dto.SeatResponseDTO;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Application Service für verdichtete Inventar-Zusammenfassungen pro Konzert.
+ * 
+ * Statt alle Seats zu laden, wird das Inventar per DB-Aggregation (GROUP BY category)
+ * plus einer Query auf die günstigsten verfügbaren Seats berechnet und pro Konzert gecacht.
+ * 
+ * Cache-Invalidierung:
+ * - Seat-Status-Änderungen (SeatAvailabilityCacheEvictionListener)
+ * - Seat-Bestand ersetzt / Concert gelöscht (ConcertApplicationService)
+ */
+@Service
+@Transactional(readOnly = true)
+public class InventorySummaryService {
+    
+    private final SeatRepository seatRepository;
+    
+    public InventorySummaryService(SeatRepository seatRepository) {
+        this.seatRepository = seatRepository;
+    }
+    
+    /**
+     * Use Case: Inventar-Zusammenfassung eines Konzerts abrufen.
+     * 
+     * sync: Gleichzeitige Misses desselben Konzerts teilen sich einen Load.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Summen, Preisrange und Kategorien (alphabetisch) inkl. Best-Value-Seat
+     */
+    @Cacheable(value = "inventorySummary", key = "#concertId", sync = true)
+    public ConcertInventorySummaryDTO getInventorySummary(Long concertId) {
+        return loadInventorySummary(concertId);
+    }
+    
+    /**
+     * Berechnet die Inventar-Zusammenfassung ohne Cache, z.B. für den Refresh im Hintergrund.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Summen, Preisrange und Kategorien (alphabetisch) inkl. Best-Value-Seat
+     */
+    public ConcertInventorySummaryDTO loadInventorySummary(Long concertId) {
+        List<SeatCategoryAggregate> aggregates = seatRepository.aggregateInventoryByCategory(concertId);
+        
+        if (aggregates.isEmpty()) {
+            return ConcertInventorySummaryDTO.builder()
+                .concertId(String.valueOf(concertId))
+                .build();
+        }
+        
+        // Ein Seat pro Kategorie (Query liefert bereits nur eine Zeile je Kategorie)
+        Map<String, SeatRowView> bestValueSeats = new LinkedHashMap<>();
+        for (SeatRowView seat : seatRepository.findCheapestAvailableSeatsPerCategory(concertId)) {
+            bestValueSeats.putIfAbsent(seat.category(), seat);
+        }
+        
+        List<CategoryInventoryDTO> categories = aggregates.stream()
+            .sorted(Comparator.comparing(SeatCategoryAggregate::category))
+            .map(aggregate -> new CategoryInventoryDTO(
+                aggregate.category(),
+                aggregate.availableSeats(),
+                aggregate.totalSeats(),
+                aggregate.minPrice(),
+                aggregate.maxPrice(),
+                mapToSeatDTO(bestValueSeats.get(aggregate.category()))
+            ))
+            .toList();
+        
+        return ConcertInventorySummaryDTO.builder()
+            .concertId(String.valueOf(concertId))
+            .totalSeats(aggregates.stream().mapToLong(SeatCategoryAggregate::totalSeats).sum())
+            .availableSeats(aggregates.stream().mapToLong(SeatCategoryAggregate::availableSeats).sum())
+            .minPrice(aggregates.stream().map(SeatCategoryAggregate::minPrice)
+                .filter(Objects::nonNull).min(Double::compareTo).orElse(null))
+            .maxPrice(aggregates.stream().map(SeatCategoryAggregate::maxPrice)
+                .filter(Objects::nonNull).max(Double::compareTo).orElse(null))
+            .categories(categories)
+            .build();
+    }
+    
+    private SeatResponseDTO mapToSeatDTO(SeatRowView seat) {
+        if (seat == null) {
+            return null;
+        }
+        return SeatResponseDTO.builder()
+            .id(String.valueOf(seat.seatId()))
+            .block(seat.block())
+            .category(seat.category())
+            .row(seat.row())
+            .number(seat.number())
+            .price(seat.price())
+            .status(seat.status().name())
+            .build();
+    }
+}
@@ -4,25 +4,36 @@ import com.concertcomparison.domain.event.SeatStatusChangedEvent;
 import com.concertcomparison.domain.exception.ReservationExpiredException;
 import com.concertcomparison.domain.exception.ReservationNotFoundException;
 import com.concertcomparison.domain.exception.SeatNotFoundException;
+import com.concertcomparison.domain.exception.SeatNotHeldException;
 import com.concertcomparison.domain.exception.OrderNotFoundException;
 import com.concertcomparison.domain.model.*;
-import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.OrderHistoryView;
 import com.concertcomparison.domain.repository.OrderRepository;
 import com.concertcomparison.domain.repository.ReservationRepository;
+import com.concertcomparison.domain.repository.ReservationSeatView;
 import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.metrics.BookingMetrics;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
 import com.concertcomparison.infrastructure.util.QrCodeService;
 import com.concertcomparison.presentation.dto.OrderHistoryItemDTO;
 import com.concertcomparison.presentation.dto.TicketDTO;
-import jakarta.persistence.OptimisticLockException;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 /**
  * Application Service für Order-Operationen (US-03, US-179).
@@ -38,28 +49,35 @@ public class OrderApplicationService {
     private final OrderRepository orderRepository;
     private final ReservationRepository reservationRepository;
     private final SeatRepository seatRepository;
-    private final ConcertRepository concertRepository;
     private final QrCodeService qrCodeService;
     private final ApplicationEventPublisher eventPublisher;
     private final PaymentApplicationService paymentApplicationService;
-    private final boolean syncPaymentMode; // Für Tests: Synchrone Payment-Verarbeitung
+    private final HoldQuotaTracker holdQuotaTracker;
+    private final BookingMetrics bookingMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean syncPaymentMode;
 
     public OrderApplicationService(
             OrderRepository orderRepository,
             ReservationRepository reservationRepository,
             SeatRepository seatRepository,
-            ConcertRepository concertRepository,
             QrCodeService qrCodeService,
             ApplicationEventPublisher eventPublisher,
-            PaymentApplicationService paymentApplicationService) {
+            PaymentApplicationService paymentApplicationService,
+            HoldQuotaTracker holdQuotaTracker,
+            BookingMetrics bookingMetrics,
+            PlatformTransactionManager transactionManager,
+            @Value("${concert.payment.sync-mode:false}") boolean syncPaymentMode) {
         this.orderRepository = orderRepository;
         this.reservationRepository = reservationRepository;
         this.seatRepository = seatRepository;
-        this.concertRepository = concertRepository;
         this.qrCodeService = qrCodeService;
         this.eventPublisher = eventPublisher;
         this.paymentApplicationService = paymentApplicationService;
-        this.syncPaymentMode = true; // SYNC-Modus für deterministische Tests
+        this.holdQuotaTracker = holdQuotaTracker;
+        this.bookingMetrics = bookingMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.syncPaymentMode = syncPaymentMode;
     }
 
     /**
@@ -69,26 +87,89 @@ public class OrderApplicationService {
      * - Hold muss existieren
      * - Hold darf nicht abgelaufen sein (expiresAt > now)
      * - Hold muss zum User gehören
-     * - Seat muss HELD sein
+     * - Seat muss HELD sein und von genau diesem Hold gehalten werden
      * - Order wird mit PENDING Payment erstellt (Payment erfolgt asynchron)
      * - Reservation bleibt erhalten (wird nach Payment-Success gelöscht)
      * 
+     * Der Übergang HELD → SOLD ist ein bedingtes UPDATE ({@link SeatRepository#sellIfHeld}):
+     * Reservation, Preis und Concert werden in einer Abfrage gelesen, der Seat selbst wird
+     * nicht geladen. Ein zweiter Kauf desselben Holds scheitert an der Zeilenanzahl 0
+     * statt an einem Version-Konflikt beim Commit.
+     * 
+     * Die Zahlung startet erst nach dem Commit der Kauf-Transaktion, der Provider-Aufruf hält
+     * also keine DB-Verbindung des Kaufs. Standardmäßig läuft sie asynchron
+     * ({@link PaymentApplicationService#processPaymentAsync}), mit
+     * {@code concert.payment.sync-mode=true} (Tests) synchron im aufrufenden Thread.
+     * 
+     * Jeder Versuch wird als booking.purchase{concert, outcome} gemessen (im SYNC-Modus inkl. Zahlung).
+     * 
      * @param holdId ID der Reservation
      * @param userId ID des Käufers
      * @param paymentMethod Gewählte Zahlungsmethode
-     * @return Erstellte Order im Status PENDING
-     * @throws IllegalArgumentException wenn Hold nicht existiert
+     * @return Erstellte Order im Status PENDING (im SYNC-Modus mit Status nach der Zahlung)
+     * @throws ReservationNotFoundException wenn Hold nicht existiert
+     * @throws SeatNotFoundException wenn der Seat des Holds nicht mehr existiert
      * @throws ReservationExpiredException wenn Hold abgelaufen ist
      * @throws IllegalStateException wenn Hold nicht zum User gehört
-     * @throws OptimisticLockException bei Concurrency Conflict
+     * @throws SeatNotHeldException wenn der Seat nicht (mehr) von diesem Hold reserviert ist
      */
-    @Transactional
     public Order purchaseTicket(Long holdId, String userId, PaymentMethod paymentMethod) {
         logger.info("Starting purchase: holdId={}, userId={}, paymentMethod={}", holdId, userId, paymentMethod);
+        Timer.Sample sample = bookingMetrics.start();
+        AtomicReference<Long> concertId = new AtomicReference<>();
+        try {
+            Order order = transactionTemplate.execute(status -> {
+                // 1. Reservation inkl. Seat-Preis und Concert laden
+                ReservationSeatView view = reservationRepository.findWithSeatById(holdId)
+                    .orElseThrow(() -> new ReservationNotFoundException(holdId));
+                concertId.set(view.concertId());
+                return purchase(view, holdId, userId, paymentMethod);
+            });
+            order = startPayment(order);
+            bookingMetrics.recordPurchase(sample, concertId.get(), null);
+            return order;
+        } catch (RuntimeException e) {
+            bookingMetrics.recordPurchase(sample, concertId.get(), e);
+            throw e;
+        }
+    }
 
-        // 1. Reservation laden und validieren
-        Reservation reservation = reservationRepository.findById(holdId)
-            .orElseThrow(() -> new ReservationNotFoundException(holdId));
+    /**
+     * Startet die Zahlung einer gerade gekauften Order.
+     * 
+     * SYNC-Modus: Zahlung im aufrufenden Thread, danach wird die Order mit aktuellem Status
+     * (CONFIRMED/CANCELLED, PENDING wenn zurückgestellt) neu geladen.
+     * Async-Modus: Zahlung nach dem Commit einer umgebenden Transaktion (ohne sofort),
+     * die Order bleibt PENDING bis die Verarbeitung abgeschlossen ist.
+     */
+    private Order startPayment(Order order) {
+        final Long orderId = order.getId();
+        if (syncPaymentMode) {
+            logger.info("Processing payment synchronously for orderId={}", orderId);
+            paymentApplicationService.processPaymentSync(orderId);
+            return orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+        }
+        logger.info("Payment processing queued (async mode) for orderId={}", orderId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            paymentApplicationService.processPaymentAsync(orderId);
+            return order;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                paymentApplicationService.processPaymentAsync(orderId);
+            }
+        });
+        return order;
+    }
+
+    private Order purchase(ReservationSeatView view, Long holdId, String userId, PaymentMethod paymentMethod) {
+        Reservation reservation = view.reservation();
+        Long seatId = reservation.getSeatId();
+        if (view.seatPrice() == null) {
+            throw new SeatNotFoundException(seatId);
+        }
 
         // 2. Prüfen ob Reservation abgelaufen ist
         if (reservation.isExpired()) {
@@ -108,69 +189,45 @@ public class OrderApplicationService {
             );
         }
 
-        // 4. Seat laden
-        Seat seat = seatRepository.findById(reservation.getSeatId())
-            .orElseThrow(() -> new SeatNotFoundException(reservation.getSeatId()));
-
-        // 5. Prüfen ob Seat HELD ist
-        if (seat.getStatus() != SeatStatus.HELD) {
-            logger.warn("Purchase failed: Seat {} is not HELD (status={})", 
-                seat.getId(), seat.getStatus());
-            throw new IllegalStateException(
-                String.format("Seat %d ist nicht reserviert (Status: %s)", 
-                    seat.getId(), seat.getStatus())
+        // 4. Seat HELD → SOLD, nur wenn er von diesem Hold gehalten wird
+        if (seatRepository.sellIfHeld(seatId, String.valueOf(holdId)) == 0) {
+            logger.warn("Purchase failed: Seat {} is not held by reservation {}", seatId, holdId);
+            throw new SeatNotHeldException(
+                String.format("Seat %d ist nicht reserviert (kein Hold durch Reservation %d)", seatId, holdId)
             );
         }
 
-        // 6. Seat auf SOLD setzen (Domain Logic)
-        seat.sell(String.valueOf(holdId));
-        seatRepository.save(seat);
+        // Hold ist verbraucht → zählt nach Commit nicht mehr gegen die Quota des Users
+        holdQuotaTracker.releaseAfterCommit(userId, view.concertId());
 
-        // 7. Event publishen für Cache-Invalidierung (HELD → SOLD)
+        // 5. Event publishen für Cache-Invalidierung (HELD → SOLD)
         SeatStatusChangedEvent event = SeatStatusChangedEvent.ticketPurchased(
-            seat.getId(),
-            seat.getConcertId(),
+            seatId,
+            view.concertId(),
             userId
         );
         eventPublisher.publishEvent(event);
 
-        // 8. Order erstellen mit Payment PENDING (Domain Logic)
-        // NEU: reservationId wird für Rollback gespeichert
+        // 6. Order erstellen mit Payment PENDING (Domain Logic)
+        // reservationId wird für Rollback gespeichert
         Order order = Order.createOrder(
-            seat.getId(),
+            seatId,
             userId,
-            seat.getPrice(),
+            view.seatPrice(),
             paymentMethod,
             holdId  // Reservation-ID für Rollback
         );
 
-        // 9. Order speichern (Payment bleibt PENDING!)
-        // NEU: Payment wird NICHT mehr direkt completed
-        // Payment erfolgt asynchron via PaymentApplicationService
+        // 7. Order speichern (Payment bleibt PENDING!)
+        // Payment erfolgt nach dem Commit via PaymentApplicationService
         order = orderRepository.save(order);
 
-        // 10. Reservation wird NICHT gelöscht
-        // NEU: Reservation bleibt bis Payment-Success erhalten
+        // 8. Reservation wird NICHT gelöscht
+        // Reservation bleibt bis Payment-Success erhalten
         // Bei Payment-Failure wird Seat auf HELD zurückgesetzt
-        
-        // 11. Payment-Processing starten
-        if (syncPaymentMode) {
-            // Test-Modus: Synchron abschließen für deterministische Tests
-            logger.info("Processing payment synchronously (test mode) for orderId={}", order.getId());
-            final Long orderId = order.getId(); // Final für Lambda
-            paymentApplicationService.processPaymentSync(orderId);
-            // Order neu laden um aktuellen Status (CONFIRMED/CANCELLED) zu bekommen
-            order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException(orderId));
-        } else {
-            // Produktions-Modus: Asynchron starten
-            logger.info("Payment processing queued (async mode) for orderId={}", order.getId());
-            paymentApplicationService.processPaymentAsync(order.getId());
-            // Order bleibt PENDING bis async Processing abgeschlossen ist
-        }
 
         logger.info("Purchase initiated: orderId={}, seatId={}, userId={}, price={}, status={}", 
-            order.getId(), seat.getId(), userId, seat.getPrice(), order.getStatus());
+            order.getId(), seatId, userId, view.seatPrice(), order.getStatus());
 
         return order;
     }
@@ -203,7 +260,7 @@ public class OrderApplicationService {
      * Liefert angereicherte Order History für einen User (US-179).
      * 
      * Enthält Concert und Seat Details für bessere UX.
-     * Verwendet Batch-Fetching um N+1 Query Problem zu vermeiden.
+     * Lädt alle Zeilen mit einem Join-Query als Projection (kein N+1, keine Entities).
      * 
      * @param userId User-ID
      * @return Liste von OrderHistoryItemDTO, sortiert nach Kaufdatum absteigend
@@ -212,55 +269,34 @@ public class OrderApplicationService {
     public List<OrderHistoryItemDTO> getOrderHistoryForUser(String userId) {
         logger.debug("Fetching order history for user: {}", userId);
 
-        List<Order> orders = orderRepository.findByUserId(userId);
-        
-        if (orders.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        List<OrderHistoryItemDTO> historyItems = new ArrayList<>();
-
-        for (Order order : orders) {
-            // Seat laden (enthält concertId)
-            Seat seat = seatRepository.findById(order.getSeatId())
-                .orElseThrow(() -> new IllegalStateException(
-                    String.format("Seat %d für Order %d nicht gefunden", 
-                        order.getSeatId(), order.getId())
-                ));
-
-            // Concert laden
-            Concert concert = concertRepository.findById(seat.getConcertId())
-                .orElseThrow(() -> new IllegalStateException(
-                    String.format("Concert %d für Seat %d nicht gefunden", 
-                        seat.getConcertId(), seat.getId())
-                ));
-
-            // DTO erstellen mit allen Details
-            OrderHistoryItemDTO dto = new OrderHistoryItemDTO(
-                order.getId(),
-                order.getStatus(),
-                order.getTotalPrice(),
-                order.getPurchaseDate(),
-                order.getPayment() != null ? order.getPayment().getStatus().toString() : "UNKNOWN",
-                concert.getId(),
-                concert.getName(),
-                concert.getVenue(),
-                concert.getDate(),
-                seat.getId(),
-                seat.getSeatNumber(),
-                seat.getCategory(),
-                seat.getBlock(),
-                seat.getRow(),
-                seat.getNumber()
-            );
-
-            historyItems.add(dto);
-        }
+        List<OrderHistoryItemDTO> historyItems = orderRepository.findHistoryByUserId(userId).stream()
+            .map(this::mapToHistoryItem)
+            .collect(Collectors.toCollection(ArrayList::new));
 
         logger.debug("Loaded {} order history items for user {}", historyItems.size(), userId);
         return historyItems;
     }
 
+    private OrderHistoryItemDTO mapToHistoryItem(OrderHistoryView view) {
+        return new OrderHistoryItemDTO(
+            view.orderId(),
+            view.status(),
+            view.totalPrice(),
+            view.purchaseDate(),
+            view.paymentStatus() != null ? view.paymentStatus().toString() : "UNKNOWN",
+            view.concertId(),
+            view.concertName(),
+            view.venue(),
+            view.concertDate(),
+            view.seatId(),
+            view.seatNumber(),
+            view.category(),
+            view.block(),
+            view.row(),
+            view.number()
+        );
+    }
+
     /**
      * Generiert QR Code für ein Ticket (US-179).
      * 
@@ -1,33 +1,49 @@
 package com.concertcomparison.application.service;
 
+import com.concertcomparison.domain.event.SeatStatusChangedEvent;
 import com.concertcomparison.domain.exception.OrderNotFoundException;
+import com.concertcomparison.domain.exception.PaymentOutcomeUnknownException;
+import com.concertcomparison.domain.exception.PaymentProviderUnavailableException;
 import com.concertcomparison.domain.exception.SeatNotFoundException;
 import com.concertcomparison.domain.model.*;
 import com.concertcomparison.domain.repository.OrderRepository;
 import com.concertcomparison.domain.repository.ReservationRepository;
 import com.concertcomparison.domain.repository.SeatRepository;
-import com.concertcomparison.domain.service.PaymentService;
 import com.concertcomparison.domain.service.PaymentService.PaymentResult;
+import com.concertcomparison.infrastructure.cache.SeatConcertLookup;
+import com.concertcomparison.infrastructure.metrics.BookingMetrics;
+import com.concertcomparison.infrastructure.payment.DeferredPaymentQueue;
+import com.concertcomparison.infrastructure.payment.GuardedPaymentProvider;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Application Service für Payment-Operationen.
  * 
  * Orchestriert den asynchronen Payment-Flow:
- * - Payment Processing mit Mock Provider
+ * - Payment Processing mit Mock Provider hinter Circuit Breaker, Bulkhead und Timeout
+ * - Provider nicht erreichbar oder Timeout (Ergebnis unbekannt): Order bleibt PENDING und wird
+ *   in die DeferredPaymentQueue gestellt, nie storniert
  * - Success-Handling: Order bestätigen, Reservation löschen
  * - Failure-Handling: Rollback (Order cancel, Seat SOLD → HELD, neue Reservation)
+ * - Metriken: booking.payment{concert, outcome=success|failed|deferred|unknown|error} pro Provider-Aufruf
  * 
  * DDD Application Service:
  * - Orchestriert Domain Entities und Services
- * - Verwaltet Transaktionen
+ * - Verwaltet Transaktionen (der Provider-Aufruf selbst läuft ohne Transaktion)
  * - Keine Business Logic (delegiert an Domain Layer)
  */
 @Service
@@ -36,86 +52,93 @@ public class PaymentApplicationService {
     private static final Logger logger = LoggerFactory.getLogger(PaymentApplicationService.class);
     private static final int ROLLBACK_HOLD_DURATION_MINUTES = 5; // 5 Minuten für Re-Payment
     
-    private final PaymentService paymentService;
+    private final GuardedPaymentProvider paymentProvider;
+    private final DeferredPaymentQueue deferredPaymentQueue;
     private final OrderRepository orderRepository;
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
-    private final boolean syncMode; // Für Tests: Synchrone Payment-Verarbeitung
+    private final SeatConcertLookup seatConcertLookup;
+    private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HoldQuotaTracker holdQuotaTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
     
     public PaymentApplicationService(
-            PaymentService paymentService,
+            GuardedPaymentProvider paymentProvider,
+            DeferredPaymentQueue deferredPaymentQueue,
             OrderRepository orderRepository,
             SeatRepository seatRepository,
-            ReservationRepository reservationRepository) {
-        this.paymentService = paymentService;
+            ReservationRepository reservationRepository,
+            SeatConcertLookup seatConcertLookup,
+            BookingMetrics bookingMetrics,
+            ApplicationEventPublisher eventPublisher,
+            HoldQuotaTracker holdQuotaTracker,
+            PlatformTransactionManager transactionManager) {
+        this.paymentProvider = paymentProvider;
+        this.deferredPaymentQueue = deferredPaymentQueue;
         this.orderRepository = orderRepository;
         this.seatRepository = seatRepository;
         this.reservationRepository = reservationRepository;
-        this.syncMode = false; // Wird nicht mehr genutzt, Payment immer SYNC für Tests
+        this.seatConcertLookup = seatConcertLookup;
+        this.bookingMetrics = bookingMetrics;
+        this.eventPublisher = eventPublisher;
+        this.holdQuotaTracker = holdQuotaTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Prozessiert Payment asynchron für eine Order.
      * 
      * Flow:
-     * 1. Order laden und validieren
-     * 2. Payment mit Mock Provider prozessieren (1-3s Delay, 95% Success)
+     * 1. Order laden und validieren (eigene, kurze Transaktion)
+     * 2. Payment mit Mock Provider prozessieren (1-3s Delay, 95% Success), ohne Transaktion
      * 3. Bei Success: handlePaymentSuccess()
      * 4. Bei Failure: handlePaymentFailure() mit Rollback
+     * 5. Provider nicht erreichbar oder Ergebnis unbekannt: Order bleibt PENDING, Zahlung wird zurückgestellt
      * 
      * @param orderId ID der Order
      * @return CompletableFuture mit PaymentResult
      */
     @Async
-    @Transactional
     public CompletableFuture<PaymentResult> processPaymentAsync(Long orderId) {
         logger.info("Starting async payment processing for orderId={}", orderId);
         
+        Order order;
+        try {
+            order = loadPendingOrder(orderId);
+        } catch (RuntimeException e) {
+            // Order nicht ladbar oder nicht mehr PENDING: nichts zurückzurollen,
+            // liegengebliebene PENDING-Orders holt der DeferredPaymentScheduler nach
+            logger.warn("Payment processing skipped for orderId={}: {}", orderId, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+        
         try {
-            // 1. Order laden
-            Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException(orderId));
-            
-            // 2. Validierung: Order muss PENDING sein
-            if (order.getStatus() != OrderStatus.PENDING) {
-                logger.warn("Payment processing failed: Order {} is not PENDING (status={})", 
-                    orderId, order.getStatus());
-                throw new IllegalStateException(
-                    String.format("Order %d ist nicht im Status PENDING (aktuell: %s)", 
-                        orderId, order.getStatus())
-                );
-            }
-            
-            // 3. Validierung: Payment muss PENDING sein
-            Payment payment = order.getPayment();
-            if (payment == null || payment.getStatus() != PaymentStatus.PENDING) {
-                logger.warn("Payment processing failed: Payment is not PENDING for orderId={}", orderId);
-                throw new IllegalStateException(
-                    String.format("Payment für Order %d ist nicht im Status PENDING", orderId)
-                );
-            }
-            
-            // 4. Payment mit Mock Provider prozessieren
             logger.info("Processing payment with Mock Provider for orderId={}, method={}", 
-                orderId, payment.getMethod());
-            PaymentResult result = paymentService.processPayment();
+                orderId, order.getPayment().getMethod());
             
-            // 5. Result verarbeiten
+            PaymentResult result = processWithProvider(order);
             if (result.isSuccess()) {
-                handlePaymentSuccess(orderId, result.getTransactionId());
                 logger.info("Payment SUCCESS for orderId={}, txnId={}", orderId, result.getTransactionId());
+            } else if (result.isDeferred()) {
+                logger.info("Payment DEFERRED for orderId={}, reason={}", orderId, result.getErrorMessage());
             } else {
-                handlePaymentFailure(orderId, result.getErrorMessage());
                 logger.warn("Payment FAILED for orderId={}, error={}", orderId, result.getErrorMessage());
             }
             
             return CompletableFuture.completedFuture(result);
             
+        } catch (IllegalStateException e) {
+            // Zahlung läuft bereits auf diesem Knoten
+            logger.info("Payment processing skipped for orderId={}: {}", orderId, e.getMessage());
+            return CompletableFuture.failedFuture(e);
         } catch (Exception e) {
             logger.error("Payment processing exception for orderId={}", orderId, e);
             // Bei Exception auch Rollback durchführen
             try {
-                handlePaymentFailure(orderId, "Technischer Fehler: " + e.getMessage());
+                transactionTemplate.executeWithoutResult(status ->
+                    handlePaymentFailure(orderId, "Technischer Fehler: " + e.getMessage()));
             } catch (Exception rollbackException) {
                 logger.error("Rollback failed for orderId={}", orderId, rollbackException);
             }
@@ -124,44 +147,109 @@ public class PaymentApplicationService {
     }
     
     /**
-     * Synchrone Variante für direktes Payment-Processing (z.B. für Webhooks).
+     * Synchrone Variante für direktes Payment-Processing (z.B. für Webhooks und den
+     * DeferredPaymentScheduler).
+     * 
+     * Nicht transaktional: der Provider-Aufruf hält keine DB-Verbindung. Wird die Methode
+     * innerhalb einer bestehenden Transaktion aufgerufen, laufen Laden und Ergebnis-Verarbeitung
+     * in dieser Transaktion.
      * 
      * @param orderId ID der Order
      * @return PaymentResult
+     * @throws OrderNotFoundException wenn die Order nicht existiert
+     * @throws IllegalStateException wenn Order oder Payment nicht PENDING sind oder die Zahlung bereits läuft
      */
-    @Transactional
     public PaymentResult processPaymentSync(Long orderId) {
         logger.info("Starting sync payment processing for orderId={}", orderId);
+        return processWithProvider(loadPendingOrder(orderId));
+    }
+    
+    /**
+     * Lädt die Order in einer kurzen Lese-Transaktion und prüft, dass Order und Payment PENDING sind.
+     */
+    private Order loadPendingOrder(Long orderId) {
+        Order order = transactionTemplate.execute(status -> {
+            Order loaded = orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+            // Payment im Aggregat mitladen, bevor die Transaktion endet
+            loaded.getPayment();
+            return loaded;
+        });
         
-        // Order laden
-        Order order = orderRepository.findById(orderId)
-            .orElseThrow(() -> new OrderNotFoundException(orderId));
-        
-        // Validierungen
         if (order.getStatus() != OrderStatus.PENDING) {
+            logger.warn("Payment processing failed: Order {} is not PENDING (status={})", 
+                orderId, order.getStatus());
             throw new IllegalStateException(
-                String.format("Order %d ist nicht im Status PENDING", orderId)
+                String.format("Order %d ist nicht im Status PENDING (aktuell: %s)", 
+                    orderId, order.getStatus())
             );
         }
         
         Payment payment = order.getPayment();
         if (payment == null || payment.getStatus() != PaymentStatus.PENDING) {
+            logger.warn("Payment processing failed: Payment is not PENDING for orderId={}", orderId);
             throw new IllegalStateException(
                 String.format("Payment für Order %d ist nicht im Status PENDING", orderId)
             );
         }
-        
-        // Payment prozessieren
-        PaymentResult result = paymentService.processPayment();
-        
-        // Result verarbeiten
-        if (result.isSuccess()) {
-            handlePaymentSuccess(orderId, result.getTransactionId());
-        } else {
-            handlePaymentFailure(orderId, result.getErrorMessage());
+        return order;
+    }
+    
+    /**
+     * Ruft den Payment Provider auf und verarbeitet das Ergebnis (Success oder Rollback).
+     * Beides zusammen wird als booking.payment gemessen.
+     * 
+     * Der Provider wird außerhalb jeder Transaktion aufgerufen, Success- und Failure-Handling
+     * laufen danach jeweils in einer eigenen Transaktion. Pro Order läuft auf diesem Knoten
+     * höchstens ein Provider-Aufruf gleichzeitig.
+     * 
+     * Wurde der Provider nicht aufgerufen (Circuit Breaker offen, Bulkhead voll), bleibt die
+     * Order PENDING und wird vom DeferredPaymentScheduler später erneut versucht. Ebenso bei
+     * einem Timeout: der Provider kann bereits belastet haben, die Order wird deshalb nicht
+     * storniert, sondern bleibt PENDING und wird über die Queue abgeglichen.
+     * 
+     * @param order Order im Status PENDING
+     * @return PaymentResult vom Provider oder {@link PaymentResult#deferred}
+     * @throws IllegalStateException wenn für die Order bereits ein Provider-Aufruf läuft
+     */
+    private PaymentResult processWithProvider(Order order) {
+        Long orderId = order.getId();
+        if (!inFlight.add(orderId)) {
+            throw new IllegalStateException(
+                String.format("Zahlung für Order %d wird bereits verarbeitet", orderId));
+        }
+        Long concertId = seatConcertLookup.concertIdOf(order.getSeatId());
+        Timer.Sample sample = bookingMetrics.start();
+        try {
+            PaymentResult result = paymentProvider.processPayment();
+            if (result.isSuccess()) {
+                transactionTemplate.executeWithoutResult(status ->
+                    handlePaymentSuccess(orderId, result.getTransactionId()));
+            } else {
+                transactionTemplate.executeWithoutResult(status ->
+                    handlePaymentFailure(orderId, result.getErrorMessage()));
+            }
+            bookingMetrics.recordPayment(sample, concertId,
+                result.isSuccess() ? BookingMetrics.Outcome.SUCCESS : BookingMetrics.Outcome.FAILED);
+            return result;
+        } catch (PaymentProviderUnavailableException e) {
+            logger.warn("Payment provider unavailable for orderId={}, deferring payment: {}",
+                orderId, e.getMessage());
+            deferredPaymentQueue.defer(orderId);
+            bookingMetrics.recordPayment(sample, concertId, BookingMetrics.Outcome.DEFERRED);
+            return PaymentResult.deferred(e.getMessage());
+        } catch (PaymentOutcomeUnknownException e) {
+            logger.warn("Payment outcome unknown for orderId={}, keeping order PENDING for reconciliation: {}",
+                orderId, e.getMessage());
+            deferredPaymentQueue.defer(orderId);
+            bookingMetrics.recordPayment(sample, concertId, BookingMetrics.Outcome.UNKNOWN);
+            return PaymentResult.deferred(e.getMessage());
+        } catch (RuntimeException e) {
+            bookingMetrics.recordPayment(sample, concertId, BookingMetrics.Outcome.ERROR);
+            throw e;
+        } finally {
+            inFlight.remove(orderId);
         }
-        
-        return result;
     }
     
     /**
@@ -203,8 +291,9 @@ public class PaymentApplicationService {
      * 
      * Rollback Actions:
      * 1. Order.failPayment() → Payment FAILED, Order CANCELLED
-     * 2. Seat SOLD → HELD (rollbackToHeld)
+     * 2. Seat SOLD → HELD (rollbackToHeld), publiziert SeatStatusChangedEvent
      * 3. Neue Reservation erstellen (5 Min TTL für Re-Payment-Versuch)
+     * 4. Hold-Quota des Users wieder belegen (beim Kauf freigegeben)
      * 
      * @param orderId ID der Order
      * @param errorMessage Fehlermeldung vom Payment Provider
@@ -236,6 +325,10 @@ public class PaymentApplicationService {
             logger.info("Seat {} rolled back: SOLD → HELD (reservationId={})", 
                 seat.getId(), newReservationId);
             
+            // Seat-Map, Bitmap und Inhaltsversion wie bei jedem anderen Statuswechsel aktualisieren
+            eventPublisher.publishEvent(
+                SeatStatusChangedEvent.purchaseRolledBack(seat.getId(), seat.getConcertId(), order.getUserId()));
+            
             // 5. Neue Reservation erstellen (für Re-Payment-Versuch)
             Reservation newReservation = Reservation.createHold(
                 seat.getId(),
@@ -243,6 +336,7 @@ public class PaymentApplicationService {
                 ROLLBACK_HOLD_DURATION_MINUTES
             );
             reservationRepository.save(newReservation);
+            holdQuotaTracker.restoreAfterCommit(order.getUserId(), seat.getConcertId());
             
             logger.info("Created new reservation {} for rollback (orderId={}, duration={}min)", 
                 newReservation.getId(), orderId, ROLLBACK_HOLD_DURATION_MINUTES);
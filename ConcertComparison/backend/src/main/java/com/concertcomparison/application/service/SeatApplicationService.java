@@ -1,102 +1,56 @@
 package com.concertcomparison.application.service;
 
-import com.concertcomparison.domain.model.Seat;
-import com.concertcomparison.domain.model.SeatStatus;
 import com.concertcomparison.domain.repository.SeatRepository;
-import com.concertcomparison.presentation.dto.AvailabilityByCategoryDTO;
-import com.concertcomparison.presentation.dto.SeatAvailabilityResponseDTO;
+import com.concertcomparison.domain.repository.SeatRowView;
+import com.concertcomparison.infrastructure.seatmap.SeatAvailabilityJsonWriter;
 import com.concertcomparison.presentation.dto.SeatResponseDTO;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Application Service für Seat-Verfügbarkeit Use Cases.
  * 
  * Orchestriert Domain Logic und DTO-Mapping.
- * Implementiert Caching für Performance-Optimierung.
+ * Die Seat-Map wird nicht als DTO gecacht, sondern als fertig kodierte Antwort
+ * im ResponseByteCache (siehe SeatController).
  */
 @Service
 @Transactional(readOnly = true)
 public class SeatApplicationService {
     
+    private static final int MAX_ALTERNATIVE_SEATS = 5;
+    
     private final SeatRepository seatRepository;
+    private final SeatAvailabilityJsonWriter seatAvailabilityJsonWriter;
     
-    public SeatApplicationService(SeatRepository seatRepository) {
+    public SeatApplicationService(SeatRepository seatRepository,
+                                  SeatAvailabilityJsonWriter seatAvailabilityJsonWriter) {
         this.seatRepository = seatRepository;
+        this.seatAvailabilityJsonWriter = seatAvailabilityJsonWriter;
     }
     
     /**
-     * Use Case: Alle Seats für ein Event abrufen mit Verfügbarkeit.
+     * Use Case: Seat-Map eines Events als JSON in einen Stream schreiben.
      * 
-     * Cached für 5 Minuten (definiert in application.properties).
-     * Cache-Invalidierung erfolgt bei Seat-Status-Änderungen.
+     * Format siehe SeatAvailabilityResponseDTO, erzeugt in einem Durchlauf:
+     * Die Seats werden per Datenbank-Cursor gelesen und direkt als JSON-Tokens
+     * geschrieben; die Kategorie-Zähler entstehen im selben Durchlauf. Es werden
+     * weder Seat-Entities noch DTO-Listen aufgebaut.
      * 
      * @param eventId ID des Events (Concert)
-     * @return DTO mit Seats und aggregierter Verfügbarkeit
+     * @param out Ziel-Stream (wird nicht geschlossen)
      */
-    @Cacheable(value = "seatAvailability", key = "#eventId")
-    public SeatAvailabilityResponseDTO getSeatAvailability(Long eventId) {
-        List<Seat> allSeats = seatRepository.findByConcertId(eventId);
-        
-        if (allSeats.isEmpty()) {
-            return SeatAvailabilityResponseDTO.empty(String.valueOf(eventId));
+    public void writeSeatAvailability(Long eventId, OutputStream out) throws IOException {
+        try (Stream<SeatRowView> rows = seatRepository.streamRowsByConcertIdOrderById(eventId)) {
+            seatAvailabilityJsonWriter.write(eventId, rows.iterator(), out);
         }
-        
-        // Seats zu DTOs mappen
-        List<SeatResponseDTO> seatDTOs = allSeats.stream()
-            .map(this::mapToSeatDTO)
-            .collect(Collectors.toList());
-        
-        // Aggregierte Verfügbarkeit berechnen
-        List<AvailabilityByCategoryDTO> categoryAvailability = 
-            calculateCategoryAvailability(allSeats);
-        
-        return SeatAvailabilityResponseDTO.builder()
-            .concertId(String.valueOf(eventId))  // Long -> String konvertieren
-            .seats(seatDTOs)
-            .availabilityByCategory(categoryAvailability)
-            .build();
-    }
-    
-    /**
-     * Berechnet aggregierte Verfügbarkeit pro Kategorie.
-     * 
-     * Gruppiert Seats nach Kategorie und zählt Stati.
-     * Gibt Liste (Array) zurück gemäß OpenAPI-Spec.
-     * 
-     * @param seats Liste aller Seats
-     * @return Liste von AvailabilityByCategoryDTO
-     */
-    private List<AvailabilityByCategoryDTO> calculateCategoryAvailability(List<Seat> seats) {
-        Map<String, List<Seat>> seatsByCategory = seats.stream()
-            .collect(Collectors.groupingBy(Seat::getCategory));
-        
-        return seatsByCategory.entrySet().stream()
-            .map(entry -> {
-                String category = entry.getKey();
-                List<Seat> categorySeats = entry.getValue();
-                
-                int available = (int) categorySeats.stream()
-                    .filter(s -> s.getStatus() == SeatStatus.AVAILABLE)
-                    .count();
-                
-                int held = (int) categorySeats.stream()
-                    .filter(s -> s.getStatus() == SeatStatus.HELD)
-                    .count();
-                
-                int sold = (int) categorySeats.stream()
-                    .filter(s -> s.getStatus() == SeatStatus.SOLD)
-                    .count();
-                
-                return new AvailabilityByCategoryDTO(category, available, held, sold);
-            })
-            .sorted((a, b) -> a.getCategory().compareTo(b.getCategory()))  // Alphabetisch sortieren
-            .collect(Collectors.toList());
     }
     
     /**
@@ -118,37 +72,31 @@ public class SeatApplicationService {
      */
     @Transactional(readOnly = true)
     public List<SeatResponseDTO> findAlternativeSeats(Long concertId, String category, Long excludeSeatId) {
-        return seatRepository.findByConcertId(concertId).stream()
-            .filter(seat -> seat.getCategory().equals(category))                    // Gleiche Kategorie
-            .filter(seat -> seat.getStatus() == SeatStatus.AVAILABLE)              // Nur verfügbare Seats
-            .filter(seat -> !seat.getId().equals(excludeSeatId))                   // Ausgeschlossenen Seat filtern
-            .sorted((s1, s2) -> {                                                   // Nach Block und Reihe sortieren
-                int blockCompare = s1.getBlock().compareTo(s2.getBlock());
-                return blockCompare != 0 ? blockCompare : s1.getRow().compareTo(s2.getRow());
-            })
-            .limit(5)                                                               // Maximal 5 Alternativen
+        // Filter, Sortierung und Limit in der Datenbank, keine Seat-Entities
+        return seatRepository.findAvailableRowsByCategory(
+                concertId, category, excludeSeatId, PageRequest.of(0, MAX_ALTERNATIVE_SEATS)).stream()
             .map(this::mapToSeatDTO)
             .collect(Collectors.toList());
     }
     
     /**
-     * Mappt Domain Entity zu Response DTO.
+     * Mappt Seat-Zeile (Projection) zu Response DTO.
      * 
      * Konvertiert Long IDs zu String (OpenAPI-Konformität).
      * Exponiert nur API-relevante Felder.
      * 
-     * @param seat Seat Entity
+     * @param seat Seat-Zeile
      * @return SeatResponseDTO
      */
-    private SeatResponseDTO mapToSeatDTO(Seat seat) {
+    private SeatResponseDTO mapToSeatDTO(SeatRowView seat) {
         return SeatResponseDTO.builder()
-            .id(String.valueOf(seat.getId()))  // Long -> String
-            .block(seat.getBlock())
-            .category(seat.getCategory())
-            .row(seat.getRow())
-            .number(seat.getNumber())
-            .price(seat.getPrice())
-            .status(seat.getStatus().name())  // Enum -> String (z.B. "AVAILABLE")
+            .id(String.valueOf(seat.seatId()))
+            .block(seat.block())
+            .category(seat.category())
+            .row(seat.row())
+            .number(seat.number())
+            .price(seat.price())
+            .status(seat.status().name())
             .build();
     }
 }
@@ -0,0 +1,235 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.event.ConcertChangedEvent;
+import com.concertcomparison.domain.exception.ConcertNotFoundException;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.seatimport.SeatImportFormat;
+import com.concertcomparison.infrastructure.seatimport.SeatImportRow;
+import com.concertcomparison.infrastructure.seatimport.SeatRowReader;
+import com.concertcomparison.presentation.dto.CreateSeatRequestDTO;
+import com.concertcomparison.presentation.dto.SeatImportErrorDTO;
+import com.concertcomparison.presentation.dto.SeatImportProgressDTO;
+import com.concertcomparison.presentation.dto.SeatImportResultDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Application Service für den Streaming-Import großer Seat-Bestände (CSV / NDJSON).
+ *
+ * Im Gegensatz zu {@code POST /api/concerts/{id}/seats} wird weder der Request-Body
+ * noch eine DTO- oder Entity-Liste komplett im Speicher gehalten:
+ * - Zeilen werden inkrementell gelesen und sofort validiert (Bean Validation)
+ * - gültige Seats werden in Chunks fester Größe geschrieben, jeder Chunk in einer
+ *   eigenen Transaktion (JDBC-Batches à hibernate.jdbc.batch_size)
+ * - nach jedem JDBC-Batch wird der Persistence Context geleert (auch wenn ein äußerer
+ *   EntityManager per Open-in-View offen bleibt), der Speicherbedarf bleibt damit
+ *   konstant (Chunk-Größe), unabhängig von der Anzahl der Seats
+ *
+ * Ungültige Zeilen werden übersprungen und im Ergebnis gemeldet. Bricht der Import
+ * (z.B. durch einen Datenbankfehler) ab, bleiben bereits committete Chunks erhalten.
+ * Pro Konzert läuft höchstens ein Import gleichzeitig; der Fortschritt ist über
+ * {@link #getProgress(Long)} abrufbar.
+ */
+@Service
+public class SeatImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatImportService.class);
+
+    private final ConcertRepository concertRepository;
+    private final SeatRepository seatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final Map<Long, ImportProgress> runningImports = new ConcurrentHashMap<>();
+
+    public SeatImportService(ConcertRepository concertRepository,
+                             SeatRepository seatRepository,
+                             PlatformTransactionManager transactionManager,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${concert.seat-import.chunk-size:1000}") int chunkSize,
+                             @Value("${concert.seat-import.max-reported-errors:100}") int maxReportedErrors) {
+        this.concertRepository = concertRepository;
+        this.seatRepository = seatRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Importiert Seats aus einem CSV- oder NDJSON-Stream.
+     *
+     * @param concertId ID des Concerts
+     * @param format    Eingabeformat
+     * @param in        Eingabe (wird gelesen und geschlossen)
+     * @return Ergebnis mit Zählern und abgelehnten Zeilen
+     * @throws ConcertNotFoundException wenn das Concert nicht existiert
+     * @throws IllegalStateException wenn für das Concert bereits ein Import läuft
+     * @throws IllegalArgumentException bei ungültiger CSV-Kopfzeile
+     */
+    @CacheEvict(value = "inventorySummary", key = "#concertId")
+    public SeatImportResultDTO importSeats(Long concertId, SeatImportFormat format, InputStream in) throws IOException {
+        if (!concertRepository.existsById(concertId)) {
+            throw new ConcertNotFoundException(concertId);
+        }
+
+        ImportProgress progress = new ImportProgress();
+        if (runningImports.putIfAbsent(concertId, progress) != null) {
+            throw new IllegalStateException("Für Konzert " + concertId + " läuft bereits ein Seat-Import");
+        }
+
+        logger.info("Starting {} seat import for concert ID: {}", format, concertId);
+        long start = System.nanoTime();
+        List<SeatImportErrorDTO> errors = new ArrayList<>();
+
+        try (SeatRowReader reader = SeatRowReader.open(format, in, objectMapper)) {
+            List<Seat> chunk = new ArrayList<>(chunkSize);
+
+            while (reader.hasNext()) {
+                SeatImportRow row = reader.next();
+                progress.rowsRead.incrementAndGet();
+
+                String error = row.isValid() ? validate(row.seat()) : row.error();
+                if (error != null) {
+                    progress.rowsRejected.incrementAndGet();
+                    if (errors.size() < maxReportedErrors) {
+                        errors.add(new SeatImportErrorDTO(row.lineNumber(), error));
+                    }
+                    continue;
+                }
+
+                chunk.add(toSeat(concertId, row.seat()));
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, progress);
+                    logger.info("Seat import for concert ID {}: {} seats imported, {} rows rejected",
+                        concertId, progress.seatsImported.get(), progress.rowsRejected.get());
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, progress);
+            }
+        } finally {
+            runningImports.remove(concertId);
+            if (progress.seatsImported.get() > 0) {
+                completeImport(concertId);
+            }
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Finished seat import for concert ID {}: {} seats imported, {} rows rejected in {} ms",
+            concertId, progress.seatsImported.get(), progress.rowsRejected.get(), durationMs);
+
+        return SeatImportResultDTO.builder()
+            .concertId(String.valueOf(concertId))
+            .rowsRead(progress.rowsRead.get())
+            .seatsImported(progress.seatsImported.get())
+            .rowsRejected(progress.rowsRejected.get())
+            .chunksCommitted(progress.chunksCommitted.get())
+            .errors(errors)
+            .errorsTruncated(progress.rowsRejected.get() > errors.size())
+            .durationMs(durationMs)
+            .build();
+    }
+
+    /**
+     * Fortschritt eines laufenden Imports.
+     *
+     * @param concertId ID des Concerts
+     * @return Fortschritt oder empty, wenn kein Import läuft
+     */
+    public Optional<SeatImportProgressDTO> getProgress(Long concertId) {
+        return Optional.ofNullable(runningImports.get(concertId))
+            .map(progress -> progress.toDTO(concertId));
+    }
+
+    private void writeChunk(List<Seat> chunk, ImportProgress progress) {
+        // insertAll flusht und leert den Persistence Context; saveAll würde jeden Seat
+        // verwaltet lassen, solange ein äußerer EntityManager (Open-in-View) offen ist
+        transactionTemplate.executeWithoutResult(status -> seatRepository.insertAll(chunk));
+        progress.seatsImported.addAndGet(chunk.size());
+        progress.chunksCommitted.incrementAndGet();
+        chunk.clear();
+    }
+
+    private void completeImport(Long concertId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Concert concert = concertRepository.findById(concertId)
+                .orElseThrow(() -> new ConcertNotFoundException(concertId));
+            concert.bumpSeatLayoutVersion();
+            concertRepository.save(concert);
+            eventPublisher.publishEvent(ConcertChangedEvent.seatsChanged(concertId));
+        });
+    }
+
+    private String validate(CreateSeatRequestDTO seat) {
+        Set<ConstraintViolation<CreateSeatRequestDTO>> violations = validator.validate(seat);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .collect(Collectors.joining(", "));
+    }
+
+    private static Seat toSeat(Long concertId, CreateSeatRequestDTO dto) {
+        return new Seat(
+            concertId,
+            dto.getSeatNumber(),
+            dto.getCategory(),
+            dto.getBlock(),
+            dto.getRow(),
+            dto.getNumber(),
+            dto.getPrice()
+        );
+    }
+
+    /**
+     * Zähler eines laufenden Imports (wird parallel von getProgress gelesen).
+     */
+    private static final class ImportProgress {
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong seatsImported = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private final AtomicLong chunksCommitted = new AtomicLong();
+
+        private SeatImportProgressDTO toDTO(Long concertId) {
+            return new SeatImportProgressDTO(String.valueOf(concertId), rowsRead.get(), seatsImported.get(),
+                rowsRejected.get(), chunksCommitted.get(), startedAt);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.event.ConcertChangedEvent;
+import com.concertcomparison.domain.exception.ConcertNotFoundException;
+import com.concertcomparison.domain.exception.ResourceNotFoundException;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.model.SeatLayoutSpec;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmap;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmapRegistry;
+import com.concertcomparison.presentation.dto.SeatLayoutDTO;
+import com.concertcomparison.presentation.dto.SeatLayoutEntryDTO;
+import com.concertcomparison.presentation.dto.SeatLayoutSectionDTO;
+import com.concertcomparison.presentation.dto.SeatLayoutSpecDTO;
+import com.concertcomparison.presentation.dto.SeatStatusVectorDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Application Service für das getrennte Abrufen von Seat-Layout und Seat-Status.
+ * 
+ * Das Layout (Block, Reihe, Nummer, Kategorie, Preis) ändert sich nur bei
+ * createSeats/replaceSeats und ist über die Layout-Version des Concerts versioniert.
+ * Der Status wird als kompakter Vektor in derselben Reihenfolge (Seat-ID aufsteigend)
+ * geliefert, sodass Clients beim Polling nur noch ein Zeichen pro Seat übertragen.
+ * 
+ * Alternativ kann das Layout deklarativ als {@link SeatLayoutSpec} angelegt werden:
+ * die Seats werden serverseitig generiert, die Spezifikation wird am Concert gespeichert
+ * und Clients laden nur sie statt Metadaten pro Seat.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SeatLayoutApplicationService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SeatLayoutApplicationService.class);
+    
+    private final ConcertRepository concertRepository;
+    private final SeatRepository seatRepository;
+    private final SeatStatusBitmapRegistry bitmapRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public SeatLayoutApplicationService(ConcertRepository concertRepository,
+                                        SeatRepository seatRepository,
+                                        SeatStatusBitmapRegistry bitmapRegistry,
+                                        ApplicationEventPublisher eventPublisher) {
+        this.concertRepository = concertRepository;
+        this.seatRepository = seatRepository;
+        this.bitmapRegistry = bitmapRegistry;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    /**
+     * Use Case: Seats eines Konzerts aus einem deklarativen Layout generieren.
+     * 
+     * Ersetzt alle vorhandenen Seats. Sind Seats HELD oder SOLD, wird das Layout abgelehnt
+     * (409): Holds und verkaufte Tickets dürfen nicht stillschweigend verschwinden. Für
+     * Konzerte im Verkauf bleibt der Abgleich über replaceSeats (RECONCILE).
+     * Die Seats werden lazy aus der Spezifikation erzeugt und direkt in JDBC-Batches
+     * geschrieben; es wird weder eine DTO- noch eine Entity-Liste aufgebaut.
+     * 
+     * @param concertId ID des Konzerts
+     * @param request Layout-Spezifikation
+     * @return gespeichertes Layout inkl. neuer Layout-Version und Seat-Anzahl
+     * @throws ConcertNotFoundException wenn das Konzert nicht existiert
+     * @throws IllegalArgumentException wenn sich Sektionen überschneiden oder das Layout zu groß ist
+     * @throws IllegalStateException wenn das Konzert HELD oder SOLD Seats hat
+     */
+    @Transactional
+    @CacheEvict(value = "inventorySummary", key = "#concertId")
+    public SeatLayoutSpecDTO generateSeats(Long concertId, SeatLayoutSpecDTO request) {
+        SeatLayoutSpec spec = toSpec(request);
+        Concert concert = findConcert(concertId);
+        
+        logger.info("Generating {} seats from {} layout sections for concert ID: {}",
+                   spec.seatCount(), spec.sections().size(), concertId);
+        
+        // Erst nur AVAILABLE Seats löschen: ein parallel reservierter Seat bleibt dadurch
+        // sicher erhalten und wird über die Restmenge erkannt (Rollback des DELETE)
+        int deletedCount = seatRepository.deleteAvailableByConcertId(concertId);
+        long remaining = seatRepository.countByConcertId(concertId);
+        if (remaining > 0) {
+            throw new IllegalStateException(String.format(
+                "Konzert %d hat %d reservierte oder verkaufte Seats; das Layout kann nicht ersetzt werden",
+                concertId, remaining));
+        }
+        
+        concert.applySeatLayoutSpec(spec);
+        concertRepository.save(concert);
+        long layoutVersion = concert.getSeatLayoutVersion();
+        
+        // Leert den Persistence Context → concert ist danach detached
+        long created = seatRepository.insertAll(spec.generateSeats(concertId));
+        
+        logger.info("Generated seats for concert ID: {}. Deleted: {}, Created: {}, layout version: {}",
+                   concertId, deletedCount, created, layoutVersion);
+        
+        eventPublisher.publishEvent(ConcertChangedEvent.seatsChanged(concertId));
+        
+        return toDTO(concertId, layoutVersion, spec);
+    }
+    
+    /**
+     * Use Case: Deklaratives Layout eines Konzerts abrufen.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Layout-Spezifikation inkl. Layout-Version
+     * @throws ConcertNotFoundException wenn das Konzert nicht existiert
+     * @throws ResourceNotFoundException wenn die Seats nicht aus einem Layout generiert wurden
+     */
+    public SeatLayoutSpecDTO getSeatLayoutSpec(Long concertId) {
+        Concert concert = findConcert(concertId);
+        SeatLayoutSpec spec = concert.getSeatLayoutSpec()
+            .orElseThrow(() -> new ResourceNotFoundException(
+                "Konzert " + concertId + " hat kein deklaratives Seat-Layout",
+                "SeatLayoutSpec",
+                String.valueOf(concertId)
+            ));
+        return toDTO(concertId, concert.getSeatLayoutVersion(), spec);
+    }
+    
+    /**
+     * Liefert die aktuelle Layout-Version eines Konzerts.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Layout-Version
+     * @throws ConcertNotFoundException wenn das Konzert nicht existiert
+     */
+    public long getCurrentLayoutVersion(Long concertId) {
+        return findConcert(concertId).getSeatLayoutVersion();
+    }
+    
+    /**
+     * Use Case: Seat-Layout eines Konzerts abrufen.
+     * 
+     * Cache-Key enthält die Layout-Version, daher ist keine explizite Invalidierung nötig:
+     * nach createSeats/replaceSeats wird unter der neuen Version neu geladen.
+     * 
+     * @param concertId ID des Konzerts
+     * @param layoutVersion aktuelle Layout-Version (siehe {@link #getCurrentLayoutVersion(Long)})
+     * @return Layout in Seat-ID Reihenfolge
+     */
+    @Cacheable(value = "seatLayout", key = "#concertId + ':' + #layoutVersion")
+    public SeatLayoutDTO getSeatLayout(Long concertId, long layoutVersion) {
+        List<SeatLayoutEntryDTO> entries = seatRepository.findByConcertId(concertId).stream()
+            .sorted(Comparator.comparing(Seat::getId))
+            .map(seat -> new SeatLayoutEntryDTO(
+                String.valueOf(seat.getId()),
+                seat.getBlock(),
+                seat.getCategory(),
+                seat.getRow(),
+                seat.getNumber(),
+                seat.getPrice()
+            ))
+            .toList();
+        
+        return new SeatLayoutDTO(String.valueOf(concertId), layoutVersion, entries);
+    }
+    
+    /**
+     * Use Case: Aktuellen Status aller Seats als kompakten Vektor abrufen.
+     * 
+     * Lädt keine Seat-Entities, sondern nur die Status-Spalte.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Status-Vektor inkl. Layout-Version
+     * @throws ConcertNotFoundException wenn das Konzert nicht existiert
+     */
+    public SeatStatusVectorDTO getSeatStatusVector(Long concertId) {
+        long layoutVersion = findConcert(concertId).getSeatLayoutVersion();
+        List<SeatStatus> statuses = seatRepository.findStatusesByConcertIdOrderById(concertId);
+        
+        StringBuilder vector = new StringBuilder(statuses.size());
+        for (SeatStatus status : statuses) {
+            vector.append(status.getCode());
+        }
+        
+        return new SeatStatusVectorDTO(String.valueOf(concertId), layoutVersion, vector.toString());
+    }
+    
+    /**
+     * Use Case: Seat-Status als gepackte 2-Bit-Bitmap abrufen.
+     * 
+     * Die Bitmap wird im Speicher gehalten und inkrementell aus Seat-Events aktualisiert;
+     * zwischen zwei Änderungen liefern alle Requests denselben vorkodierten Snapshot.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Bitmap inkl. Layout-Version
+     * @throws ConcertNotFoundException wenn das Konzert nicht existiert
+     */
+    public SeatStatusBitmap getSeatStatusBitmap(Long concertId) {
+        return bitmapRegistry.getOrLoad(concertId);
+    }
+    
+    private static SeatLayoutSpec toSpec(SeatLayoutSpecDTO dto) {
+        return new SeatLayoutSpec(dto.getSections().stream()
+            .map(section -> new SeatLayoutSpec.Section(
+                section.getBlock(),
+                section.getPrefix(),
+                section.getCategory(),
+                section.getRowFrom(),
+                section.getRowTo(),
+                section.getSeatFrom(),
+                section.getSeatTo(),
+                section.getPrice()
+            ))
+            .toList());
+    }
+    
+    private static SeatLayoutSpecDTO toDTO(Long concertId, long layoutVersion, SeatLayoutSpec spec) {
+        List<SeatLayoutSectionDTO> sections = spec.sections().stream()
+            .map(section -> new SeatLayoutSectionDTO(
+                section.block(),
+                section.prefix(),
+                section.category(),
+                section.rowFrom(),
+                section.rowTo(),
+                section.seatFrom(),
+                section.seatTo(),
+                section.price()
+            ))
+            .toList();
+        return new SeatLayoutSpecDTO(String.valueOf(concertId), layoutVersion, spec.seatCount(), sections);
+    }
+    
+    private Concert findConcert(Long concertId) {
+        return concertRepository.findById(concertId)
+            .orElseThrow(() -> new ConcertNotFoundException(concertId));
+    }
+}
@@ -0,0 +1,112 @@
+package com.concertcomparison.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Domain Event - wird gepublisht wenn sich ein Concert oder dessen Seat-Bestand ändert.
+ *
+ * Ergänzt das {@link SeatStatusChangedEvent}: Während dieses nur Status-Übergänge
+ * einzelner Seats beschreibt, signalisiert dieses Event Änderungen an den
+ * Concert-Metadaten bzw. am gesamten Seat-Bestand (Anlegen/Ersetzen von Seats).
+ *
+ * Use Cases:
+ * - Concert erstellt / aktualisiert / gelöscht
+ * - Seats angelegt oder ersetzt (Preisrange und Gesamtanzahl ändern sich)
+ *
+ * DDD Value Object Pattern:
+ * - Immutable (alle Felder final)
+ * - Framework-agnostisch (keine Spring Annotations)
+ */
+public final class ConcertChangedEvent {
+
+    /**
+     * Art der Änderung.
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        SEATS_CHANGED
+    }
+
+    private final Long concertId;
+    private final ChangeType changeType;
+    private final LocalDateTime timestamp;
+
+    /**
+     * Erstellt ein neues ConcertChangedEvent.
+     *
+     * @param concertId ID des betroffenen Concerts
+     * @param changeType Art der Änderung
+     */
+    public ConcertChangedEvent(Long concertId, ChangeType changeType) {
+        if (concertId == null) {
+            throw new IllegalArgumentException("ConcertId darf nicht null sein");
+        }
+        if (changeType == null) {
+            throw new IllegalArgumentException("ChangeType darf nicht null sein");
+        }
+
+        this.concertId = concertId;
+        this.changeType = changeType;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    // ==================== FACTORY METHODS ====================
+
+    public static ConcertChangedEvent created(Long concertId) {
+        return new ConcertChangedEvent(concertId, ChangeType.CREATED);
+    }
+
+    public static ConcertChangedEvent updated(Long concertId) {
+        return new ConcertChangedEvent(concertId, ChangeType.UPDATED);
+    }
+
+    public static ConcertChangedEvent deleted(Long concertId) {
+        return new ConcertChangedEvent(concertId, ChangeType.DELETED);
+    }
+
+    public static ConcertChangedEvent seatsChanged(Long concertId) {
+        return new ConcertChangedEvent(concertId, ChangeType.SEATS_CHANGED);
+    }
+
+    // ==================== GETTERS ====================
+
+    public Long getConcertId() {
+        return concertId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    // ==================== OBJECT METHODS ====================
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ConcertChangedEvent that = (ConcertChangedEvent) o;
+        return Objects.equals(concertId, that.concertId) &&
+               changeType == that.changeType &&
+               Objects.equals(timestamp, that.timestamp);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(concertId, changeType, timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "ConcertChangedEvent[concertId=%d, changeType=%s, timestamp=%s]",
+            concertId, changeType, timestamp
+        );
+    }
+}
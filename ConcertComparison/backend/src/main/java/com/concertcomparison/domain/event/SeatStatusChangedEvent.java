@@ -130,6 +130,20 @@ public final class SeatStatusChangedEvent {
         );
     }
     
+    /**
+     * Factory Method: Zahlung fehlgeschlagen, Kauf zurückgerollt (SOLD → HELD).
+     */
+    public static SeatStatusChangedEvent purchaseRolledBack(Long seatId, Long concertId, String userId) {
+        return new SeatStatusChangedEvent(
+            seatId, 
+            concertId, 
+            SeatStatus.SOLD, 
+            SeatStatus.HELD,
+            userId,
+            "PURCHASE_ROLLED_BACK"
+        );
+    }
+    
     // ==================== GETTERS ====================
     
     public Long getSeatId() {
@@ -0,0 +1,49 @@
+package com.concertcomparison.domain.exception;
+
+/**
+ * Domain Exception: Wird geworfen, wenn ein User bereits die maximale Anzahl aktiver Holds hält.
+ * 
+ * Anwendungsfall:
+ * - Bot-Account versucht, viele Seats gleichzeitig zu blockieren
+ * - Limit pro Concert oder über alle Concerts erreicht
+ */
+public class HoldQuotaExceededException extends RuntimeException {
+
+    private final String userId;
+    private final Long concertId;
+    private final int limit;
+
+    /**
+     * Erstellt eine neue HoldQuotaExceededException.
+     *
+     * @param message   Beschreibung des Fehlers
+     * @param userId    ID des Users
+     * @param concertId ID des Concerts oder {@code null}, wenn das globale Limit greift
+     * @param limit     überschrittenes Limit
+     */
+    public HoldQuotaExceededException(String message, String userId, Long concertId, int limit) {
+        super(message);
+        this.userId = userId;
+        this.concertId = concertId;
+        this.limit = limit;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public Long getConcertId() {
+        return concertId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return true, wenn das globale Limit (über alle Concerts) überschritten wurde
+     */
+    public boolean isGlobal() {
+        return concertId == null;
+    }
+}
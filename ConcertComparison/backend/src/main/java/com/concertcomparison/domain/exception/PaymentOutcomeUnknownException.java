@@ -0,0 +1,19 @@
+package com.concertcomparison.domain.exception;
+
+/**
+ * Wird geworfen, wenn der Zahlungsanbieter aufgerufen wurde, das Ergebnis aber nicht
+ * bekannt ist (Zeitüberschreitung). Die Zahlung kann bereits belastet sein: die Order
+ * darf daher weder storniert noch zurückgerollt werden, sondern bleibt PENDING und wird
+ * später abgeglichen.
+ */
+public class PaymentOutcomeUnknownException extends RuntimeException {
+
+    /**
+     * Erstellt eine neue PaymentOutcomeUnknownException.
+     *
+     * @param message Grund, warum das Ergebnis unbekannt ist
+     */
+    public PaymentOutcomeUnknownException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.concertcomparison.domain.exception;
+
+/**
+ * Wird geworfen, wenn der Zahlungsanbieter gar nicht erst aufgerufen wurde
+ * (Circuit Breaker offen oder Bulkhead voll). Die Zahlung kann später ohne Risiko
+ * einer doppelten Belastung erneut versucht werden.
+ */
+public class PaymentProviderUnavailableException extends RuntimeException {
+
+    /**
+     * Erstellt eine neue PaymentProviderUnavailableException.
+     *
+     * @param message Grund, warum der Provider nicht aufgerufen wurde
+     */
+    public PaymentProviderUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.concertcomparison.domain.exception;
+
+/**
+ * Wird geworfen, wenn ein Bereich seine Nebenläufigkeitsgrenze erreicht hat.
+ * Der Request wird sofort abgelehnt, statt in der Datenbank auf Verbindungen zu warten.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final String limiter;
+    private final long retryAfterSeconds;
+
+    /**
+     * Erstellt eine neue ServiceOverloadedException.
+     *
+     * @param limiter           Name des Limiters (z.B. "reservation", "order")
+     * @param limit             Aktuelle Nebenläufigkeitsgrenze
+     * @param retryAfterSeconds Die Anzahl der Sekunden bis zum nächsten Versuch
+     */
+    public ServiceOverloadedException(String limiter, int limit, long retryAfterSeconds) {
+        super(String.format("Limiter '%s' ausgelastet (Limit %d)", limiter, limit));
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getLimiter() {
+        return limiter;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -4,6 +4,7 @@ import com.concertcomparison.domain.exception.InvalidConcertDateException;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Concert Aggregate Root.
@@ -24,16 +25,19 @@ import java.util.Objects;
  * - Konzertdatum muss in der Zukunft liegen
  * - Name, Venue dürfen nicht leer sein
  * - Beschreibung ist optional
+ * - Verkaufsstart ist optional und liegt nicht nach dem Konzertdatum
  */
 @Entity
 @Table(name = "concerts", indexes = {
     @Index(name = "idx_concert_date", columnList = "event_date"),
-    @Index(name = "idx_concert_venue", columnList = "venue")
+    @Index(name = "idx_concert_venue", columnList = "venue"),
+    @Index(name = "idx_concert_on_sale_at", columnList = "on_sale_at")
 })
 public class Concert {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "concerts_seq")
+    @SequenceGenerator(name = "concerts_seq", sequenceName = "concerts_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "name", nullable = false, length = 200)
@@ -62,6 +66,35 @@ public class Concert {
     @Column(name = "version")
     private Long version;
     
+    /**
+     * Version des Seat-Layouts (Block, Reihe, Nummer, Kategorie, Preis aller Seats).
+     * Wird bei jedem Anlegen/Ersetzen der Seats erhöht; der Seat-Status ist nicht Teil des Layouts.
+     */
+    @Column(name = "seat_layout_version", nullable = false)
+    private long seatLayoutVersion = 0L;
+    
+    /**
+     * Deklaratives Layout, aus dem die aktuellen Seats generiert wurden (als JSON gespeichert).
+     * Null, wenn die Seats einzeln angelegt/importiert wurden.
+     * Konvertierung über einen auto-apply AttributeConverter der Persistenzschicht.
+     */
+    @Column(name = "seat_layout_spec", columnDefinition = "CLOB")
+    private SeatLayoutSpec seatLayoutSpec;
+    
+    /**
+     * Hash (SHA-256, hex) des zuletzt per replaceSeats hochgeladenen Seat-Sets.
+     * Ein identischer Upload ist damit ohne Laden der Seats als No-Op erkennbar.
+     */
+    @Column(name = "seat_set_hash", length = 64)
+    private String seatSetHash;
+    
+    /**
+     * Start des Ticketverkaufs. Null = Verkauf ohne angekündigten Start.
+     * Vor dem Verkaufsstart werden die Caches des Konzerts vorgewärmt.
+     */
+    @Column(name = "on_sale_at")
+    private LocalDateTime onSaleAt;
+    
     // ==================== CONSTRUCTORS ====================
     
     /**
@@ -146,6 +179,53 @@ public class Concert {
         return this.date.isAfter(LocalDateTime.now());
     }
     
+    /**
+     * Markiert das Seat-Layout als geändert (Seats angelegt oder ersetzt).
+     * Clients erkennen daran, dass ein zwischengespeichertes Layout veraltet ist.
+     */
+    public void bumpSeatLayoutVersion() {
+        this.seatLayoutVersion++;
+        this.seatLayoutSpec = null;
+        this.seatSetHash = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * Merkt sich den Hash des zuletzt hochgeladenen Seat-Sets (nach replaceSeats).
+     * Muss nach einem ggf. nötigen {@link #bumpSeatLayoutVersion()} aufgerufen werden.
+     * 
+     * @param seatSetHash Hash des Seat-Sets
+     */
+    public void recordSeatSetHash(String seatSetHash) {
+        this.seatSetHash = seatSetHash;
+    }
+    
+    /**
+     * Übernimmt ein deklaratives Seat-Layout als neues Layout (neue Layout-Version).
+     * Die zugehörigen Seats müssen in derselben Transaktion aus dem Layout generiert werden.
+     * 
+     * @param spec Layout-Spezifikation (nicht null)
+     */
+    public void applySeatLayoutSpec(SeatLayoutSpec spec) {
+        Objects.requireNonNull(spec, "Seat-Layout darf nicht null sein");
+        bumpSeatLayoutVersion();
+        this.seatLayoutSpec = spec;
+    }
+    
+    /**
+     * Setzt (oder entfernt) den Verkaufsstart.
+     * 
+     * @param onSaleAt Verkaufsstart, null = kein angekündigter Start
+     * @throws IllegalArgumentException wenn der Verkaufsstart nach dem Konzertdatum liegt
+     */
+    public void scheduleOnSale(LocalDateTime onSaleAt) {
+        if (onSaleAt != null && onSaleAt.isAfter(this.date)) {
+            throw new IllegalArgumentException(
+                "Verkaufsstart darf nicht nach dem Konzert-Datum liegen. Angegebener Verkaufsstart: " + onSaleAt);
+        }
+        this.onSaleAt = onSaleAt;
+    }
+    
     // ==================== VALIDATION ====================
     
     /**
@@ -244,6 +324,22 @@ public class Concert {
         return version;
     }
     
+    public long getSeatLayoutVersion() {
+        return seatLayoutVersion;
+    }
+    
+    public Optional<SeatLayoutSpec> getSeatLayoutSpec() {
+        return Optional.ofNullable(seatLayoutSpec);
+    }
+    
+    public String getSeatSetHash() {
+        return seatSetHash;
+    }
+    
+    public LocalDateTime getOnSaleAt() {
+        return onSaleAt;
+    }
+    
     /**
      * Setzt die ID (nur für Tests).
      * 
@@ -31,8 +31,13 @@ import java.util.Objects;
 })
 public class Seat {
     
+    /**
+     * Sequence statt IDENTITY: IDs werden blockweise (pooled-lo, 50 pro Block) vergeben,
+     * dadurch kann Hibernate Inserts per JDBC-Batch senden.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seats_seq")
+    @SequenceGenerator(name = "seats_seq", sequenceName = "seats_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "concert_id", nullable = false)
@@ -322,6 +327,44 @@ public class Seat {
         this.updatedAt = LocalDateTime.now();
     }
     
+    /**
+     * Übernimmt geänderte Layout-Daten (Kategorie, Block, Reihe, Nummer, Preis).
+     * 
+     * Business Rules:
+     * - Nur AVAILABLE Seats dürfen geändert werden (laufende Holds/Käufe behalten ihren Preis)
+     * - Die Sitzplatznummer bleibt unverändert (Identität beim Abgleich)
+     * 
+     * @return true wenn sich mindestens ein Attribut geändert hat
+     * @throws IllegalStateException wenn Seat nicht AVAILABLE ist und sich etwas ändern würde
+     * @throws IllegalArgumentException bei ungültigen Parametern
+     */
+    public boolean changeLayout(String category, String block, String row, String number, Double price) {
+        validateConstructorParameters(concertId, seatNumber, category, block, row, number, price);
+        
+        boolean changed = !category.equals(this.category)
+            || !block.equals(this.block)
+            || !row.equals(this.row)
+            || !number.equals(this.number)
+            || !price.equals(this.price);
+        if (!changed) {
+            return false;
+        }
+        if (this.status != SeatStatus.AVAILABLE) {
+            throw new IllegalStateException(
+                String.format("Seat %s (ID: %d) ist %s und kann nicht geändert werden", 
+                    seatNumber, id, status.getDisplayName())
+            );
+        }
+        
+        this.category = category;
+        this.block = block;
+        this.row = row;
+        this.number = number;
+        this.price = price;
+        this.updatedAt = LocalDateTime.now();
+        return true;
+    }
+    
     /**
      * Prüft, ob der Seat derzeit verfügbar ist.
      * 
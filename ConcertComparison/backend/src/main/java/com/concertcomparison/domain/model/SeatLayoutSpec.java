@@ -0,0 +1,177 @@
+package com.concertcomparison.domain.model;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Deklarative Beschreibung eines Seat-Layouts (Value Object).
+ *
+ * Statt jeden Sitzplatz einzeln zu übertragen, besteht ein Layout aus wenigen
+ * Sektionen (Block × Reihenbereich × Platzbereich × Kategorie × Preis). Die Seats
+ * werden daraus serverseitig generiert ({@link #generateSeats(Long)}).
+ *
+ * Reihenfolge der generierten Seats (= Index im Status-Vektor):
+ * Sektionen in Angabereihenfolge, darin Reihen aufsteigend, darin Plätze aufsteigend.
+ * Die Seat-Nummer lautet {@code <prefix>-<reihe>-<platz>}.
+ *
+ * DDD Value Object Pattern:
+ * - Immutable, Validierung im Konstruktor
+ * - Framework-agnostisch
+ */
+public record SeatLayoutSpec(List<Section> sections) {
+
+    /** Obergrenze für Reihen- und Platznummern (Seat-Nummer max. 20 Zeichen). */
+    public static final int MAX_INDEX = 9999;
+
+    /** Maximale Länge des Seat-Nummern-Präfixes einer Sektion. */
+    public static final int MAX_PREFIX_LENGTH = 8;
+
+    /** Obergrenze für die Gesamtzahl generierter Seats pro Konzert. */
+    public static final long MAX_SEATS = 200_000;
+
+    public SeatLayoutSpec {
+        if (sections == null || sections.isEmpty()) {
+            throw new IllegalArgumentException("Seat-Layout benötigt mindestens eine Sektion");
+        }
+        sections = List.copyOf(sections);
+        for (int i = 0; i < sections.size(); i++) {
+            for (int j = i + 1; j < sections.size(); j++) {
+                if (sections.get(i).overlaps(sections.get(j))) {
+                    throw new IllegalArgumentException(
+                        "Sektionen " + (i + 1) + " und " + (j + 1) + " überschneiden sich (gleiche Seat-Nummern)");
+                }
+            }
+        }
+        long total = sections.stream().mapToLong(Section::seatCount).sum();
+        if (total > MAX_SEATS) {
+            throw new IllegalArgumentException(
+                "Seat-Layout beschreibt " + total + " Seats, erlaubt sind maximal " + MAX_SEATS);
+        }
+    }
+
+    /**
+     * Gesamtzahl der Seats, die das Layout beschreibt.
+     *
+     * @return Anzahl Seats
+     */
+    public long seatCount() {
+        return sections.stream().mapToLong(Section::seatCount).sum();
+    }
+
+    /**
+     * Generiert die Seats des Layouts lazy (es wird immer nur ein Seat materialisiert).
+     *
+     * @param concertId ID des Concerts
+     * @return Iterable über neue Seat-Entities (Status AVAILABLE)
+     */
+    public Iterable<Seat> generateSeats(Long concertId) {
+        Objects.requireNonNull(concertId, "ConcertId darf nicht null sein");
+        return () -> new SeatIterator(concertId);
+    }
+
+    /**
+     * Eine Sektion: zusammenhängender Bereich von Reihen und Plätzen mit gleicher Kategorie und gleichem Preis.
+     *
+     * @param block    Bereich/Block (z.B. "Block A")
+     * @param prefix   Präfix der Seat-Nummer (z.B. "A")
+     * @param category Preiskategorie
+     * @param rowFrom  erste Reihe (inklusiv)
+     * @param rowTo    letzte Reihe (inklusiv)
+     * @param seatFrom erster Platz je Reihe (inklusiv)
+     * @param seatTo   letzter Platz je Reihe (inklusiv)
+     * @param price    Preis pro Seat
+     */
+    public record Section(String block, String prefix, String category,
+                          int rowFrom, int rowTo, int seatFrom, int seatTo, double price) {
+
+        public Section {
+            requireText(block, "Block");
+            requireText(prefix, "Präfix");
+            requireText(category, "Kategorie");
+            if (prefix.length() > MAX_PREFIX_LENGTH) {
+                throw new IllegalArgumentException("Präfix darf maximal " + MAX_PREFIX_LENGTH + " Zeichen lang sein");
+            }
+            requireRange(rowFrom, rowTo, "Reihen");
+            requireRange(seatFrom, seatTo, "Platz");
+            if (!(price > 0)) {
+                throw new IllegalArgumentException("Preis muss positiv sein");
+            }
+        }
+
+        public long seatCount() {
+            return (long) (rowTo - rowFrom + 1) * (seatTo - seatFrom + 1);
+        }
+
+        boolean overlaps(Section other) {
+            return prefix.equals(other.prefix)
+                && rowFrom <= other.rowTo && other.rowFrom <= rowTo
+                && seatFrom <= other.seatTo && other.seatFrom <= seatTo;
+        }
+
+        Seat toSeat(Long concertId, int row, int seat) {
+            String rowLabel = String.valueOf(row);
+            String seatLabel = String.valueOf(seat);
+            return new Seat(concertId, prefix + "-" + rowLabel + "-" + seatLabel,
+                category, block, rowLabel, seatLabel, price);
+        }
+
+        private static void requireText(String value, String name) {
+            if (value == null || value.isBlank()) {
+                throw new IllegalArgumentException(name + " darf nicht leer sein");
+            }
+        }
+
+        private static void requireRange(int from, int to, String name) {
+            if (from < 1 || to > MAX_INDEX || from > to) {
+                throw new IllegalArgumentException(
+                    name + "bereich " + from + "-" + to + " ungültig (1-" + MAX_INDEX + ", von <= bis)");
+            }
+        }
+    }
+
+    /**
+     * Iteriert Sektion → Reihe → Platz ohne Zwischenliste.
+     */
+    private final class SeatIterator implements Iterator<Seat> {
+
+        private final Long concertId;
+        private int sectionIndex = 0;
+        private int row;
+        private int seat;
+
+        private SeatIterator(Long concertId) {
+            this.concertId = concertId;
+            Section first = sections.get(0);
+            this.row = first.rowFrom();
+            this.seat = first.seatFrom();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return sectionIndex < sections.size();
+        }
+
+        @Override
+        public Seat next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Section section = sections.get(sectionIndex);
+            Seat next = section.toSeat(concertId, row, seat);
+
+            if (seat < section.seatTo()) {
+                seat++;
+            } else if (row < section.rowTo()) {
+                row++;
+                seat = section.seatFrom();
+            } else if (++sectionIndex < sections.size()) {
+                Section following = sections.get(sectionIndex);
+                row = following.rowFrom();
+                seat = following.seatFrom();
+            }
+            return next;
+        }
+    }
+}
@@ -13,23 +13,25 @@ public enum SeatStatus {
     /**
      * Seat ist verfügbar und kann reserviert werden.
      */
-    AVAILABLE("Verfügbar"),
+    AVAILABLE("Verfügbar", 'A'),
     
     /**
      * Seat ist temporär reserviert (Hold mit TTL).
      * Wird automatisch freigegeben nach Ablauf der Hold-Zeit.
      */
-    HELD("Reserviert"),
+    HELD("Reserviert", 'H'),
     
     /**
      * Seat wurde verkauft (finaler Zustand, nicht reversibel).
      */
-    SOLD("Verkauft");
+    SOLD("Verkauft", 'S');
     
     private final String displayName;
+    private final char code;
     
-    SeatStatus(String displayName) {
+    SeatStatus(String displayName, char code) {
         this.displayName = displayName;
+        this.code = code;
     }
     
     /**
@@ -40,4 +42,13 @@ public enum SeatStatus {
     public String getDisplayName() {
         return displayName;
     }
+    
+    /**
+     * Liefert den Ein-Zeichen-Code für kompakte Status-Vektoren (A, H, S).
+     * 
+     * @return Status-Code
+     */
+    public char getCode() {
+        return code;
+    }
 }
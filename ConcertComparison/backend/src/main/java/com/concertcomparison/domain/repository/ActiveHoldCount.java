@@ -0,0 +1,15 @@
+package com.concertcomparison.domain.repository;
+
+/**
+ * Anzahl aktiver (nicht abgelaufener) Holds eines Users für ein Concert.
+ *
+ * @param userId    ID des Users
+ * @param concertId ID des Concerts
+ * @param holds     Anzahl aktiver Holds
+ */
+public record ActiveHoldCount(
+    String userId,
+    Long concertId,
+    long holds
+) {
+}
@@ -2,6 +2,7 @@ package com.concertcomparison.domain.repository;
 
 import com.concertcomparison.domain.model.Concert;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -31,12 +32,69 @@ public interface ConcertRepository {
      */
     Optional<Concert> findById(Long id);
     
+    /**
+     * Lädt die Lese-Sicht eines Concerts (ohne Entity-Hydrierung).
+     * 
+     * @param id Concert-ID
+     * @return Optional mit Summary, oder empty wenn nicht gefunden
+     */
+    Optional<ConcertSummaryView> findSummaryById(Long id);
+    
+    /**
+     * Lädt die Lese-Sichten aller Concerts.
+     * 
+     * @return Liste aller Concert-Summaries
+     */
+    List<ConcertSummaryView> findAllSummaries();
+    
+    /**
+     * Lädt die IDs aller Concerts (aufsteigend), ohne weitere Spalten.
+     * 
+     * @return Concert-IDs
+     */
+    List<Long> findAllIds();
+    
+    /**
+     * Lädt die Lese-Sichten zu den angegebenen IDs (ein Query, Reihenfolge nicht garantiert).
+     * Nicht existierende IDs werden ignoriert.
+     * 
+     * @param ids Concert-IDs
+     * @return gefundene Concert-Summaries
+     */
+    List<ConcertSummaryView> findSummariesByIds(Collection<Long> ids);
+    
+    /**
+     * Lädt die Lese-Sichten aller Concerts mit Verkaufsstart im Intervall [from, to].
+     * 
+     * @param from Beginn (inklusive)
+     * @param to Ende (inklusive)
+     * @return Concert-Summaries, aufsteigend nach Verkaufsstart
+     */
+    List<ConcertSummaryView> findSummariesOnSaleBetween(LocalDateTime from, LocalDateTime to);
+    
+    /**
+     * Sucht Concert-Summaries nach Name (Teilstring-Suche, case-insensitive).
+     * 
+     * @param name Name oder Teilstring
+     * @return Liste passender Concert-Summaries
+     */
+    List<ConcertSummaryView> findSummariesByNameContainingIgnoreCase(String name);
+    
     /**
      * Liefert alle Concerts.
      * 
      * @return Liste aller Concerts
      */
     List<Concert> findAll();
+    
+    /**
+     * Liefert alle Concerts zu den angegebenen IDs (ein Query, Reihenfolge nicht garantiert).
+     * Nicht existierende IDs werden ignoriert.
+     * 
+     * @param ids Concert-IDs
+     * @return Liste der gefundenen Concerts
+     */
+    List<Concert> findAllById(Iterable<Long> ids);
 
     /**
      * Liefert Concerts gefiltert, sortiert und paginiert.
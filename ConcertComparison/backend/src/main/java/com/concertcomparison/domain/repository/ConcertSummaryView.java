@@ -0,0 +1,20 @@
+package com.concertcomparison.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Schlanke Lese-Sicht auf ein Concert (nur die Felder der Concert-Responses).
+ *
+ * Wird per Constructor Expression geladen, ohne Concert-Entities zu hydrieren.
+ */
+public record ConcertSummaryView(
+    Long id,
+    String name,
+    LocalDateTime date,
+    String venue,
+    String description,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    LocalDateTime onSaleAt
+) {
+}
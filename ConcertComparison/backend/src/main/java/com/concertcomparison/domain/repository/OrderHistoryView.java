@@ -0,0 +1,31 @@
+package com.concertcomparison.domain.repository;
+
+import com.concertcomparison.domain.model.OrderStatus;
+import com.concertcomparison.domain.model.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lese-Sicht für die Order History: Order, Payment-Status, Concert und Seat
+ * in einer Zeile (ein Join statt Einzel-Lookups pro Order).
+ *
+ * @param paymentStatus Status der Zahlung oder {@code null}, wenn keine Payment existiert
+ */
+public record OrderHistoryView(
+    Long orderId,
+    OrderStatus status,
+    Double totalPrice,
+    LocalDateTime purchaseDate,
+    PaymentStatus paymentStatus,
+    Long concertId,
+    String concertName,
+    String venue,
+    LocalDateTime concertDate,
+    Long seatId,
+    String seatNumber,
+    String category,
+    String block,
+    String row,
+    String number
+) {
+}
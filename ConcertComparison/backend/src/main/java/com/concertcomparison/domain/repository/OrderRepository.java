@@ -2,6 +2,9 @@ package com.concertcomparison.domain.repository;
 
 import com.concertcomparison.domain.model.Order;
 import com.concertcomparison.domain.model.OrderStatus;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +47,14 @@ public interface OrderRepository {
      */
     List<Order> findByUserId(String userId);
     
+    /**
+     * Lädt die Order History eines Users inkl. Concert- und Seat-Details in einem Query.
+     * 
+     * @param userId User-ID
+     * @return History-Zeilen, sortiert nach Kaufdatum absteigend
+     */
+    List<OrderHistoryView> findHistoryByUserId(String userId);
+    
     /**
      * Sucht alle Orders für einen Seat.
      * 
@@ -79,6 +90,17 @@ public interface OrderRepository {
      */
     List<Order> findByStatus(OrderStatus status);
     
+    /**
+     * Liefert die IDs der Orders eines Status, die seit einem Zeitpunkt nicht mehr geändert wurden,
+     * älteste zuerst (z.B. liegengebliebene PENDING-Orders nach einem Neustart).
+     * 
+     * @param status Order-Status
+     * @param cutoff nur Orders mit updatedAt vor diesem Zeitpunkt
+     * @param pageable Begrenzung der Anzahl
+     * @return Order-IDs
+     */
+    List<Long> findIdsByStatusAndUpdatedAtBefore(OrderStatus status, LocalDateTime cutoff, Pageable pageable);
+    
     /**
      * Löscht eine Order anhand der ID.
      * 
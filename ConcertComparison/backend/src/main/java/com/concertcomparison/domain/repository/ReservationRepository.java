@@ -24,6 +24,11 @@ public interface ReservationRepository {
      */
     Optional<Reservation> findActiveBySeatId(Long seatId);
 
+    /**
+     * Lädt eine Reservation zusammen mit Preis und Concert-ID ihres Seats (ein Join).
+     */
+    Optional<ReservationSeatView> findWithSeatById(Long id);
+
     /**
      * Findet alle aktiven Reservations eines Users.
      */
@@ -59,6 +64,12 @@ public interface ReservationRepository {
      * Zählt aktive Reservations für einen User.
      */
     long countActiveByUserId(String userId);
+
+    /**
+     * Zählt aktive, nicht abgelaufene Reservations gruppiert nach User und Concert
+     * (Abgleich der In-Memory-Hold-Zähler).
+     */
+    List<ActiveHoldCount> countActiveByUserAndConcert(LocalDateTime now);
     
     /**
      * Löscht alle Reservations (nur für Tests).
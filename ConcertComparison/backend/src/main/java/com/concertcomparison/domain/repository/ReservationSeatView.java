@@ -0,0 +1,18 @@
+package com.concertcomparison.domain.repository;
+
+import com.concertcomparison.domain.model.Reservation;
+
+/**
+ * Reservation mit den für den Kauf benötigten Seat-Daten in einem Lesezugriff
+ * (der Seat selbst wird per bedingtem UPDATE verkauft und nicht geladen).
+ *
+ * @param reservation verwaltete Reservation-Entity
+ * @param seatPrice   Preis des Seats oder {@code null}, wenn der Seat nicht mehr existiert
+ * @param concertId   Concert des Seats oder {@code null}, wenn der Seat nicht mehr existiert
+ */
+public record ReservationSeatView(
+    Reservation reservation,
+    Double seatPrice,
+    Long concertId
+) {
+}
@@ -0,0 +1,16 @@
+package com.concertcomparison.domain.repository;
+
+/**
+ * Aggregiertes Inventar einer Seat-Kategorie eines Konzerts.
+ *
+ * minAvailablePrice ist null, wenn in der Kategorie kein Seat mehr verfügbar ist.
+ */
+public record SeatCategoryAggregate(
+    String category,
+    long availableSeats,
+    long totalSeats,
+    Double minPrice,
+    Double maxPrice,
+    Double minAvailablePrice
+) {
+}
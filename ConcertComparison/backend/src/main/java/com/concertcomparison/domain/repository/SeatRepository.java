@@ -2,10 +2,14 @@ package com.concertcomparison.domain.repository;
 
 import com.concertcomparison.domain.model.Seat;
 import com.concertcomparison.domain.model.SeatStatus;
+import org.springframework.data.domain.Pageable;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository Interface für Seat Aggregate (Port in Hexagonal Architecture).
@@ -39,6 +43,34 @@ public interface SeatRepository {
      */
     List<Seat> findByConcertIdAndStatus(Long concertId, SeatStatus status);
     
+    /**
+     * Liefert nur die Stati aller Seats eines Konzerts, sortiert nach Seat-ID
+     * (gleiche Reihenfolge wie das Seat-Layout).
+     * 
+     * @param concertId ID des Konzerts
+     * @return Seat-Stati in Layout-Reihenfolge
+     */
+    List<SeatStatus> findStatusesByConcertIdOrderById(Long concertId);
+    
+    /**
+     * Liefert Seat-ID und Status aller Seats eines Konzerts, sortiert nach Seat-ID.
+     * 
+     * @param concertId ID des Konzerts
+     * @return ID/Status-Paare in Layout-Reihenfolge
+     */
+    List<SeatStatusView> findStatusViewsByConcertIdOrderById(Long concertId);
+    
+    /**
+     * Streamt alle Seats eines Konzerts als flache Zeilen, sortiert nach Seat-ID.
+     * 
+     * WICHTIG: Nur in @Transactional Context verwenden und den Stream schließen
+     * (try-with-resources), da ein Datenbank-Cursor offen gehalten wird.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Forward-only Stream der Seat-Zeilen
+     */
+    Stream<SeatRowView> streamRowsByConcertIdOrderById(Long concertId);
+    
     /**
      * Findet einen einzelnen Seat anhand seiner ID.
      * 
@@ -47,6 +79,22 @@ public interface SeatRepository {
      */
     Optional<Seat> findById(Long id);
     
+    /**
+     * Liefert nur die Concert-ID eines Seats (ohne Entity zu laden).
+     * 
+     * @param id Seat-ID
+     * @return Optional mit Concert-ID, falls der Seat existiert
+     */
+    Optional<Long> findConcertIdById(Long id);
+    
+    /**
+     * Liefert nur die IDs aller Seats eines Concerts (aufsteigend, über den Concert-Index).
+     * 
+     * @param concertId Concert-ID
+     * @return Seat-IDs
+     */
+    List<Long> findIdsByConcertId(Long concertId);
+    
     /**
      * Findet einen Seat mit Pessimistic Write Lock (FOR UPDATE).
      * 
@@ -101,6 +149,39 @@ public interface SeatRepository {
      */
     List<Seat> saveAllBatch(List<Seat> seats);
     
+    /**
+     * Fügt neue Seats aus einer (ggf. lazy generierten) Quelle ein, ohne sie zu sammeln.
+     * 
+     * Nach jedem JDBC-Batch wird geflusht und der Persistence Context geleert,
+     * der Speicherbedarf ist damit unabhängig von der Anzahl der Seats.
+     * ACHTUNG: Andere im Persistence Context verwaltete Entities sind danach detached.
+     * 
+     * @param seats Neue (noch nicht persistierte) Seats
+     * @return Anzahl eingefügter Seats
+     */
+    long insertAll(Iterable<Seat> seats);
+    
+    /**
+     * Setzt einen Seat per bedingtem UPDATE von AVAILABLE auf HELD
+     * ({@code UPDATE ... WHERE id = ? AND status = 'AVAILABLE'}), ohne ihn zu laden.
+     * 
+     * @param seatId ID des Seats
+     * @param reservationId ID der (bereits vergebenen) Reservation
+     * @param expiresAt Ablauf des Holds
+     * @return 1 wenn der Seat reserviert wurde, 0 wenn er nicht (mehr) AVAILABLE ist oder nicht existiert
+     */
+    int holdIfAvailable(Long seatId, String reservationId, LocalDateTime expiresAt);
+    
+    /**
+     * Setzt einen Seat per bedingtem UPDATE von HELD auf SOLD, sofern er noch
+     * für die angegebene Reservation gehalten wird.
+     * 
+     * @param seatId ID des Seats
+     * @param reservationId ID der Reservation, für die der Seat gehalten sein muss
+     * @return 1 wenn der Seat verkauft wurde, sonst 0
+     */
+    int sellIfHeld(Long seatId, String reservationId);
+    
     /**
      * Zählt verfügbare Seats pro Kategorie für ein Konzert.
      * 
@@ -120,6 +201,37 @@ public interface SeatRepository {
      */
     Map<Long, SeatAvailabilityAggregate> aggregateAvailabilityByConcertIds(List<Long> concertIds);
     
+    /**
+     * Aggregiert Inventar (Anzahl, Preisrange, günstigster verfügbarer Preis) pro Kategorie
+     * eines Konzerts in einem Query.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Aggregate pro Kategorie (leer wenn keine Seats)
+     */
+    List<SeatCategoryAggregate> aggregateInventoryByCategory(Long concertId);
+    
+    /**
+     * Liefert pro Kategorie genau einen günstigsten verfügbaren Seat eines Konzerts
+     * (bei Preisgleichheit den mit der kleinsten ID).
+     * 
+     * @param concertId ID des Konzerts
+     * @return Ein günstigster AVAILABLE Seat je Kategorie, nach Kategorie sortiert
+     */
+    List<SeatRowView> findCheapestAvailableSeatsPerCategory(Long concertId);
+    
+    /**
+     * Liefert verfügbare Seats einer Kategorie als flache Zeilen, sortiert nach Block und Reihe
+     * (z.B. Alternativen zu einem nicht verfügbaren Seat).
+     * 
+     * @param concertId ID des Konzerts
+     * @param category Kategorie
+     * @param excludeSeatId auszuschließender Seat (optional)
+     * @param pageable Begrenzung der Anzahl
+     * @return AVAILABLE Seats der Kategorie
+     */
+    List<SeatRowView> findAvailableRowsByCategory(Long concertId, String category, Long excludeSeatId,
+                                                  Pageable pageable);
+    
     /**
      * Löscht einen Seat (nur für Admin/Testing).
      * 
@@ -138,6 +250,28 @@ public interface SeatRepository {
      */
     int deleteAllByConcertId(Long concertId);
     
+    /**
+     * Löscht alle AVAILABLE Seats eines Konzerts (Bulk DELETE).
+     * 
+     * HELD/SOLD Seats bleiben erhalten; Aufrufer können über {@link #countByConcertId(Long)}
+     * prüfen, ob danach noch Seats übrig sind.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Anzahl der gelöschten Seats
+     */
+    int deleteAvailableByConcertId(Long concertId);
+    
+    /**
+     * Löscht die angegebenen Seats, sofern sie (noch) AVAILABLE sind.
+     * 
+     * Verwendet beim Abgleich in replaceSeats: zwischenzeitlich reservierte
+     * oder verkaufte Seats bleiben erhalten.
+     * 
+     * @param seatIds IDs der zu löschenden Seats
+     * @return Anzahl der gelöschten Seats
+     */
+    int deleteAvailableByIdIn(Collection<Long> seatIds);
+    
     /**
      * Prüft, ob ein Seat mit der gegebenen ID existiert.
      * 
@@ -0,0 +1,20 @@
+package com.concertcomparison.domain.repository;
+
+import com.concertcomparison.domain.model.SeatStatus;
+
+/**
+ * Flache Sicht auf einen Seat mit allen Feldern der Seat-Map (ohne Entity-Laden).
+ *
+ * Wird zeilenweise gestreamt, damit große Seat-Maps ohne Entity-, DTO- oder
+ * Gruppierungs-Listen serialisiert werden können.
+ */
+public record SeatRowView(
+    Long seatId,
+    String category,
+    String block,
+    String row,
+    String number,
+    Double price,
+    SeatStatus status
+) {
+}
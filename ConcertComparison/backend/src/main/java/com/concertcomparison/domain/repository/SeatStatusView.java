@@ -0,0 +1,12 @@
+package com.concertcomparison.domain.repository;
+
+import com.concertcomparison.domain.model.SeatStatus;
+
+/**
+ * Schlanke Sicht auf einen Seat: nur ID und Status (ohne Entity-Laden).
+ */
+public record SeatStatusView(
+    Long seatId,
+    SeatStatus status
+) {
+}
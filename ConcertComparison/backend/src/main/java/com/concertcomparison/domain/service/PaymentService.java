@@ -114,11 +114,13 @@ public class PaymentService {
      */
     public static class PaymentResult {
         private final boolean success;
+        private final boolean deferred;
         private final String transactionId;
         private final String errorMessage;
         
-        private PaymentResult(boolean success, String transactionId, String errorMessage) {
+        private PaymentResult(boolean success, boolean deferred, String transactionId, String errorMessage) {
             this.success = success;
+            this.deferred = deferred;
             this.transactionId = transactionId;
             this.errorMessage = errorMessage;
         }
@@ -130,7 +132,7 @@ public class PaymentService {
             if (transactionId == null || transactionId.trim().isEmpty()) {
                 throw new IllegalArgumentException("TransactionId darf nicht leer sein");
             }
-            return new PaymentResult(true, transactionId, null);
+            return new PaymentResult(true, false, transactionId, null);
         }
         
         /**
@@ -140,13 +142,27 @@ public class PaymentService {
             if (errorMessage == null || errorMessage.trim().isEmpty()) {
                 throw new IllegalArgumentException("ErrorMessage darf nicht leer sein");
             }
-            return new PaymentResult(false, null, errorMessage);
+            return new PaymentResult(false, false, null, errorMessage);
+        }
+        
+        /**
+         * Erstellt ein zurückgestelltes Payment-Result (Provider nicht aufgerufen, Order bleibt PENDING).
+         */
+        public static PaymentResult deferred(String reason) {
+            if (reason == null || reason.trim().isEmpty()) {
+                throw new IllegalArgumentException("Reason darf nicht leer sein");
+            }
+            return new PaymentResult(false, true, null, reason);
         }
         
         public boolean isSuccess() {
             return success;
         }
         
+        public boolean isDeferred() {
+            return deferred;
+        }
+        
         public String getTransactionId() {
             return transactionId;
         }
@@ -157,6 +173,9 @@ public class PaymentService {
         
         @Override
         public String toString() {
+            if (deferred) {
+                return "PaymentResult{DEFERRED, reason=" + errorMessage + "}";
+            }
             return success 
                 ? "PaymentResult{SUCCESS, txnId=" + transactionId + "}"
                 : "PaymentResult{FAILED, error=" + errorMessage + "}";
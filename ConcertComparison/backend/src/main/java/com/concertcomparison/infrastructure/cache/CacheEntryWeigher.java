@@ -0,0 +1,35 @@
+package com.concertcomparison.infrastructure.cache;
+
+import com.concertcomparison.presentation.dto.ConcertInventorySummaryDTO;
+import com.concertcomparison.presentation.dto.SeatLayoutDTO;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.util.Collection;
+
+/**
+ * Gewicht eines Cache-Eintrags = Anzahl enthaltener Elemente + 1.
+ *
+ * Grobe, aber stabile Näherung an den Speicherbedarf: Layouts zählen
+ * pro Seat, Inventar pro Kategorie, Listen pro Element, alles andere als 1.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long elements;
+        if (value instanceof SeatLayoutDTO layout) {
+            elements = sizeOf(layout.getSeats());
+        } else if (value instanceof ConcertInventorySummaryDTO inventory) {
+            elements = sizeOf(inventory.getCategories());
+        } else if (value instanceof Collection<?> collection) {
+            elements = collection.size();
+        } else {
+            elements = 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, elements + 1);
+    }
+
+    private static long sizeOf(Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+}
@@ -0,0 +1,40 @@
+package com.concertcomparison.infrastructure.cache;
+
+import com.concertcomparison.domain.event.ConcertChangedEvent;
+import com.concertcomparison.domain.model.SeatStatus;
+
+/**
+ * Nachricht auf dem {@link CacheInvalidationBus}.
+ *
+ * - {@link CacheEvicted}: Eintrag (oder mit {@code key == null} alle Einträge) eines Spring-Caches verwerfen
+ * - {@link SeatStatusDelta}: Statuswechsel eines Seats - Empfänger passen Bitmap und Facetten inkrementell an
+ * - {@link ConcertInvalidated}: Concert oder dessen Seat-Bestand geändert - alle Concert-Daten verwerfen
+ *
+ * Alle Felder sind serialisierbar (Long, String, Enums), damit Bus-Implementierungen
+ * über Prozessgrenzen hinweg sie ohne weitere Konvertierung übertragen können.
+ */
+public sealed interface CacheInvalidation {
+
+    /**
+     * Spring-Cache-Eintrag verworfen.
+     *
+     * @param cacheName Name des Caches
+     * @param key       Schlüssel oder {@code null} für den ganzen Cache
+     */
+    record CacheEvicted(String cacheName, Object key) implements CacheInvalidation {
+    }
+
+    /**
+     * Statuswechsel eines Seats.
+     */
+    record SeatStatusDelta(Long concertId, Long seatId, SeatStatus oldStatus, SeatStatus newStatus)
+        implements CacheInvalidation {
+    }
+
+    /**
+     * Concert-weite Invalidierung.
+     */
+    record ConcertInvalidated(Long concertId, ConcertChangedEvent.ChangeType changeType)
+        implements CacheInvalidation {
+    }
+}
@@ -0,0 +1,36 @@
+package com.concertcomparison.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Verteilt Cache-Invalidierungen an alle anderen Knoten.
+ *
+ * Jeder Knoten hält seine Caches lokal (L1); ohne Bus blieben sie auf den übrigen
+ * Knoten bis zum Ablauf der TTL veraltet. Implementierungen stellen eigene
+ * Nachrichten nicht an den eigenen Knoten zu - der hat lokal bereits invalidiert.
+ *
+ * Auswahl über {@code concert.cache.bus}; im Projekt enthalten ist nur
+ * {@link LoopbackCacheInvalidationBus} (ein Prozess bzw. Tests). Eine Broker-Anbindung
+ * (z.B. Redis Pub/Sub) wird als weitere Bean mit eigenem Property-Wert ergänzt.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * @return ID dieses Knotens (für Logging und Diagnose)
+     */
+    String nodeId();
+
+    /**
+     * Sendet eine Invalidierung an alle anderen Knoten.
+     *
+     * @param message Invalidierung
+     */
+    void publish(CacheInvalidation message);
+
+    /**
+     * Registriert einen Empfänger für Invalidierungen anderer Knoten.
+     *
+     * @param listener Empfänger; wird im Thread der Zustellung aufgerufen
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
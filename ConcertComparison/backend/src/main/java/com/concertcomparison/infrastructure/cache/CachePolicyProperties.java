@@ -0,0 +1,103 @@
+package com.concertcomparison.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caffeine-Policies pro Cache, z.B.:
+ * <pre>
+ * concert.cache.policies.seatLayout.expire-after-write=30m
+ * concert.cache.policies.seatLayout.refresh-after-write=1m
+ * concert.cache.policies.seatLayout.maximum-weight=1000000
+ * </pre>
+ *
+ * Gewicht = Anzahl Elemente des gecachten Werts ({@link CacheEntryWeigher}), damit eine
+ * Seat-Layout mit 50.000 Seats nicht wie eine Konzertliste mit 20 Einträgen zählt.
+ * Caches ohne Eintrag erhalten {@link Policy#Policy() die Default-Policy}.
+ */
+@ConfigurationProperties(prefix = "concert.cache")
+public class CachePolicyProperties {
+
+    private Map<String, Policy> policies = new HashMap<>();
+
+    /**
+     * @param cacheName Name des Caches
+     * @return konfigurierte Policy oder Default-Policy
+     */
+    public Policy policyFor(String cacheName) {
+        return policies.getOrDefault(cacheName, new Policy());
+    }
+
+    public Map<String, Policy> getPolicies() {
+        return policies;
+    }
+
+    public void setPolicies(Map<String, Policy> policies) {
+        this.policies = policies;
+    }
+
+    /**
+     * Policy eines Caches. Entweder {@code maximumSize} (Einträge) oder {@code maximumWeight}
+     * (Elemente); ohne beides gilt {@code maximumSize=1000}.
+     */
+    public static class Policy {
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+        private Duration refreshAfterWrite;
+        private Long maximumSize;
+        private Long maximumWeight;
+
+        /**
+         * Prüft die Kombination der Werte.
+         *
+         * @param cacheName Name des Caches (für die Fehlermeldung)
+         * @throws IllegalStateException bei widersprüchlicher Konfiguration
+         */
+        public void validate(String cacheName) {
+            if (maximumSize != null && maximumWeight != null) {
+                throw new IllegalStateException(
+                    "Cache '" + cacheName + "': maximum-size und maximum-weight schließen sich aus");
+            }
+            if (refreshAfterWrite != null && expireAfterWrite != null
+                    && refreshAfterWrite.compareTo(expireAfterWrite) >= 0) {
+                throw new IllegalStateException(
+                    "Cache '" + cacheName + "': refresh-after-write muss kleiner als expire-after-write sein");
+            }
+        }
+
+        // Getter and Setter
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        public Duration getRefreshAfterWrite() {
+            return refreshAfterWrite;
+        }
+
+        public void setRefreshAfterWrite(Duration refreshAfterWrite) {
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
+
+        public Long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(Long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Long getMaximumWeight() {
+            return maximumWeight;
+        }
+
+        public void setMaximumWeight(Long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+    }
+}
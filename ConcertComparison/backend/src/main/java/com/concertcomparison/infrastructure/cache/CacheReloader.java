@@ -0,0 +1,41 @@
+package com.concertcomparison.infrastructure.cache;
+
+import java.util.function.Function;
+
+/**
+ * Berechnet den Wert eines Cache-Eintrags neu, ohne den Cache zu lesen.
+ *
+ * Caches mit Reloader laden Misses direkt in Caffeine und werden mit
+ * {@code refresh-after-write} im Hintergrund erneuert: Leser erhalten bis zum
+ * Abschluss des Reloads den bisherigen Wert und blockieren nie auf den Neuaufbau.
+ */
+public interface CacheReloader {
+
+    /**
+     * @return Name des Caches, den dieser Reloader befüllt
+     */
+    String cacheName();
+
+    /**
+     * @param key Cache-Schlüssel
+     * @return frisch berechneter Wert
+     */
+    Object reload(Object key);
+
+    /**
+     * Erstellt einen Reloader aus einer Funktion.
+     */
+    static CacheReloader of(String cacheName, Function<Object, Object> loader) {
+        return new CacheReloader() {
+            @Override
+            public String cacheName() {
+                return cacheName;
+            }
+
+            @Override
+            public Object reload(Object key) {
+                return loader.apply(key);
+            }
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package com.concertcomparison.infrastructure.cache;
+
+import com.concertcomparison.domain.event.ConcertChangedEvent;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.ConcertSummaryView;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Feingranularer Concert-Cache: ein Eintrag pro Concert plus die ID-Liste.
+ *
+ * - concertById: Concert-ID → {@link ConcertSummaryView}
+ * - concertIds: eine Liste aller Concert-IDs (aufsteigend)
+ *
+ * Listen werden aus der gecachten ID-Liste und den gecachten Einträgen zusammengesetzt;
+ * nur fehlende Einträge werden mit einem Query nachgeladen. Änderungen betreffen genau
+ * einen Eintrag ({@link #apply}): Ein Update ersetzt nur den Concert-Eintrag, Anlegen
+ * und Löschen verwerfen zusätzlich die ID-Liste (Neuaufbau ist ein reiner ID-Query).
+ *
+ * Nachgeladene Einträge werden mit {@code putIfAbsent} geschrieben: Hat ein Update
+ * zwischen Miss und Nachladen bereits den frischen Eintrag geschrieben, gewinnt dieser
+ * und wird nicht vom älteren Query-Ergebnis überschrieben.
+ *
+ * Beide Caches laufen über den {@link TwoTierCacheManager}; Evicts werden dadurch an
+ * alle Knoten verteilt, Updates über die Concert-Invalidierung des Busses.
+ */
+@Component
+public class ConcertCatalogCache {
+
+    public static final String CONCERT_BY_ID_CACHE = "concertById";
+    public static final String CONCERT_IDS_CACHE = "concertIds";
+    static final String ALL_IDS_KEY = "all";
+
+    private final CacheManager cacheManager;
+    private final ConcertRepository concertRepository;
+
+    public ConcertCatalogCache(CacheManager cacheManager, ConcertRepository concertRepository) {
+        this.cacheManager = cacheManager;
+        this.concertRepository = concertRepository;
+    }
+
+    /**
+     * @return IDs aller Concerts (aufsteigend)
+     */
+    public List<Long> concertIds() {
+        return idsCache().get(ALL_IDS_KEY, concertRepository::findAllIds);
+    }
+
+    /**
+     * @param concertId ID des Concerts
+     * @return Lese-Sicht des Concerts, leer wenn es nicht existiert (wird nicht gecacht)
+     */
+    public Optional<ConcertSummaryView> summary(Long concertId) {
+        ConcertSummaryView cached = byIdCache().get(concertId, ConcertSummaryView.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return concertRepository.findSummaryById(concertId)
+            .map(summary -> cacheIfAbsent(byIdCache(), summary));
+    }
+
+    /**
+     * Lese-Sichten zu den IDs in deren Reihenfolge. Fehlende Einträge werden mit einem
+     * Query nachgeladen und gecacht; nicht existierende IDs werden ausgelassen.
+     *
+     * @param concertIds Concert-IDs
+     * @return Lese-Sichten in Reihenfolge der IDs
+     */
+    public List<ConcertSummaryView> summaries(List<Long> concertIds) {
+        Cache byId = byIdCache();
+        Map<Long, ConcertSummaryView> found = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long concertId : concertIds) {
+            ConcertSummaryView cached = byId.get(concertId, ConcertSummaryView.class);
+            if (cached != null) {
+                found.put(concertId, cached);
+            } else {
+                missing.add(concertId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (ConcertSummaryView summary : concertRepository.findSummariesByIds(missing)) {
+                found.put(summary.id(), cacheIfAbsent(byId, summary));
+            }
+        }
+        return concertIds.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * Wendet eine committete Concert-Änderung an.
+     *
+     * @param event Änderung
+     */
+    public void apply(ConcertChangedEvent event) {
+        Long concertId = event.getConcertId();
+        switch (event.getChangeType()) {
+            case CREATED -> {
+                concertRepository.findSummaryById(concertId)
+                    .ifPresent(summary -> byIdCache().put(concertId, summary));
+                idsCache().evict(ALL_IDS_KEY);
+            }
+            case UPDATED -> {
+                byIdCache().evict(concertId);
+                concertRepository.findSummaryById(concertId)
+                    .ifPresent(summary -> byIdCache().put(concertId, summary));
+            }
+            case DELETED -> {
+                byIdCache().evict(concertId);
+                idsCache().evict(ALL_IDS_KEY);
+            }
+            case SEATS_CHANGED -> {
+                // Seat-Bestand ist nicht Teil der Concert-Einträge
+            }
+        }
+    }
+
+    /**
+     * @return der bereits gecachte Eintrag, falls vorhanden, sonst {@code summary}
+     */
+    private static ConcertSummaryView cacheIfAbsent(Cache byId, ConcertSummaryView summary) {
+        Cache.ValueWrapper existing = byId.putIfAbsent(summary.id(), summary);
+        return existing == null ? summary : (ConcertSummaryView) existing.get();
+    }
+
+    private Cache byIdCache() {
+        return cacheManager.getCache(CONCERT_BY_ID_CACHE);
+    }
+
+    private Cache idsCache() {
+        return cacheManager.getCache(CONCERT_IDS_CACHE);
+    }
+}
@@ -0,0 +1,143 @@
+package com.concertcomparison.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Zählt Inhaltsänderungen pro Konzert (Seat-Map) und für Konzertlisten.
+ *
+ * Aus den Zählern werden starke ETags und Last-Modified Werte abgeleitet, mit
+ * denen Conditional GETs (If-None-Match / If-Modified-Since) beantwortet werden,
+ * bevor Repository, Cache oder DTO-Mapping angefasst werden.
+ *
+ * Die Zähler liegen nur im Speicher und werden nach Commit erhöht: lokal vom
+ * ContentVersionListener, für Änderungen anderer Knoten von der CacheInvalidationBridge.
+ * Die Seat-Transaktion selbst schreibt dafür nichts - ein Zähler in der Concert-Zeile
+ * würde alle Seat-Änderungen eines Konzerts über deren Row-Lock serialisieren.
+ *
+ * ETags gelten damit nur für diesen Knoten und diesen Prozess: Die Epoche
+ * (Startzeitpunkt) ist Teil jedes ETags, damit weder ein anderer Knoten noch ein
+ * Neustart einen fremden ETag als gültig erkennt. Ein Wechsel des Knotens kostet
+ * also höchstens eine vollständige Response. Last-Modified ist vor der ersten
+ * Änderung der Startzeitpunkt - spätestmöglich, aber nie zu früh.
+ *
+ * Gezählt werden nur Änderungen, die als Domain Event publiziert werden
+ * (SeatStatusChangedEvent, ConcertChangedEvent).
+ */
+@Component
+public class ContentVersionTracker {
+
+    private final long epoch = System.currentTimeMillis();
+    private final String epochTag = Long.toString(epoch, 36);
+    private final Map<Long, ConcertCounters> concertCounters = new ConcurrentHashMap<>();
+    private final AtomicReference<ListingCounter> listingCounter =
+        new AtomicReference<>(new ListingCounter(0, epoch));
+
+    /**
+     * Registriert eine Seat-Status-Änderung (Hold, Kauf, Freigabe) nach Commit.
+     * Erhöht zusätzlich die Version der Konzertlisten (enthalten die Verfügbarkeit).
+     *
+     * @param concertId ID des Konzerts
+     */
+    public void seatStatusChanged(Long concertId) {
+        long now = System.currentTimeMillis();
+        concertCounters.merge(concertId, new ConcertCounters(0, 1, now),
+            (current, ignored) -> new ConcertCounters(current.concertVersion(),
+                current.seatStatusVersion() + 1, Math.max(current.lastModified(), now)));
+        listingChanged(now);
+    }
+
+    /**
+     * Registriert eine Änderung am Konzert selbst (Stammdaten, Preise, Seats ersetzt,
+     * angelegt oder gelöscht) nach Commit. Erhöht zusätzlich die Version der Konzertlisten.
+     *
+     * @param concertId ID des Konzerts
+     */
+    public void concertChanged(Long concertId) {
+        long now = System.currentTimeMillis();
+        concertCounters.merge(concertId, new ConcertCounters(1, 0, now),
+            (current, ignored) -> new ConcertCounters(current.concertVersion() + 1,
+                current.seatStatusVersion(), Math.max(current.lastModified(), now)));
+        listingChanged(now);
+    }
+
+    /**
+     * Aktuelle Inhaltsversion der Seat-Map eines Konzerts (ohne Datenbankzugriff).
+     * Controller lesen sie einmal pro Request und leiten ETag, Last-Modified und
+     * Response-Cache-Schlüssel daraus ab.
+     *
+     * @param concertId ID des Konzerts
+     */
+    public SeatMapVersion seatMapVersion(Long concertId) {
+        ConcertCounters counters = concertCounters.get(concertId);
+        if (counters == null) {
+            return new SeatMapVersion(concertId, epochTag, 0, 0, epoch);
+        }
+        return new SeatMapVersion(concertId, epochTag, counters.concertVersion(),
+            counters.seatStatusVersion(), counters.lastModified());
+    }
+
+    /**
+     * Aktuelle Inhaltsversion der Konzertlisten (ohne Datenbankzugriff).
+     */
+    public ListingVersion listingVersion() {
+        ListingCounter counter = listingCounter.get();
+        return new ListingVersion("\"concerts-" + epochTag + "-" + counter.counter() + "\"",
+            counter.lastModified());
+    }
+
+    private void listingChanged(long now) {
+        listingCounter.updateAndGet(current ->
+            new ListingCounter(current.counter() + 1, Math.max(current.lastModified(), now)));
+    }
+
+    private record ConcertCounters(long concertVersion, long seatStatusVersion, long lastModified) {
+    }
+
+    private record ListingCounter(long counter, long lastModified) {
+    }
+
+    /**
+     * Inhaltsversion der Seat-Map eines Konzerts.
+     *
+     * @param concertId ID des Konzerts
+     * @param epochTag Epoche dieses Prozesses
+     * @param concertVersion Zähler der Concert-Änderungen
+     * @param seatStatusVersion Zähler der Seat-Status-Änderungen
+     * @param lastModified Last-Modified (Epoch-Millis)
+     */
+    public record SeatMapVersion(Long concertId, String epochTag, long concertVersion,
+                                 long seatStatusVersion, long lastModified) {
+
+        /**
+         * Monoton wachsender Zähler (z.B. als Schlüsselbestandteil für Response-Caches):
+         * beide Bestandteile wachsen nur, jede Änderung erhöht also die Summe.
+         */
+        public long counter() {
+            return concertVersion + seatStatusVersion;
+        }
+
+        /**
+         * ETag der Seat-Map.
+         *
+         * @param representation Repräsentation (z.B. "json", "status", "bitmap"), da
+         *                       unterschiedliche Repräsentationen unterschiedliche ETags brauchen
+         */
+        public String eTag(String representation) {
+            return "\"seats-" + representation + "-" + concertId + "-" + epochTag + "-"
+                + concertVersion + "." + seatStatusVersion + "\"";
+        }
+    }
+
+    /**
+     * Inhaltsversion der Konzertlisten (unabhängig von Filter/Pagination, da pro URL gecacht wird).
+     *
+     * @param eTag ETag der Konzertlisten
+     * @param lastModified Last-Modified (Epoch-Millis)
+     */
+    public record ListingVersion(String eTag, long lastModified) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.concertcomparison.infrastructure.cache;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Bereits serialisierte Response (JSON-Bytes), entweder unkomprimiert oder gzip-komprimiert.
+ *
+ * Wird vom {@link ResponseByteCache} gehalten und bei einem Cache-Hit direkt
+ * in den Servlet-OutputStream geschrieben - ohne erneute Jackson-Serialisierung.
+ *
+ * Große Responses werden nur komprimiert gehalten. Clients ohne gzip erhalten sie
+ * beim Schreiben per Stream dekomprimiert; das kostet CPU, aber keinen Puffer in
+ * Größe der unkomprimierten Response.
+ *
+ * @param contentType Content-Type der Response
+ * @param body        Bytes der Response
+ * @param gzip        {@code true}, wenn {@code body} gzip-komprimiert ist
+ */
+public record EncodedResponse(String contentType, byte[] body, boolean gzip) {
+
+    public boolean hasGzip() {
+        return gzip;
+    }
+
+    /**
+     * Ungefährer Speicherbedarf in Bytes (für die Gewichtung im Cache).
+     */
+    public int weight() {
+        return body.length;
+    }
+
+    /**
+     * Unkomprimierte Bytes, bei gzip-Bodies dekomprimiert (z.B. für Tests und Logs).
+     */
+    public byte[] identity() {
+        if (!gzip) {
+            return body;
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Schreibt die Response in den OutputStream. Status und Validatoren (ETag etc.)
+     * müssen vorher gesetzt sein.
+     *
+     * @param response       Servlet Response
+     * @param acceptEncoding Wert des Accept-Encoding Headers (darf null sein)
+     */
+    public void writeTo(HttpServletResponse response, String acceptEncoding) throws IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentType(contentType);
+        if (!gzip || acceptsGzip(acceptEncoding)) {
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+            return;
+        }
+        // Länge unbekannt: Servlet-Container antwortet chunked
+        OutputStream out = response.getOutputStream();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            in.transferTo(out);
+        }
+    }
+
+    /**
+     * Prüft, ob der Client gzip akzeptiert ("gzip;q=0" gilt als Ablehnung).
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
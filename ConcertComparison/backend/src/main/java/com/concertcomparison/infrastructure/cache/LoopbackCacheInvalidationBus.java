@@ -0,0 +1,76 @@
+package com.concertcomparison.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-Process-Implementierung des {@link CacheInvalidationBus}.
+ *
+ * Alle über {@link #joinAs(String)} verbundenen Instanzen bilden ein "Netz" im selben
+ * Prozess; Nachrichten werden synchron an alle anderen Instanzen zugestellt. Mit nur
+ * einer Instanz (Default, ein Knoten) ist {@link #publish} ein No-op.
+ *
+ * Tests simulieren mehrere Knoten, indem sie pro Knoten eine verbundene Instanz anlegen.
+ */
+public class LoopbackCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoopbackCacheInvalidationBus.class);
+
+    private final String nodeId;
+    private final List<LoopbackCacheInvalidationBus> network;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public LoopbackCacheInvalidationBus(String nodeId) {
+        this(nodeId, new CopyOnWriteArrayList<>());
+    }
+
+    private LoopbackCacheInvalidationBus(String nodeId, List<LoopbackCacheInvalidationBus> network) {
+        this.nodeId = nodeId;
+        this.network = network;
+        network.add(this);
+    }
+
+    /**
+     * Verbindet einen weiteren Knoten mit demselben Netz.
+     *
+     * @param otherNodeId ID des neuen Knotens
+     * @return Bus-Instanz des neuen Knotens
+     */
+    public LoopbackCacheInvalidationBus joinAs(String otherNodeId) {
+        return new LoopbackCacheInvalidationBus(otherNodeId, network);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(CacheInvalidation message) {
+        for (LoopbackCacheInvalidationBus node : network) {
+            if (node != this) {
+                node.deliver(message);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    private void deliver(CacheInvalidation message) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                // Ein fehlerhafter Empfänger darf die übrigen nicht blockieren
+                logger.error("Cache invalidation listener failed on node {}: {}", nodeId, message, e);
+            }
+        }
+    }
+}
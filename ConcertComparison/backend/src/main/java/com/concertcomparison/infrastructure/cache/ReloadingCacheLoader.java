@@ -0,0 +1,36 @@
+package com.concertcomparison.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+import java.util.function.Supplier;
+
+/**
+ * Caffeine-Loader für Caches mit {@code refresh-after-write}.
+ *
+ * Nur Refreshes laufen über den {@link CacheReloader}: Caffeine ruft {@link #reload}
+ * asynchron auf, während Leser weiter den bisherigen Wert erhalten. Ein echter Miss
+ * liefert {@code null}, damit der {@link TwoTierCache} wie gewohnt den geteilten L2
+ * und danach die @Cacheable-Methode befragt.
+ *
+ * Der Reloader wird erst beim ersten Refresh aufgelöst, damit der CacheManager nicht
+ * von den Services abhängt, die ihn über @Cacheable selbst benutzen.
+ */
+public class ReloadingCacheLoader implements CacheLoader<Object, Object> {
+
+    private final Supplier<CacheReloader> reloader;
+
+    public ReloadingCacheLoader(Supplier<CacheReloader> reloader) {
+        this.reloader = reloader;
+    }
+
+    @Override
+    public Object load(Object key) {
+        return null;
+    }
+
+    @Override
+    public Object reload(Object key, Object oldValue) {
+        CacheReloader current = reloader.get();
+        return current == null ? oldValue : current.reload(key);
+    }
+}
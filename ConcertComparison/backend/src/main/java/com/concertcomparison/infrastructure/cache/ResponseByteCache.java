@@ -0,0 +1,189 @@
+package com.concertcomparison.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response-Cache für vorserialisierte JSON-Bytes heißer Read-Endpoints.
+ *
+ * Der DTO-Cache concertById spart nur Datenbankzugriffe - jeder Hit zahlt trotzdem
+ * die komplette Jackson-Serialisierung. Dieser Cache hält pro Konzert und Repräsentation
+ * die fertig kodierten Bytes. Ab einer Mindestgröße wird schon beim Schreiben gzip-
+ * komprimiert und nur die komprimierte Fassung gehalten: Ein Miss auf einer großen
+ * Seat-Map belegt dann nur den komprimierten Puffer statt unkomprimierter Bytes plus
+ * Kopie. Clients ohne gzip bekommen den Body beim Ausliefern dekomprimiert.
+ *
+ * Schlüssel enthält die Inhaltsversion aus dem {@link ContentVersionTracker}: Nach
+ * einer Änderung wird automatisch eine neue Version geladen, veraltete Einträge
+ * können nie getroffen werden. Die Größe ist über das Byte-Gewicht begrenzt, die TTL
+ * schützt gegen Änderungen ohne Event.
+ *
+ * Misses werden per {@link SingleFlight} gebündelt: Nach einer Änderung an einem heißen
+ * Konzert serialisiert genau ein Request die neue Version, alle anderen warten darauf.
+ */
+@Component
+public class ResponseByteCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseByteCache.class);
+
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+    private final Cache<Key, EncodedResponse> cache;
+    private final SingleFlight<Key, EncodedResponse> singleFlight;
+
+    public ResponseByteCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${concert.response-cache.max-bytes:33554432}") long maxBytes,
+            @Value("${concert.response-cache.gzip-min-bytes:1024}") int gzipMinBytes,
+            @Value("${concert.response-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((Key key, EncodedResponse value) -> value.weight())
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+        this.singleFlight = new SingleFlight<>("responseByteCache", meterRegistry);
+    }
+
+    /**
+     * Liefert die kodierte Response aus dem Cache oder serialisiert den Wert des Loaders.
+     *
+     * Exceptions des Loaders (z.B. ResourceNotFoundException) werden unverändert
+     * weitergereicht und nicht gecacht.
+     *
+     * @param concertId      ID des Konzerts
+     * @param representation Repräsentation (z.B. "seats", "concert")
+     * @param version        Inhaltsversion des Konzerts
+     * @param loader         liefert das zu serialisierende DTO
+     */
+    public EncodedResponse getOrEncode(Long concertId, String representation, long version,
+                                       Supplier<?> loader) {
+        return getOrWrite(concertId, representation, version, out -> objectMapper.writeValue(out, loader.get()));
+    }
+
+    /**
+     * Wie {@link #getOrEncode}, aber der Body wird vom Aufrufer direkt in einen Stream
+     * geschrieben (z.B. per JsonGenerator), ohne vorher ein DTO aufzubauen.
+     *
+     * @param writer schreibt den JSON-Body
+     */
+    public EncodedResponse getOrWrite(Long concertId, String representation, long version,
+                                      BodyWriter writer) {
+        Key key = new Key(concertId, representation, version);
+        EncodedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return singleFlight.execute(key, () -> {
+            // Ein gerade beendeter Load kann den Eintrag schon geschrieben haben
+            EncodedResponse loaded = cache.getIfPresent(key);
+            if (loaded == null) {
+                loaded = encode(key, writer);
+                cache.put(key, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * Entfernt alle Einträge eines Konzerts (gibt Speicher veralteter Versionen frei).
+     */
+    public void invalidateConcert(Long concertId) {
+        cache.asMap().keySet().removeIf(key -> key.concertId().equals(concertId));
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private EncodedResponse encode(Key key, BodyWriter writer) {
+        GzipSpillOutputStream out = new GzipSpillOutputStream(gzipMinBytes);
+        try (out) {
+            writer.writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Response konnte nicht serialisiert werden: " + key, e);
+        }
+        EncodedResponse encoded = new EncodedResponse(MediaType.APPLICATION_JSON_VALUE, out.toByteArray(), out.isGzip());
+        logger.debug("Encoded response {} ({} bytes, gzip {})", key, encoded.body().length, encoded.hasGzip());
+        return encoded;
+    }
+
+    /**
+     * Puffert bis {@code threshold} Bytes unkomprimiert; wird die Schwelle erreicht,
+     * wird der Puffer in einen gzip-Stream umgeleitet und alles Weitere direkt
+     * komprimiert. So entsteht nie eine unkomprimierte Kopie großer Responses.
+     */
+    private static final class GzipSpillOutputStream extends OutputStream {
+
+        private final int threshold;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        private GZIPOutputStream gzip;
+
+        GzipSpillOutputStream(int threshold) {
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target(1).write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target(len).write(b, off, len);
+        }
+
+        private OutputStream target(int len) throws IOException {
+            if (gzip == null && buffer.size() + len >= threshold) {
+                byte[] identity = buffer.toByteArray();
+                buffer = new ByteArrayOutputStream(Math.max(512, identity.length / 4));
+                gzip = new GZIPOutputStream(buffer, 8192);
+                gzip.write(identity);
+            }
+            return gzip != null ? gzip : buffer;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (gzip != null) {
+                gzip.finish();
+            }
+        }
+
+        boolean isGzip() {
+            return gzip != null;
+        }
+
+        byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+    }
+
+    /**
+     * Schreibt einen Response-Body in einen Stream.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private record Key(Long concertId, String representation, long version) {
+    }
+}
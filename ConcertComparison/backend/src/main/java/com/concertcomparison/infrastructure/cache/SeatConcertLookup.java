@@ -0,0 +1,51 @@
+package com.concertcomparison.infrastructure.cache;
+
+import com.concertcomparison.domain.exception.SeatNotFoundException;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Cache Seat-ID → Concert-ID für die Schreibpfade (Hold, Strategie-Auswahl).
+ *
+ * Die Zuordnung ist unveränderlich (Seats wechseln nie das Konzert, IDs werden nicht
+ * wiederverwendet), daher ohne TTL und ohne Invalidierung. Einträge gelöschter Seats
+ * schaden nicht: der anschließende bedingte Schreibzugriff findet keine Zeile.
+ */
+@Component
+public class SeatConcertLookup {
+
+    private static final int MAX_ENTRIES = 100_000;
+
+    private final SeatRepository seatRepository;
+    private final Cache<Long, Long> concertIds = Caffeine.newBuilder().maximumSize(MAX_ENTRIES).build();
+
+    public SeatConcertLookup(SeatRepository seatRepository) {
+        this.seatRepository = seatRepository;
+    }
+
+    /**
+     * @param seatId ID des Seats
+     * @return ID des Konzerts, zu dem der Seat gehört
+     * @throws SeatNotFoundException wenn der Seat nicht existiert
+     */
+    public Long concertIdOf(Long seatId) {
+        return concertIds.get(seatId, id -> seatRepository.findConcertIdById(id)
+            .orElseThrow(() -> new SeatNotFoundException(id)));
+    }
+
+    /**
+     * Trägt alle Seats eines Konzerts ein (Vorwärmen vor dem Verkaufsstart).
+     *
+     * @param concertId ID des Konzerts
+     * @return Anzahl eingetragener Seats
+     */
+    public int primeConcert(Long concertId) {
+        List<Long> seatIds = seatRepository.findIdsByConcertId(concertId);
+        seatIds.forEach(seatId -> concertIds.put(seatId, concertId));
+        return seatIds.size();
+    }
+}
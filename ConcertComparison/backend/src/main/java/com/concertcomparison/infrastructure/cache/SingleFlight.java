@@ -0,0 +1,90 @@
+package com.concertcomparison.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Bündelt gleichzeitige Loads desselben Schlüssels (Single-Flight).
+ *
+ * Der erste Aufrufer führt den Loader aus, alle weiteren warten auf dessen Future und
+ * erhalten denselben Wert bzw. dieselbe Exception. Anders als ein compute im Cache
+ * blockiert ein langer Load dabei keine anderen Schlüssel.
+ *
+ * Metriken:
+ * - cache.singleflight.loads{cache}: tatsächlich ausgeführte Loads
+ * - cache.singleflight.coalesced{cache}: eingesparte Loads (Aufrufer, die gewartet haben)
+ *
+ * @param <K> Schlüssel
+ * @param <V> Wert
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter coalesced;
+
+    public SingleFlight(String cacheName, MeterRegistry meterRegistry) {
+        this.loads = Counter.builder("cache.singleflight.loads")
+            .description("Ausgeführte Loads nach Cache-Miss")
+            .tag("cache", cacheName)
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("cache.singleflight.coalesced")
+            .description("Durch Warten auf einen laufenden Load eingesparte Loads")
+            .tag("cache", cacheName)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Führt den Loader aus oder wartet auf einen bereits laufenden Load desselben Schlüssels.
+     *
+     * @param key    Schlüssel
+     * @param loader berechnet den Wert (läuft im Thread des ersten Aufrufers)
+     * @return Wert des Loads
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+        loads.increment();
+        try {
+            V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * @return Anzahl gerade laufender Loads
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.concertcomparison.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Spring-Cache mit lokalem L1 und optionalem geteiltem L2.
+ *
+ * - Lesen: L1 → L2 (Treffer wird in L1 übernommen) → Loader (Ergebnis in L1 und L2)
+ * - Schreiben: L1 und L2
+ * - Evict/Clear: L1 und L2 lokal, anschließend Invalidierung über den {@link CacheInvalidationBus},
+ *   damit andere Knoten ihren L1 verwerfen (der geteilte L2 ist bereits aktuell)
+ *
+ * {@code put} wird nicht verteilt: Ein Eintrag entsteht nur nach einem Miss, und jede
+ * Änderung der Quelldaten hat vorher bereits einen Evict auf allen Knoten ausgelöst.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache local;
+    private final Cache shared;
+    private final CacheInvalidationBus bus;
+
+    /**
+     * @param local  L1 (z.B. Caffeine), pro Knoten
+     * @param shared L2 oder {@code null}, wenn nur lokal gecacht wird
+     * @param bus    Bus für Invalidierungen an andere Knoten
+     */
+    public TwoTierCache(Cache local, Cache shared, CacheInvalidationBus bus) {
+        this.local = local;
+        this.shared = shared;
+        this.bus = bus;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value == null && shared != null) {
+            value = shared.get(key);
+            if (value != null) {
+                local.put(key, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (shared == null) {
+            return local.get(key, valueLoader);
+        }
+        // L1 sorgt dafür, dass pro Knoten und Schlüssel nur ein Thread L2 bzw. den Loader bemüht
+        return local.get(key, () -> {
+            ValueWrapper sharedValue = shared.get(key);
+            if (sharedValue != null) {
+                return (T) sharedValue.get();
+            }
+            T value = valueLoader.call();
+            shared.put(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        if (shared != null) {
+            shared.put(key, value);
+        }
+    }
+
+    /**
+     * Schreibt nur, wenn noch kein Eintrag existiert (atomar pro Ebene). Ein bereits
+     * vorhandener Wert gewinnt und wird zurückgegeben, z.B. ein frischer Eintrag, den
+     * ein Update zwischen Miss und Nachladen geschrieben hat.
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (shared != null) {
+            ValueWrapper existing = shared.putIfAbsent(key, value);
+            if (existing != null) {
+                local.putIfAbsent(key, existing.get());
+                return existing;
+            }
+        }
+        return local.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictLocal(key);
+        if (shared != null) {
+            shared.evict(key);
+        }
+        bus.publish(new CacheInvalidation.CacheEvicted(getName(), key));
+    }
+
+    @Override
+    public void clear() {
+        clearLocal();
+        if (shared != null) {
+            shared.clear();
+        }
+        bus.publish(new CacheInvalidation.CacheEvicted(getName(), null));
+    }
+
+    /**
+     * Verwirft einen Eintrag nur im L1 (Invalidierung eines anderen Knotens).
+     */
+    public void evictLocal(Object key) {
+        local.evict(key);
+    }
+
+    /**
+     * Leert nur den L1 (Invalidierung eines anderen Knotens).
+     */
+    public void clearLocal() {
+        local.clear();
+    }
+}
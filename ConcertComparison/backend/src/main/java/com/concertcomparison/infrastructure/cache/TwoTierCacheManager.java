@@ -0,0 +1,103 @@
+package com.concertcomparison.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager, der jeden Cache als {@link TwoTierCache} bereitstellt.
+ *
+ * Die Cache-Namen bestimmt der lokale (L1) CacheManager; der geteilte (L2) CacheManager
+ * ist optional. Invalidierungen anderer Knoten ({@link CacheInvalidation.CacheEvicted})
+ * werden nur auf den L1 angewendet.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    private final CacheManager localCacheManager;
+    private final CacheManager sharedCacheManager;
+    private final CacheInvalidationBus bus;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param localCacheManager  L1 pro Knoten
+     * @param sharedCacheManager L2 oder {@code null}
+     * @param bus                Bus für Invalidierungen zwischen Knoten
+     */
+    public TwoTierCacheManager(CacheManager localCacheManager, CacheManager sharedCacheManager,
+                               CacheInvalidationBus bus) {
+        this.localCacheManager = localCacheManager;
+        this.sharedCacheManager = sharedCacheManager;
+        this.bus = bus;
+        bus.subscribe(this::onRemoteInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    /**
+     * @return true, wenn ein geteilter L2 konfiguriert ist
+     */
+    public boolean hasSharedTier() {
+        return sharedCacheManager != null;
+    }
+
+    /**
+     * Verwirft einen Eintrag nur im L1 dieses Knotens.
+     *
+     * @param name Name des Caches (unbekannte Caches werden ignoriert)
+     * @param key  Schlüssel
+     */
+    public void evictLocal(String name, Object key) {
+        TwoTierCache cache = (TwoTierCache) getCache(name);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    /**
+     * Leert nur den L1 dieses Knotens.
+     *
+     * @param name Name des Caches (unbekannte Caches werden ignoriert)
+     */
+    public void clearLocal(String name) {
+        TwoTierCache cache = (TwoTierCache) getCache(name);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache local = localCacheManager.getCache(name);
+        if (local == null) {
+            return null;
+        }
+        Cache shared = sharedCacheManager == null ? null : sharedCacheManager.getCache(name);
+        return new TwoTierCache(local, shared, bus);
+    }
+
+    private void onRemoteInvalidation(CacheInvalidation message) {
+        if (!(message instanceof CacheInvalidation.CacheEvicted evicted)) {
+            return;
+        }
+        if (evicted.key() == null) {
+            clearLocal(evicted.cacheName());
+        } else {
+            evictLocal(evicted.cacheName(), evicted.key());
+        }
+        logger.debug("Remote cache invalidation applied on node {}: {}", bus.nodeId(), evicted);
+    }
+}
@@ -0,0 +1,144 @@
+package com.concertcomparison.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latenzbasierte, adaptive Nebenläufigkeitsgrenze (Gradient-Verfahren mit AIMD-Rückfall).
+ *
+ * Statt einer festen Anzahl paralleler Requests wird das Limit aus den gemessenen
+ * Antwortzeiten abgeleitet:
+ * - longRtt ist ein langsamer gleitender Mittelwert (Basislinie ohne Stau)
+ * - gradient = tolerance × longRtt / rtt, begrenzt auf [0.5, 1.0] - steigt die Latenz
+ *   über die Toleranz, schrumpft das Limit proportional
+ * - neues Limit = limit × gradient + √limit (Reserve für Wachstum), geglättet mit {@code smoothing}
+ * - Fehler (Exception, 5xx) senken das Limit multiplikativ um 10 % (AIMD-Rückfall)
+ * - Gewachsen wird nur, wenn mindestens die Hälfte des Limits belegt ist - ein
+ *   unterausgelasteter Dienst beweist nicht, dass er mehr verträgt
+ *
+ * Liegt die Latenz nach einer Lastspitze deutlich unter der Basislinie, wird longRtt
+ * zusätzlich abgesenkt, damit eine aufgeblähte Basislinie das Limit nicht dauerhaft zu hoch hält.
+ *
+ * Metriken (Micrometer):
+ * - concurrency.limit{limiter} - aktuelles Limit
+ * - concurrency.inflight{limiter} - laufende Requests
+ * - concurrency.rejected{limiter} - abgelehnte Requests
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_DRIFT = 0.95;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longRttFactor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(String name,
+                                      int initialLimit,
+                                      int minLimit,
+                                      int maxLimit,
+                                      double smoothing,
+                                      double tolerance,
+                                      int longWindow,
+                                      MeterRegistry meterRegistry) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Es muss 1 <= min-limit <= initial-limit <= max-limit gelten");
+        }
+        if (tolerance < 1.0) {
+            throw new IllegalArgumentException("tolerance muss mindestens 1.0 sein");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longRttFactor = 2.0 / (longWindow + 1);
+        this.limit = initialLimit;
+
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimiter::limit).tag("limiter", name)
+            .description("Aktuelle adaptive Nebenläufigkeitsgrenze").register(meterRegistry);
+        Gauge.builder("concurrency.inflight", inFlight, AtomicInteger::get).tag("limiter", name)
+            .description("Laufende Requests hinter dem Limiter").register(meterRegistry);
+        this.rejected = Counter.builder("concurrency.rejected").tag("limiter", name)
+            .description("Wegen erreichter Grenze abgelehnte Requests").register(meterRegistry);
+    }
+
+    /**
+     * Belegt einen Platz, wenn das Limit noch nicht erreicht ist.
+     *
+     * @return true, wenn der Request laufen darf; dann muss {@link #release} folgen
+     */
+    public boolean tryAcquire() {
+        int current = (int) limit;
+        while (true) {
+            int running = inFlight.get();
+            if (running >= current) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(running, running + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gibt einen Platz frei und passt das Limit an die gemessene Antwortzeit an.
+     *
+     * @param rttNanos Dauer des Requests
+     * @param dropped  true bei Fehlern (Exception, 5xx) - dann wird das Limit reduziert
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int running = inFlight.getAndDecrement();
+        update(Math.max(1L, rttNanos), dropped, running);
+    }
+
+    private synchronized void update(long rttNanos, boolean dropped, int running) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * longRttFactor;
+        }
+        if (longRttNanos > rttNanos * 2.0) {
+            // Basislinie aus einer Lastspitze wieder absenken
+            longRttNanos *= LONG_RTT_DRIFT;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        if (newLimit > limit && running < limit / 2) {
+            return;
+        }
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
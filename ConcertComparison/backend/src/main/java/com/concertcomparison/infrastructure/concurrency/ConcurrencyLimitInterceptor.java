@@ -0,0 +1,47 @@
+package com.concertcomparison.infrastructure.concurrency;
+
+import com.concertcomparison.domain.exception.ServiceOverloadedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Schaltet einen {@link AdaptiveConcurrencyLimiter} vor Controller-Methoden.
+ *
+ * Ist das Limit erreicht, wird sofort eine {@link ServiceOverloadedException} geworfen
+ * (503 + Retry-After über den GlobalExceptionHandler), statt den Request im Connection-Pool
+ * warten zu lassen. Nach Abschluss wird die Dauer als Latenzprobe zurückgemeldet;
+ * Exceptions und 5xx-Antworten zählen als Fehler.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter, long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException(limiter.name(), limiter.limit(), retryAfterSeconds);
+        }
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start == null) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+        boolean dropped = ex != null || response.getStatus() >= 500;
+        limiter.release(System.nanoTime() - (long) start, dropped);
+    }
+}
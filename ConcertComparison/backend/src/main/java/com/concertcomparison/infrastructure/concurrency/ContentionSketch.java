@@ -0,0 +1,116 @@
+package com.concertcomparison.infrastructure.concurrency;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Count-Min-Sketch für Konfliktraten pro Schlüssel (Seat- oder Concert-ID).
+ *
+ * Zählt Versuche und Konflikte in festem Speicher (depth × width Zähler), unabhängig
+ * von der Anzahl Schlüssel. Schätzungen können durch Hash-Kollisionen nur zu hoch
+ * ausfallen, nie zu niedrig - ein kalter Seat wird im schlimmsten Fall als heiß eingestuft.
+ *
+ * Aging: Nach {@code width * 10} Versuchen werden alle Zähler halbiert, damit
+ * vergangene Lastspitzen (z.B. ein abgeschlossener Verkaufsstart) abklingen.
+ *
+ * Thread-safe ohne Locks; Halbierung und gleichzeitige Inkremente dürfen sich
+ * überschneiden (Schätzung, kein exakter Zähler).
+ */
+public class ContentionSketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final int mask;
+    private final AtomicIntegerArray attempts;
+    private final AtomicIntegerArray conflicts;
+    private final long resetThreshold;
+    private final AtomicLong sinceReset = new AtomicLong();
+    private final AtomicBoolean resetting = new AtomicBoolean();
+
+    /**
+     * @param width Zähler pro Zeile (wird auf die nächste Zweierpotenz aufgerundet)
+     */
+    public ContentionSketch(int width) {
+        if (width < 16) {
+            throw new IllegalArgumentException("Sketch-Breite muss mindestens 16 sein");
+        }
+        int size = Integer.highestOneBit(width - 1) << 1;
+        this.mask = size - 1;
+        this.attempts = new AtomicIntegerArray(DEPTH * size);
+        this.conflicts = new AtomicIntegerArray(DEPTH * size);
+        this.resetThreshold = size * 10L;
+    }
+
+    /**
+     * Geschätzte Versuche und Konflikte eines Schlüssels.
+     */
+    public record Estimate(int attempts, int conflicts) {
+
+        /**
+         * Konfliktrate (0..1), 0 wenn noch keine Versuche gezählt wurden.
+         */
+        public double conflictRate() {
+            return attempts == 0 ? 0.0 : Math.min(1.0, (double) conflicts / attempts);
+        }
+    }
+
+    /**
+     * Zählt einen Versuch für den Schlüssel.
+     *
+     * @param key      Seat- oder Concert-ID
+     * @param conflict true wenn der Versuch an konkurrierendem Zugriff gescheitert ist
+     */
+    public void record(long key, boolean conflict) {
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(key, row);
+            attempts.incrementAndGet(index);
+            if (conflict) {
+                conflicts.incrementAndGet(index);
+            }
+        }
+        if (sinceReset.incrementAndGet() >= resetThreshold) {
+            age();
+        }
+    }
+
+    /**
+     * Liefert die (nach oben verzerrte) Schätzung für den Schlüssel.
+     */
+    public Estimate estimate(long key) {
+        int minAttempts = Integer.MAX_VALUE;
+        int minConflicts = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(key, row);
+            minAttempts = Math.min(minAttempts, attempts.get(index));
+            minConflicts = Math.min(minConflicts, conflicts.get(index));
+        }
+        return new Estimate(minAttempts, Math.min(minConflicts, minAttempts));
+    }
+
+    private void age() {
+        if (!resetting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sinceReset.set(0);
+            for (int i = 0; i < attempts.length(); i++) {
+                attempts.set(i, attempts.get(i) >>> 1);
+                conflicts.set(i, conflicts.get(i) >>> 1);
+            }
+        } finally {
+            resetting.set(false);
+        }
+    }
+
+    private int index(long key, int row) {
+        long hash = (key ^ SEEDS[row]) * 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return row * (mask + 1) + (int) (hash & mask);
+    }
+}
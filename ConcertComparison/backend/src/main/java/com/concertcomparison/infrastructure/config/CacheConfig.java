@@ -1,41 +1,134 @@
 package com.concertcomparison.infrastructure.config;
 
+import com.concertcomparison.application.service.InventorySummaryService;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.infrastructure.cache.CacheEntryWeigher;
+import com.concertcomparison.infrastructure.cache.CacheInvalidationBus;
+import com.concertcomparison.infrastructure.cache.CachePolicyProperties;
+import com.concertcomparison.infrastructure.cache.ConcertCatalogCache;
+import com.concertcomparison.infrastructure.cache.CacheReloader;
+import com.concertcomparison.infrastructure.cache.LoopbackCacheInvalidationBus;
+import com.concertcomparison.infrastructure.cache.ReloadingCacheLoader;
+import com.concertcomparison.infrastructure.cache.TwoTierCacheManager;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableAsync;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Cache-Konfiguration für Concert Comparison.
  * 
- * Nutzt Caffeine (lokale In-Memory Cache) für Entwicklung.
- * Production kann auf Redis gewechselt werden.
+ * Zweistufig: Jeder Knoten hält einen lokalen Caffeine-Cache (L1); optional kommt ein
+ * geteilter L2 hinzu (Bean "sharedCacheManager", z.B. Redis). Invalidierungen werden
+ * über den {@link CacheInvalidationBus} an alle anderen Knoten verteilt, damit deren
+ * L1 nach Änderungen nicht bis zum Ablauf der TTL veraltet bleibt.
+ * 
+ * Jeder L1-Cache wird nach seiner Policy aus {@link CachePolicyProperties} gebaut und
+ * mit Hit/Miss/Eviction/Load-Statistiken als {@code cache.*}-Metriken registriert.
  * 
  * @EnableAsync ermöglicht asynchrone Event-Verarbeitung (@Async in EventListener).
  */
 @Configuration
 @EnableCaching
 @EnableAsync
+@EnableConfigurationProperties(CachePolicyProperties.class)
 public class CacheConfig {
+
+    static final List<String> CACHE_NAMES = List.of(
+        ConcertCatalogCache.CONCERT_BY_ID_CACHE, ConcertCatalogCache.CONCERT_IDS_CACHE,
+        "inventorySummary", "seatLayout");
     
     /**
-     * Caffeine CacheManager für @Cacheable Annotationen.
+     * Loopback-Bus: Default für einen Knoten und für Tests.
+     * Andere Implementierungen werden mit {@code concert.cache.bus=<name>} aktiviert.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "concert.cache.bus", havingValue = "loopback", matchIfMissing = true)
+    public CacheInvalidationBus cacheInvalidationBus(@Value("${concert.cache.node-id:}") String nodeId) {
+        return new LoopbackCacheInvalidationBus(nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId);
+    }
+
+    /**
+     * CacheManager für @Cacheable Annotationen.
      * 
      * Caches:
-     * - concertCache: getAllConcerts() - 10 Minuten TTL
-     * - seatAvailability: getSeatAvailability() - 5 Minuten TTL
+     * - concertById / concertIds: {@link ConcertCatalogCache} - Concert pro ID und ID-Liste
+     * - inventorySummary: getInventorySummary() - Inventar pro Konzert für den Vergleich
+     * - seatLayout: getSeatLayout() - Seat-Layout pro Konzert und Layout-Version
+     */
+    @Bean
+    @Primary
+    public TwoTierCacheManager cacheManager(
+            CacheInvalidationBus cacheInvalidationBus,
+            @Qualifier("sharedCacheManager") ObjectProvider<CacheManager> sharedCacheManager,
+            CachePolicyProperties cachePolicies,
+            ObjectProvider<CacheReloader> cacheReloaders,
+            MeterRegistry meterRegistry) {
+        CaffeineCacheManager localCacheManager = new CaffeineCacheManager();
+        for (String cacheName : CACHE_NAMES) {
+            Cache<Object, Object> cache = buildCache(cacheName, cachePolicies.policyFor(cacheName), cacheReloaders);
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+            localCacheManager.registerCustomCache(cacheName, cache);
+        }
+        return new TwoTierCacheManager(localCacheManager, sharedCacheManager.getIfAvailable(), cacheInvalidationBus);
+    }
+
+    /**
+     * Baut einen L1-Cache nach Policy. Mit {@code refresh-after-write} entsteht ein
+     * LoadingCache, der abgelaufene Einträge asynchron über den {@link CacheReloader}
+     * des Caches neu berechnet; Leser erhalten bis dahin den bisherigen Wert.
      */
+    static Cache<Object, Object> buildCache(String cacheName,
+                                            CachePolicyProperties.Policy policy,
+                                            ObjectProvider<CacheReloader> cacheReloaders) {
+        policy.validate(cacheName);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (policy.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(policy.getExpireAfterWrite());
+        }
+        if (policy.getMaximumWeight() != null) {
+            builder.maximumWeight(policy.getMaximumWeight()).weigher(new CacheEntryWeigher());
+        } else {
+            builder.maximumSize(policy.getMaximumSize() != null ? policy.getMaximumSize() : 1000);
+        }
+        if (policy.getRefreshAfterWrite() == null) {
+            return builder.build();
+        }
+        builder.refreshAfterWrite(policy.getRefreshAfterWrite());
+        return builder.build(new ReloadingCacheLoader(() -> cacheReloaders.stream()
+            .filter(reloader -> reloader.cacheName().equals(cacheName))
+            .findFirst()
+            .orElse(null)));
+    }
+
+    @Bean
+    public CacheReloader concertByIdCacheReloader(ObjectProvider<ConcertRepository> concertRepository) {
+        return CacheReloader.of(ConcertCatalogCache.CONCERT_BY_ID_CACHE,
+            key -> concertRepository.getObject().findSummaryById((Long) key).orElse(null));
+    }
+
+    @Bean
+    public CacheReloader concertIdsCacheReloader(ObjectProvider<ConcertRepository> concertRepository) {
+        return CacheReloader.of(ConcertCatalogCache.CONCERT_IDS_CACHE, key -> concertRepository.getObject().findAllIds());
+    }
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("concertCache", "seatAvailability");
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(10, TimeUnit.MINUTES)
-                .maximumSize(1000));
-        return cacheManager;
+    public CacheReloader inventorySummaryCacheReloader(ObjectProvider<InventorySummaryService> inventoryService) {
+        return CacheReloader.of("inventorySummary", key -> inventoryService.getObject().loadInventorySummary((Long) key));
     }
 }
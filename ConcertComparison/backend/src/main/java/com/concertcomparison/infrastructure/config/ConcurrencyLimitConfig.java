@@ -0,0 +1,74 @@
+package com.concertcomparison.infrastructure.config;
+
+import com.concertcomparison.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.concertcomparison.infrastructure.concurrency.ConcurrencyLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Adaptive Nebenläufigkeitsgrenzen vor den schreibenden Buchungs-Endpoints.
+ *
+ * Je ein {@link AdaptiveConcurrencyLimiter} für ReservationController (Holds) und
+ * OrderController (Käufe, Order-Abfragen), damit ein langsamer Checkout die Holds nicht
+ * mit ausbremst. Ergänzt das Rate Limiting pro Client um einen Schutz der Datenbank
+ * vor zu vielen gleichzeitigen Requests insgesamt.
+ */
+@Configuration
+@ConditionalOnProperty(name = "concert.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${concert.concurrency.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${concert.concurrency.min-limit:4}")
+    private int minLimit;
+
+    @Value("${concert.concurrency.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${concert.concurrency.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${concert.concurrency.tolerance:1.5}")
+    private double tolerance;
+
+    @Value("${concert.concurrency.long-window:600}")
+    private int longWindow;
+
+    @Value("${concert.concurrency.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    public ConcurrencyLimitConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter reservationConcurrencyLimiter() {
+        return limiter("reservation");
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter orderConcurrencyLimiter() {
+        return limiter("order");
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(reservationConcurrencyLimiter(), retryAfterSeconds))
+            .addPathPatterns("/api/seats/*/hold", "/api/reservations/**");
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(orderConcurrencyLimiter(), retryAfterSeconds))
+            .addPathPatterns("/api/orders/**", "/api/users/me/orders");
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(String name) {
+        return new AdaptiveConcurrencyLimiter(name, initialLimit, minLimit, maxLimit,
+            smoothing, tolerance, longWindow, meterRegistry);
+    }
+}
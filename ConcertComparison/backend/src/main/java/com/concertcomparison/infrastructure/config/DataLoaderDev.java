@@ -14,7 +14,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 
 /**
  * DataLoader für Entwicklung und manuelle Tests (Bruno API).
@@ -56,9 +56,10 @@ public class DataLoaderDev implements CommandLineRunner {
             .stream()
             .findFirst()
             .orElseGet(() -> {
+                // Datum relativ zu heute: createConcert lehnt Termine in der Vergangenheit ab
                 Concert created = Concert.createConcert(
                     "Test Concert - Development",
-                    LocalDateTime.of(2026, 7, 15, 20, 0),
+                    LocalDate.now().plusMonths(9).atTime(20, 0),
                     "Test Arena",
                     "Minimal Test-Daten für Entwicklung und Bruno API Tests"
                 );
@@ -0,0 +1,24 @@
+package com.concertcomparison.infrastructure.config;
+
+import com.concertcomparison.infrastructure.metrics.BookingMetrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer-Konfiguration.
+ *
+ * Die Buchungsmetriken ({@link BookingMetrics}) tragen die Concert-ID als Tag. Jede ID
+ * erzeugt eigene Zeitreihen inkl. Histogramm-Buckets, deshalb werden höchstens
+ * {@code concert.metrics.max-concert-tags} verschiedene IDs über alle booking.*-Metriken registriert;
+ * weitere Concerts werden nicht mehr erfasst, statt den Prometheus-Scrape aufzublähen.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterFilter bookingConcertTagLimit(@Value("${concert.metrics.max-concert-tags:500}") int maxConcertTags) {
+        return MeterFilter.maximumAllowableTags("booking.", "concert", maxConcertTags, MeterFilter.deny());
+    }
+}
@@ -0,0 +1,47 @@
+package com.concertcomparison.infrastructure.config;
+
+import com.concertcomparison.infrastructure.resilience.Bulkhead;
+import com.concertcomparison.infrastructure.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Circuit Breaker und Bulkhead für den Zahlungsanbieter.
+ *
+ * Genutzt von {@link com.concertcomparison.infrastructure.payment.GuardedPaymentProvider};
+ * Grenzen und Timeout über concert.payment.*.
+ */
+@Configuration
+public class PaymentResilienceConfig {
+
+    private static final String PAYMENT = "payment";
+
+    private final MeterRegistry meterRegistry;
+
+    public PaymentResilienceConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public CircuitBreaker paymentCircuitBreaker(
+            @Value("${concert.payment.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${concert.payment.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${concert.payment.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${concert.payment.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+            @Value("${concert.payment.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        return new CircuitBreaker(PAYMENT, failureRateThreshold, slidingWindowSize, minimumCalls,
+            Duration.ofMillis(openDurationMs), halfOpenCalls, meterRegistry);
+    }
+
+    @Bean
+    public Bulkhead paymentBulkhead(
+            @Value("${concert.payment.bulkhead.max-concurrent:10}") int maxConcurrent,
+            @Value("${concert.payment.bulkhead.queue-capacity:20}") int queueCapacity,
+            @Value("${concert.payment.timeout-ms:5000}") long timeoutMs) {
+        return new Bulkhead(PAYMENT, maxConcurrent, queueCapacity, Duration.ofMillis(timeoutMs), meterRegistry);
+    }
+}
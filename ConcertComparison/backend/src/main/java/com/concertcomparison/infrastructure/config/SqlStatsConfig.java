@@ -0,0 +1,50 @@
+package com.concertcomparison.infrastructure.config;
+
+import com.concertcomparison.infrastructure.sqlstats.SqlStatsDataSource;
+import com.concertcomparison.infrastructure.sqlstats.SqlStatsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL-Statistik pro HTTP-Request ({@code concert.sql-stats.enabled=true}).
+ *
+ * Ersetzt das globale Hibernate-SQL-Logging: Die DataSource wird mit
+ * {@link SqlStatsDataSource} umhüllt, der {@link SqlStatsFilter} läuft vor Spring Security,
+ * damit auch Abfragen der Authentifizierung zum Request zählen.
+ */
+@Configuration
+@ConditionalOnProperty(name = "concert.sql-stats.enabled", havingValue = "true")
+public class SqlStatsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatsDataSource)) {
+                    return new SqlStatsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${concert.sql-stats.headers:false}") boolean headers,
+            @Value("${concert.sql-stats.warn-statements:20}") int warnStatements) {
+        FilterRegistrationBean<SqlStatsFilter> registration =
+            new FilterRegistrationBean<>(new SqlStatsFilter(meterRegistry, headers, warnStatements));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,63 @@
+package com.concertcomparison.infrastructure.dataset;
+
+/**
+ * Vordefinierte Größen für den synthetischen Performance-Datensatz.
+ *
+ * Die Gatling-Simulationen (src/test/scala/.../loadtest/Dataset.scala) spiegeln
+ * diese Werte, um gültige Concert- und Seat-IDs zu erzeugen. Änderungen hier
+ * müssen dort nachgezogen werden.
+ */
+public enum DatasetPreset {
+
+    /** Schneller Start für lokale Smoke-Tests. */
+    SMALL(5, 1_000, 100, 0.05, 0.20, 1.0),
+
+    /** Realistische Größe für Regressionsmessungen. */
+    MEDIUM(50, 5_000, 10_000, 0.05, 0.30, 1.0),
+
+    /** Millionen Seats: deckt Skalierungsprobleme (Seat-Map, Aggregationen, Indizes) auf. */
+    LARGE(200, 10_000, 100_000, 0.05, 0.40, 1.2),
+
+    /** Wenige, sehr große und stark ungleich nachgefragte Konzerte (Verkaufsstart). */
+    HOTSALE(10, 50_000, 50_000, 0.10, 0.10, 2.0);
+
+    private final int concerts;
+    private final int seatsPerConcert;
+    private final int users;
+    private final double heldRatio;
+    private final double soldRatio;
+    private final double skew;
+
+    DatasetPreset(int concerts, int seatsPerConcert, int users, double heldRatio, double soldRatio, double skew) {
+        this.concerts = concerts;
+        this.seatsPerConcert = seatsPerConcert;
+        this.users = users;
+        this.heldRatio = heldRatio;
+        this.soldRatio = soldRatio;
+        this.skew = skew;
+    }
+
+    public int getConcerts() {
+        return concerts;
+    }
+
+    public int getSeatsPerConcert() {
+        return seatsPerConcert;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public double getHeldRatio() {
+        return heldRatio;
+    }
+
+    public double getSoldRatio() {
+        return soldRatio;
+    }
+
+    public double getSkew() {
+        return skew;
+    }
+}
@@ -0,0 +1,127 @@
+package com.concertcomparison.infrastructure.dataset;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Konfiguration des synthetischen Datensatzes (Profil 'performance').
+ *
+ * Das Preset liefert die Standardwerte; jede gesetzte Einzel-Property überschreibt es, z.B.:
+ * <pre>
+ * concert.dataset.preset=LARGE
+ * concert.dataset.seats-per-concert=20000
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "concert.dataset")
+public class DatasetProperties {
+
+    private DatasetPreset preset = DatasetPreset.SMALL;
+    private Integer concerts;
+    private Integer seatsPerConcert;
+    private Integer users;
+    private Double heldRatio;
+    private Double soldRatio;
+    private Double skew;
+    private int availableSeatsPerConcert = 100;
+    private int batchSize = 5_000;
+    private long seed = 42L;
+
+    /**
+     * Kombiniert Preset und Overrides zu den effektiven Parametern.
+     *
+     * @return effektive Datensatz-Parameter
+     */
+    public DatasetSpec toSpec() {
+        return new DatasetSpec(
+            concerts != null ? concerts : preset.getConcerts(),
+            seatsPerConcert != null ? seatsPerConcert : preset.getSeatsPerConcert(),
+            users != null ? users : preset.getUsers(),
+            heldRatio != null ? heldRatio : preset.getHeldRatio(),
+            soldRatio != null ? soldRatio : preset.getSoldRatio(),
+            skew != null ? skew : preset.getSkew(),
+            availableSeatsPerConcert,
+            batchSize,
+            seed
+        );
+    }
+
+    // Getter and Setter
+    public DatasetPreset getPreset() {
+        return preset;
+    }
+
+    public void setPreset(DatasetPreset preset) {
+        this.preset = preset;
+    }
+
+    public Integer getConcerts() {
+        return concerts;
+    }
+
+    public void setConcerts(Integer concerts) {
+        this.concerts = concerts;
+    }
+
+    public Integer getSeatsPerConcert() {
+        return seatsPerConcert;
+    }
+
+    public void setSeatsPerConcert(Integer seatsPerConcert) {
+        this.seatsPerConcert = seatsPerConcert;
+    }
+
+    public Integer getUsers() {
+        return users;
+    }
+
+    public void setUsers(Integer users) {
+        this.users = users;
+    }
+
+    public Double getHeldRatio() {
+        return heldRatio;
+    }
+
+    public void setHeldRatio(Double heldRatio) {
+        this.heldRatio = heldRatio;
+    }
+
+    public Double getSoldRatio() {
+        return soldRatio;
+    }
+
+    public void setSoldRatio(Double soldRatio) {
+        this.soldRatio = soldRatio;
+    }
+
+    public Double getSkew() {
+        return skew;
+    }
+
+    public void setSkew(Double skew) {
+        this.skew = skew;
+    }
+
+    public int getAvailableSeatsPerConcert() {
+        return availableSeatsPerConcert;
+    }
+
+    public void setAvailableSeatsPerConcert(int availableSeatsPerConcert) {
+        this.availableSeatsPerConcert = availableSeatsPerConcert;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+}
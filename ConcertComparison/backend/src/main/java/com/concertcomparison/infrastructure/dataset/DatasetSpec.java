@@ -0,0 +1,44 @@
+package com.concertcomparison.infrastructure.dataset;
+
+/**
+ * Effektive Parameter eines synthetischen Datensatzes.
+ *
+ * Seat-IDs sind deterministisch: Seat i (1-basiert) von Concert k hat die ID
+ * {@code (k - 1) * seatsPerConcert + i}. Die ersten {@code availableSeatsPerConcert}
+ * Seats jedes Konzerts bleiben immer AVAILABLE (feste Ziele für Hold-Lasttests).
+ *
+ * @param concerts                 Anzahl Konzerte
+ * @param seatsPerConcert          Seats pro Konzert
+ * @param users                    Anzahl normaler Benutzer (zusätzlich zu Admin und Test-User)
+ * @param heldRatio                mittlerer Anteil HELD Seats
+ * @param soldRatio                mittlerer Anteil SOLD Seats (je SOLD Seat eine Order mit Payment)
+ * @param skew                     Zipf-Exponent der Nachfrage über die Konzerte (0 = gleichverteilt)
+ * @param availableSeatsPerConcert Seats am Anfang jedes Konzerts, die immer AVAILABLE bleiben
+ * @param batchSize                Zeilen pro JDBC-Batch
+ * @param seed                     Seed für reproduzierbare Daten
+ */
+public record DatasetSpec(
+    int concerts,
+    int seatsPerConcert,
+    int users,
+    double heldRatio,
+    double soldRatio,
+    double skew,
+    int availableSeatsPerConcert,
+    int batchSize,
+    long seed
+) {
+
+    public DatasetSpec {
+        if (concerts < 1 || seatsPerConcert < 1 || users < 0 || batchSize < 1 || availableSeatsPerConcert < 0) {
+            throw new IllegalArgumentException("Ungültige Datensatz-Größen");
+        }
+        if (heldRatio < 0 || soldRatio < 0 || heldRatio + soldRatio > 1 || skew < 0) {
+            throw new IllegalArgumentException("heldRatio + soldRatio muss zwischen 0 und 1 liegen, skew >= 0");
+        }
+    }
+
+    public long totalSeats() {
+        return (long) concerts * seatsPerConcert;
+    }
+}
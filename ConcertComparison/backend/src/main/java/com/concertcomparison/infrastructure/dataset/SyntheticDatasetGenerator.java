@@ -0,0 +1,357 @@
+package com.concertcomparison.infrastructure.dataset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Erzeugt einen großen synthetischen Datensatz (Concerts, Seats, Users, Holds, Orders, Payments)
+ * direkt per JDBC-Batch-Insert, ohne Entities und ohne Persistence Context.
+ *
+ * - Vorhandene Daten werden vorher gelöscht, IDs werden explizit vergeben (deterministisch, siehe {@link DatasetSpec})
+ * - Anschließend werden die ID-Sequenzen hinter die höchste vergebene ID gesetzt
+ * - Die Nachfrage ist über die Konzerte Zipf-verteilt: Konzert 1 ist am stärksten ausverkauft
+ * - Je HELD Seat eine ACTIVE Reservation, je SOLD Seat eine CONFIRMED Order mit COMPLETED Payment
+ * - Jeder Batch wird in einer eigenen Transaktion geschrieben
+ *
+ * Konzertdaten liegen relativ zum Startzeitpunkt in der Zukunft, der Datensatz veraltet daher nicht.
+ */
+@Component
+@EnableConfigurationProperties(DatasetProperties.class)
+public class SyntheticDatasetGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDatasetGenerator.class);
+
+    private static final String[] VENUES = {
+        "Olympiastadion Berlin", "Allianz Arena München", "Lanxess Arena Köln", "Barclays Arena Hamburg",
+        "Mercedes-Benz Arena Stuttgart", "Festhalle Frankfurt", "Red Bull Arena Leipzig", "Westfalenhalle Dortmund"
+    };
+
+    /** Seats pro Block und pro Reihe im generierten Saalplan. */
+    private static final int SEATS_PER_BLOCK = 1_000;
+    private static final int SEATS_PER_ROW = 50;
+
+    private static final String[] TABLES = {"payments", "orders", "reservations", "seats", "concerts", "users"};
+
+    private static final String INSERT_USER = "INSERT INTO users (id, email, password, first_name, last_name, role, enabled, "
+        + "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?, 0)";
+    private static final String INSERT_CONCERT = "INSERT INTO concerts (id, name, event_date, venue, description, "
+        + "created_at, updated_at, version, seat_layout_version) VALUES (?, ?, ?, ?, ?, ?, ?, 0, 1)";
+    private static final String INSERT_SEAT = "INSERT INTO seats (id, concert_id, seat_number, category, block, seat_row, "
+        + "number, price, status, hold_reservation_id, hold_expires_at, version, created_at, updated_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_RESERVATION = "INSERT INTO reservations (id, seat_id, user_id, expires_at, status, "
+        + "created_at, updated_at, version) VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?, 0)";
+    private static final String INSERT_ORDER = "INSERT INTO orders (id, seat_id, user_id, reservation_id, total_price, "
+        + "purchase_date, status, created_at, updated_at, version) VALUES (?, ?, ?, NULL, ?, ?, 'CONFIRMED', ?, ?, 0)";
+    private static final String INSERT_PAYMENT = "INSERT INTO payments (id, order_id, amount, method, status, "
+        + "transaction_id, created_at, updated_at) VALUES (?, ?, ?, 'CREDIT_CARD', 'COMPLETED', ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final int holdTtlMinutes;
+
+    public SyntheticDatasetGenerator(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     PasswordEncoder passwordEncoder,
+                                     @Value("${concert.hold.ttl-minutes:15}") int holdTtlMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.holdTtlMinutes = holdTtlMinutes;
+    }
+
+    /**
+     * Ergebnis eines Generator-Laufs.
+     */
+    public record Result(int concerts, long seats, long held, long sold, int users, long durationMs) {}
+
+    /**
+     * Ersetzt den Datenbestand durch einen synthetischen Datensatz.
+     *
+     * @param spec Datensatz-Parameter
+     * @return Anzahl generierter Zeilen und Dauer
+     */
+    public Result generate(DatasetSpec spec) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String table : TABLES) {
+                jdbcTemplate.update("DELETE FROM " + table);
+            }
+        });
+
+        List<String> userEmails = insertUsers(spec, now);
+        insertConcerts(spec, now);
+        long[] counts = insertSeats(spec, userEmails, now);
+
+        for (String table : TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + (maxId + 1));
+        }
+
+        Result result = new Result(spec.concerts(), spec.totalSeats(), counts[0], counts[1],
+            userEmails.size(), (System.nanoTime() - start) / 1_000_000);
+        log.info("Synthetic dataset generated: {} concerts, {} seats ({} held, {} sold), {} users in {} ms",
+            result.concerts(), result.seats(), result.held(), result.sold(), result.users(), result.durationMs());
+        return result;
+    }
+
+    private List<String> insertUsers(DatasetSpec spec, LocalDateTime now) {
+        Timestamp created = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>(spec.users() + 2);
+        rows.add(new Object[]{1L, "admin@example.com", passwordEncoder.encode("adminpassword123"), "Admin", "User", "ADMIN"});
+        String userPassword = passwordEncoder.encode("userpassword123");
+        rows.add(new Object[]{2L, "user@example.com", userPassword, "Test", "User", "USER"});
+        for (int i = 1; i <= spec.users(); i++) {
+            rows.add(new Object[]{i + 2L, "perf-user-" + i + "@example.com", userPassword, "Perf", "User " + i, "USER"});
+        }
+
+        writeBatched(INSERT_USER, rows, spec.batchSize(), (ps, row) -> {
+            ps.setLong(1, (Long) row[0]);
+            ps.setString(2, (String) row[1]);
+            ps.setString(3, (String) row[2]);
+            ps.setString(4, (String) row[3]);
+            ps.setString(5, (String) row[4]);
+            ps.setString(6, (String) row[5]);
+            ps.setTimestamp(7, created);
+            ps.setTimestamp(8, created);
+        });
+
+        // Orders/Holds werden den Perf-Usern zugeordnet (bzw. dem Test-User, wenn users=0)
+        return rows.stream().skip(spec.users() > 0 ? 2 : 1).map(row -> (String) row[1]).toList();
+    }
+
+    private void insertConcerts(DatasetSpec spec, LocalDateTime now) {
+        Timestamp created = Timestamp.valueOf(now);
+        List<Integer> ids = new ArrayList<>(spec.concerts());
+        for (int k = 1; k <= spec.concerts(); k++) {
+            ids.add(k);
+        }
+
+        writeBatched(INSERT_CONCERT, ids, spec.batchSize(), (ps, k) -> {
+            LocalDateTime date = now.plusDays(7 + (k - 1) % 358).withHour(20).withMinute(0);
+            ps.setLong(1, k);
+            ps.setString(2, "Performance Concert " + k);
+            ps.setTimestamp(3, Timestamp.valueOf(date));
+            ps.setString(4, VENUES[(k - 1) % VENUES.length]);
+            ps.setString(5, "Synthetischer Datensatz: " + spec.seatsPerConcert() + " Seats");
+            ps.setTimestamp(6, created);
+            ps.setTimestamp(7, created);
+        });
+    }
+
+    /**
+     * @return [0] = HELD Seats, [1] = SOLD Seats
+     */
+    private long[] insertSeats(DatasetSpec spec, List<String> userEmails, LocalDateTime now) {
+        Timestamp created = Timestamp.valueOf(now);
+        Timestamp holdExpiresAt = Timestamp.valueOf(now.plusMinutes(holdTtlMinutes));
+        double[] demand = demandFactors(spec.concerts(), spec.skew());
+
+        List<SeatRow> seats = new ArrayList<>(spec.batchSize());
+        List<HoldRow> holds = new ArrayList<>();
+        List<SaleRow> sales = new ArrayList<>();
+        long held = 0;
+        long sold = 0;
+        long seatId = 0;
+
+        for (int k = 1; k <= spec.concerts(); k++) {
+            SplittableRandom random = new SplittableRandom(spec.seed() + k);
+            double soldP = Math.min(0.95, spec.soldRatio() * demand[k - 1]);
+            double heldP = Math.min(1.0 - soldP, spec.heldRatio() * demand[k - 1]);
+
+            for (int i = 0; i < spec.seatsPerConcert(); i++) {
+                seatId++;
+                SeatRow seat = seatRow(seatId, k, i);
+
+                if (i >= spec.availableSeatsPerConcert()) {
+                    double r = random.nextDouble();
+                    String user = userEmails.get(random.nextInt(userEmails.size()));
+                    if (r < soldP) {
+                        seat.status = "SOLD";
+                        sales.add(new SaleRow(seatId, user, seat.price));
+                        sold++;
+                    } else if (r < soldP + heldP) {
+                        seat.status = "HELD";
+                        seat.holdReservationId = seatId;
+                        holds.add(new HoldRow(seatId, user));
+                        held++;
+                    }
+                }
+                seats.add(seat);
+
+                if (seats.size() >= spec.batchSize()) {
+                    flushSeats(seats, holds, sales, created, holdExpiresAt);
+                }
+            }
+            if (k % 10 == 0 || k == spec.concerts()) {
+                log.info("Synthetic dataset: {}/{} concerts, {} seats written", k, spec.concerts(), seatId);
+            }
+        }
+        flushSeats(seats, holds, sales, created, holdExpiresAt);
+
+        return new long[]{held, sold};
+    }
+
+    /**
+     * Zipf-Gewichte 1/k^skew, normiert auf Mittelwert 1 (Gesamtanteile entsprechen heldRatio/soldRatio).
+     */
+    static double[] demandFactors(int concerts, double skew) {
+        double[] factors = new double[concerts];
+        double sum = 0;
+        for (int k = 1; k <= concerts; k++) {
+            factors[k - 1] = 1.0 / Math.pow(k, skew);
+            sum += factors[k - 1];
+        }
+        for (int k = 0; k < concerts; k++) {
+            factors[k] = factors[k] * concerts / sum;
+        }
+        return factors;
+    }
+
+    private static SeatRow seatRow(long seatId, int concertId, int index) {
+        int blockIndex = index / SEATS_PER_BLOCK;
+        int inBlock = index % SEATS_PER_BLOCK;
+        int row = inBlock / SEATS_PER_ROW + 1;
+        int number = inBlock % SEATS_PER_ROW + 1;
+        String blockCode = blockCode(blockIndex);
+
+        String category;
+        double price;
+        if (row <= 2) {
+            category = "VIP";
+            price = 149.99;
+        } else if (row <= 8) {
+            category = "CATEGORY_A";
+            price = 89.99;
+        } else {
+            category = "CATEGORY_B";
+            price = 49.99;
+        }
+
+        return new SeatRow(seatId, concertId, blockCode + "-" + row + "-" + number, category,
+            "Block " + blockCode, String.valueOf(row), String.valueOf(number), price);
+    }
+
+    private static String blockCode(int blockIndex) {
+        String letter = String.valueOf((char) ('A' + blockIndex % 26));
+        return blockIndex < 26 ? letter : letter + (blockIndex / 26);
+    }
+
+    private void flushSeats(List<SeatRow> seats, List<HoldRow> holds, List<SaleRow> sales,
+                            Timestamp created, Timestamp holdExpiresAt) {
+        if (seats.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SEAT, seats, seats.size(), (ps, seat) -> {
+                ps.setLong(1, seat.id);
+                ps.setLong(2, seat.concertId);
+                ps.setString(3, seat.seatNumber);
+                ps.setString(4, seat.category);
+                ps.setString(5, seat.block);
+                ps.setString(6, seat.row);
+                ps.setString(7, seat.number);
+                ps.setDouble(8, seat.price);
+                ps.setString(9, seat.status);
+                if (seat.holdReservationId != null) {
+                    ps.setString(10, String.valueOf(seat.holdReservationId));
+                    ps.setTimestamp(11, holdExpiresAt);
+                } else {
+                    ps.setNull(10, Types.VARCHAR);
+                    ps.setNull(11, Types.TIMESTAMP);
+                }
+                ps.setTimestamp(12, created);
+                ps.setTimestamp(13, created);
+            });
+            if (!holds.isEmpty()) {
+                // Reservation-ID = Seat-ID (eindeutig, da max. ein Hold pro Seat)
+                jdbcTemplate.batchUpdate(INSERT_RESERVATION, holds, holds.size(), (ps, hold) -> {
+                    ps.setLong(1, hold.seatId());
+                    ps.setLong(2, hold.seatId());
+                    ps.setString(3, hold.userId());
+                    ps.setTimestamp(4, holdExpiresAt);
+                    ps.setTimestamp(5, created);
+                    ps.setTimestamp(6, created);
+                });
+            }
+            if (!sales.isEmpty()) {
+                // Order-ID = Payment-ID = Seat-ID (eindeutig, da max. eine Order pro Seat)
+                jdbcTemplate.batchUpdate(INSERT_ORDER, sales, sales.size(), (ps, sale) -> {
+                    ps.setLong(1, sale.seatId());
+                    ps.setLong(2, sale.seatId());
+                    ps.setString(3, sale.userId());
+                    ps.setDouble(4, sale.price());
+                    ps.setTimestamp(5, created);
+                    ps.setTimestamp(6, created);
+                    ps.setTimestamp(7, created);
+                });
+                jdbcTemplate.batchUpdate(INSERT_PAYMENT, sales, sales.size(), (ps, sale) -> {
+                    ps.setLong(1, sale.seatId());
+                    ps.setLong(2, sale.seatId());
+                    ps.setDouble(3, sale.price());
+                    ps.setString(4, "perf-tx-" + sale.seatId());
+                    ps.setTimestamp(5, created);
+                    ps.setTimestamp(6, created);
+                });
+            }
+        });
+        seats.clear();
+        holds.clear();
+        sales.clear();
+    }
+
+    private <T> void writeBatched(String sql, List<T> rows, int batchSize, ParameterizedPreparedStatementSetter<T> setter) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<T> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, chunk, chunk.size(), setter));
+        }
+    }
+
+    private static final class SeatRow {
+        private final long id;
+        private final long concertId;
+        private final String seatNumber;
+        private final String category;
+        private final String block;
+        private final String row;
+        private final String number;
+        private final double price;
+        private String status = "AVAILABLE";
+        private Long holdReservationId;
+
+        private SeatRow(long id, long concertId, String seatNumber, String category,
+                        String block, String row, String number, double price) {
+            this.id = id;
+            this.concertId = concertId;
+            this.seatNumber = seatNumber;
+            this.category = category;
+            this.block = block;
+            this.row = row;
+            this.number = number;
+            this.price = price;
+        }
+    }
+
+    private record HoldRow(long seatId, String userId) {}
+
+    private record SaleRow(long seatId, String userId, double price) {}
+}
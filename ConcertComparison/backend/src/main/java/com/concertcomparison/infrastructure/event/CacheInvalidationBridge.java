@@ -0,0 +1,112 @@
+package com.concertcomparison.infrastructure.event;
+
+import com.concertcomparison.domain.event.ConcertChangedEvent;
+import com.concertcomparison.domain.event.SeatStatusChangedEvent;
+import com.concertcomparison.infrastructure.cache.CacheInvalidation;
+import com.concertcomparison.infrastructure.cache.CacheInvalidationBus;
+import com.concertcomparison.infrastructure.cache.ConcertCatalogCache;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker;
+import com.concertcomparison.infrastructure.cache.ResponseByteCache;
+import com.concertcomparison.infrastructure.cache.TwoTierCacheManager;
+import com.concertcomparison.infrastructure.search.ConcertFacetIndex;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmapRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Verbindet Domain Events mit dem {@link CacheInvalidationBus}.
+ *
+ * Lokal → Bus: Nach Commit wird jedes SeatStatusChangedEvent als Delta und jedes
+ * ConcertChangedEvent als Concert-Invalidierung an die anderen Knoten gesendet.
+ *
+ * Bus → lokal: Empfangene Nachrichten werden auf die knotenlokalen Strukturen
+ * angewendet, die sonst die lokalen Listener pflegen (L1-Caches, Seat-Bitmap,
+ * Facetten-Index, vorserialisierte Responses). Zuletzt wird die Inhaltsversion im
+ * {@link ContentVersionTracker} erhöht, damit unter der neuen Version nie der alte
+ * Stand ausgeliefert wird. Empfangene Nachrichten werden nicht erneut gesendet.
+ */
+@Component
+public class CacheInvalidationBridge {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBridge.class);
+
+    private static final String INVENTORY_CACHE = "inventorySummary";
+
+    private final CacheInvalidationBus bus;
+    private final TwoTierCacheManager cacheManager;
+    private final SeatStatusBitmapRegistry bitmapRegistry;
+    private final ConcertFacetIndex facetIndex;
+    private final ResponseByteCache responseByteCache;
+    private final ContentVersionTracker versionTracker;
+
+    public CacheInvalidationBridge(CacheInvalidationBus bus,
+                                   TwoTierCacheManager cacheManager,
+                                   SeatStatusBitmapRegistry bitmapRegistry,
+                                   ConcertFacetIndex facetIndex,
+                                   ResponseByteCache responseByteCache,
+                                   ContentVersionTracker versionTracker) {
+        this.bus = bus;
+        this.cacheManager = cacheManager;
+        this.bitmapRegistry = bitmapRegistry;
+        this.facetIndex = facetIndex;
+        this.responseByteCache = responseByteCache;
+        this.versionTracker = versionTracker;
+        bus.subscribe(this::onRemoteInvalidation);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSeatStatusChanged(SeatStatusChangedEvent event) {
+        bus.publish(new CacheInvalidation.SeatStatusDelta(
+            event.getConcertId(), event.getSeatId(), event.getOldStatus(), event.getNewStatus()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleConcertChanged(ConcertChangedEvent event) {
+        bus.publish(new CacheInvalidation.ConcertInvalidated(event.getConcertId(), event.getChangeType()));
+    }
+
+    private void onRemoteInvalidation(CacheInvalidation message) {
+        switch (message) {
+            case CacheInvalidation.SeatStatusDelta delta -> applySeatStatusDelta(delta);
+            case CacheInvalidation.ConcertInvalidated invalidated -> applyConcertInvalidated(invalidated);
+            case CacheInvalidation.CacheEvicted ignored -> {
+                // Spring-Caches invalidiert der TwoTierCacheManager selbst
+            }
+        }
+    }
+
+    private void applySeatStatusDelta(CacheInvalidation.SeatStatusDelta delta) {
+        Long concertId = delta.concertId();
+        cacheManager.evictLocal(INVENTORY_CACHE, concertId);
+        bitmapRegistry.applyStatusChange(concertId, delta.seatId(), delta.newStatus());
+        facetIndex.applySeatStatusChange(concertId, delta.oldStatus(), delta.newStatus());
+        responseByteCache.invalidateConcert(concertId);
+        versionTracker.seatStatusChanged(concertId);
+        logger.debug("Remote seat status delta applied on node {}: {}", bus.nodeId(), delta);
+    }
+
+    private void applyConcertInvalidated(CacheInvalidation.ConcertInvalidated invalidated) {
+        Long concertId = invalidated.concertId();
+        cacheManager.evictLocal(INVENTORY_CACHE, concertId);
+        cacheManager.evictLocal(ConcertCatalogCache.CONCERT_BY_ID_CACHE, concertId);
+        if (invalidated.changeType() == ConcertChangedEvent.ChangeType.CREATED
+                || invalidated.changeType() == ConcertChangedEvent.ChangeType.DELETED) {
+            cacheManager.clearLocal(ConcertCatalogCache.CONCERT_IDS_CACHE);
+        }
+        if (invalidated.changeType() == ConcertChangedEvent.ChangeType.SEATS_CHANGED
+                || invalidated.changeType() == ConcertChangedEvent.ChangeType.DELETED) {
+            bitmapRegistry.invalidate(concertId);
+        }
+        if (invalidated.changeType() == ConcertChangedEvent.ChangeType.DELETED) {
+            facetIndex.removeConcert(concertId);
+        } else {
+            facetIndex.refreshConcert(concertId);
+        }
+        responseByteCache.invalidateConcert(concertId);
+        versionTracker.concertChanged(concertId);
+        logger.debug("Remote concert invalidation applied on node {}: {}", bus.nodeId(), invalidated);
+    }
+}
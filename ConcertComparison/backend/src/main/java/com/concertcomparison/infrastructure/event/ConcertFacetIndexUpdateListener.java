@@ -0,0 +1,71 @@
+package com.concertcomparison.infrastructure.event;
+
+import com.concertcomparison.domain.event.ConcertChangedEvent;
+import com.concertcomparison.domain.event.SeatStatusChangedEvent;
+import com.concertcomparison.infrastructure.search.ConcertFacetIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event Listener, der den {@link ConcertFacetIndex} aktuell hält.
+ *
+ * - ApplicationReadyEvent: initialer Index-Aufbau
+ * - ConcertChangedEvent: Concert-Eintrag neu laden bzw. entfernen
+ * - SeatStatusChangedEvent: verfügbare Seats inkrementell anpassen (ohne DB-Zugriff)
+ *
+ * Verarbeitung erst nach Commit (AFTER_COMMIT), damit der Index keine Änderungen
+ * aus zurückgerollten Transaktionen übernimmt. Ohne laufende Transaktion wird
+ * direkt verarbeitet (fallbackExecution).
+ */
+@Component
+public class ConcertFacetIndexUpdateListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcertFacetIndexUpdateListener.class);
+
+    private final ConcertFacetIndex facetIndex;
+
+    public ConcertFacetIndexUpdateListener(ConcertFacetIndex facetIndex) {
+        this.facetIndex = facetIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIndex() {
+        try {
+            facetIndex.rebuild();
+        } catch (Exception e) {
+            // Index wird beim ersten Browse-Request erneut aufgebaut
+            logger.error("Failed to build concert facet index on startup", e);
+        }
+    }
+
+    @Order(ContentVersionListener.LOCAL_STATE_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleConcertChanged(ConcertChangedEvent event) {
+        try {
+            if (event.getChangeType() == ConcertChangedEvent.ChangeType.DELETED) {
+                facetIndex.removeConcert(event.getConcertId());
+            } else {
+                facetIndex.refreshConcert(event.getConcertId());
+            }
+            logger.debug("Facet index updated: {}", event);
+        } catch (Exception e) {
+            logger.error("Failed to update facet index for {}", event, e);
+        }
+    }
+
+    @Order(ContentVersionListener.LOCAL_STATE_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSeatStatusChanged(SeatStatusChangedEvent event) {
+        try {
+            facetIndex.applySeatStatusChange(event.getConcertId(), event.getOldStatus(), event.getNewStatus());
+        } catch (Exception e) {
+            logger.error("Failed to update facet index for {}", event, e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.concertcomparison.infrastructure.event;
+
+import com.concertcomparison.domain.event.ConcertChangedEvent;
+import com.concertcomparison.domain.event.SeatStatusChangedEvent;
+import com.concertcomparison.infrastructure.cache.ConcertCatalogCache;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker;
+import com.concertcomparison.infrastructure.cache.ResponseByteCache;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Hält die Inhaltsversionen des {@link ContentVersionTracker} und die lokalen
+ * Caches passend zu Seat- und Concert-Änderungen.
+ *
+ * Alles läuft erst nach Commit und nur im Speicher; die Transaktion der Änderung
+ * bleibt frei von zusätzlichen Schreibzugriffen. Zuerst werden die vorserialisierten
+ * Responses des Konzerts verworfen (Concert-Änderungen aktualisieren vorher den Eintrag
+ * im {@link ConcertCatalogCache}), danach wird die Version erhöht. Listener, die weitere
+ * knotenlokale Strukturen pflegen, laufen mit {@link #LOCAL_STATE_ORDER} davor, damit
+ * unter einer neuen Version nie der alte Stand ausgeliefert wird.
+ */
+@Component
+public class ContentVersionListener {
+
+    /**
+     * Reihenfolge für After-Commit-Listener, die knotenlokale Strukturen (Bitmap,
+     * Facetten-Index) aktualisieren: vor dem Erhöhen der Inhaltsversion.
+     */
+    public static final int LOCAL_STATE_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final ContentVersionTracker versionTracker;
+    private final ResponseByteCache responseByteCache;
+    private final ConcertCatalogCache catalogCache;
+
+    public ContentVersionListener(ContentVersionTracker versionTracker, ResponseByteCache responseByteCache,
+                                  ConcertCatalogCache catalogCache) {
+        this.versionTracker = versionTracker;
+        this.responseByteCache = responseByteCache;
+        this.catalogCache = catalogCache;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSeatStatusChanged(SeatStatusChangedEvent event) {
+        responseByteCache.invalidateConcert(event.getConcertId());
+        versionTracker.seatStatusChanged(event.getConcertId());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleConcertChanged(ConcertChangedEvent event) {
+        catalogCache.apply(event);
+        responseByteCache.invalidateConcert(event.getConcertId());
+        versionTracker.concertChanged(event.getConcertId());
+    }
+}
@@ -12,21 +12,21 @@ import org.springframework.stereotype.Component;
  * Event Listener für automatische Cache-Invalidierung bei Seat-Status-Änderungen.
  * 
  * Dieser Listener horcht auf SeatStatusChangedEvents und invalidiert
- * automatisch den seatAvailability-Cache für das betroffene Concert.
- * 
- * Dadurch erhalten Clients beim nächsten Poll (GET /api/events/{id}/availability)
- * garantiert aktuelle Daten ohne manuelle Cache-Verwaltung.
+ * automatisch den inventorySummary-Cache für das betroffene Concert.
+ * Die Seat-Map selbst wird nicht als DTO gecacht; ihre vorserialisierte Response
+ * ist an die Inhaltsversion gebunden (ContentVersionListener).
  * 
  * Architecture:
  * - Infrastructure Layer (darf Spring-Dependencies nutzen)
  * - Asynchrone Verarbeitung (@Async) für Performance
  * - Loose Coupling via Events (Publisher kennt Listener nicht)
+ * - Evicts laufen über den TwoTierCacheManager und werden so an alle Knoten verteilt
  */
 @Component
 public class SeatAvailabilityCacheEvictionListener {
     
     private static final Logger logger = LoggerFactory.getLogger(SeatAvailabilityCacheEvictionListener.class);
-    private static final String CACHE_NAME = "seatAvailability";
+    private static final String CACHE_NAME = "inventorySummary";
     
     private final CacheManager cacheManager;
     
@@ -37,7 +37,7 @@ public class SeatAvailabilityCacheEvictionListener {
     /**
      * Horcht auf SeatStatusChangedEvents und invalidiert den Cache.
      * 
-     * Cache-Key ist die concertId (siehe @Cacheable in SeatApplicationService).
+     * Cache-Key ist die concertId (siehe @Cacheable in InventorySummaryService).
      * Nach Eviction liefert der nächste API-Call frische Daten aus der DB.
      * 
      * @Async: Event-Handling blockiert nicht den auslösenden Thread
@@ -0,0 +1,48 @@
+package com.concertcomparison.infrastructure.event;
+
+import com.concertcomparison.domain.event.ConcertChangedEvent;
+import com.concertcomparison.domain.event.SeatStatusChangedEvent;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmapRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event Listener, der die {@link SeatStatusBitmapRegistry} nach Commit aktualisiert.
+ *
+ * - SeatStatusChangedEvent: 2-Bit-Eintrag des Seats setzen (kein DB-Zugriff)
+ * - ConcertChangedEvent (Seats ersetzt / Concert gelöscht): Bitmap verwerfen
+ */
+@Component
+public class SeatStatusBitmapUpdateListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatStatusBitmapUpdateListener.class);
+
+    private final SeatStatusBitmapRegistry registry;
+
+    public SeatStatusBitmapUpdateListener(SeatStatusBitmapRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Order(ContentVersionListener.LOCAL_STATE_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSeatStatusChanged(SeatStatusChangedEvent event) {
+        try {
+            registry.applyStatusChange(event.getConcertId(), event.getSeatId(), event.getNewStatus());
+        } catch (Exception e) {
+            logger.error("Failed to update seat status bitmap for {}", event, e);
+        }
+    }
+
+    @Order(ContentVersionListener.LOCAL_STATE_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleConcertChanged(ConcertChangedEvent event) {
+        if (event.getChangeType() == ConcertChangedEvent.ChangeType.SEATS_CHANGED
+                || event.getChangeType() == ConcertChangedEvent.ChangeType.DELETED) {
+            registry.invalidate(event.getConcertId());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.concertcomparison.infrastructure.health;
+
+import com.concertcomparison.infrastructure.scheduler.OnSaleWarmupService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Readiness-Beitrag "onSaleWarmup": OUT_OF_SERVICE, solange ein fälliges Vorwärmen
+ * vor einem Verkaufsstart nicht abgeschlossen ist.
+ *
+ * Fehlgeschlagenes Vorwärmen hält den Knoten nicht aus dem Traffic (Caches füllen sich
+ * dann durch die ersten Requests); es erscheint nur in den Details.
+ */
+@Component("onSaleWarmup")
+public class OnSaleWarmupHealthIndicator implements HealthIndicator {
+
+    private final OnSaleWarmupService warmupService;
+
+    public OnSaleWarmupHealthIndicator(OnSaleWarmupService warmupService) {
+        this.warmupService = warmupService;
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> concerts = new TreeMap<>();
+        warmupService.states().forEach((concertId, state) -> concerts.put(String.valueOf(concertId), Map.of(
+            "onSaleAt", state.onSaleAt().toString(),
+            "status", state.status().name())));
+
+        Health.Builder builder = warmupService.pendingCount() > 0 ? Health.outOfService() : Health.up();
+        return builder
+            .withDetail("pending", warmupService.pendingCount())
+            .withDetail("lastCheck", String.valueOf(warmupService.lastCheck()))
+            .withDetail("concerts", concerts)
+            .build();
+    }
+}
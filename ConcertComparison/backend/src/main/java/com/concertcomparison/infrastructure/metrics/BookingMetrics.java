@@ -0,0 +1,154 @@
+package com.concertcomparison.infrastructure.metrics;
+
+import com.concertcomparison.domain.exception.HoldQuotaExceededException;
+import com.concertcomparison.domain.exception.OrderNotFoundException;
+import com.concertcomparison.domain.exception.ReservationExpiredException;
+import com.concertcomparison.domain.exception.ReservationNotFoundException;
+import com.concertcomparison.domain.exception.SeatNotAvailableException;
+import com.concertcomparison.domain.exception.SeatNotHeldException;
+import com.concertcomparison.domain.exception.SeatNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Micrometer-Metriken des Buchungsablaufs (Hold → Kauf → Zahlung, Ablauf von Holds).
+ *
+ * Metriken, jeweils mit Tag {@code concert} (ID oder "unknown"):
+ * - booking.hold{outcome} - Timer pro Hold-Versuch inkl. Quota-Prüfung und Warteschlange
+ * - booking.purchase{outcome} - Timer pro Kaufversuch
+ * - booking.payment{outcome} - Timer pro Zahlung beim Provider inkl. Erfolgs-/Rollback-Verarbeitung
+ * - booking.hold.released{reason=cancelled|expired} - Counter für freigegebene Holds
+ *
+ * Konversion Hold → Kauf ergibt sich aus booking.purchase{outcome=success} / booking.hold{outcome=success},
+ * die Ablaufrate aus booking.hold.released{reason=expired} / booking.hold{outcome=success}.
+ *
+ * Histogramm-Buckets, Perzentile und SLO-Grenzen kommen aus
+ * {@code management.metrics.distribution.*}, die Zahl der Concert-Tags begrenzt
+ * {@link com.concertcomparison.infrastructure.config.MetricsConfig}.
+ */
+@Component
+public class BookingMetrics {
+
+    public static final String HOLD = "booking.hold";
+    public static final String PURCHASE = "booking.purchase";
+    public static final String PAYMENT = "booking.payment";
+    public static final String HOLD_RELEASED = "booking.hold.released";
+
+    private static final String UNKNOWN_CONCERT = "unknown";
+
+    /**
+     * Ergebnis eines Schritts im Buchungsablauf.
+     */
+    public enum Outcome {
+        SUCCESS,
+        CONFLICT,
+        REJECTED,
+        EXPIRED,
+        NOT_FOUND,
+        FAILED,
+        DEFERRED,
+        UNKNOWN,
+        ERROR;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Ordnet eine Exception dem Ergebnis zu, {@code null} bedeutet Erfolg.
+         *
+         * @param failure geworfene Exception oder null
+         * @return Ergebnis für das outcome-Tag
+         */
+        public static Outcome of(Throwable failure) {
+            if (failure == null) {
+                return SUCCESS;
+            }
+            if (failure instanceof SeatNotFoundException
+                    || failure instanceof ReservationNotFoundException
+                    || failure instanceof OrderNotFoundException) {
+                return NOT_FOUND;
+            }
+            if (failure instanceof HoldQuotaExceededException) {
+                return REJECTED;
+            }
+            if (failure instanceof ReservationExpiredException) {
+                return EXPIRED;
+            }
+            if (failure instanceof SeatNotAvailableException
+                    || failure instanceof SeatNotHeldException
+                    || failure instanceof OptimisticLockingFailureException
+                    || failure instanceof PessimisticLockingFailureException) {
+                return CONFLICT;
+            }
+            // Alles andere (auch IllegalStateException) ist ein Fehler, kein Wettbewerb um Seats
+            return ERROR;
+        }
+    }
+
+    /**
+     * Grund für die Freigabe eines Holds ohne Kauf.
+     */
+    public enum ReleaseReason {
+        CANCELLED,
+        EXPIRED;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    public BookingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Startet die Zeitmessung für einen Schritt.
+     *
+     * @return laufende Messung
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordHold(Timer.Sample sample, Long concertId, Throwable failure) {
+        stop(sample, HOLD, "Dauer eines Hold-Versuchs nach Concert und Ergebnis", concertId, Outcome.of(failure));
+    }
+
+    public void recordPurchase(Timer.Sample sample, Long concertId, Throwable failure) {
+        stop(sample, PURCHASE, "Dauer eines Kaufversuchs nach Concert und Ergebnis", concertId, Outcome.of(failure));
+    }
+
+    public void recordPayment(Timer.Sample sample, Long concertId, Outcome outcome) {
+        stop(sample, PAYMENT, "Dauer einer Zahlung nach Concert und Ergebnis", concertId, outcome);
+    }
+
+    public void holdReleased(Long concertId, ReleaseReason reason) {
+        Counter.builder(HOLD_RELEASED)
+            .tag("concert", concertTag(concertId))
+            .tag("reason", reason.tag())
+            .description("Ohne Kauf freigegebene Holds nach Concert und Grund")
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private void stop(Timer.Sample sample, String name, String description, Long concertId, Outcome outcome) {
+        sample.stop(Timer.builder(name)
+            .tag("concert", concertTag(concertId))
+            .tag("outcome", outcome.tag())
+            .description(description)
+            .register(meterRegistry));
+    }
+
+    private static String concertTag(Long concertId) {
+        return concertId == null ? UNKNOWN_CONCERT : concertId.toString();
+    }
+}
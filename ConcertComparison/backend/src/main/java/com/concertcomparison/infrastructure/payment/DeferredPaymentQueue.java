@@ -0,0 +1,78 @@
+package com.concertcomparison.infrastructure.payment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Warteschlange für zurückgestellte Zahlungen (Provider nicht erreichbar oder Ergebnis
+ * nach Timeout unbekannt).
+ *
+ * Die Orders bleiben in der Datenbank PENDING, hier liegen nur ihre IDs in
+ * Eingangsreihenfolge, jede höchstens einmal. Abgearbeitet wird die Queue vom
+ * {@link com.concertcomparison.infrastructure.scheduler.DeferredPaymentScheduler}.
+ *
+ * Die Queue liegt nur im Speicher. Maßgeblich ist der PENDING-Status in der Datenbank:
+ * der Scheduler stellt liegengebliebene PENDING-Orders bei jedem Lauf wieder ein, nach
+ * einem Neustart gehen zurückgestellte Zahlungen also nicht verloren.
+ *
+ * Metriken (Micrometer):
+ * - payment.deferred.queue - Anzahl zurückgestellter Orders
+ * - payment.deferred - Counter aller Zurückstellungen
+ */
+@Component
+public class DeferredPaymentQueue {
+
+    private final Queue<Long> orderIds = new ConcurrentLinkedQueue<>();
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final Counter deferred;
+
+    public DeferredPaymentQueue(MeterRegistry meterRegistry) {
+        Gauge.builder("payment.deferred.queue", queued, Set::size)
+            .description("Zurückgestellte Zahlungen, die auf den Provider warten").register(meterRegistry);
+        this.deferred = Counter.builder("payment.deferred")
+            .description("Zurückgestellte Zahlungen (Provider nicht erreichbar, Timeout oder wiederhergestellt)").register(meterRegistry);
+    }
+
+    /**
+     * Stellt die Zahlung einer Order zurück.
+     *
+     * @param orderId ID der Order im Status PENDING
+     * @return false, wenn die Order bereits in der Queue liegt
+     */
+    public boolean defer(Long orderId) {
+        if (!queued.add(orderId)) {
+            return false;
+        }
+        orderIds.add(orderId);
+        deferred.increment();
+        return true;
+    }
+
+    /**
+     * Entnimmt die älteste zurückgestellte Order.
+     *
+     * @return Order-ID oder null, wenn die Queue leer ist
+     */
+    public Long poll() {
+        Long orderId = orderIds.poll();
+        if (orderId != null) {
+            queued.remove(orderId);
+        }
+        return orderId;
+    }
+
+    public boolean contains(Long orderId) {
+        return queued.contains(orderId);
+    }
+
+    public int size() {
+        return queued.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.concertcomparison.infrastructure.payment;
+
+import com.concertcomparison.domain.exception.PaymentOutcomeUnknownException;
+import com.concertcomparison.domain.exception.PaymentProviderUnavailableException;
+import com.concertcomparison.domain.service.PaymentService;
+import com.concertcomparison.domain.service.PaymentService.PaymentResult;
+import com.concertcomparison.infrastructure.resilience.Bulkhead;
+import com.concertcomparison.infrastructure.resilience.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Aufruf des Zahlungsanbieters hinter Circuit Breaker, Bulkhead und Timeout.
+ *
+ * Reihenfolge pro Aufruf:
+ * 1. Circuit Breaker offen → {@link PaymentProviderUnavailableException} (Provider nicht aufgerufen)
+ * 2. Bulkhead und Warteschlange voll → {@link PaymentProviderUnavailableException}
+ * 3. Timeout → {@link PaymentOutcomeUnknownException}, zählt beim Breaker als Fehler. Der Provider
+ *    kann die Zahlung bereits ausgeführt haben, ein Timeout ist daher kein fehlgeschlagenes Ergebnis
+ * 4. Exception des Providers → zählt beim Breaker als Fehler und wird weitergeworfen
+ */
+@Component
+public class GuardedPaymentProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(GuardedPaymentProvider.class);
+
+    private final PaymentService paymentService;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public GuardedPaymentProvider(PaymentService paymentService,
+                                  CircuitBreaker paymentCircuitBreaker,
+                                  Bulkhead paymentBulkhead) {
+        this.paymentService = paymentService;
+        this.circuitBreaker = paymentCircuitBreaker;
+        this.bulkhead = paymentBulkhead;
+    }
+
+    /**
+     * Prozessiert eine Zahlung beim Provider.
+     *
+     * @return PaymentResult vom Provider
+     * @throws PaymentProviderUnavailableException wenn der Provider nicht aufgerufen wurde
+     * @throws PaymentOutcomeUnknownException wenn der Provider nicht rechtzeitig geantwortet hat
+     */
+    public PaymentResult processPayment() {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new PaymentProviderUnavailableException(
+                "Circuit Breaker '" + circuitBreaker.name() + "' ist offen");
+        }
+        try {
+            PaymentResult result = bulkhead.execute(paymentService::processPayment);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.onNotExecuted();
+            throw new PaymentProviderUnavailableException(
+                "Bulkhead '" + bulkhead.name() + "' ist ausgelastet");
+        } catch (TimeoutException e) {
+            circuitBreaker.onFailure();
+            logger.warn("Payment provider timed out (breaker state={})", circuitBreaker.state());
+            throw new PaymentOutcomeUnknownException("Zeitüberschreitung beim Zahlungsanbieter");
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+}
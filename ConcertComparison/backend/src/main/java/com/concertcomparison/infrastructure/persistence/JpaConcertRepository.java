@@ -3,19 +3,27 @@ package com.concertcomparison.infrastructure.persistence;
 import com.concertcomparison.domain.model.Concert;
 import com.concertcomparison.domain.repository.ConcertFilterCriteria;
 import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.ConcertSummaryView;
 import com.concertcomparison.infrastructure.persistence.specification.ConcertSpecifications;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -35,6 +43,76 @@ public interface JpaConcertRepository extends JpaRepository<Concert, Long>, JpaS
     @Override
     List<Concert> findByVenueContainingIgnoreCase(String venue);
     
+    /**
+     * {@inheritDoc}
+     * 
+     * Constructor Expression: keine Entity-Hydrierung, kein Persistence-Context-Eintrag.
+     */
+    @Query("SELECT new com.concertcomparison.domain.repository.ConcertSummaryView(" +
+           "c.id, c.name, c.date, c.venue, c.description, c.createdAt, c.updatedAt, c.onSaleAt) " +
+           "FROM Concert c WHERE c.id = :id")
+    @Override
+    Optional<ConcertSummaryView> findSummaryById(@Param("id") Long id);
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Query("SELECT new com.concertcomparison.domain.repository.ConcertSummaryView(" +
+           "c.id, c.name, c.date, c.venue, c.description, c.createdAt, c.updatedAt, c.onSaleAt) " +
+           "FROM Concert c ORDER BY c.id")
+    @Override
+    List<ConcertSummaryView> findAllSummaries();
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Query("SELECT c.id FROM Concert c ORDER BY c.id")
+    @Override
+    List<Long> findAllIds();
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Query("SELECT new com.concertcomparison.domain.repository.ConcertSummaryView(" +
+           "c.id, c.name, c.date, c.venue, c.description, c.createdAt, c.updatedAt, c.onSaleAt) " +
+           "FROM Concert c WHERE c.id IN :ids")
+    @Override
+    List<ConcertSummaryView> findSummariesByIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Query("SELECT new com.concertcomparison.domain.repository.ConcertSummaryView(" +
+           "c.id, c.name, c.date, c.venue, c.description, c.createdAt, c.updatedAt, c.onSaleAt) " +
+           "FROM Concert c WHERE c.onSaleAt BETWEEN :from AND :to ORDER BY c.onSaleAt")
+    @Override
+    List<ConcertSummaryView> findSummariesOnSaleBetween(@Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Query("SELECT new com.concertcomparison.domain.repository.ConcertSummaryView(" +
+           "c.id, c.name, c.date, c.venue, c.description, c.createdAt, c.updatedAt, c.onSaleAt) " +
+           "FROM Concert c WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%')) ORDER BY c.id")
+    @Override
+    List<ConcertSummaryView> findSummariesByNameContainingIgnoreCase(@Param("name") String name);
+    
+    /**
+     * Read-only Hint für die gefilterte Konzertliste (findAllWithFilters):
+     * geladene Concerts werden ohne Snapshot für Dirty Checking verwaltet.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Override
+    List<Concert> findAll(Specification<Concert> spec, Sort sort);
+    
+    /**
+     * Read-only Hint für die gefilterte, paginierte Konzertliste (findAllWithFilters).
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Override
+    Page<Concert> findAll(Specification<Concert> spec, Pageable pageable);
+    
     @Override
     List<Concert> findByDateBetween(LocalDateTime startDate, LocalDateTime endDate);
     
@@ -2,12 +2,15 @@ package com.concertcomparison.infrastructure.persistence;
 
 import com.concertcomparison.domain.model.Order;
 import com.concertcomparison.domain.model.OrderStatus;
+import com.concertcomparison.domain.repository.OrderHistoryView;
 import com.concertcomparison.domain.repository.OrderRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +32,24 @@ public interface JpaOrderRepository extends JpaRepository<Order, Long>, OrderRep
     @Override
     List<Order> findByUserId(@Param("userId") String userId);
     
+    /**
+     * {@inheritDoc}
+     * 
+     * Ein Query über Order, Seat, Concert und Payment (Entity Joins über die IDs)
+     * statt zwei findById-Aufrufen pro Order.
+     */
+    @Query("SELECT new com.concertcomparison.domain.repository.OrderHistoryView(" +
+           "o.id, o.status, o.totalPrice, o.purchaseDate, p.status, " +
+           "c.id, c.name, c.venue, c.date, " +
+           "s.id, s.seatNumber, s.category, s.block, s.row, s.number) " +
+           "FROM Order o " +
+           "JOIN Seat s ON s.id = o.seatId " +
+           "JOIN Concert c ON c.id = s.concertId " +
+           "LEFT JOIN o.payment p " +
+           "WHERE o.userId = :userId ORDER BY o.purchaseDate DESC")
+    @Override
+    List<OrderHistoryView> findHistoryByUserId(@Param("userId") String userId);
+    
     @Override
     List<Order> findBySeatId(Long seatId);
     
@@ -45,6 +66,15 @@ public interface JpaOrderRepository extends JpaRepository<Order, Long>, OrderRep
     @Override
     List<Order> findByStatus(OrderStatus status);
     
+    /**
+     * Nur die IDs, ohne Orders und Payments zu laden.
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.updatedAt < :cutoff ORDER BY o.updatedAt, o.id")
+    @Override
+    List<Long> findIdsByStatusAndUpdatedAtBefore(@Param("status") OrderStatus status,
+                                                 @Param("cutoff") LocalDateTime cutoff,
+                                                 Pageable pageable);
+    
     @Override
     boolean existsBySeatId(Long seatId);
 }
@@ -2,7 +2,9 @@ package com.concertcomparison.infrastructure.persistence;
 
 import com.concertcomparison.domain.model.Reservation;
 import com.concertcomparison.domain.model.ReservationStatus;
+import com.concertcomparison.domain.repository.ActiveHoldCount;
 import com.concertcomparison.domain.repository.ReservationRepository;
+import com.concertcomparison.domain.repository.ReservationSeatView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,6 +24,11 @@ public interface JpaReservationRepository extends JpaRepository<Reservation, Lon
     @Query("SELECT r FROM Reservation r WHERE r.seatId = :seatId AND r.status = 'ACTIVE'")
     Optional<Reservation> findActiveBySeatId(@Param("seatId") Long seatId);
 
+    @Override
+    @Query("SELECT new com.concertcomparison.domain.repository.ReservationSeatView(r, s.price, s.concertId) " +
+           "FROM Reservation r LEFT JOIN Seat s ON s.id = r.seatId WHERE r.id = :id")
+    Optional<ReservationSeatView> findWithSeatById(@Param("id") Long id);
+
     @Override
     @Query("SELECT r FROM Reservation r WHERE r.userId = :userId AND r.status = 'ACTIVE'")
     List<Reservation> findActiveByUserId(@Param("userId") String userId);
@@ -36,4 +43,10 @@ public interface JpaReservationRepository extends JpaRepository<Reservation, Lon
     @Override
     @Query("SELECT COUNT(r) FROM Reservation r WHERE r.userId = :userId AND r.status = 'ACTIVE'")
     long countActiveByUserId(@Param("userId") String userId);
+
+    @Override
+    @Query("SELECT new com.concertcomparison.domain.repository.ActiveHoldCount(r.userId, s.concertId, COUNT(r)) " +
+           "FROM Reservation r JOIN Seat s ON s.id = r.seatId " +
+           "WHERE r.status = 'ACTIVE' AND r.expiresAt > :now GROUP BY r.userId, s.concertId")
+    List<ActiveHoldCount> countActiveByUserAndConcert(@Param("now") LocalDateTime now);
 }
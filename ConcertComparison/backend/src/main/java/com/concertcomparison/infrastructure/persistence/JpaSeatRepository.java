@@ -4,18 +4,27 @@ import com.concertcomparison.domain.model.Seat;
 import com.concertcomparison.domain.model.SeatStatus;
 import com.concertcomparison.domain.repository.SeatRepository;
 import com.concertcomparison.domain.repository.SeatAvailabilityAggregate;
+import com.concertcomparison.domain.repository.SeatCategoryAggregate;
+import com.concertcomparison.domain.repository.SeatRowView;
+import com.concertcomparison.domain.repository.SeatStatusView;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * JPA Repository Implementation für Seat Aggregate (Adapter in Hexagonal Architecture).
@@ -30,7 +39,8 @@ import java.util.stream.Collectors;
  * - Batch-Operations für Bulk-Inserts
  */
 @Repository
-public interface JpaSeatRepository extends JpaRepository<Seat, Long>, SeatRepository {
+public interface JpaSeatRepository extends JpaRepository<Seat, Long>, SeatRepository, SeatBulkInsertRepository,
+        SeatStatusTransitionRepository {
     
     /**
      * {@inheritDoc}
@@ -58,6 +68,41 @@ public interface JpaSeatRepository extends JpaRepository<Seat, Long>, SeatReposi
     @Override
     List<Seat> findByConcertIdAndStatus(Long concertId, SeatStatus status);
     
+    /**
+     * {@inheritDoc}
+     * 
+     * Skalare Projektion: lädt keine Seat-Entities, nur die Status-Spalte.
+     */
+    @Query("SELECT s.status FROM Seat s WHERE s.concertId = :concertId ORDER BY s.id")
+    @Override
+    List<SeatStatus> findStatusesByConcertIdOrderById(@Param("concertId") Long concertId);
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * Constructor Expression: lädt nur ID und Status, keine Seat-Entities.
+     */
+    @Query("SELECT new com.concertcomparison.domain.repository.SeatStatusView(s.id, s.status) " +
+           "FROM Seat s WHERE s.concertId = :concertId ORDER BY s.id")
+    @Override
+    List<SeatStatusView> findStatusViewsByConcertIdOrderById(@Param("concertId") Long concertId);
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * Constructor Expression + Fetch-Size: Zeilen werden per Cursor in Blöcken gelesen,
+     * ohne Seat-Entities im Persistence Context abzulegen.
+     */
+    @Query("SELECT new com.concertcomparison.domain.repository.SeatRowView(" +
+           "s.id, s.category, s.block, s.row, s.number, s.price, s.status) " +
+           "FROM Seat s WHERE s.concertId = :concertId ORDER BY s.id")
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Override
+    Stream<SeatRowView> streamRowsByConcertIdOrderById(@Param("concertId") Long concertId);
+    
     /**
      * {@inheritDoc}
      * 
@@ -67,6 +112,20 @@ public interface JpaSeatRepository extends JpaRepository<Seat, Long>, SeatReposi
     @Override
     List<Seat> findExpiredHolds(@Param("now") LocalDateTime now);
     
+    /**
+     * {@inheritDoc}
+     */
+    @Query("SELECT s.concertId FROM Seat s WHERE s.id = :id")
+    @Override
+    Optional<Long> findConcertIdById(@Param("id") Long id);
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Query("SELECT s.id FROM Seat s WHERE s.concertId = :concertId ORDER BY s.id")
+    @Override
+    List<Long> findIdsByConcertId(@Param("concertId") Long concertId);
+    
     /**
      * {@inheritDoc}
      * 
@@ -143,6 +202,68 @@ public interface JpaSeatRepository extends JpaRepository<Seat, Long>, SeatReposi
                 )
             ));
     }
+
+    /**
+     * Aggregiert Inventar pro Kategorie (GROUP BY category, nutzt idx_concert_id).
+     */
+    @Query("SELECT s.category as category, " +
+           "SUM(CASE WHEN s.status = 'AVAILABLE' THEN 1 ELSE 0 END) as availableSeats, " +
+           "COUNT(s) as totalSeats, " +
+           "MIN(s.price) as minPrice, " +
+           "MAX(s.price) as maxPrice, " +
+           "MIN(CASE WHEN s.status = 'AVAILABLE' THEN s.price ELSE NULL END) as minAvailablePrice " +
+           "FROM Seat s WHERE s.concertId = :concertId GROUP BY s.category")
+    List<CategoryInventoryProjection> aggregateInventoryByCategoryRaw(@Param("concertId") Long concertId);
+
+    @Override
+    default List<SeatCategoryAggregate> aggregateInventoryByCategory(Long concertId) {
+        return aggregateInventoryByCategoryRaw(concertId).stream()
+            .map(projection -> new SeatCategoryAggregate(
+                projection.getCategory(),
+                projection.getAvailableSeats(),
+                projection.getTotalSeats(),
+                projection.getMinPrice(),
+                projection.getMaxPrice(),
+                projection.getMinAvailablePrice()
+            ))
+            .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Innere Query gruppiert nach Kategorie und wählt per MIN(id) genau einen Seat zum
+     * Mindestpreis (korrelierte Subquery, nutzt idx_concert_status); nur diese Zeilen
+     * werden als Projektion geladen.
+     */
+    @Query("SELECT new com.concertcomparison.domain.repository.SeatRowView(" +
+           "s.id, s.category, s.block, s.row, s.number, s.price, s.status) " +
+           "FROM Seat s WHERE s.id IN (" +
+           "SELECT MIN(s2.id) FROM Seat s2 WHERE s2.concertId = :concertId AND s2.status = 'AVAILABLE' " +
+           "AND s2.price = (SELECT MIN(s3.price) FROM Seat s3 " +
+           "WHERE s3.concertId = s2.concertId AND s3.category = s2.category AND s3.status = 'AVAILABLE') " +
+           "GROUP BY s2.category) " +
+           "ORDER BY s.category")
+    @Override
+    List<SeatRowView> findCheapestAvailableSeatsPerCategory(@Param("concertId") Long concertId);
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * Filter und LIMIT in der Datenbank (nutzt idx_concert_status), geladen werden nur
+     * die angefragten Zeilen als Projektion.
+     */
+    @Query("SELECT new com.concertcomparison.domain.repository.SeatRowView(" +
+           "s.id, s.category, s.block, s.row, s.number, s.price, s.status) " +
+           "FROM Seat s WHERE s.concertId = :concertId AND s.status = 'AVAILABLE' " +
+           "AND s.category = :category AND (:excludeSeatId IS NULL OR s.id <> :excludeSeatId) " +
+           "ORDER BY s.block, s.row, s.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Override
+    List<SeatRowView> findAvailableRowsByCategory(@Param("concertId") Long concertId,
+                                                  @Param("category") String category,
+                                                  @Param("excludeSeatId") Long excludeSeatId,
+                                                  Pageable pageable);
     
     /**
      * {@inheritDoc}
@@ -163,6 +284,26 @@ public interface JpaSeatRepository extends JpaRepository<Seat, Long>, SeatReposi
     @Override
     int deleteAllByConcertId(@Param("concertId") Long concertId);
     
+    /**
+     * {@inheritDoc}
+     * 
+     * Bulk-DELETE mit Status-Bedingung, nutzt Index idx_concert_id.
+     */
+    @Modifying
+    @Query("DELETE FROM Seat s WHERE s.concertId = :concertId AND s.status = com.concertcomparison.domain.model.SeatStatus.AVAILABLE")
+    @Override
+    int deleteAvailableByConcertId(@Param("concertId") Long concertId);
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * Bulk-DELETE mit Status-Bedingung, daher ohne vorheriges Laden der Entities.
+     */
+    @Modifying
+    @Query("DELETE FROM Seat s WHERE s.id IN :seatIds AND s.status = com.concertcomparison.domain.model.SeatStatus.AVAILABLE")
+    @Override
+    int deleteAvailableByIdIn(@Param("seatIds") Collection<Long> seatIds);
+    
     /**
      * Projection Interface für DB-Aggregation Query.
      * 
@@ -183,4 +324,16 @@ public interface JpaSeatRepository extends JpaRepository<Seat, Long>, SeatReposi
         Double getMinPrice();
         Double getMaxPrice();
     }
+
+    /**
+     * Projection für Inventar-Aggregation pro Kategorie.
+     */
+    interface CategoryInventoryProjection {
+        String getCategory();
+        Long getAvailableSeats();
+        Long getTotalSeats();
+        Double getMinPrice();
+        Double getMaxPrice();
+        Double getMinAvailablePrice();
+    }
 }
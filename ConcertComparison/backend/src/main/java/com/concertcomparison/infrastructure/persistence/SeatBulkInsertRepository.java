@@ -0,0 +1,15 @@
+package com.concertcomparison.infrastructure.persistence;
+
+import com.concertcomparison.domain.model.Seat;
+
+/**
+ * Spring Data Fragment für streamende Bulk-Inserts von Seats
+ * (Implementierung: {@link SeatBulkInsertRepositoryImpl}).
+ */
+public interface SeatBulkInsertRepository {
+
+    /**
+     * @see com.concertcomparison.domain.repository.SeatRepository#insertAll(Iterable)
+     */
+    long insertAll(Iterable<Seat> seats);
+}
@@ -0,0 +1,39 @@
+package com.concertcomparison.infrastructure.persistence;
+
+import com.concertcomparison.domain.model.Seat;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Persistiert Seats direkt in JDBC-Batches: persist() je Seat, flush() + clear()
+ * nach jeweils hibernate.jdbc.batch_size Seats. Es wird keine Ergebnisliste aufgebaut.
+ */
+class SeatBulkInsertRepositoryImpl implements SeatBulkInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    SeatBulkInsertRepositoryImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public long insertAll(Iterable<Seat> seats) {
+        long count = 0;
+        for (Seat seat : seats) {
+            entityManager.persist(seat);
+            if (++count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+}
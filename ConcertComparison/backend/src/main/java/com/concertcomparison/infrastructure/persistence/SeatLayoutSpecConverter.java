@@ -0,0 +1,43 @@
+package com.concertcomparison.infrastructure.persistence;
+
+import com.concertcomparison.domain.model.SeatLayoutSpec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * JPA Converter: speichert ein {@link SeatLayoutSpec} als JSON-Text in der concerts-Tabelle.
+ *
+ * Das Layout ist klein (wenige Sektionen) und wird nur als Ganzes gelesen/geschrieben,
+ * daher lohnt sich keine eigene Tabelle.
+ */
+@Converter(autoApply = true)
+public class SeatLayoutSpecConverter implements AttributeConverter<SeatLayoutSpec, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(SeatLayoutSpec spec) {
+        if (spec == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(spec);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Seat-Layout konnte nicht serialisiert werden", e);
+        }
+    }
+
+    @Override
+    public SeatLayoutSpec convertToEntityAttribute(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, SeatLayoutSpec.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Gespeichertes Seat-Layout ist ungültig", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.concertcomparison.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * Spring Data Fragment für bedingte Seat-Statusübergänge als einzelnes UPDATE
+ * (Implementierung: {@link SeatStatusTransitionRepositoryImpl}).
+ */
+public interface SeatStatusTransitionRepository {
+
+    /**
+     * @see com.concertcomparison.domain.repository.SeatRepository#holdIfAvailable(Long, String, LocalDateTime)
+     */
+    int holdIfAvailable(Long seatId, String reservationId, LocalDateTime expiresAt);
+
+    /**
+     * @see com.concertcomparison.domain.repository.SeatRepository#sellIfHeld(Long, String)
+     */
+    int sellIfHeld(Long seatId, String reservationId);
+}
@@ -0,0 +1,64 @@
+package com.concertcomparison.infrastructure.persistence;
+
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.model.SeatStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Führt Seat-Statusübergänge als bewachtes UPDATE aus ({@code ... WHERE id = ? AND status = ?}).
+ *
+ * Der Seat wird nicht geladen; die betroffene Zeilenanzahl (0 oder 1) entscheidet, wer gewonnen hat.
+ * Die Version wird mit hochgezählt, damit parallele Entity-basierte Änderungen (Release, Cleanup)
+ * weiterhin per Optimistic Locking scheitern.
+ *
+ * Ein bereits im Persistence Context verwalteter Seat wäre nach dem UPDATE veraltet und wird
+ * daher detached (getReference lädt nichts nach).
+ */
+class SeatStatusTransitionRepositoryImpl implements SeatStatusTransitionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int holdIfAvailable(Long seatId, String reservationId, LocalDateTime expiresAt) {
+        int updated = entityManager.createQuery(
+                "UPDATE Seat s SET s.status = :held, s.holdReservationId = :reservationId, " +
+                "s.holdExpiresAt = :expiresAt, s.updatedAt = :now, s.version = s.version + 1 " +
+                "WHERE s.id = :id AND s.status = :available")
+            .setParameter("held", SeatStatus.HELD)
+            .setParameter("reservationId", reservationId)
+            .setParameter("expiresAt", expiresAt)
+            .setParameter("now", LocalDateTime.now())
+            .setParameter("id", seatId)
+            .setParameter("available", SeatStatus.AVAILABLE)
+            .executeUpdate();
+        detach(seatId);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int sellIfHeld(Long seatId, String reservationId) {
+        int updated = entityManager.createQuery(
+                "UPDATE Seat s SET s.status = :sold, s.holdReservationId = NULL, s.holdExpiresAt = NULL, " +
+                "s.updatedAt = :now, s.version = s.version + 1 " +
+                "WHERE s.id = :id AND s.status = :held AND s.holdReservationId = :reservationId")
+            .setParameter("sold", SeatStatus.SOLD)
+            .setParameter("now", LocalDateTime.now())
+            .setParameter("id", seatId)
+            .setParameter("held", SeatStatus.HELD)
+            .setParameter("reservationId", reservationId)
+            .executeUpdate();
+        detach(seatId);
+        return updated;
+    }
+
+    private void detach(Long seatId) {
+        entityManager.detach(entityManager.getReference(Seat.class, seatId));
+    }
+}
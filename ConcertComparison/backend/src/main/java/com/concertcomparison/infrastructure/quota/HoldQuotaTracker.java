@@ -0,0 +1,286 @@
+package com.concertcomparison.infrastructure.quota;
+
+import com.concertcomparison.domain.exception.HoldQuotaExceededException;
+import com.concertcomparison.domain.repository.ActiveHoldCount;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-Memory-Zähler aktiver Holds pro User (gesamt und pro Concert) mit Quota-Prüfung.
+ *
+ * Die Prüfung läuft in O(1) vor jeder Transaktion ({@link #acquire}) und ersetzt ein
+ * COUNT auf reservations im heißesten Endpoint. Freigegeben wird bei Storno, Ablauf
+ * und Kauf ({@link #releaseAfterCommit}).
+ *
+ * Nach einem Payment-Rollback entsteht wieder ein Hold; dessen Slot wird mit
+ * {@link #restoreAfterCommit} ohne Limitprüfung erneut belegt.
+ *
+ * Die Zähler sind eventual consistent: Pfade ohne Freigabe (z.B. direkt gelöschte
+ * Reservations) und Neustarts werden durch {@link #reconcile} periodisch gegen die
+ * Datenbank korrigiert.
+ *
+ * Konfiguration:
+ * - concert.hold.quota.enabled (Default true)
+ * - concert.hold.quota.per-concert: max. aktive Holds pro User und Concert (Default 8)
+ * - concert.hold.quota.global: max. aktive Holds pro User insgesamt (Default 20)
+ */
+@Component
+public class HoldQuotaTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoldQuotaTracker.class);
+
+    private final boolean enabled;
+    private final int perConcertLimit;
+    private final int globalLimit;
+
+    private final ConcurrentHashMap<String, UserHolds> users = new ConcurrentHashMap<>();
+
+    private final Counter concertRejections;
+    private final Counter globalRejections;
+
+    public HoldQuotaTracker(MeterRegistry meterRegistry,
+                            @Value("${concert.hold.quota.enabled:true}") boolean enabled,
+                            @Value("${concert.hold.quota.per-concert:8}") int perConcertLimit,
+                            @Value("${concert.hold.quota.global:20}") int globalLimit) {
+        if (perConcertLimit < 1 || globalLimit < 1) {
+            throw new IllegalArgumentException("Hold-Quotas müssen mindestens 1 sein");
+        }
+        this.enabled = enabled;
+        this.perConcertLimit = perConcertLimit;
+        this.globalLimit = globalLimit;
+
+        this.concertRejections = Counter.builder("hold.quota.rejections").tag("scope", "concert")
+            .description("Abgelehnte Holds wegen erreichter Quota").register(meterRegistry);
+        this.globalRejections = Counter.builder("hold.quota.rejections").tag("scope", "global")
+            .description("Abgelehnte Holds wegen erreichter Quota").register(meterRegistry);
+        Gauge.builder("hold.quota.tracked-users", users, Map::size)
+            .description("Anzahl Users mit gezählten Holds").register(meterRegistry);
+    }
+
+    /**
+     * Belegt einen Hold-Slot für den User, bevor der Hold angelegt wird.
+     *
+     * Scheitert der Hold anschließend, muss der Slot mit {@link #release} zurückgegeben werden.
+     *
+     * @param userId    ID des Users
+     * @param concertId ID des Concerts
+     * @throws HoldQuotaExceededException wenn Concert- oder Gesamtlimit erreicht ist
+     */
+    public void acquire(String userId, Long concertId) {
+        if (!enabled) {
+            return;
+        }
+        // Belegen unter dem Map-Lock des Users, damit reconcile() den Eintrag nicht
+        // zwischen Lookup und Inkrement entfernen kann
+        users.compute(userId, (k, existing) -> {
+            UserHolds holds = existing == null ? new UserHolds() : existing;
+            if (holds.total.get() >= globalLimit) {
+                globalRejections.increment();
+                throw new HoldQuotaExceededException(
+                    String.format("User %s hält bereits %d aktive Holds", userId, globalLimit),
+                    userId, null, globalLimit);
+            }
+            AtomicInteger concertHolds = holds.perConcert.get(concertId);
+            if (concertHolds != null && concertHolds.get() >= perConcertLimit) {
+                concertRejections.increment();
+                throw new HoldQuotaExceededException(
+                    String.format("User %s hält bereits %d aktive Holds für Concert %d", userId, perConcertLimit, concertId),
+                    userId, concertId, perConcertLimit);
+            }
+            holds.add(concertId, 1);
+            return holds;
+        });
+    }
+
+    /**
+     * Belegt einen Slot ohne Limitprüfung, sobald die laufende Transaktion committed ist
+     * (ohne aktive Transaktion sofort).
+     *
+     * Für Holds, die nicht über {@link #acquire} entstehen, z.B. der neue Hold nach einem
+     * Payment-Rollback: der Slot wurde beim Kauf freigegeben, der User hält den Seat aber wieder.
+     *
+     * @param userId    ID des Users
+     * @param concertId ID des Concerts
+     */
+    public void restoreAfterCommit(String userId, Long concertId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            restore(userId, concertId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                restore(userId, concertId);
+            }
+        });
+    }
+
+    private void restore(String userId, Long concertId) {
+        users.compute(userId, (k, existing) -> {
+            UserHolds holds = existing == null ? new UserHolds() : existing;
+            holds.add(concertId, 1);
+            return holds;
+        });
+    }
+
+    /**
+     * Gibt einen Hold-Slot sofort frei (Zähler fallen nie unter 0).
+     *
+     * @param userId    ID des Users
+     * @param concertId ID des Concerts
+     */
+    public void release(String userId, Long concertId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        UserHolds holds = users.get(userId);
+        if (holds == null) {
+            return;
+        }
+        AtomicInteger concertHolds = holds.perConcert.get(concertId);
+        if (concertHolds != null && concertHolds.getAndUpdate(v -> Math.max(0, v - 1)) > 0) {
+            holds.total.updateAndGet(v -> Math.max(0, v - 1));
+        }
+    }
+
+    /**
+     * Gibt einen Hold-Slot frei, sobald die laufende Transaktion committed ist
+     * (ohne aktive Transaktion sofort). Bei Rollback bleibt der Hold bestehen.
+     *
+     * @param userId    ID des Users
+     * @param concertId ID des Concerts
+     */
+    public void releaseAfterCommit(String userId, Long concertId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(userId, concertId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(userId, concertId);
+            }
+        });
+    }
+
+    /**
+     * Zählerstand vor der Datenbankabfrage eines Abgleichs, siehe {@link #reconcile}.
+     *
+     * @return Kopie der aktuellen Zähler pro User und Concert
+     */
+    public Snapshot snapshot() {
+        Map<String, Map<Long, Integer>> counts = new HashMap<>();
+        users.forEach((userId, holds) -> {
+            Map<Long, Integer> perConcert = new HashMap<>();
+            holds.perConcert.forEach((concertId, counter) -> perConcert.put(concertId, counter.get()));
+            counts.put(userId, perConcert);
+        });
+        return new Snapshot(counts);
+    }
+
+    /**
+     * Gleicht die Zähler mit dem Datenbankstand ab.
+     *
+     * Statt die Zähler zu überschreiben, wird pro User und Concert nur die Differenz zwischen
+     * Datenbank und {@code before} addiert: Holds, die nach dem Snapshot belegt oder freigegeben
+     * wurden, bleiben so erhalten. Ein Hold, der zwischen Snapshot und Abfrage committed wird,
+     * kann kurzzeitig doppelt zählen - der nächste Abgleich korrigiert das.
+     *
+     * Users ohne aktive Holds werden unter dem Map-Lock entfernt, damit kein gleichzeitiges
+     * {@link #acquire} verloren geht.
+     *
+     * @param before Zählerstand vor der Datenbankabfrage ({@link #snapshot})
+     * @param counts aktive Holds pro User und Concert
+     */
+    public void reconcile(Snapshot before, List<ActiveHoldCount> counts) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, Map<Long, Integer>> deltas = new HashMap<>();
+        before.counts().forEach((userId, perConcert) -> perConcert.forEach((concertId, held) ->
+            deltas.computeIfAbsent(userId, k -> new HashMap<>()).merge(concertId, -held, Integer::sum)));
+        for (ActiveHoldCount count : counts) {
+            deltas.computeIfAbsent(count.userId(), k -> new HashMap<>())
+                .merge(count.concertId(), (int) count.holds(), Integer::sum);
+        }
+
+        int corrected = 0;
+        for (Map.Entry<String, Map<Long, Integer>> entry : deltas.entrySet()) {
+            Map<Long, Integer> userDeltas = entry.getValue();
+            userDeltas.values().removeIf(delta -> delta == 0);
+            if (!userDeltas.isEmpty()) {
+                corrected++;
+            }
+            users.compute(entry.getKey(), (k, existing) -> {
+                UserHolds holds = existing == null ? new UserHolds() : existing;
+                userDeltas.forEach(holds::add);
+                holds.perConcert.values().removeIf(counter -> counter.get() == 0);
+                return holds.total.get() == 0 ? null : holds;
+            });
+        }
+
+        if (corrected > 0) {
+            logger.info("Hold quota reconciled: {} users corrected, {} users tracked", corrected, users.size());
+        }
+    }
+
+    /**
+     * @return aktive Holds des Users über alle Concerts
+     */
+    public int activeHolds(String userId) {
+        UserHolds holds = users.get(userId);
+        return holds == null ? 0 : holds.total.get();
+    }
+
+    /**
+     * @return aktive Holds des Users für ein Concert
+     */
+    public int activeHolds(String userId, Long concertId) {
+        UserHolds holds = users.get(userId);
+        AtomicInteger concertHolds = holds == null ? null : holds.perConcert.get(concertId);
+        return concertHolds == null ? 0 : concertHolds.get();
+    }
+
+    /**
+     * Zählerstand pro User und Concert zu einem Zeitpunkt.
+     *
+     * @param counts gehaltene Slots pro User und Concert
+     */
+    public record Snapshot(Map<String, Map<Long, Integer>> counts) {
+    }
+
+    /**
+     * Zähler eines Users: Summe über alle Concerts plus Anzahl pro Concert.
+     */
+    private static final class UserHolds {
+
+        private final AtomicInteger total = new AtomicInteger();
+        private final ConcurrentHashMap<Long, AtomicInteger> perConcert = new ConcurrentHashMap<>();
+
+        /**
+         * Addiert {@code delta} auf den Concert-Zähler (nie unter 0) und hält die Summe konsistent.
+         */
+        private void add(Long concertId, int delta) {
+            AtomicInteger counter = perConcert.computeIfAbsent(concertId, k -> new AtomicInteger());
+            int previous = counter.getAndUpdate(v -> Math.max(0, v + delta));
+            int applied = Math.max(0, previous + delta) - previous;
+            total.updateAndGet(v -> Math.max(0, v + applied));
+        }
+    }
+}
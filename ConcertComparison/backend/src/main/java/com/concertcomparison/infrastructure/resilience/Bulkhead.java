@@ -0,0 +1,130 @@
+package com.concertcomparison.infrastructure.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulkhead mit eigenem Thread-Pool für Aufrufe eines externen Systems.
+ *
+ * - höchstens {@code maxConcurrent} Aufrufe gleichzeitig, weitere warten in einer
+ *   Warteschlange mit {@code queueCapacity} Plätzen
+ * - ist auch die Warteschlange voll, wird sofort mit {@link RejectedExecutionException} abgelehnt
+ * - der Aufrufer wartet höchstens {@code timeout} (inkl. Wartezeit in der Queue), danach wird
+ *   der Aufruf abgebrochen (Interrupt) und {@link TimeoutException} geworfen
+ *
+ * Ein langsamer Provider blockiert damit höchstens die Threads des Bulkheads und jeden
+ * Aufrufer für maximal {@code timeout}, nicht alle Request-Threads und DB-Verbindungen.
+ *
+ * Metriken (Micrometer):
+ * - bulkhead.active{name} - laufende Aufrufe
+ * - bulkhead.queued{name} - wartende Aufrufe
+ * - bulkhead.rejected{name} - wegen voller Warteschlange abgelehnte Aufrufe
+ * - bulkhead.timeouts{name} - abgebrochene Aufrufe
+ */
+public class Bulkhead implements AutoCloseable {
+
+    private final String name;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+    private final Counter timeouts;
+
+    public Bulkhead(String name, int maxConcurrent, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        if (maxConcurrent < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Es muss max-concurrent >= 1 und queue-capacity >= 0 gelten");
+        }
+        this.name = name;
+        this.timeout = timeout;
+
+        BlockingQueue<Runnable> queue = queueCapacity == 0
+            ? new SynchronousQueue<>()
+            : new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS, queue,
+            runnable -> {
+                Thread thread = new Thread(runnable, "bulkhead-" + name + "-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("bulkhead.active", executor, ThreadPoolExecutor::getActiveCount).tag("name", name)
+            .description("Laufende Aufrufe im Bulkhead").register(meterRegistry);
+        Gauge.builder("bulkhead.queued", queue, BlockingQueue::size).tag("name", name)
+            .description("Auf einen freien Platz wartende Aufrufe").register(meterRegistry);
+        this.rejected = Counter.builder("bulkhead.rejected").tag("name", name)
+            .description("Wegen voller Warteschlange abgelehnte Aufrufe").register(meterRegistry);
+        this.timeouts = Counter.builder("bulkhead.timeouts").tag("name", name)
+            .description("Wegen Zeitüberschreitung abgebrochene Aufrufe").register(meterRegistry);
+    }
+
+    /**
+     * Führt den Aufruf im Bulkhead aus und wartet höchstens bis zum Timeout auf das Ergebnis.
+     *
+     * @param call Aufruf des externen Systems
+     * @return Ergebnis des Aufrufs
+     * @throws RejectedExecutionException wenn Bulkhead und Warteschlange voll sind
+     * @throws TimeoutException wenn der Aufruf nicht rechtzeitig fertig wurde
+     */
+    public <T> T execute(Callable<T> call) throws TimeoutException {
+        Future<T> future;
+        try {
+            future = executor.submit(call);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.increment();
+            throw e;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Warten auf Bulkhead '" + name + "' wurde unterbrochen", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int active() {
+        return executor.getActiveCount();
+    }
+
+    public int queued() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,206 @@
+package com.concertcomparison.infrastructure.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Zählbasierter Circuit Breaker für Aufrufe externer Systeme.
+ *
+ * Zustände:
+ * - CLOSED: Aufrufe laufen durch, die letzten {@code slidingWindowSize} Ergebnisse werden gezählt.
+ *   Ab {@code minimumCalls} Aufrufen und einer Fehlerquote von mindestens
+ *   {@code failureRateThreshold} Prozent → OPEN
+ * - OPEN: Aufrufe werden sofort abgelehnt; nach {@code openDuration} → HALF_OPEN
+ * - HALF_OPEN: genau {@code halfOpenCalls} Probeaufrufe; alle erfolgreich → CLOSED,
+ *   ein Fehler → wieder OPEN
+ *
+ * Als Fehler zählen nur technische Probleme (Timeout, Exception) - fachliche Ablehnungen
+ * des Providers sind eine gültige Antwort.
+ *
+ * Metriken (Micrometer):
+ * - circuitbreaker.state{name} - 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+ * - circuitbreaker.calls{name, outcome=success|failure} - gemessene Aufrufe
+ * - circuitbreaker.rejected{name} - wegen offenem Breaker abgelehnte Aufrufe
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED(0),
+        OPEN(1),
+        HALF_OPEN(2);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+
+        public int code() {
+            return code;
+        }
+    }
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] window;
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejected;
+
+    private volatile State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCalls;
+    private int windowFailures;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name,
+                          double failureRateThreshold,
+                          int slidingWindowSize,
+                          int minimumCalls,
+                          Duration openDuration,
+                          int halfOpenCalls,
+                          MeterRegistry meterRegistry) {
+        this(name, failureRateThreshold, slidingWindowSize, minimumCalls, openDuration, halfOpenCalls,
+            meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(String name,
+                   double failureRateThreshold,
+                   int slidingWindowSize,
+                   int minimumCalls,
+                   Duration openDuration,
+                   int halfOpenCalls,
+                   MeterRegistry meterRegistry,
+                   LongSupplier nanoClock) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("failure-rate-threshold muss in (0, 100] liegen");
+        }
+        if (minimumCalls < 1 || minimumCalls > slidingWindowSize || halfOpenCalls < 1) {
+            throw new IllegalArgumentException(
+                "Es muss 1 <= minimum-calls <= sliding-window-size und half-open-calls >= 1 gelten");
+        }
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[slidingWindowSize];
+
+        Gauge.builder("circuitbreaker.state", this, breaker -> breaker.state().code()).tag("name", name)
+            .description("Zustand des Circuit Breakers (0 = closed, 1 = open, 2 = half-open)").register(meterRegistry);
+        this.successes = Counter.builder("circuitbreaker.calls").tag("name", name).tag("outcome", "success")
+            .description("Vom Circuit Breaker gemessene Aufrufe").register(meterRegistry);
+        this.failures = Counter.builder("circuitbreaker.calls").tag("name", name).tag("outcome", "failure")
+            .description("Vom Circuit Breaker gemessene Aufrufe").register(meterRegistry);
+        this.rejected = Counter.builder("circuitbreaker.rejected").tag("name", name)
+            .description("Wegen offenem Circuit Breaker abgelehnte Aufrufe").register(meterRegistry);
+    }
+
+    /**
+     * Prüft, ob ein Aufruf erlaubt ist. Nach Ablauf der Open-Phase wird auf HALF_OPEN gewechselt.
+     *
+     * @return true, wenn der Aufruf laufen darf; dann muss {@link #onSuccess}, {@link #onFailure}
+     *         oder {@link #onNotExecuted} folgen
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Meldet einen erfolgreichen Aufruf.
+     */
+    public synchronized void onSuccess() {
+        successes.increment();
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * Meldet einen technisch fehlgeschlagenen Aufruf (Timeout, Exception).
+     */
+    public synchronized void onFailure() {
+        failures.increment();
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (windowCalls >= minimumCalls && windowFailures * 100.0 / windowCalls >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Gibt eine Erlaubnis zurück, deren Aufruf gar nicht stattgefunden hat (z.B. Bulkhead voll).
+     */
+    public synchronized void onNotExecuted() {
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls - halfOpenSuccesses) {
+            halfOpenPermits++;
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCalls == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCalls++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCalls = 0;
+        windowFailures = 0;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public State state() {
+        return state;
+    }
+}
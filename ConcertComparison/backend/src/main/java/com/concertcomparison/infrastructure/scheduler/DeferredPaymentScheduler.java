@@ -0,0 +1,111 @@
+package com.concertcomparison.infrastructure.scheduler;
+
+import com.concertcomparison.application.service.PaymentApplicationService;
+import com.concertcomparison.domain.exception.OrderNotFoundException;
+import com.concertcomparison.domain.model.OrderStatus;
+import com.concertcomparison.domain.repository.OrderRepository;
+import com.concertcomparison.domain.service.PaymentService.PaymentResult;
+import com.concertcomparison.infrastructure.payment.DeferredPaymentQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Scheduler für zurückgestellte Zahlungen.
+ * Läuft alle 10 Sekunden (konfigurierbar via concert.payment.deferred.retry-interval-ms)
+ * und verarbeitet pro Lauf höchstens concert.payment.deferred.batch-size Orders.
+ *
+ * Da die {@link DeferredPaymentQueue} nur im Speicher liegt, stellt jeder Lauf zuerst
+ * PENDING-Orders aus der Datenbank zurück, die seit concert.payment.deferred.recover-after-ms
+ * nicht mehr geändert wurden (nach einem Neustart verlorene Queue-Einträge, abgebrochene
+ * asynchrone Zahlungen). Der Abstand muss deutlich über dem Provider-Timeout liegen, damit
+ * laufende Zahlungen nicht doppelt gestartet werden.
+ */
+@Component
+public class DeferredPaymentScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeferredPaymentScheduler.class);
+
+    private final DeferredPaymentQueue deferredPaymentQueue;
+    private final PaymentApplicationService paymentApplicationService;
+    private final OrderRepository orderRepository;
+    private final int batchSize;
+    private final Duration recoverAfter;
+
+    public DeferredPaymentScheduler(DeferredPaymentQueue deferredPaymentQueue,
+                                    PaymentApplicationService paymentApplicationService,
+                                    OrderRepository orderRepository,
+                                    @Value("${concert.payment.deferred.batch-size:50}") int batchSize,
+                                    @Value("${concert.payment.deferred.recover-after-ms:60000}") long recoverAfterMs) {
+        this.deferredPaymentQueue = deferredPaymentQueue;
+        this.paymentApplicationService = paymentApplicationService;
+        this.orderRepository = orderRepository;
+        this.batchSize = batchSize;
+        this.recoverAfter = Duration.ofMillis(recoverAfterMs);
+    }
+
+    /**
+     * Scheduled Task: liegengebliebene PENDING-Orders zurückstellen, dann zurückgestellte
+     * Zahlungen in Eingangsreihenfolge erneut beim Provider versuchen.
+     * Wird eine Zahlung erneut zurückgestellt (Breaker noch offen, Timeout), endet der Lauf.
+     */
+    @Scheduled(initialDelayString = "${concert.payment.deferred.retry-interval-ms:10000}",
+               fixedDelayString = "${concert.payment.deferred.retry-interval-ms:10000}")
+    public void retryDeferredPayments() {
+        recoverPendingOrders();
+
+        int attempts = Math.min(deferredPaymentQueue.size(), batchSize);
+        for (int i = 0; i < attempts; i++) {
+            Long orderId = deferredPaymentQueue.poll();
+            if (orderId == null) {
+                return;
+            }
+            try {
+                PaymentResult result = paymentApplicationService.processPaymentSync(orderId);
+                if (result.isDeferred()) {
+                    return;
+                }
+            } catch (OrderNotFoundException | IllegalStateException e) {
+                // Order wurde inzwischen gelöscht, anderweitig abgeschlossen oder wird gerade verarbeitet
+                logger.info("Dropping deferred payment for orderId={}: {}", orderId, e.getMessage());
+            } catch (Exception e) {
+                // Order bleibt PENDING: erneut zurückstellen statt sie zu verlieren
+                logger.error("Error retrying deferred payment for orderId={}, deferring again: {}",
+                    orderId, e.getMessage(), e);
+                deferredPaymentQueue.defer(orderId);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stellt PENDING-Orders aus der Datenbank zurück, die seit recover-after-ms nicht mehr
+     * geändert wurden. Bereits zurückgestellte Orders werden von der Queue ignoriert.
+     */
+    void recoverPendingOrders() {
+        List<Long> orderIds;
+        try {
+            orderIds = orderRepository.findIdsByStatusAndUpdatedAtBefore(
+                OrderStatus.PENDING, LocalDateTime.now().minus(recoverAfter), PageRequest.of(0, batchSize));
+        } catch (Exception e) {
+            logger.warn("Could not load pending orders for recovery: {}", e.getMessage());
+            return;
+        }
+        int recovered = 0;
+        for (Long orderId : orderIds) {
+            if (deferredPaymentQueue.defer(orderId)) {
+                recovered++;
+            }
+        }
+        if (recovered > 0) {
+            logger.info("Recovered {} pending orders into deferred payment queue", recovered);
+        }
+    }
+}
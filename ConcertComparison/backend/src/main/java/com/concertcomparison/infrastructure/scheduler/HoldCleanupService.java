@@ -6,6 +6,8 @@ import com.concertcomparison.domain.model.Seat;
 import com.concertcomparison.domain.model.SeatStatus;
 import com.concertcomparison.domain.repository.ReservationRepository;
 import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.metrics.BookingMetrics;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
@@ -27,14 +29,20 @@ public class HoldCleanupService {
     private final ReservationRepository reservationRepository;
     private final SeatRepository seatRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final HoldQuotaTracker holdQuotaTracker;
+    private final BookingMetrics bookingMetrics;
 
     public HoldCleanupService(
             ReservationRepository reservationRepository,
             SeatRepository seatRepository,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            HoldQuotaTracker holdQuotaTracker,
+            BookingMetrics bookingMetrics) {
         this.reservationRepository = reservationRepository;
         this.seatRepository = seatRepository;
         this.eventPublisher = eventPublisher;
+        this.holdQuotaTracker = holdQuotaTracker;
+        this.bookingMetrics = bookingMetrics;
     }
 
     /**
@@ -46,6 +54,8 @@ public class HoldCleanupService {
      *    - Lade zugehörigen Seat
      *    - Setze Seat auf AVAILABLE (releaseHold())
      *    - Lösche Reservation
+     *    - Gib die Hold-Quota des Users nach Commit frei
+     *    - Zähle booking.hold.released{reason=expired}
      * 
      * @return Anzahl der gelöschten Holds
      */
@@ -87,8 +97,13 @@ public class HoldCleanupService {
                         seat.getId(), reservation.getId());
                 }
 
-                // 5. Lösche Reservation
+                // 5. Lösche Reservation und gib die Hold-Quota frei
                 reservationRepository.delete(reservation);
+                Long concertId = seat != null ? seat.getConcertId() : null;
+                if (concertId != null) {
+                    holdQuotaTracker.releaseAfterCommit(reservation.getUserId(), concertId);
+                }
+                bookingMetrics.holdReleased(concertId, BookingMetrics.ReleaseReason.EXPIRED);
                 cleaned++;
                 
                 logger.info("Cleaned up expired hold: holdId={}, seatId={}, expiredAt={}", 
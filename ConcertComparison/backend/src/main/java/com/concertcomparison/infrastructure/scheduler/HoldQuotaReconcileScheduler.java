@@ -0,0 +1,45 @@
+package com.concertcomparison.infrastructure.scheduler;
+
+import com.concertcomparison.domain.repository.ReservationRepository;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scheduler für den Abgleich der In-Memory-Hold-Zähler mit der Datenbank.
+ * Läuft jede Minute (konfigurierbar via concert.hold.quota.reconcile-interval-ms).
+ */
+@Component
+public class HoldQuotaReconcileScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoldQuotaReconcileScheduler.class);
+
+    private final ReservationRepository reservationRepository;
+    private final HoldQuotaTracker holdQuotaTracker;
+
+    public HoldQuotaReconcileScheduler(ReservationRepository reservationRepository,
+                                       HoldQuotaTracker holdQuotaTracker) {
+        this.reservationRepository = reservationRepository;
+        this.holdQuotaTracker = holdQuotaTracker;
+    }
+
+    /**
+     * Scheduled Task: Zähler mit einer gruppierten COUNT-Abfrage abgleichen.
+     * Der Snapshot wird vor der Abfrage genommen, damit Holds, die währenddessen belegt
+     * oder freigegeben werden, nicht überschrieben werden.
+     * Der erste Lauf direkt nach dem Start übernimmt Holds aus der Zeit vor einem Neustart.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${concert.hold.quota.reconcile-interval-ms:60000}")
+    public void scheduleReconcile() {
+        try {
+            HoldQuotaTracker.Snapshot before = holdQuotaTracker.snapshot();
+            holdQuotaTracker.reconcile(before, reservationRepository.countActiveByUserAndConcert(LocalDateTime.now()));
+        } catch (Exception e) {
+            logger.error("Error in hold quota reconcile scheduler: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.concertcomparison.infrastructure.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scheduler für das Vorwärmen vor dem Verkaufsstart.
+ * Läuft alle 30 Sekunden (konfigurierbar via concert.warmup.interval-ms).
+ */
+@Component
+@ConditionalOnProperty(name = "concert.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class OnSaleWarmupScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(OnSaleWarmupScheduler.class);
+
+    private final OnSaleWarmupService warmupService;
+
+    public OnSaleWarmupScheduler(OnSaleWarmupService warmupService) {
+        this.warmupService = warmupService;
+    }
+
+    /**
+     * Scheduled Task: Konzerte mit bevorstehendem Verkaufsstart vorwärmen.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${concert.warmup.interval-ms:30000}")
+    public void scheduleWarmup() {
+        try {
+            int warmed = warmupService.warmDueConcerts(LocalDateTime.now());
+            if (warmed > 0) {
+                logger.info("On-sale warm-up scheduler: {} concerts warmed", warmed);
+            }
+        } catch (Exception e) {
+            logger.error("Error in on-sale warm-up scheduler: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.concertcomparison.infrastructure.scheduler;
+
+import com.concertcomparison.application.service.ConcertApplicationService;
+import com.concertcomparison.application.service.InventorySummaryService;
+import com.concertcomparison.application.service.SeatApplicationService;
+import com.concertcomparison.application.service.SeatLayoutApplicationService;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.ConcertSummaryView;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker;
+import com.concertcomparison.infrastructure.cache.ResponseByteCache;
+import com.concertcomparison.infrastructure.cache.SeatConcertLookup;
+import com.concertcomparison.infrastructure.cache.TwoTierCacheManager;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmapRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Wärmt Caches und Lesepfade eines Konzerts vor dem Verkaufsstart vor.
+ *
+ * Konzerte, deren Verkaufsstart in den nächsten {@code concert.warmup.lead-minutes}
+ * liegt, werden vor dem Verkaufsstart geladen:
+ * 1. Concert-Detail (concertById) und dessen vorserialisierte Response
+ * 2. Vorserialisierte Seat-Map-Response
+ * 3. Inventar-Zusammenfassung (inventorySummary)
+ * 4. Seat-Layout und Seat-Status-Bitmap
+ * 5. Seat → Concert Zuordnung des Hold-Pfads; der ID-Scan über den Concert-Index
+ *    liest dabei Index- und Tabellenseiten der Seats in den Buffer-Cache
+ *
+ * Schritte 1-4 nutzen dieselben Queries wie die Requests nach dem Verkaufsstart und
+ * laden damit auch deren Datenbankseiten vor.
+ *
+ * Die vorgewärmten Einträge laufen nach 5 Minuten ab (inventorySummary,
+ * Response-Cache, Seat-Bitmap), der Vorlauf ist aber länger. Bis zum Verkaufsstart wird
+ * ein vorgewärmtes Konzert deshalb alle {@code concert.warmup.refresh-minutes} erneut
+ * vorgewärmt: die knotenlokalen Einträge werden verworfen und sofort neu geladen, damit
+ * sie zum Verkaufsstart höchstens ein Refresh-Intervall alt sind. Das Intervall muss
+ * unter der kürzesten TTL liegen.
+ *
+ * Der Stand wird pro Konzert gehalten und von der Readiness-Prüfung gelesen.
+ */
+@Service
+public class OnSaleWarmupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OnSaleWarmupService.class);
+
+    /**
+     * Stand der Vorwärmung eines Konzerts.
+     */
+    public enum Status {
+        PENDING,
+        WARMED,
+        FAILED
+    }
+
+    /**
+     * @param concertId ID des Konzerts
+     * @param onSaleAt  Verkaufsstart, für den vorgewärmt wurde
+     * @param status    Stand
+     * @param duration  Dauer der Vorwärmung (null solange PENDING)
+     * @param warmedAt  Zeitpunkt der letzten Vorwärmung (null solange PENDING)
+     */
+    public record WarmupState(Long concertId, LocalDateTime onSaleAt, Status status, Duration duration,
+                              LocalDateTime warmedAt) {
+    }
+
+    private static final String INVENTORY_CACHE = "inventorySummary";
+
+    private final ConcertRepository concertRepository;
+    private final ConcertApplicationService concertApplicationService;
+    private final SeatApplicationService seatApplicationService;
+    private final InventorySummaryService inventorySummaryService;
+    private final SeatLayoutApplicationService seatLayoutApplicationService;
+    private final SeatConcertLookup seatConcertLookup;
+    private final ResponseByteCache responseByteCache;
+    private final ContentVersionTracker versionTracker;
+    private final TwoTierCacheManager cacheManager;
+    private final SeatStatusBitmapRegistry bitmapRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Duration lead;
+    private final Duration refresh;
+
+    private final ConcurrentMap<Long, WarmupState> states = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastCheck;
+
+    public OnSaleWarmupService(ConcertRepository concertRepository,
+                               ConcertApplicationService concertApplicationService,
+                               SeatApplicationService seatApplicationService,
+                               InventorySummaryService inventorySummaryService,
+                               SeatLayoutApplicationService seatLayoutApplicationService,
+                               SeatConcertLookup seatConcertLookup,
+                               ResponseByteCache responseByteCache,
+                               ContentVersionTracker versionTracker,
+                               TwoTierCacheManager cacheManager,
+                               SeatStatusBitmapRegistry bitmapRegistry,
+                               MeterRegistry meterRegistry,
+                               @Value("${concert.warmup.lead-minutes:10}") long leadMinutes,
+                               @Value("${concert.warmup.refresh-minutes:2}") long refreshMinutes) {
+        if (refreshMinutes < 1) {
+            throw new IllegalArgumentException("concert.warmup.refresh-minutes muss mindestens 1 sein");
+        }
+        this.concertRepository = concertRepository;
+        this.concertApplicationService = concertApplicationService;
+        this.seatApplicationService = seatApplicationService;
+        this.inventorySummaryService = inventorySummaryService;
+        this.seatLayoutApplicationService = seatLayoutApplicationService;
+        this.seatConcertLookup = seatConcertLookup;
+        this.responseByteCache = responseByteCache;
+        this.versionTracker = versionTracker;
+        this.cacheManager = cacheManager;
+        this.bitmapRegistry = bitmapRegistry;
+        this.meterRegistry = meterRegistry;
+        this.lead = Duration.ofMinutes(leadMinutes);
+        this.refresh = Duration.ofMinutes(refreshMinutes);
+    }
+
+    /**
+     * Wärmt alle Konzerte vor, deren Verkaufsstart im Vorlauf-Fenster liegt und die für
+     * diesen Verkaufsstart noch nicht (erfolgreich) vorgewärmt wurden. Bereits vorgewärmte
+     * Konzerte werden bis zum Verkaufsstart nach Ablauf des Refresh-Intervalls erneut
+     * vorgewärmt; die Readiness bleibt dabei UP.
+     *
+     * @param now aktueller Zeitpunkt
+     * @return Anzahl erfolgreich (erneut) vorgewärmter Konzerte
+     */
+    public int warmDueConcerts(LocalDateTime now) {
+        // Zustände vergangener Verkaufsstarts verwerfen
+        states.values().removeIf(state -> state.onSaleAt().isBefore(now.minus(lead)));
+
+        List<ConcertSummaryView> due = concertRepository.findSummariesOnSaleBetween(now, now.plus(lead)).stream()
+            .filter(concert -> needsWarmup(concert, now))
+            .toList();
+        due.stream()
+            .filter(concert -> !isWarmed(concert))
+            .forEach(concert -> states.put(concert.id(),
+                new WarmupState(concert.id(), concert.onSaleAt(), Status.PENDING, null, null)));
+
+        int warmed = 0;
+        for (ConcertSummaryView concert : due) {
+            if (isWarmed(concert)) {
+                evictLocalState(concert.id());
+            }
+            if (warmUp(concert.id(), concert.onSaleAt(), now)) {
+                warmed++;
+            }
+        }
+        lastCheck = now;
+        return warmed;
+    }
+
+    /**
+     * @return Stand aller Konzerte mit Verkaufsstart im Vorlauf-Fenster
+     */
+    public Map<Long, WarmupState> states() {
+        return Map.copyOf(states);
+    }
+
+    /**
+     * @return Anzahl Konzerte, deren Vorwärmung fällig, aber nicht abgeschlossen ist
+     */
+    public long pendingCount() {
+        return states.values().stream().filter(state -> state.status() == Status.PENDING).count();
+    }
+
+    /**
+     * @return Zeitpunkt der letzten Prüfung, null vor dem ersten Lauf
+     */
+    public LocalDateTime lastCheck() {
+        return lastCheck;
+    }
+
+    private boolean needsWarmup(ConcertSummaryView concert, LocalDateTime now) {
+        if (!isWarmed(concert)) {
+            return true;
+        }
+        // Erneut vorwärmen, bevor die Einträge ablaufen - bis zum Verkaufsstart
+        WarmupState state = states.get(concert.id());
+        return concert.onSaleAt().isAfter(now) && !state.warmedAt().plus(refresh).isAfter(now);
+    }
+
+    private boolean isWarmed(ConcertSummaryView concert) {
+        WarmupState state = states.get(concert.id());
+        return state != null
+            && state.status() == Status.WARMED
+            && Objects.equals(state.onSaleAt(), concert.onSaleAt());
+    }
+
+    /**
+     * Verwirft die knotenlokalen Einträge mit Ablaufzeit, damit das erneute Vorwärmen sie
+     * neu schreibt (ein Treffer würde die Ablaufzeit nicht verlängern).
+     */
+    private void evictLocalState(Long concertId) {
+        cacheManager.evictLocal(INVENTORY_CACHE, concertId);
+        responseByteCache.invalidateConcert(concertId);
+        bitmapRegistry.invalidate(concertId);
+    }
+
+    private boolean warmUp(Long concertId, LocalDateTime onSaleAt, LocalDateTime now) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long started = System.nanoTime();
+        Status status;
+        try {
+            long version = versionTracker.seatMapVersion(concertId).counter();
+            responseByteCache.getOrEncode(concertId, "concert", version,
+                () -> concertApplicationService.getConcertById(concertId));
+
+            responseByteCache.getOrWrite(concertId, "seats", version,
+                out -> seatApplicationService.writeSeatAvailability(concertId, out));
+
+            inventorySummaryService.getInventorySummary(concertId);
+
+            seatLayoutApplicationService.getSeatLayout(concertId,
+                seatLayoutApplicationService.getCurrentLayoutVersion(concertId));
+            seatLayoutApplicationService.getSeatStatusBitmap(concertId);
+
+            int seats = seatConcertLookup.primeConcert(concertId);
+            status = Status.WARMED;
+            logger.info("Warmed up concert {} ({} seats) ahead of on-sale at {}", concertId, seats, onSaleAt);
+        } catch (RuntimeException e) {
+            status = Status.FAILED;
+            logger.warn("Warm-up of concert {} failed: {}", concertId, e.getMessage(), e);
+        }
+        sample.stop(Timer.builder("concert.warmup.duration")
+            .description("Dauer der Vorwärmung eines Konzerts vor dem Verkaufsstart")
+            .tag("outcome", status.name().toLowerCase())
+            .register(meterRegistry));
+        states.put(concertId, new WarmupState(concertId, onSaleAt, status,
+            Duration.ofNanos(System.nanoTime() - started), now));
+        return status == Status.WARMED;
+    }
+}
@@ -0,0 +1,48 @@
+package com.concertcomparison.infrastructure.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denormalisierter Eintrag eines Concerts im {@link ConcertFacetIndex}.
+ *
+ * Enthält alle Felder, die für die Listen-Darstellung und die Facetten
+ * benötigt werden, damit Browse-Requests ohne Datenbankzugriff beantwortet
+ * werden können. Immutable: Änderungen erzeugen eine neue Instanz.
+ */
+public record ConcertFacetDocument(
+    Long concertId,
+    String name,
+    LocalDateTime date,
+    String venue,
+    String description,
+    long totalSeats,
+    long availableSeats,
+    Double minPrice,
+    Double maxPrice
+) {
+
+    public static final String AVAILABILITY_AVAILABLE = "AVAILABLE";
+    public static final String AVAILABILITY_SOLD_OUT = "SOLD_OUT";
+    public static final String AVAILABILITY_UNKNOWN = "UNKNOWN";
+
+    /**
+     * Liefert den Availability-Status analog zur Konzertliste (UNKNOWN, SOLD_OUT, AVAILABLE).
+     */
+    public String availabilityStatus() {
+        if (totalSeats == 0) {
+            return AVAILABILITY_UNKNOWN;
+        }
+        return availableSeats == 0 ? AVAILABILITY_SOLD_OUT : AVAILABILITY_AVAILABLE;
+    }
+
+    /**
+     * Erzeugt eine Kopie mit angepasster Anzahl verfügbarer Seats (niemals negativ oder größer als totalSeats).
+     */
+    public ConcertFacetDocument withAvailableSeatsDelta(long delta) {
+        long adjusted = Math.max(0, Math.min(totalSeats, availableSeats + delta));
+        return new ConcertFacetDocument(
+            concertId, name, date, venue, description,
+            totalSeats, adjusted, minPrice, maxPrice
+        );
+    }
+}
@@ -0,0 +1,547 @@
+package com.concertcomparison.infrastructure.search;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatAvailabilityAggregate;
+import com.concertcomparison.domain.repository.SeatRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-Memory Facetten-Index über alle Concerts.
+ *
+ * Jedes Concert belegt einen Slot (int). Pro Facetten-Wert (Venue, Monat,
+ * Preis-Bucket, Availability) wird eine {@link BitSet} Posting-Liste der Slots
+ * gehalten. Filter werden per Bit-Intersection kombiniert, Facetten-Zählungen
+ * ergeben sich aus der Kardinalität der Schnittmengen. Damit liefert ein
+ * einzelner Browse-Request Seite und alle Zählungen ohne weitere DB-Queries.
+ *
+ * Aktualisierung:
+ * - Initialer Aufbau beim Start bzw. beim ersten Zugriff ({@link #rebuild()}, höchstens einer gleichzeitig)
+ * - Inkrementell pro Concert ({@link #refreshConcert(Long)}, {@link #removeConcert(Long)})
+ * - Inkrementell pro Seat-Statuswechsel ({@link #applySeatStatusChange(Long, SeatStatus, SeatStatus)})
+ *
+ * Thread-Safety: ReadWriteLock, Lesezugriffe laufen parallel. DB-Zugriffe laufen ohne Lock;
+ * Änderungen, die währenddessen übernommen werden, merkt sich der Ladevorgang und lädt die
+ * betroffenen Concerts danach erneut.
+ */
+@Component
+public class ConcertFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcertFacetIndex.class);
+
+    public static final String FACET_VENUE = "venue";
+    public static final String FACET_MONTH = "month";
+    public static final String FACET_PRICE_BUCKET = "priceBucket";
+    public static final String FACET_AVAILABILITY = "availability";
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final int MAX_RELOAD_ROUNDS = 3;
+
+    private final ConcertRepository concertRepository;
+    private final SeatRepository seatRepository;
+    private final double[] priceBucketBoundaries;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotByConcertId = new HashMap<>();
+    private final List<ConcertFacetDocument> documents = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final Dimension venues = new Dimension(FACET_VENUE);
+    private final Dimension months = new Dimension(FACET_MONTH);
+    private final Dimension priceBuckets = new Dimension(FACET_PRICE_BUCKET);
+    private final Dimension availability = new Dimension(FACET_AVAILABILITY);
+    private final List<Dimension> dimensions = List.of(venues, months, priceBuckets, availability);
+    private final List<PendingLoad> pendingLoads = new ArrayList<>();
+    private final Object rebuildMonitor = new Object();
+
+    private volatile boolean initialized = false;
+
+    public ConcertFacetIndex(ConcertRepository concertRepository,
+                             SeatRepository seatRepository,
+                             @Value("${concert.facets.price-buckets:50,100,200}") double[] priceBucketBoundaries) {
+        this.concertRepository = concertRepository;
+        this.seatRepository = seatRepository;
+        this.priceBucketBoundaries = priceBucketBoundaries.clone();
+        Arrays.sort(this.priceBucketBoundaries);
+    }
+
+    // ==================== INDEX MAINTENANCE ====================
+
+    /**
+     * Baut den Index komplett neu auf (2 Queries: Concerts + Seat-Aggregation).
+     *
+     * Es läuft höchstens ein Rebuild gleichzeitig. Die DB wird außerhalb des Write-Locks
+     * gelesen; Concerts, die sich zwischen Lesen und Übernahme ändern, werden danach
+     * einzeln neu geladen, damit der ältere Snapshot keine Updates überschreibt.
+     */
+    public void rebuild() {
+        synchronized (rebuildMonitor) {
+            PendingLoad load = beginLoad(null);
+            int size;
+            try {
+                List<Concert> concerts = concertRepository.findAll();
+                Map<Long, SeatAvailabilityAggregate> aggregates = seatRepository.aggregateAvailabilityByConcertIds(
+                    concerts.stream().map(Concert::getId).toList()
+                );
+
+                lock.writeLock().lock();
+                try {
+                    slotByConcertId.clear();
+                    documents.clear();
+                    freeSlots.clear();
+                    live.clear();
+                    dimensions.forEach(Dimension::clear);
+
+                    for (Concert concert : concerts) {
+                        insert(toDocument(concert, aggregates.get(concert.getId())));
+                        markChanged(concert.getId(), load);
+                    }
+                    initialized = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                size = concerts.size();
+            } finally {
+                endLoad(load);
+            }
+
+            logger.info("Concert facet index rebuilt: {} concerts, {} changed during rebuild",
+                size, load.changed.size());
+            load.changed.forEach(this::refreshConcert);
+        }
+    }
+
+    /**
+     * Lädt ein einzelnes Concert inkl. Seat-Aggregation neu und ersetzt dessen Index-Eintrag.
+     * Existiert das Concert nicht mehr, wird es aus dem Index entfernt.
+     *
+     * Ändert sich das Concert während des Ladens erneut, wird es noch einmal geladen
+     * (höchstens {@value #MAX_RELOAD_ROUNDS} Runden).
+     *
+     * @param concertId ID des Concerts
+     */
+    public void refreshConcert(Long concertId) {
+        for (int round = 0; round < MAX_RELOAD_ROUNDS; round++) {
+            if (!reloadConcert(concertId)) {
+                return;
+            }
+        }
+        logger.warn("Concert {} kept changing while being reloaded into the facet index", concertId);
+    }
+
+    /**
+     * @return true, wenn das Concert während des Ladens geändert wurde und erneut geladen werden muss
+     */
+    private boolean reloadConcert(Long concertId) {
+        PendingLoad load;
+        lock.writeLock().lock();
+        try {
+            if (!initialized) {
+                // Ein laufender initialer Aufbau lädt das Concert danach erneut
+                markChanged(concertId, null);
+                return false;
+            }
+            load = beginLoad(Set.of(concertId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            var concert = concertRepository.findById(concertId);
+            if (concert.isEmpty()) {
+                removeConcert(concertId, load);
+                return false;
+            }
+
+            SeatAvailabilityAggregate aggregate = seatRepository
+                .aggregateAvailabilityByConcertIds(List.of(concertId))
+                .get(concertId);
+            ConcertFacetDocument document = toDocument(concert.get(), aggregate);
+
+            lock.writeLock().lock();
+            try {
+                markChanged(concertId, load);
+                Integer slot = slotByConcertId.get(concertId);
+                if (slot != null) {
+                    unpost(slot, documents.get(slot));
+                    documents.set(slot, document);
+                    post(slot, document);
+                } else {
+                    insert(document);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            endLoad(load);
+        }
+        return !load.changed.isEmpty();
+    }
+
+    /**
+     * Entfernt ein Concert aus dem Index. Der Slot wird wiederverwendet.
+     *
+     * @param concertId ID des Concerts
+     */
+    public void removeConcert(Long concertId) {
+        removeConcert(concertId, null);
+    }
+
+    private void removeConcert(Long concertId, PendingLoad source) {
+        lock.writeLock().lock();
+        try {
+            markChanged(concertId, source);
+            Integer slot = slotByConcertId.remove(concertId);
+            if (slot == null) {
+                return;
+            }
+            unpost(slot, documents.get(slot));
+            documents.set(slot, null);
+            live.clear(slot);
+            freeSlots.push(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Passt die Anzahl verfügbarer Seats eines Concerts an einen Seat-Statuswechsel an.
+     *
+     * Nur AVAILABLE ↔ nicht-AVAILABLE Übergänge verändern die Zählung; die
+     * Availability-Facette wird bei Bedarf umgehängt (z.B. AVAILABLE → SOLD_OUT).
+     *
+     * @param concertId ID des Concerts
+     * @param oldStatus vorheriger Seat-Status
+     * @param newStatus neuer Seat-Status
+     */
+    public void applySeatStatusChange(Long concertId, SeatStatus oldStatus, SeatStatus newStatus) {
+        long delta = availabilityDelta(oldStatus) - availabilityDelta(newStatus);
+        if (delta == 0) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            markChanged(concertId, null);
+            Integer slot = slotByConcertId.get(concertId);
+            if (slot == null) {
+                return;
+            }
+            ConcertFacetDocument current = documents.get(slot);
+            ConcertFacetDocument updated = current.withAvailableSeatsDelta(-delta);
+
+            if (!current.availabilityStatus().equals(updated.availabilityStatus())) {
+                availability.remove(current.availabilityStatus(), slot);
+                availability.add(updated.availabilityStatus(), slot);
+            }
+            documents.set(slot, updated);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== SEARCH ====================
+
+    /**
+     * Liefert die gefilterte, sortierte Seite plus alle Facetten-Zählungen.
+     *
+     * Sortierung über Pageable: date (Default), name oder price (minPrice, nulls last).
+     *
+     * @param query Filter pro Dimension
+     * @param pageable Seite, Größe und Sortierung
+     * @return Seite + Facetten
+     */
+    public ConcertFacetResult search(ConcertFacetQuery query, Pageable pageable) {
+        if (!initialized) {
+            synchronized (rebuildMonitor) {
+                if (!initialized) {
+                    rebuild();
+                }
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Dimension, BitSet> filters = new LinkedHashMap<>();
+            addFilter(filters, venues, query.venues());
+            addFilter(filters, months, query.months());
+            addFilter(filters, priceBuckets, query.priceBuckets());
+            addFilter(filters, availability, query.availability());
+
+            BitSet matches = (BitSet) live.clone();
+            filters.values().forEach(matches::and);
+
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            for (Dimension dimension : dimensions) {
+                BitSet base = (BitSet) live.clone();
+                filters.forEach((filtered, bits) -> {
+                    if (filtered != dimension) {
+                        base.and(bits);
+                    }
+                });
+                facets.put(dimension.name, dimension.count(base));
+            }
+
+            List<ConcertFacetDocument> hits = new ArrayList<>(matches.cardinality());
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                hits.add(documents.get(slot));
+            }
+            hits.sort(comparatorFor(pageable.getSort()));
+
+            List<ConcertFacetDocument> content = hits;
+            if (pageable.isPaged()) {
+                int from = (int) Math.min(pageable.getOffset(), hits.size());
+                int to = Math.min(from + pageable.getPageSize(), hits.size());
+                content = List.copyOf(hits.subList(from, to));
+            }
+
+            return new ConcertFacetResult(content, hits.size(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Liefert das Label des Preis-Buckets für einen Preis (z.B. "0-50", "200+").
+     *
+     * @param price Preis (null = kein Bucket)
+     * @return Bucket-Label oder null
+     */
+    public String priceBucketOf(Double price) {
+        if (price == null) {
+            return null;
+        }
+        double lower = 0;
+        for (double boundary : priceBucketBoundaries) {
+            if (price < boundary) {
+                return formatPrice(lower) + "-" + formatPrice(boundary);
+            }
+            lower = boundary;
+        }
+        return formatPrice(lower) + "+";
+    }
+
+    /**
+     * Anzahl der indizierten Concerts.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    // ==================== INTERNALS ====================
+
+    private PendingLoad beginLoad(Set<Long> scope) {
+        PendingLoad load = new PendingLoad(scope);
+        lock.writeLock().lock();
+        try {
+            pendingLoads.add(load);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return load;
+    }
+
+    private void endLoad(PendingLoad load) {
+        lock.writeLock().lock();
+        try {
+            pendingLoads.remove(load);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Merkt eine Änderung für alle laufenden Ladevorgänge (außer dem auslösenden),
+     * deren Snapshot das Concert enthält. Aufruf nur unter Write-Lock.
+     */
+    private void markChanged(Long concertId, PendingLoad source) {
+        for (PendingLoad load : pendingLoads) {
+            if (load != source && (load.scope == null || load.scope.contains(concertId))) {
+                load.changed.add(concertId);
+            }
+        }
+    }
+
+    private void insert(ConcertFacetDocument document) {
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = documents.size();
+            documents.add(document);
+        } else {
+            slot = freeSlots.pop();
+            documents.set(slot, document);
+        }
+        slotByConcertId.put(document.concertId(), slot);
+        live.set(slot);
+        post(slot, document);
+    }
+
+    private void post(int slot, ConcertFacetDocument document) {
+        venues.add(document.venue(), slot);
+        months.add(monthOf(document), slot);
+        priceBuckets.add(priceBucketOf(document.minPrice()), slot);
+        availability.add(document.availabilityStatus(), slot);
+    }
+
+    private void unpost(int slot, ConcertFacetDocument document) {
+        venues.remove(document.venue(), slot);
+        months.remove(monthOf(document), slot);
+        priceBuckets.remove(priceBucketOf(document.minPrice()), slot);
+        availability.remove(document.availabilityStatus(), slot);
+    }
+
+    private static void addFilter(Map<Dimension, BitSet> filters, Dimension dimension, List<String> values) {
+        if (!values.isEmpty()) {
+            filters.put(dimension, dimension.union(values));
+        }
+    }
+
+    private static String monthOf(ConcertFacetDocument document) {
+        return document.date() == null ? null : document.date().format(MONTH_FORMAT);
+    }
+
+    private static long availabilityDelta(SeatStatus status) {
+        return status == SeatStatus.AVAILABLE ? 1 : 0;
+    }
+
+    private static String formatPrice(double value) {
+        return value == Math.rint(value)
+            ? String.valueOf((long) value)
+            : String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static Comparator<ConcertFacetDocument> comparatorFor(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("date"));
+        Comparator<ConcertFacetDocument> comparator = switch (order.getProperty().toLowerCase(Locale.ROOT)) {
+            case "name" -> Comparator.comparing(ConcertFacetDocument::name, String.CASE_INSENSITIVE_ORDER);
+            case "price" -> Comparator.comparing(ConcertFacetDocument::minPrice,
+                Comparator.nullsLast(Double::compareTo));
+            default -> Comparator.comparing(ConcertFacetDocument::date,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        };
+        if (order.isDescending()) {
+            comparator = comparator.reversed();
+        }
+        return comparator.thenComparing(ConcertFacetDocument::concertId);
+    }
+
+    private static ConcertFacetDocument toDocument(Concert concert, SeatAvailabilityAggregate aggregate) {
+        return new ConcertFacetDocument(
+            concert.getId(),
+            concert.getName(),
+            concert.getDate(),
+            concert.getVenue(),
+            concert.getDescription(),
+            aggregate != null ? aggregate.totalSeats() : 0L,
+            aggregate != null ? aggregate.availableSeats() : 0L,
+            aggregate != null ? aggregate.minPrice() : null,
+            aggregate != null ? aggregate.maxPrice() : null
+        );
+    }
+
+    /**
+     * Ein laufender Ladevorgang aus der DB (scope null = alle Concerts) und die
+     * Concerts, die sich seitdem im Index geändert haben.
+     */
+    private static final class PendingLoad {
+
+        private final Set<Long> scope;
+        private final Set<Long> changed = new HashSet<>();
+
+        private PendingLoad(Set<Long> scope) {
+            this.scope = scope;
+        }
+    }
+
+    /**
+     * Posting-Listen einer Facetten-Dimension (Wert → Slots).
+     */
+    private static final class Dimension {
+
+        private final String name;
+        private final Map<String, BitSet> postings = new TreeMap<>();
+
+        private Dimension(String name) {
+            this.name = name;
+        }
+
+        void add(String value, int slot) {
+            if (value != null) {
+                postings.computeIfAbsent(value, key -> new BitSet()).set(slot);
+            }
+        }
+
+        void remove(String value, int slot) {
+            if (value == null) {
+                return;
+            }
+            BitSet bits = postings.get(value);
+            if (bits != null) {
+                bits.clear(slot);
+                if (bits.isEmpty()) {
+                    postings.remove(value);
+                }
+            }
+        }
+
+        BitSet union(List<String> values) {
+            BitSet result = new BitSet();
+            for (String value : values) {
+                BitSet bits = postings.get(value);
+                if (bits != null) {
+                    result.or(bits);
+                }
+            }
+            return result;
+        }
+
+        Map<String, Long> count(BitSet base) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            postings.forEach((value, bits) -> {
+                BitSet intersection = (BitSet) bits.clone();
+                intersection.and(base);
+                int cardinality = intersection.cardinality();
+                if (cardinality > 0) {
+                    counts.put(value, (long) cardinality);
+                }
+            });
+            return counts;
+        }
+
+        void clear() {
+            postings.clear();
+        }
+    }
+}
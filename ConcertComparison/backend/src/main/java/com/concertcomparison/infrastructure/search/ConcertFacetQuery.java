@@ -0,0 +1,33 @@
+package com.concertcomparison.infrastructure.search;
+
+import java.util.List;
+
+/**
+ * Filter für den {@link ConcertFacetIndex}.
+ *
+ * Innerhalb einer Dimension werden die Werte ODER-verknüpft,
+ * zwischen den Dimensionen UND-verknüpft. Leere Listen bedeuten "kein Filter".
+ *
+ * @param venues Exakte Venue-Werte (wie in der Venue-Facette geliefert)
+ * @param months Monate im Format yyyy-MM
+ * @param priceBuckets Preis-Buckets (z.B. "50-100", "200+")
+ * @param availability Availability-Status (AVAILABLE, SOLD_OUT, UNKNOWN)
+ */
+public record ConcertFacetQuery(
+    List<String> venues,
+    List<String> months,
+    List<String> priceBuckets,
+    List<String> availability
+) {
+
+    public ConcertFacetQuery {
+        venues = venues == null ? List.of() : List.copyOf(venues);
+        months = months == null ? List.of() : List.copyOf(months);
+        priceBuckets = priceBuckets == null ? List.of() : List.copyOf(priceBuckets);
+        availability = availability == null ? List.of() : List.copyOf(availability);
+    }
+
+    public static ConcertFacetQuery unfiltered() {
+        return new ConcertFacetQuery(List.of(), List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,20 @@
+package com.concertcomparison.infrastructure.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ergebnis einer Facetten-Suche: die angeforderte Seite plus alle Facetten-Zählungen.
+ *
+ * Facetten werden "disjunktiv" gezählt: Die Zählung einer Dimension berücksichtigt
+ * alle Filter außer dem eigenen, damit die UI alternative Werte anbieten kann.
+ *
+ * @param content Concerts der angeforderten Seite
+ * @param totalElements Anzahl aller Treffer
+ * @param facets Facette (venue, month, priceBucket, availability) → Wert → Anzahl
+ */
+public record ConcertFacetResult(
+    List<ConcertFacetDocument> content,
+    long totalElements,
+    Map<String, Map<String, Long>> facets
+) {}
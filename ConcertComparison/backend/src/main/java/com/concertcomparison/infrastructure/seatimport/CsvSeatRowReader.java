@@ -0,0 +1,114 @@
+package com.concertcomparison.infrastructure.seatimport;
+
+import com.concertcomparison.presentation.dto.CreateSeatRequestDTO;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV-Reader für den Seat-Import.
+ *
+ * Die erste nicht-leere Zeile ist die Kopfzeile; die Spalten werden über ihren
+ * Namen zugeordnet (Reihenfolge beliebig, Groß-/Kleinschreibung egal).
+ * Felder dürfen in doppelte Anführungszeichen gesetzt werden ("" für ein
+ * Anführungszeichen im Feld). Zeilenumbrüche innerhalb von Feldern werden nicht unterstützt.
+ */
+class CsvSeatRowReader extends SeatRowReader {
+
+    private static final String[] COLUMNS = {"seatnumber", "category", "block", "row", "number", "price"};
+
+    private int[] columnIndex;
+
+    CsvSeatRowReader(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    protected SeatImportRow parse(long lineNumber, String line) {
+        List<String> fields = split(line);
+
+        if (columnIndex == null) {
+            columnIndex = resolveHeader(fields);
+            return null;
+        }
+
+        if (fields.size() < maxIndex() + 1) {
+            return SeatImportRow.failed(lineNumber,
+                "Erwartet mindestens " + (maxIndex() + 1) + " Spalten, gefunden: " + fields.size());
+        }
+
+        String priceValue = field(fields, 5);
+        Double price = null;
+        if (!priceValue.isEmpty()) {
+            try {
+                price = Double.valueOf(priceValue);
+            } catch (NumberFormatException e) {
+                return SeatImportRow.failed(lineNumber, "Ungültiger Preis: " + priceValue);
+            }
+        }
+
+        return SeatImportRow.parsed(lineNumber, new CreateSeatRequestDTO(
+            field(fields, 0), field(fields, 1), field(fields, 2),
+            field(fields, 3), field(fields, 4), price));
+    }
+
+    private int[] resolveHeader(List<String> header) {
+        int[] index = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            index[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (header.get(j).trim().toLowerCase(Locale.ROOT).equals(COLUMNS[i])) {
+                    index[i] = j;
+                }
+            }
+            if (index[i] < 0) {
+                throw new IllegalArgumentException(
+                    "CSV-Kopfzeile ohne Spalte '" + COLUMNS[i] + "' (erwartet: seatNumber,category,block,row,number,price)");
+            }
+        }
+        return index;
+    }
+
+    private int maxIndex() {
+        int max = 0;
+        for (int index : columnIndex) {
+            max = Math.max(max, index);
+        }
+        return max;
+    }
+
+    private String field(List<String> fields, int column) {
+        return fields.get(columnIndex[column]).trim();
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
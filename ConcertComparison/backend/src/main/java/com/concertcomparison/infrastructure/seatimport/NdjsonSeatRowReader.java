@@ -0,0 +1,30 @@
+package com.concertcomparison.infrastructure.seatimport;
+
+import com.concertcomparison.presentation.dto.CreateSeatRequestDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.InputStream;
+
+/**
+ * NDJSON-Reader: jede Zeile ist ein JSON-Objekt im Format von CreateSeatRequestDTO.
+ */
+class NdjsonSeatRowReader extends SeatRowReader {
+
+    private final ObjectReader objectReader;
+
+    NdjsonSeatRowReader(InputStream in, ObjectMapper objectMapper) {
+        super(in);
+        this.objectReader = objectMapper.readerFor(CreateSeatRequestDTO.class);
+    }
+
+    @Override
+    protected SeatImportRow parse(long lineNumber, String line) {
+        try {
+            return SeatImportRow.parsed(lineNumber, objectReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return SeatImportRow.failed(lineNumber, "Ungültiges JSON: " + e.getOriginalMessage());
+        }
+    }
+}
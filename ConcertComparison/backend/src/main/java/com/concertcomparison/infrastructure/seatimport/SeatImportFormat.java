@@ -0,0 +1,48 @@
+package com.concertcomparison.infrastructure.seatimport;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Unterstützte Formate für den Streaming-Seat-Import.
+ */
+public enum SeatImportFormat {
+
+    /**
+     * CSV mit Kopfzeile (seatNumber,category,block,row,number,price).
+     */
+    CSV("text/csv"),
+
+    /**
+     * Newline-delimited JSON: ein CreateSeatRequestDTO-Objekt pro Zeile.
+     */
+    NDJSON("application/x-ndjson");
+
+    private final MediaType mediaType;
+
+    SeatImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Ermittelt das Format anhand des Content-Types (Parameter wie charset werden ignoriert).
+     *
+     * @param contentType Content-Type des Requests (darf null sein)
+     * @return Format oder empty, wenn nicht unterstützt
+     */
+    public static Optional<SeatImportFormat> fromContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return Optional.empty();
+        }
+        MediaType requested = MediaType.parseMediaType(contentType);
+        return Arrays.stream(values())
+            .filter(format -> format.mediaType.equalsTypeAndSubtype(requested))
+            .findFirst();
+    }
+}
@@ -0,0 +1,25 @@
+package com.concertcomparison.infrastructure.seatimport;
+
+import com.concertcomparison.presentation.dto.CreateSeatRequestDTO;
+
+/**
+ * Eine gelesene Zeile des Seat-Imports: entweder ein geparster Seat oder ein Parse-Fehler.
+ *
+ * @param lineNumber Zeilennummer in der Eingabe (1-basiert)
+ * @param seat       geparster Seat oder {@code null} bei Parse-Fehler
+ * @param error      Fehlermeldung oder {@code null}
+ */
+public record SeatImportRow(long lineNumber, CreateSeatRequestDTO seat, String error) {
+
+    public static SeatImportRow parsed(long lineNumber, CreateSeatRequestDTO seat) {
+        return new SeatImportRow(lineNumber, seat, null);
+    }
+
+    public static SeatImportRow failed(long lineNumber, String error) {
+        return new SeatImportRow(lineNumber, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.concertcomparison.infrastructure.seatimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Liest Seat-Zeilen inkrementell aus einem Stream (forward-only, zeilenweise).
+ *
+ * Es wird immer nur die aktuelle Zeile gehalten - der Speicherbedarf ist unabhängig
+ * von der Größe der Eingabe. Leere Zeilen werden übersprungen.
+ */
+public abstract class SeatRowReader implements Iterator<SeatImportRow>, Closeable {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private SeatImportRow next;
+
+    protected SeatRowReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Öffnet einen Reader für das angegebene Format.
+     */
+    public static SeatRowReader open(SeatImportFormat format, InputStream in, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new CsvSeatRowReader(in);
+            case NDJSON -> new NdjsonSeatRowReader(in, objectMapper);
+        };
+    }
+
+    /**
+     * Parst eine nicht-leere Zeile.
+     *
+     * @return geparste Zeile oder {@code null}, wenn die Zeile keine Daten enthält (z.B. Kopfzeile)
+     */
+    protected abstract SeatImportRow parse(long lineNumber, String line);
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            String line = readLine();
+            if (line == null) {
+                return false;
+            }
+            lineNumber++;
+            if (!line.isBlank()) {
+                next = parse(lineNumber, line);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public SeatImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SeatImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Seat-Import konnte nicht gelesen werden", e);
+        }
+    }
+}
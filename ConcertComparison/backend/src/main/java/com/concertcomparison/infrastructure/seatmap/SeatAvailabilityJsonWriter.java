@@ -0,0 +1,99 @@
+package com.concertcomparison.infrastructure.seatmap;
+
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.SeatRowView;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Schreibt die Seat-Map (GET /api/events/{id}/seats) direkt als JSON-Tokens.
+ *
+ * Erzeugt exakt das Format von SeatAvailabilityResponseDTO
+ * ({@code concertId}, {@code seats[]}, {@code availabilityByCategory[]}), aber ohne
+ * Zwischenlisten: Jede Zeile wird beim Lesen geschrieben und in denselben Durchlauf
+ * in die Kategorie-Zähler aufgenommen. Der Speicherbedarf hängt damit nur von der
+ * Anzahl der Kategorien ab, nicht von der Anzahl der Seats.
+ */
+@Component
+public class SeatAvailabilityJsonWriter {
+
+    private final JsonFactory jsonFactory;
+
+    public SeatAvailabilityJsonWriter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Schreibt die Seat-Map eines Konzerts.
+     *
+     * @param concertId ID des Konzerts
+     * @param rows      Seat-Zeilen (forward-only, werden genau einmal gelesen)
+     * @param out       Ziel (wird nicht geschlossen)
+     */
+    public void write(Long concertId, Iterator<SeatRowView> rows, OutputStream out) throws IOException {
+        // Kategorie -> [available, held, sold], alphabetisch sortiert wie im DTO-Pfad
+        Map<String, int[]> countsByCategory = new TreeMap<>();
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            generator.writeStringField("concertId", String.valueOf(concertId));
+
+            generator.writeArrayFieldStart("seats");
+            while (rows.hasNext()) {
+                SeatRowView row = rows.next();
+                writeSeat(generator, row);
+                countsByCategory.computeIfAbsent(row.category(), category -> new int[3])[slotOf(row.status())]++;
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("availabilityByCategory");
+            for (Map.Entry<String, int[]> entry : countsByCategory.entrySet()) {
+                int[] counts = entry.getValue();
+                generator.writeStartObject();
+                generator.writeStringField("category", entry.getKey());
+                generator.writeNumberField("available", counts[0]);
+                generator.writeNumberField("held", counts[1]);
+                generator.writeNumberField("sold", counts[2]);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeSeat(JsonGenerator generator, SeatRowView row) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", String.valueOf(row.seatId()));
+        generator.writeStringField("block", row.block());
+        generator.writeStringField("category", row.category());
+        generator.writeStringField("row", row.row());
+        generator.writeStringField("number", row.number());
+        if (row.price() != null) {
+            generator.writeNumberField("price", row.price());
+        } else {
+            generator.writeNullField("price");
+        }
+        generator.writeStringField("status", row.status().name());
+        generator.writeEndObject();
+    }
+
+    private static int slotOf(SeatStatus status) {
+        return switch (status) {
+            case AVAILABLE -> 0;
+            case HELD -> 1;
+            case SOLD -> 2;
+        };
+    }
+}
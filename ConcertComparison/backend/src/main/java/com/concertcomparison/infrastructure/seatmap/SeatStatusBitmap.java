@@ -0,0 +1,140 @@
+package com.concertcomparison.infrastructure.seatmap;
+
+import com.concertcomparison.domain.model.SeatStatus;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Gepackter Seat-Status eines Konzerts: 2 Bit pro Seat in einem {@code long[]}.
+ *
+ * Index = Position im Seat-Layout (Seat-ID aufsteigend). Seat i liegt in
+ * Wort {@code i / 32} an Bit-Position {@code (i % 32) * 2}.
+ * Codes: 0 = AVAILABLE, 1 = HELD, 2 = SOLD.
+ *
+ * Binärformat des Snapshots (Big-Endian):
+ * <pre>
+ * [layoutVersion: int64][seatCount: int32][words: int64 * ceil(seatCount / 32)]
+ * </pre>
+ *
+ * Der Snapshot wird nur nach Änderungen neu kodiert; alle Requests zwischen zwei
+ * Änderungen teilen sich dasselbe (unveränderte) Byte-Array.
+ */
+public final class SeatStatusBitmap {
+
+    public static final String MEDIA_TYPE = "application/vnd.concert.seat-status-bitmap";
+
+    private static final int BITS_PER_SEAT = 2;
+    private static final int SEATS_PER_WORD = Long.SIZE / BITS_PER_SEAT;
+    private static final long SEAT_MASK = 0b11L;
+    private static final int HEADER_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final long layoutVersion;
+    private final long[] seatIds;
+    private final long[] words;
+    private final long loadedAtNanos;
+
+    private byte[] snapshot;
+
+    /**
+     * @param layoutVersion Layout-Version des Konzerts
+     * @param seatIds Seat-IDs aufsteigend sortiert
+     * @param statuses Status je Seat (gleiche Reihenfolge wie seatIds)
+     */
+    public SeatStatusBitmap(long layoutVersion, long[] seatIds, SeatStatus[] statuses) {
+        if (seatIds.length != statuses.length) {
+            throw new IllegalArgumentException("seatIds und statuses müssen gleich lang sein");
+        }
+        this.layoutVersion = layoutVersion;
+        this.seatIds = seatIds;
+        this.words = new long[(seatIds.length + SEATS_PER_WORD - 1) / SEATS_PER_WORD];
+        this.loadedAtNanos = System.nanoTime();
+        for (int i = 0; i < statuses.length; i++) {
+            write(i, statuses[i]);
+        }
+    }
+
+    /**
+     * Setzt den Status eines Seats.
+     *
+     * @param seatId ID des Seats
+     * @param status neuer Status
+     * @return false, wenn der Seat nicht Teil dieses Layouts ist
+     */
+    public synchronized boolean set(long seatId, SeatStatus status) {
+        int index = Arrays.binarySearch(seatIds, seatId);
+        if (index < 0) {
+            return false;
+        }
+        if (read(index) != status) {
+            write(index, status);
+            snapshot = null;
+        }
+        return true;
+    }
+
+    public synchronized SeatStatus get(int index) {
+        return read(index);
+    }
+
+    /**
+     * @param seatId ID des Seats
+     * @return Status des Seats oder {@code null}, wenn der Seat nicht Teil dieses Layouts ist
+     */
+    public synchronized SeatStatus statusOf(long seatId) {
+        int index = Arrays.binarySearch(seatIds, seatId);
+        return index < 0 ? null : read(index);
+    }
+
+    /**
+     * Liefert den kodierten Snapshot. Das Array darf vom Aufrufer nicht verändert werden.
+     */
+    public synchronized byte[] snapshot() {
+        if (snapshot == null) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + words.length * Long.BYTES);
+            buffer.putLong(layoutVersion);
+            buffer.putInt(seatIds.length);
+            for (long word : words) {
+                buffer.putLong(word);
+            }
+            snapshot = buffer.array();
+        }
+        return snapshot;
+    }
+
+    public long getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    long getLoadedAtNanos() {
+        return loadedAtNanos;
+    }
+
+    private SeatStatus read(int index) {
+        int code = (int) ((words[index / SEATS_PER_WORD] >>> shift(index)) & SEAT_MASK);
+        return switch (code) {
+            case 0 -> SeatStatus.AVAILABLE;
+            case 1 -> SeatStatus.HELD;
+            default -> SeatStatus.SOLD;
+        };
+    }
+
+    private void write(int index, SeatStatus status) {
+        long code = switch (status) {
+            case AVAILABLE -> 0L;
+            case HELD -> 1L;
+            case SOLD -> 2L;
+        };
+        int word = index / SEATS_PER_WORD;
+        int shift = shift(index);
+        words[word] = (words[word] & ~(SEAT_MASK << shift)) | (code << shift);
+    }
+
+    private static int shift(int index) {
+        return (index % SEATS_PER_WORD) * BITS_PER_SEAT;
+    }
+}
@@ -0,0 +1,121 @@
+package com.concertcomparison.infrastructure.seatmap;
+
+import com.concertcomparison.domain.exception.ConcertNotFoundException;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.domain.repository.SeatStatusView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hält pro Konzert eine {@link SeatStatusBitmap} im Speicher.
+ *
+ * - Laden beim ersten Zugriff (eine schlanke ID/Status-Query)
+ * - Inkrementelle Updates aus SeatStatusChangedEvents
+ * - Verwerfen bei Layout-Änderungen (ConcertChangedEvent)
+ * - Neu laden nach max-age, damit nicht per Event abgebildete Übergänge
+ *   (z.B. direkte Datenbank-Änderungen) den Bitmap-Stand nicht dauerhaft verfälschen
+ *
+ * Laden, Updates und Verwerfen laufen pro Konzert unter demselben Lock: ein Event, das
+ * während der Query eintrifft, wird erst danach auf die neue Bitmap angewendet, statt
+ * vom älteren Snapshot überschrieben zu werden. Gleichzeitige Misses laden nur einmal.
+ */
+@Component
+public class SeatStatusBitmapRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatStatusBitmapRegistry.class);
+
+    private final ConcertRepository concertRepository;
+    private final SeatRepository seatRepository;
+    private final long maxAgeNanos;
+    private final Map<Long, SeatStatusBitmap> bitmaps = new ConcurrentHashMap<>();
+    private final Map<Long, Object> locks = new ConcurrentHashMap<>();
+
+    public SeatStatusBitmapRegistry(ConcertRepository concertRepository,
+                                    SeatRepository seatRepository,
+                                    @Value("${concert.seat-bitmap.max-age-seconds:300}") long maxAgeSeconds) {
+        this.concertRepository = concertRepository;
+        this.seatRepository = seatRepository;
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+    }
+
+    /**
+     * Liefert die Bitmap eines Konzerts, lädt sie bei Bedarf.
+     *
+     * @param concertId ID des Konzerts
+     * @return aktuelle Bitmap
+     * @throws ConcertNotFoundException wenn das Konzert nicht existiert
+     */
+    public SeatStatusBitmap getOrLoad(Long concertId) {
+        SeatStatusBitmap bitmap = bitmaps.get(concertId);
+        if (isFresh(bitmap)) {
+            return bitmap;
+        }
+
+        synchronized (lockFor(concertId)) {
+            bitmap = bitmaps.get(concertId);
+            if (isFresh(bitmap)) {
+                return bitmap;
+            }
+            SeatStatusBitmap loaded = load(concertId);
+            bitmaps.put(concertId, loaded);
+            return loaded;
+        }
+    }
+
+    /**
+     * Übernimmt einen Seat-Statuswechsel, falls die Bitmap des Konzerts geladen ist.
+     */
+    public void applyStatusChange(Long concertId, Long seatId, SeatStatus newStatus) {
+        synchronized (lockFor(concertId)) {
+            SeatStatusBitmap bitmap = bitmaps.get(concertId);
+            if (bitmap != null && !bitmap.set(seatId, newStatus)) {
+                // Seat unbekannt → Layout hat sich geändert, beim nächsten Zugriff neu laden
+                bitmaps.remove(concertId, bitmap);
+            }
+        }
+    }
+
+    /**
+     * Verwirft die Bitmap eines Konzerts (z.B. nach replaceSeats).
+     */
+    public void invalidate(Long concertId) {
+        synchronized (lockFor(concertId)) {
+            bitmaps.remove(concertId);
+        }
+    }
+
+    private boolean isFresh(SeatStatusBitmap bitmap) {
+        return bitmap != null && System.nanoTime() - bitmap.getLoadedAtNanos() < maxAgeNanos;
+    }
+
+    private Object lockFor(Long concertId) {
+        return locks.computeIfAbsent(concertId, id -> new Object());
+    }
+
+    private SeatStatusBitmap load(Long concertId) {
+        long layoutVersion = concertRepository.findById(concertId)
+            .orElseThrow(() -> new ConcertNotFoundException(concertId))
+            .getSeatLayoutVersion();
+        List<SeatStatusView> views = seatRepository.findStatusViewsByConcertIdOrderById(concertId);
+
+        long[] seatIds = new long[views.size()];
+        SeatStatus[] statuses = new SeatStatus[views.size()];
+        for (int i = 0; i < views.size(); i++) {
+            seatIds[i] = views.get(i).seatId();
+            statuses[i] = views.get(i).status();
+        }
+
+        logger.debug("Loaded seat status bitmap for concert {}: {} seats, layout version {}",
+            concertId, seatIds.length, layoutVersion);
+        return new SeatStatusBitmap(layoutVersion, seatIds, statuses);
+    }
+}
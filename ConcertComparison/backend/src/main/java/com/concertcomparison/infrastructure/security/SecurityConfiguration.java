@@ -93,6 +93,9 @@ public class SecurityConfiguration {
                         // Concerts - Read-Only (GET) für alle
                         .requestMatchers(HttpMethod.GET, "/api/concerts/**").permitAll()
                         
+                        // Concerts - Vergleich ist ein lesender POST für alle
+                        .requestMatchers(HttpMethod.POST, "/api/concerts/compare").permitAll()
+                        
                         // Concerts - Admin-Only (POST, PUT, DELETE)
                         .requestMatchers(HttpMethod.POST, "/api/concerts/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/concerts/**").hasRole("ADMIN")
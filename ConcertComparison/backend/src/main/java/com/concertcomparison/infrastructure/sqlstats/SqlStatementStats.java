@@ -0,0 +1,87 @@
+package com.concertcomparison.infrastructure.sqlstats;
+
+import java.time.Duration;
+
+/**
+ * SQL-Zähler für einen Messbereich (typischerweise ein HTTP-Request).
+ *
+ * Der Bereich ist an den Thread gebunden: {@link #start()} öffnet ihn, {@link #stop()}
+ * schließt ihn. Bereiche lassen sich schachteln (z.B. ein Test um einen MockMvc-Aufruf),
+ * beim Schließen werden die Zähler in den umgebenden Bereich übernommen.
+ *
+ * Gezählt wird von {@link SqlStatsDataSource}: ausgeführte Statements (ein Batch zählt
+ * einmal), über ResultSets gelesene Zeilen und die Zeit in den execute-Aufrufen.
+ * Statements auf anderen Threads (z.B. @Async) zählen nicht zum Request.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementStats parent;
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+
+    private SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Öffnet einen neuen Messbereich auf dem aktuellen Thread.
+     *
+     * @return Zähler des neuen Bereichs
+     */
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Schließt den innersten Messbereich und übernimmt seine Zähler in den umgebenden.
+     *
+     * @return Zähler des geschlossenen Bereichs oder null, wenn keiner offen war
+     */
+    public static SqlStatementStats stop() {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) {
+            return null;
+        }
+        if (stats.parent == null) {
+            CURRENT.remove();
+        } else {
+            stats.parent.statements += stats.statements;
+            stats.parent.rows += stats.rows;
+            stats.parent.jdbcNanos += stats.jdbcNanos;
+            CURRENT.set(stats.parent);
+        }
+        return stats;
+    }
+
+    static void recordStatement(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    static void recordRow() {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.rows++;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public Duration jdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+}
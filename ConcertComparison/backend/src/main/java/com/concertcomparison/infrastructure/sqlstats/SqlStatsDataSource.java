@@ -0,0 +1,91 @@
+package com.concertcomparison.infrastructure.sqlstats;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource, die jedes ausgeführte Statement in {@link SqlStatementStats} zählt.
+ *
+ * Connections, Statements und ResultSets werden per JDK-Proxy umhüllt; gemessen werden
+ * nur die execute-Aufrufe und {@link ResultSet#next()}, alles andere wird unverändert
+ * durchgereicht. Ohne offenen Messbereich bleibt es bei einem ThreadLocal-Zugriff pro Aufruf.
+ */
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+    public SqlStatsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password));
+    }
+
+    private static <T> T proxy(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(
+            SqlStatsDataSource.class.getClassLoader(), new Class<?>[]{type}, new CountingHandler(target)));
+    }
+
+    private static final class CountingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        private CountingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+
+            boolean execute = target instanceof Statement && name.startsWith("execute");
+            long start = execute ? System.nanoTime() : 0L;
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (execute) {
+                    SqlStatementStats.recordStatement(System.nanoTime() - start);
+                }
+            }
+
+            if (target instanceof ResultSet && name.equals("next") && Boolean.TRUE.equals(result)) {
+                SqlStatementStats.recordRow();
+            }
+            return wrap(method.getReturnType(), result);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Object wrap(Class<?> returnType, Object result) {
+            if (result == null || !returnType.isInterface()) {
+                return result;
+            }
+            if (Statement.class.isAssignableFrom(returnType) || ResultSet.class.isAssignableFrom(returnType)) {
+                return proxy((Class) returnType, result);
+            }
+            return result;
+        }
+    }
+}
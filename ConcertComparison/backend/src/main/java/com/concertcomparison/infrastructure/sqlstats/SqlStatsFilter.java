@@ -0,0 +1,98 @@
+package com.concertcomparison.infrastructure.sqlstats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Misst pro HTTP-Request die ausgeführten SQL-Statements, gelesenen Zeilen und JDBC-Zeit.
+ *
+ * Metriken (Micrometer), getaggt mit method und uri (Pattern des Handlers, nicht die konkrete URL):
+ * - sql.request.statements - Statements pro Request
+ * - sql.request.rows - über ResultSets gelesene Zeilen pro Request
+ * - sql.request.time - JDBC-Zeit pro Request
+ *
+ * Mit {@code headers=true} kommen die Werte zusätzlich als X-SQL-Statements, X-SQL-Rows und
+ * X-SQL-Time-Ms in die Response (nur außerhalb von Produktion). Dafür wird der Body gepuffert,
+ * damit auch Lazy Loading während der Serialisierung mitgezählt wird, bevor die Header
+ * geschrieben sind. Überschreitet ein Request {@code warn-statements}, wird eine Warnung geloggt.
+ */
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headers;
+    private final int warnStatements;
+
+    public SqlStatsFilter(MeterRegistry meterRegistry, boolean headers, int warnStatements) {
+        this.meterRegistry = meterRegistry;
+        this.headers = headers;
+        this.warnStatements = warnStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = headers ? new ContentCachingResponseWrapper(response) : null;
+        SqlStatementStats.start();
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlStatementStats stats = SqlStatementStats.stop();
+            record(request, stats);
+            if (buffered != null) {
+                buffered.setHeader(STATEMENTS_HEADER, String.valueOf(stats.statements()));
+                buffered.setHeader(ROWS_HEADER, String.valueOf(stats.rows()));
+                buffered.setHeader(TIME_HEADER,
+                    String.format(Locale.ROOT, "%.3f", stats.jdbcTime().toNanos() / 1_000_000.0));
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String method = request.getMethod();
+
+        DistributionSummary.builder("sql.request.statements")
+            .tag("method", method).tag("uri", uri)
+            .description("SQL-Statements pro HTTP-Request")
+            .register(meterRegistry)
+            .record(stats.statements());
+        DistributionSummary.builder("sql.request.rows")
+            .tag("method", method).tag("uri", uri)
+            .description("Gelesene Zeilen pro HTTP-Request")
+            .register(meterRegistry)
+            .record(stats.rows());
+        Timer.builder("sql.request.time")
+            .tag("method", method).tag("uri", uri)
+            .description("JDBC-Zeit pro HTTP-Request")
+            .register(meterRegistry)
+            .record(stats.jdbcTime());
+
+        if (stats.statements() > warnStatements) {
+            logger.warn("{} {} executed {} SQL statements (budget {}), rows={}, jdbcTime={}",
+                method, uri, stats.statements(), warnStatements, stats.rows(), stats.jdbcTime());
+        }
+    }
+}
@@ -1,11 +1,29 @@
 package com.concertcomparison.presentation.controller;
 
 import com.concertcomparison.application.service.ConcertApplicationService;
+import com.concertcomparison.application.service.ConcertComparisonService;
+import com.concertcomparison.application.service.SeatImportService;
+import com.concertcomparison.application.service.SeatLayoutApplicationService;
+import com.concertcomparison.domain.exception.ResourceNotFoundException;
 import com.concertcomparison.domain.repository.ConcertFilterCriteria;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker.ListingVersion;
+import com.concertcomparison.infrastructure.cache.EncodedResponse;
+import com.concertcomparison.infrastructure.cache.ResponseByteCache;
+import com.concertcomparison.infrastructure.search.ConcertFacetQuery;
+import com.concertcomparison.infrastructure.seatimport.SeatImportFormat;
+import com.concertcomparison.presentation.dto.CompareConcertsRequestDTO;
+import com.concertcomparison.presentation.dto.ConcertComparisonResponseDTO;
 import com.concertcomparison.presentation.dto.CreateConcertRequestDTO;
 import com.concertcomparison.presentation.dto.CreateSeatsRequestDTO;
 import com.concertcomparison.presentation.dto.ConcertResponseDTO;
+import com.concertcomparison.presentation.dto.FacetedConcertResponseDTO;
 import com.concertcomparison.presentation.dto.PagedConcertResponseDTO;
+import com.concertcomparison.presentation.dto.SeatImportProgressDTO;
+import com.concertcomparison.presentation.dto.SeatImportResultDTO;
+import com.concertcomparison.presentation.dto.SeatLayoutSpecDTO;
+import com.concertcomparison.presentation.dto.SeatReplaceMode;
+import com.concertcomparison.presentation.dto.SeatReplaceResultDTO;
 import com.concertcomparison.presentation.dto.UpdateConcertRequestDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,9 +32,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,7 +46,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
@@ -58,9 +82,24 @@ public class ConcertController {
     private static final Logger logger = LoggerFactory.getLogger(ConcertController.class);
     
     private final ConcertApplicationService concertApplicationService;
+    private final ConcertComparisonService concertComparisonService;
+    private final ContentVersionTracker versionTracker;
+    private final ResponseByteCache responseByteCache;
+    private final SeatImportService seatImportService;
+    private final SeatLayoutApplicationService seatLayoutApplicationService;
     
-    public ConcertController(ConcertApplicationService concertApplicationService) {
+    public ConcertController(ConcertApplicationService concertApplicationService,
+                             ConcertComparisonService concertComparisonService,
+                             ContentVersionTracker versionTracker,
+                             ResponseByteCache responseByteCache,
+                             SeatImportService seatImportService,
+                             SeatLayoutApplicationService seatLayoutApplicationService) {
         this.concertApplicationService = concertApplicationService;
+        this.concertComparisonService = concertComparisonService;
+        this.versionTracker = versionTracker;
+        this.responseByteCache = responseByteCache;
+        this.seatImportService = seatImportService;
+        this.seatLayoutApplicationService = seatLayoutApplicationService;
     }
     
     /**
@@ -244,19 +283,23 @@ public class ConcertController {
     /**
      * PUT /api/concerts/{id}/seats
      * 
-     * Ersetzt ALLE Sitzplätze eines Concerts (Delete + Create).
-     * Löscht erst alle vorhandenen Sitze, dann erstellt die neuen.
+     * Ersetzt die Sitzplätze eines Concerts.
+     * Standard ist der Abgleich über die Sitzplatznummer (nur Änderungen werden geschrieben),
+     * mode=FULL löscht erst alle vorhandenen Sitze und erstellt dann die neuen.
      * 
      * @param concertId ID des Concerts
+     * @param mode RECONCILE oder FULL
      * @param request CreateSeatsRequestDTO mit neuer Seat-Liste
      * @return ResponseEntity mit HTTP 200 OK
      */
     @PutMapping("/{id}/seats")
     @Operation(
         summary = "Sitzplätze für Konzert ersetzen",
-        description = "Ersetzt ALLE Sitzplätze eines Konzerts. " +
-                     "Löscht erst alle vorhandenen Sitze, dann erstellt die neuen. " +
-                     "WARNUNG: Vorhandene Reservierungen werden ungültig! " +
+        description = "Ersetzt die Sitzplätze eines Konzerts. " +
+                     "mode=RECONCILE (Standard): Abgleich über die Sitzplatznummer, nur Änderungen werden geschrieben, " +
+                     "HELD/SOLD Seats bleiben erhalten, ein identischer Upload ist ein No-Op. " +
+                     "mode=FULL: Löscht alle vorhandenen Sitze und erstellt die neuen " +
+                     "(WARNUNG: Vorhandene Reservierungen werden ungültig!). " +
                      "Requires ADMIN role."
     )
     @ApiResponses(value = {
@@ -283,19 +326,28 @@ public class ConcertController {
     public ResponseEntity<String> replaceSeats(
         @Parameter(description = "Concert-ID", example = "1")
         @PathVariable(value = "id") Long concertId,
+        @Parameter(description = "RECONCILE (Abgleich, Standard) oder FULL (alles neu anlegen)")
+        @RequestParam(value = "mode", defaultValue = "RECONCILE") SeatReplaceMode mode,
         @Valid @RequestBody CreateSeatsRequestDTO request
     ) {
-        logger.warn("Admin request: Replacing ALL seats for concert ID - {} with {} new seats", 
-                   concertId, request.getSeats().size());
+        logger.warn("Admin request: Replacing seats ({}) for concert ID - {} with {} seats", 
+                   mode, concertId, request.getSeats().size());
         
         try {
-            concertApplicationService.replaceSeats(concertId, request.getSeats());
+            SeatReplaceResultDTO result = concertApplicationService.replaceSeats(concertId, request.getSeats(), mode);
             
-            String responseMessage = String.format(
-                "Erfolgreich alle Sitzplätze für Konzert %d ersetzt. Neue Anzahl: %d",
-                concertId,
-                request.getSeats().size()
-            );
+            String responseMessage = result.noOp()
+                ? String.format("Sitzplätze für Konzert %d unverändert (identischer Upload)", concertId)
+                : String.format(
+                    "Erfolgreich Sitzplätze für Konzert %d ersetzt. Neu: %d, geändert: %d, gelöscht: %d, " +
+                    "unverändert: %d, erhalten (HELD/SOLD): %d",
+                    concertId,
+                    result.inserted(),
+                    result.updated(),
+                    result.deleted(),
+                    result.unchanged(),
+                    result.retained()
+                );
             
             return ResponseEntity.ok(responseMessage);
         } catch (IllegalArgumentException ex) {
@@ -377,6 +429,150 @@ public class ConcertController {
         }
     }
     
+    /**
+     * POST /api/concerts/{id}/seats/import
+     * 
+     * Streaming-Import großer Seat-Bestände als CSV oder NDJSON.
+     * 
+     * Der Request-Body wird zeilenweise gelesen und in Chunks committet
+     * (siehe {@link SeatImportService}); ungültige Zeilen werden übersprungen
+     * und im Ergebnis gemeldet.
+     * 
+     * CSV erwartet eine Kopfzeile mit den Spalten
+     * seatNumber, category, block, row, number, price (Reihenfolge beliebig).
+     * 
+     * @param concertId ID des Concerts
+     * @param request HttpServletRequest (Body wird als Stream gelesen)
+     * @return ResponseEntity mit SeatImportResultDTO und HTTP 201
+     */
+    @PostMapping(value = "/{id}/seats/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(
+        summary = "Sitzplätze streamend importieren (CSV/NDJSON)",
+        description = "Importiert beliebig viele Sitzplätze aus einem CSV- oder NDJSON-Body. " +
+                     "Zeilen werden inkrementell validiert und in Chunks committet. " +
+                     "Ungültige Zeilen werden übersprungen und im Ergebnis gemeldet. " +
+                     "Requires ADMIN role."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Import abgeschlossen",
+            content = @Content(schema = @Schema(implementation = SeatImportResultDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Ungültige CSV-Kopfzeile",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Konzert nicht gefunden",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Für das Konzert läuft bereits ein Import",
+            content = @Content
+        )
+    })
+    public ResponseEntity<SeatImportResultDTO> importSeats(
+        @Parameter(description = "Concert-ID", example = "1")
+        @PathVariable(value = "id") Long concertId,
+        HttpServletRequest request
+    ) throws IOException {
+        SeatImportFormat format = SeatImportFormat.fromContentType(request.getContentType())
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Nicht unterstützter Content-Type: " + request.getContentType()));
+
+        logger.info("Admin request: Importing seats ({}) for concert ID - {}", format, concertId);
+
+        SeatImportResultDTO result = seatImportService.importSeats(concertId, format, request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+    /**
+     * GET /api/concerts/{id}/seats/import/progress
+     * 
+     * Fortschritt eines laufenden Seat-Imports.
+     * 
+     * @param concertId ID des Concerts
+     * @return ResponseEntity mit SeatImportProgressDTO
+     * @throws ResourceNotFoundException wenn kein Import läuft
+     */
+    @GetMapping("/{id}/seats/import/progress")
+    @Operation(
+        summary = "Fortschritt eines Seat-Imports",
+        description = "Liefert die Zähler eines laufenden Imports. Requires ADMIN role."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import läuft"),
+        @ApiResponse(responseCode = "404", description = "Kein laufender Import", content = @Content)
+    })
+    public ResponseEntity<SeatImportProgressDTO> getSeatImportProgress(
+        @Parameter(description = "Concert-ID", example = "1")
+        @PathVariable(value = "id") Long concertId
+    ) {
+        return seatImportService.getProgress(concertId)
+            .map(ResponseEntity::ok)
+            .orElseThrow(() -> new ResourceNotFoundException(
+                "Kein laufender Seat-Import für Konzert " + concertId));
+    }
+    
+    /**
+     * PUT /api/concerts/{id}/seats/layout
+     * 
+     * Legt die Seats eines Concerts aus einem kompakten Layout an
+     * (Block × Reihen × Plätze × Kategorie × Preis). Ersetzt alle vorhandenen Seats,
+     * sofern keiner davon HELD oder SOLD ist (sonst 409).
+     * 
+     * Die Spezifikation wird gespeichert und Clients über
+     * GET /api/events/{id}/seats/layout/spec ausgeliefert.
+     * 
+     * @param concertId ID des Concerts
+     * @param request Layout-Spezifikation
+     * @return ResponseEntity mit gespeichertem Layout (inkl. Layout-Version, Seat-Anzahl)
+     */
+    @PutMapping("/{id}/seats/layout")
+    @Operation(
+        summary = "Sitzplätze aus Layout generieren",
+        description = "Expandiert ein kompaktes Layout (Sektionen aus Block, Reihen- und Platzbereich, Kategorie, Preis) " +
+                     "serverseitig zu Sitzplätzen. Ersetzt alle vorhandenen Sitzplätze; sind Sitzplätze reserviert " +
+                     "oder verkauft, wird das Layout mit 409 abgelehnt. " +
+                     "Requires ADMIN role."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Sitzplätze generiert",
+            content = @Content(schema = @Schema(implementation = SeatLayoutSpecDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Ungültiges Layout (z.B. überlappende Sektionen, zu viele Seats)",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Konzert nicht gefunden",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Konzert hat reservierte oder verkaufte Sitzplätze",
+            content = @Content
+        )
+    })
+    public ResponseEntity<SeatLayoutSpecDTO> generateSeatLayout(
+        @Parameter(description = "Concert-ID", example = "1")
+        @PathVariable(value = "id") Long concertId,
+        @Valid @RequestBody SeatLayoutSpecDTO request
+    ) {
+        logger.info("Admin request: Generating seats from {} layout sections for concert ID - {}",
+                   request.getSections().size(), concertId);
+        
+        return ResponseEntity.ok(seatLayoutApplicationService.generateSeats(concertId, request));
+    }
+    
     /**
      * GET /api/concerts (Read-Only, keine Admin-Anforderung)
      * 
@@ -417,8 +613,16 @@ public class ConcertController {
         @Parameter(description = "Page (0-basiert)", example = "0")
         @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "Seitengröße", example = "20")
-        @RequestParam(defaultValue = "20") int size
+        @RequestParam(defaultValue = "20") int size,
+        WebRequest webRequest
     ) {
+        ListingVersion listingVersion = versionTracker.listingVersion();
+        String eTag = listingVersion.eTag();
+        long lastModified = listingVersion.lastModified();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+        
         logger.debug("Fetching concerts with filters: date={}, venue={}, priceRange=[{},{}], sort={} {} page={} size={}",
             date, venue, minPrice, maxPrice, sortBy, sortOrder, page, size);
 
@@ -431,6 +635,116 @@ public class ConcertController {
         Pageable pageable = PageRequest.of(page, size, sort);
 
         PagedConcertResponseDTO response = concertApplicationService.getConcerts(filter, pageable);
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .lastModified(lastModified)
+            .cacheControl(CacheControl.noCache())
+            .body(response);
+    }
+
+    /**
+     * GET /api/concerts/browse (Read-Only, keine Admin-Anforderung)
+     * 
+     * Facettierte Konzertsuche: liefert die gefilterte Seite und alle Facetten-Zählungen
+     * (venue, month, priceBucket, availability) in einer Antwort.
+     * Mehrfachwerte innerhalb einer Facette werden ODER-verknüpft, Facetten untereinander UND.
+     * 
+     * @return ResponseEntity<FacetedConcertResponseDTO>
+     */
+    @GetMapping("/browse")
+    @PreAuthorize("permitAll()")
+    @Operation(
+        summary = "Konzerte facettiert durchsuchen",
+        description = "Liefert eine paginierte Konzertliste inkl. Zählungen pro Venue, Monat, Preis-Bucket und Verfügbarkeit. Öffentlicher Zugriff."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Konzerte und Facetten erfolgreich abgerufen",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = FacetedConcertResponseDTO.class)
+            )
+        )
+    })
+    @SuppressWarnings("null")
+    public ResponseEntity<FacetedConcertResponseDTO> browseConcerts(
+        @Parameter(description = "Filter nach Venue (exakt, mehrfach möglich)")
+        @RequestParam(required = false) List<String> venue,
+        @Parameter(description = "Filter nach Monat (YYYY-MM, mehrfach möglich)", example = "2027-07")
+        @RequestParam(required = false) List<String> month,
+        @Parameter(description = "Filter nach Preis-Bucket des Mindestpreises (z.B. 0-50, 200+)")
+        @RequestParam(required = false) List<String> priceBucket,
+        @Parameter(description = "Filter nach Verfügbarkeit: AVAILABLE|SOLD_OUT|UNKNOWN")
+        @RequestParam(required = false) List<String> availability,
+        @Parameter(description = "Sortierfeld: date|name|price", example = "date")
+        @RequestParam(defaultValue = "date") String sortBy,
+        @Parameter(description = "Sortierreihenfolge: asc|desc", example = "asc")
+        @RequestParam(defaultValue = "asc") String sortOrder,
+        @Parameter(description = "Page (0-basiert)", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Seitengröße", example = "20")
+        @RequestParam(defaultValue = "20") int size,
+        WebRequest webRequest
+    ) {
+        ListingVersion listingVersion = versionTracker.listingVersion();
+        String eTag = listingVersion.eTag();
+        long lastModified = listingVersion.lastModified();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+        
+        logger.debug("Browsing concerts: venue={}, month={}, priceBucket={}, availability={}, sort={} {} page={} size={}",
+            venue, month, priceBucket, availability, sortBy, sortOrder, page, size);
+
+        ConcertFacetQuery query = new ConcertFacetQuery(venue, month, priceBucket, availability);
+        Sort sort = Objects.requireNonNullElse(buildSort(sortBy, sortOrder), Sort.unsorted());
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        FacetedConcertResponseDTO response = concertApplicationService.browseConcerts(query, pageable);
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .lastModified(lastModified)
+            .cacheControl(CacheControl.noCache())
+            .body(response);
+    }
+    
+    /**
+     * POST /api/concerts/compare (Read-Only, keine Admin-Anforderung)
+     * 
+     * Vergleicht mehrere Konzerte in einem Round-Trip: Preisrange, Verfügbarkeit und
+     * günstigster verfügbarer Seat pro Kategorie. POST, da die ID-Liste im Body übergeben wird.
+     * 
+     * @param request CompareConcertsRequestDTO mit Concert-IDs
+     * @return ResponseEntity<ConcertComparisonResponseDTO>
+     */
+    @PostMapping("/compare")
+    @PreAuthorize("permitAll()")
+    @Operation(
+        summary = "Konzerte vergleichen",
+        description = "Liefert Preisrange, Verfügbarkeit und Best-Value-Seats pro Kategorie für mehrere Konzerte nebeneinander. " +
+                      "Konzerte, deren Inventar nicht im Latenz-Budget geladen wird, werden mit Status TIMEOUT geliefert. Öffentlicher Zugriff."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Vergleich erfolgreich erstellt",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ConcertComparisonResponseDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Keine oder zu viele Concert-IDs"
+        )
+    })
+    public ResponseEntity<ConcertComparisonResponseDTO> compareConcerts(
+        @Valid @RequestBody CompareConcertsRequestDTO request
+    ) {
+        logger.debug("Comparing concerts: {}", request.concertIds());
+        
+        ConcertComparisonResponseDTO response = concertComparisonService.compareConcerts(request.concertIds());
         return ResponseEntity.ok(response);
     }
     
@@ -439,8 +753,10 @@ public class ConcertController {
      * 
      * Ruft ein Concert anhand der ID ab.
      * 
+     * Die JSON-Bytes werden pro Inhaltsversion im {@link ResponseByteCache} gehalten
+     * und direkt in den OutputStream geschrieben.
+     * 
      * @param concertId ID des Concerts
-     * @return ResponseEntity<ConcertResponseDTO>
      */
     @GetMapping("/{id}")
     @PreAuthorize("permitAll()")
@@ -462,14 +778,18 @@ public class ConcertController {
             description = "Concert nicht gefunden"
         )
     })
-    public ResponseEntity<ConcertResponseDTO> getConcertById(
+    public void getConcertById(
         @Parameter(description = "Concert-ID", example = "1")
-        @PathVariable(value = "id") Long concertId
-    ) {
-        logger.debug("Fetching concert with ID: {}", concertId);
-        
-        ConcertResponseDTO concert = concertApplicationService.getConcertById(concertId);
-        return ResponseEntity.ok(concert);
+        @PathVariable(value = "id") Long concertId,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        HttpServletResponse servletResponse
+    ) throws IOException {
+        long version = versionTracker.seatMapVersion(concertId).counter();
+        EncodedResponse encoded = responseByteCache.getOrEncode(concertId, "concert", version, () -> {
+            logger.debug("Fetching concert with ID: {}", concertId);
+            return concertApplicationService.getConcertById(concertId);
+        });
+        encoded.writeTo(servletResponse, acceptEncoding);
     }
 
     private Sort buildSort(String sortBy, String sortOrder) {
@@ -1,6 +1,7 @@
 package com.concertcomparison.presentation.controller;
 
 import com.concertcomparison.application.service.HoldApplicationService;
+import com.concertcomparison.application.service.HoldCoordinator;
 import com.concertcomparison.presentation.dto.HoldCreateRequestDTO;
 import com.concertcomparison.presentation.dto.HoldResponseDTO;
 import jakarta.validation.Valid;
@@ -26,14 +27,17 @@ public class ReservationController {
     private static final Logger logger = LoggerFactory.getLogger(ReservationController.class);
 
     private final HoldApplicationService holdApplicationService;
+    private final HoldCoordinator holdCoordinator;
 
-    public ReservationController(HoldApplicationService holdApplicationService) {
+    public ReservationController(HoldApplicationService holdApplicationService, HoldCoordinator holdCoordinator) {
         this.holdApplicationService = holdApplicationService;
+        this.holdCoordinator = holdCoordinator;
     }
 
     /**
      * POST /api/seats/{id}/hold
      * Erstellt einen Hold für einen Seat.
+     * Die Locking-Strategie wählt der HoldCoordinator anhand der Konfliktrate.
      * 
      * @param id Seat ID
      * @param request HoldCreateRequestDTO mit userId
@@ -49,7 +53,7 @@ public class ReservationController {
         logger.info("POST /api/seats/{}/hold - Creating hold for userId={}", id, request.userId());
 
         Long seatId = Long.parseLong(id);
-        HoldResponseDTO response = holdApplicationService.createHold(seatId, request.userId());
+        HoldResponseDTO response = holdCoordinator.createHold(seatId, request.userId());
         
         logger.info("Hold created: holdId={}, seatId={}", response.holdId(), response.seatId());
         return ResponseEntity.ok(response);
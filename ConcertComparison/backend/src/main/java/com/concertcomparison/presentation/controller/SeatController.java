@@ -1,7 +1,17 @@
 package com.concertcomparison.presentation.controller;
 
 import com.concertcomparison.application.service.SeatApplicationService;
+import com.concertcomparison.application.service.SeatLayoutApplicationService;
+import com.concertcomparison.domain.exception.ResourceNotFoundException;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker.SeatMapVersion;
+import com.concertcomparison.infrastructure.cache.EncodedResponse;
+import com.concertcomparison.infrastructure.cache.ResponseByteCache;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmap;
 import com.concertcomparison.presentation.dto.SeatAvailabilityResponseDTO;
+import com.concertcomparison.presentation.dto.SeatLayoutDTO;
+import com.concertcomparison.presentation.dto.SeatLayoutSpecDTO;
+import com.concertcomparison.presentation.dto.SeatStatusVectorDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,10 +19,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * REST Controller für Seat-Verfügbarkeit und Management.
@@ -31,11 +48,21 @@ import org.springframework.web.bind.annotation.*;
 public class SeatController {
     
     private static final Logger logger = LoggerFactory.getLogger(SeatController.class);
+    private static final String LAYOUT_VERSION_HEADER = "X-Layout-Version";
     
     private final SeatApplicationService seatApplicationService;
+    private final SeatLayoutApplicationService seatLayoutApplicationService;
+    private final ContentVersionTracker versionTracker;
+    private final ResponseByteCache responseByteCache;
     
-    public SeatController(SeatApplicationService seatApplicationService) {
+    public SeatController(SeatApplicationService seatApplicationService,
+                          SeatLayoutApplicationService seatLayoutApplicationService,
+                          ContentVersionTracker versionTracker,
+                          ResponseByteCache responseByteCache) {
         this.seatApplicationService = seatApplicationService;
+        this.seatLayoutApplicationService = seatLayoutApplicationService;
+        this.versionTracker = versionTracker;
+        this.responseByteCache = responseByteCache;
     }
     
     /**
@@ -50,8 +77,14 @@ public class SeatController {
      * - Keine negativen Werte ✅
      * - Performance: < 200ms bei 1000+ Seats ✅ (via Caching)
      * 
+     * Conditional GET: ETag/Last-Modified stammen aus dem {@link ContentVersionTracker}.
+     * Passt If-None-Match, wird 304 geliefert, ohne Cache oder Repository anzufassen.
+     * 
+     * Die JSON-Bytes (ggf. gzip) kommen aus dem {@link ResponseByteCache} und werden
+     * direkt in den OutputStream geschrieben - ein Hit serialisiert nichts. Bei einem
+     * Miss wird die Seat-Map in einem Durchlauf per JsonGenerator erzeugt.
+     * 
      * @param concertId ID des Konzerts
-     * @return Seat-Verfügbarkeit mit aggregierten Daten pro Kategorie
      */
     @GetMapping("/{id}/seats")
     @Operation(
@@ -69,6 +102,11 @@ public class SeatController {
                 schema = @Schema(implementation = SeatAvailabilityResponseDTO.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Seat-Verfügbarkeit unverändert (If-None-Match / If-Modified-Since)",
+            content = @Content
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Konzert nicht gefunden",
@@ -80,21 +118,227 @@ public class SeatController {
             content = @Content
         )
     })
-    public ResponseEntity<SeatAvailabilityResponseDTO> getSeatAvailability(
+    public void getSeatAvailability(
             @Parameter(
                 description = "ID des Konzerts",
                 required = true,
                 example = "1"
             )
+            @PathVariable("id") Long concertId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest,
+            HttpServletResponse servletResponse) throws IOException {
+        
+        SeatMapVersion version = versionTracker.seatMapVersion(concertId);
+        String eTag = version.eTag("json");
+        long lastModified = version.lastModified();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            logger.debug("GET /api/events/{}/seats - Not modified", concertId);
+            return;
+        }
+        
+        EncodedResponse encoded = responseByteCache.getOrWrite(concertId, "seats", version.counter(), out -> {
+            logger.info("GET /api/events/{}/seats - Streaming seat availability", concertId);
+            seatApplicationService.writeSeatAvailability(concertId, out);
+        });
+        
+        servletResponse.setHeader(HttpHeaders.ETAG, eTag);
+        servletResponse.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        encoded.writeTo(servletResponse, acceptEncoding);
+    }
+    
+    /**
+     * GET /api/events/{id}/seats/layout
+     * 
+     * Liefert das aktuelle Seat-Layout (ohne Status). ETag = Layout-Version,
+     * Clients revalidieren mit If-None-Match und erhalten 304 solange das Layout unverändert ist.
+     * Content-Location verweist auf die unveränderliche, versionierte URL.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Seat-Layout
+     */
+    @GetMapping("/{id}/seats/layout")
+    @Operation(
+        summary = "Seat-Layout für Konzert abrufen",
+        description = "Liefert Block, Reihe, Nummer, Kategorie und Preis aller Seats ohne Status. " +
+                     "Ändert sich nur bei Neuanlage/Ersetzen der Seats (ETag = Layout-Version)."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Seat-Layout erfolgreich abgerufen"),
+        @ApiResponse(responseCode = "304", description = "Layout unverändert (If-None-Match)", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Konzert nicht gefunden", content = @Content)
+    })
+    public ResponseEntity<SeatLayoutDTO> getSeatLayout(
+            @Parameter(description = "ID des Konzerts", required = true, example = "1")
+            @PathVariable("id") Long concertId) {
+        
+        long layoutVersion = seatLayoutApplicationService.getCurrentLayoutVersion(concertId);
+        SeatLayoutDTO layout = seatLayoutApplicationService.getSeatLayout(concertId, layoutVersion);
+        
+        return ResponseEntity.ok()
+            .eTag(layoutETag(concertId, layoutVersion))
+            .cacheControl(CacheControl.noCache())
+            .header(HttpHeaders.CONTENT_LOCATION, layoutLocation(concertId, layoutVersion))
+            .body(layout);
+    }
+    
+    /**
+     * GET /api/events/{id}/seats/layout/{version}
+     * 
+     * Versionierte, unveränderliche Layout-Ressource (Cache-Control: immutable).
+     * Nicht mehr aktuelle Versionen werden nicht vorgehalten (404).
+     * 
+     * @param concertId ID des Konzerts
+     * @param version angefragte Layout-Version
+     * @return Seat-Layout
+     */
+    @GetMapping("/{id}/seats/layout/{version}")
+    @Operation(
+        summary = "Versioniertes Seat-Layout abrufen",
+        description = "Liefert das Seat-Layout einer bestimmten Layout-Version. Unveränderlich und langfristig cachebar."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Seat-Layout erfolgreich abgerufen"),
+        @ApiResponse(responseCode = "404", description = "Konzert oder Layout-Version nicht gefunden", content = @Content)
+    })
+    public ResponseEntity<SeatLayoutDTO> getSeatLayoutVersion(
+            @Parameter(description = "ID des Konzerts", required = true, example = "1")
+            @PathVariable("id") Long concertId,
+            @Parameter(description = "Layout-Version", required = true, example = "1")
+            @PathVariable("version") long version) {
+        
+        long currentVersion = seatLayoutApplicationService.getCurrentLayoutVersion(concertId);
+        if (version != currentVersion) {
+            throw new ResourceNotFoundException(
+                "Layout-Version " + version + " für Konzert " + concertId + " ist nicht mehr verfügbar",
+                "SeatLayout",
+                concertId + ":" + version
+            );
+        }
+        
+        SeatLayoutDTO layout = seatLayoutApplicationService.getSeatLayout(concertId, version);
+        
+        return ResponseEntity.ok()
+            .eTag(layoutETag(concertId, version))
+            .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+            .body(layout);
+    }
+    
+    /**
+     * GET /api/events/{id}/seats/layout/spec
+     * 
+     * Liefert das deklarative Layout (Sektionen statt Metadaten pro Seat), sofern die Seats
+     * über PUT /api/concerts/{id}/seats/layout generiert wurden. Clients expandieren es selbst;
+     * die Reihenfolge Sektion → Reihe → Platz entspricht dem Index im Status-Vektor.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Layout-Spezifikation
+     */
+    @GetMapping("/{id}/seats/layout/spec")
+    @Operation(
+        summary = "Deklaratives Seat-Layout abrufen",
+        description = "Liefert das kompakte Layout (Block, Reihen- und Platzbereich, Kategorie, Preis je Sektion). " +
+                     "404, wenn die Seats einzeln angelegt wurden (dann /seats/layout verwenden)."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Layout erfolgreich abgerufen"),
+        @ApiResponse(responseCode = "304", description = "Layout unverändert (If-None-Match)", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Konzert oder deklaratives Layout nicht gefunden", content = @Content)
+    })
+    public ResponseEntity<SeatLayoutSpecDTO> getSeatLayoutSpec(
+            @Parameter(description = "ID des Konzerts", required = true, example = "1")
             @PathVariable("id") Long concertId) {
         
-        logger.info("GET /api/events/{}/seats - Fetching seat availability", concertId);
+        SeatLayoutSpecDTO spec = seatLayoutApplicationService.getSeatLayoutSpec(concertId);
         
-        SeatAvailabilityResponseDTO response = seatApplicationService.getSeatAvailability(concertId);
+        return ResponseEntity.ok()
+            .eTag("\"layout-spec-" + concertId + "-" + spec.getLayoutVersion() + "\"")
+            .cacheControl(CacheControl.noCache())
+            .body(spec);
+    }
+    
+    /**
+     * GET /api/events/{id}/seats/status
+     * 
+     * Kompakter Status-Vektor (ein Zeichen pro Seat in Layout-Reihenfolge) für Polling.
+     * 
+     * @param concertId ID des Konzerts
+     * @return Status-Vektor inkl. Layout-Version
+     */
+    @GetMapping("/{id}/seats/status")
+    @Operation(
+        summary = "Seat-Status-Vektor abrufen",
+        description = "Liefert den Status aller Seats als Zeichenkette (A=AVAILABLE, H=HELD, S=SOLD) in Layout-Reihenfolge. " +
+                     "Weicht layoutVersion vom gespeicherten Layout ab, muss das Layout neu geladen werden."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status-Vektor erfolgreich abgerufen"),
+        @ApiResponse(responseCode = "404", description = "Konzert nicht gefunden", content = @Content)
+    })
+    public ResponseEntity<SeatStatusVectorDTO> getSeatStatusVector(
+            @Parameter(description = "ID des Konzerts", required = true, example = "1")
+            @PathVariable("id") Long concertId,
+            WebRequest webRequest) {
         
-        logger.info("GET /api/events/{}/seats - Returning {} seats in {} categories", 
-            concertId, response.getSeats().size(), response.getAvailabilityByCategory().size());
+        String eTag = versionTracker.seatMapVersion(concertId).eTag("status");
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         
-        return ResponseEntity.ok(response);
+        SeatStatusVectorDTO vector = seatLayoutApplicationService.getSeatStatusVector(concertId);
+        
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(vector);
+    }
+    
+    /**
+     * GET /api/events/{id}/seats/status (Accept: application/vnd.concert.seat-status-bitmap)
+     * 
+     * Binäre Variante des Status-Vektors: 2 Bit pro Seat, Big-Endian
+     * [layoutVersion:int64][seatCount:int32][words:int64...]. Ein Stadion mit 60.000 Seats
+     * ergibt ca. 15 KB. Wird per Content Negotiation gewählt; ohne passenden Accept-Header
+     * liefert der Endpoint weiterhin JSON.
+     * 
+     * @param concertId ID des Konzerts
+     * @return gepackter Status-Snapshot
+     */
+    @GetMapping(value = "/{id}/seats/status", produces = SeatStatusBitmap.MEDIA_TYPE)
+    @Operation(
+        summary = "Seat-Status als Bitmap abrufen",
+        description = "Liefert den Status aller Seats als gepackte 2-Bit-Bitmap (0=AVAILABLE, 1=HELD, 2=SOLD) " +
+                     "in Layout-Reihenfolge. Auswahl per Accept: " + SeatStatusBitmap.MEDIA_TYPE
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bitmap erfolgreich abgerufen"),
+        @ApiResponse(responseCode = "404", description = "Konzert nicht gefunden", content = @Content)
+    })
+    public ResponseEntity<byte[]> getSeatStatusBitmap(
+            @Parameter(description = "ID des Konzerts", required = true, example = "1")
+            @PathVariable("id") Long concertId,
+            WebRequest webRequest) {
+        
+        String eTag = versionTracker.seatMapVersion(concertId).eTag("bitmap");
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        
+        SeatStatusBitmap bitmap = seatLayoutApplicationService.getSeatStatusBitmap(concertId);
+        
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .header(LAYOUT_VERSION_HEADER, String.valueOf(bitmap.getLayoutVersion()))
+            .body(bitmap.snapshot());
+    }
+    
+    private static String layoutETag(Long concertId, long layoutVersion) {
+        return "\"layout-" + concertId + "-" + layoutVersion + "\"";
+    }
+    
+    private static String layoutLocation(Long concertId, long layoutVersion) {
+        return "/api/events/" + concertId + "/seats/layout/" + layoutVersion;
     }
 }
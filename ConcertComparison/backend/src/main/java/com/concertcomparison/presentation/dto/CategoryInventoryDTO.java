@@ -0,0 +1,37 @@
+package com.concertcomparison.presentation.dto;
+
+/**
+ * DTO für das Inventar einer Seat-Kategorie im Konzert-Vergleich.
+ *
+ * bestValueSeat ist der günstigste verfügbare Seat der Kategorie (null wenn ausverkauft).
+ */
+public class CategoryInventoryDTO {
+
+    private String category;
+    private long availableSeats;
+    private long totalSeats;
+    private Double minPrice;
+    private Double maxPrice;
+    private SeatResponseDTO bestValueSeat;
+
+    // Constructors
+    public CategoryInventoryDTO() {}
+
+    public CategoryInventoryDTO(String category, long availableSeats, long totalSeats,
+                                Double minPrice, Double maxPrice, SeatResponseDTO bestValueSeat) {
+        this.category = category;
+        this.availableSeats = availableSeats;
+        this.totalSeats = totalSeats;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.bestValueSeat = bestValueSeat;
+    }
+
+    // Getters
+    public String getCategory() { return category; }
+    public long getAvailableSeats() { return availableSeats; }
+    public long getTotalSeats() { return totalSeats; }
+    public Double getMinPrice() { return minPrice; }
+    public Double getMaxPrice() { return maxPrice; }
+    public SeatResponseDTO getBestValueSeat() { return bestValueSeat; }
+}
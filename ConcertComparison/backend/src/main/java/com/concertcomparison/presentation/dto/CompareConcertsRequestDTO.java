@@ -0,0 +1,18 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Request DTO für den Konzert-Vergleich.
+ * OpenAPI: POST /api/concerts/compare
+ */
+@Schema(description = "Request zum Vergleich mehrerer Konzerte")
+public record CompareConcertsRequestDTO(
+    @NotEmpty(message = "Mindestens eine Concert-ID erforderlich")
+    @Schema(description = "IDs der zu vergleichenden Konzerte", example = "[1, 2, 3]")
+    List<@NotNull(message = "Concert-ID darf nicht null sein") Long> concertIds
+) {}
@@ -0,0 +1,70 @@
+package com.concertcomparison.presentation.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Eintrag eines Konzerts im Vergleich.
+ *
+ * status:
+ * - COMPLETE: Inventar vollständig geladen
+ * - TIMEOUT: Inventar nicht innerhalb des Latenz-Budgets verfügbar (inventory = null)
+ * - FAILED: Inventar konnte nicht geladen werden (inventory = null)
+ */
+public class ConcertComparisonItemDTO {
+
+    public static final String STATUS_COMPLETE = "COMPLETE";
+    public static final String STATUS_TIMEOUT = "TIMEOUT";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private String id;
+    private String name;
+    private LocalDateTime date;
+    private String venue;
+    private String status;
+    private ConcertInventorySummaryDTO inventory;
+
+    // Constructors
+    public ConcertComparisonItemDTO() {}
+
+    private ConcertComparisonItemDTO(Builder builder) {
+        this.id = builder.id;
+        this.name = builder.name;
+        this.date = builder.date;
+        this.venue = builder.venue;
+        this.status = builder.status;
+        this.inventory = builder.inventory;
+    }
+
+    // Builder Pattern
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String id;
+        private String name;
+        private LocalDateTime date;
+        private String venue;
+        private String status;
+        private ConcertInventorySummaryDTO inventory;
+
+        public Builder id(String id) { this.id = id; return this; }
+        public Builder name(String name) { this.name = name; return this; }
+        public Builder date(LocalDateTime date) { this.date = date; return this; }
+        public Builder venue(String venue) { this.venue = venue; return this; }
+        public Builder status(String status) { this.status = status; return this; }
+        public Builder inventory(ConcertInventorySummaryDTO inventory) { this.inventory = inventory; return this; }
+
+        public ConcertComparisonItemDTO build() {
+            return new ConcertComparisonItemDTO(this);
+        }
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getName() { return name; }
+    public LocalDateTime getDate() { return date; }
+    public String getVenue() { return venue; }
+    public String getStatus() { return status; }
+    public ConcertInventorySummaryDTO getInventory() { return inventory; }
+}
@@ -0,0 +1,44 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Antwort des Konzert-Vergleichs (Reihenfolge wie im Request)")
+public class ConcertComparisonResponseDTO {
+
+    private List<ConcertComparisonItemDTO> concerts;
+
+    @Schema(description = "Angefragte IDs, zu denen kein Konzert existiert")
+    private List<String> notFoundIds;
+
+    @Schema(description = "false, wenn mindestens ein Konzert nicht im Latenz-Budget geladen werden konnte")
+    private boolean complete;
+
+    private long durationMs;
+
+    public ConcertComparisonResponseDTO() {}
+
+    public ConcertComparisonResponseDTO(List<ConcertComparisonItemDTO> concerts, List<String> notFoundIds,
+                                        boolean complete, long durationMs) {
+        this.concerts = concerts;
+        this.notFoundIds = notFoundIds;
+        this.complete = complete;
+        this.durationMs = durationMs;
+    }
+
+    public List<ConcertComparisonItemDTO> getConcerts() {
+        return concerts;
+    }
+
+    public List<String> getNotFoundIds() {
+        return notFoundIds;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+}
@@ -0,0 +1,65 @@
+package com.concertcomparison.presentation.dto;
+
+import java.util.List;
+
+/**
+ * Verdichtetes Inventar eines Konzerts (Summen, Preisrange, Kategorien).
+ *
+ * Wird pro Konzert im Cache "inventorySummary" gehalten und im Konzert-Vergleich
+ * wiederverwendet, statt alle Seats zu laden.
+ * Builder Pattern für saubere Object-Erstellung.
+ */
+public class ConcertInventorySummaryDTO {
+
+    private String concertId;
+    private long totalSeats;
+    private long availableSeats;
+    private Double minPrice;
+    private Double maxPrice;
+    private List<CategoryInventoryDTO> categories;
+
+    // Constructors
+    public ConcertInventorySummaryDTO() {}
+
+    private ConcertInventorySummaryDTO(Builder builder) {
+        this.concertId = builder.concertId;
+        this.totalSeats = builder.totalSeats;
+        this.availableSeats = builder.availableSeats;
+        this.minPrice = builder.minPrice;
+        this.maxPrice = builder.maxPrice;
+        this.categories = builder.categories;
+    }
+
+    // Builder Pattern
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String concertId;
+        private long totalSeats;
+        private long availableSeats;
+        private Double minPrice;
+        private Double maxPrice;
+        private List<CategoryInventoryDTO> categories = List.of();
+
+        public Builder concertId(String concertId) { this.concertId = concertId; return this; }
+        public Builder totalSeats(long totalSeats) { this.totalSeats = totalSeats; return this; }
+        public Builder availableSeats(long availableSeats) { this.availableSeats = availableSeats; return this; }
+        public Builder minPrice(Double minPrice) { this.minPrice = minPrice; return this; }
+        public Builder maxPrice(Double maxPrice) { this.maxPrice = maxPrice; return this; }
+        public Builder categories(List<CategoryInventoryDTO> categories) { this.categories = categories; return this; }
+
+        public ConcertInventorySummaryDTO build() {
+            return new ConcertInventorySummaryDTO(this);
+        }
+    }
+
+    // Getters
+    public String getConcertId() { return concertId; }
+    public long getTotalSeats() { return totalSeats; }
+    public long getAvailableSeats() { return availableSeats; }
+    public Double getMinPrice() { return minPrice; }
+    public Double getMaxPrice() { return maxPrice; }
+    public List<CategoryInventoryDTO> getCategories() { return categories; }
+}
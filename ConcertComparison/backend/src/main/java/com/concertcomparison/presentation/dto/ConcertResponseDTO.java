@@ -58,6 +58,13 @@ public class ConcertResponseDTO {
     )
     private LocalDateTime updatedAt;
     
+    @Schema(
+        description = "Verkaufsstart (ISO 8601)",
+        example = "2025-03-01T10:00:00",
+        nullable = true
+    )
+    private LocalDateTime onSaleAt;
+    
     // ==================== CONSTRUCTORS ====================
     
     public ConcertResponseDTO() {}
@@ -70,6 +77,7 @@ public class ConcertResponseDTO {
         this.description = builder.description;
         this.createdAt = builder.createdAt;
         this.updatedAt = builder.updatedAt;
+        this.onSaleAt = builder.onSaleAt;
     }
     
     // ==================== BUILDER PATTERN ====================
@@ -86,6 +94,7 @@ public class ConcertResponseDTO {
         private String description;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+        private LocalDateTime onSaleAt;
         
         public Builder id(String id) { this.id = id; return this; }
         public Builder name(String name) { this.name = name; return this; }
@@ -94,6 +103,7 @@ public class ConcertResponseDTO {
         public Builder description(String description) { this.description = description; return this; }
         public Builder createdAt(LocalDateTime createdAt) { this.createdAt = createdAt; return this; }
         public Builder updatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; return this; }
+        public Builder onSaleAt(LocalDateTime onSaleAt) { this.onSaleAt = onSaleAt; return this; }
         
         public ConcertResponseDTO build() {
             return new ConcertResponseDTO(this);
@@ -109,4 +119,5 @@ public class ConcertResponseDTO {
     public String getDescription() { return description; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getOnSaleAt() { return onSaleAt; }
 }
@@ -0,0 +1,37 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Paginierte Konzertliste inkl. Facetten-Zählungen (venue, month, priceBucket, availability)")
+public class FacetedConcertResponseDTO {
+
+    private List<ConcertListItemDTO> concerts;
+    private PagedConcertResponseDTO.PageMetadata page;
+
+    @Schema(description = "Facette → (Wert → Anzahl Konzerte). Zählung berücksichtigt alle Filter außer dem der eigenen Facette.")
+    private Map<String, Map<String, Long>> facets;
+
+    public FacetedConcertResponseDTO() {}
+
+    public FacetedConcertResponseDTO(List<ConcertListItemDTO> concerts,
+                                     PagedConcertResponseDTO.PageMetadata page,
+                                     Map<String, Map<String, Long>> facets) {
+        this.concerts = concerts;
+        this.page = page;
+        this.facets = facets;
+    }
+
+    public List<ConcertListItemDTO> getConcerts() {
+        return concerts;
+    }
+
+    public PagedConcertResponseDTO.PageMetadata getPage() {
+        return page;
+    }
+
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+}
@@ -0,0 +1,14 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Abgelehnte Zeile eines Seat-Imports.
+ */
+@Schema(description = "Abgelehnte Zeile eines Seat-Imports")
+public record SeatImportErrorDTO(
+    @Schema(description = "Zeilennummer in der Eingabe (1-basiert)", example = "42")
+    long lineNumber,
+    @Schema(description = "Grund der Ablehnung", example = "price: Price must be positive")
+    String message
+) {}
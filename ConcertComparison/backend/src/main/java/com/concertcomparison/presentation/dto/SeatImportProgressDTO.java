@@ -0,0 +1,22 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fortschritt eines laufenden Seat-Imports.
+ */
+@Schema(description = "Fortschritt eines laufenden Seat-Imports")
+public record SeatImportProgressDTO(
+    String concertId,
+    @Schema(description = "Bisher gelesene Datenzeilen")
+    long rowsRead,
+    @Schema(description = "Bereits committete Seats")
+    long seatsImported,
+    @Schema(description = "Abgelehnte Zeilen")
+    long rowsRejected,
+    @Schema(description = "Committete Chunks (je eine Transaktion)")
+    long chunksCommitted,
+    LocalDateTime startedAt
+) {}
@@ -0,0 +1,80 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Ergebnis eines Streaming-Seat-Imports.
+ * Builder Pattern für saubere Object-Erstellung.
+ */
+@Schema(description = "Ergebnis eines Streaming-Seat-Imports")
+public class SeatImportResultDTO {
+
+    private String concertId;
+    private long rowsRead;
+    private long seatsImported;
+    private long rowsRejected;
+    private long chunksCommitted;
+
+    @Schema(description = "Abgelehnte Zeilen (auf die ersten N begrenzt)")
+    private List<SeatImportErrorDTO> errors;
+
+    @Schema(description = "true, wenn mehr Fehler auftraten als in 'errors' enthalten sind")
+    private boolean errorsTruncated;
+
+    private long durationMs;
+
+    // Constructors
+    public SeatImportResultDTO() {}
+
+    private SeatImportResultDTO(Builder builder) {
+        this.concertId = builder.concertId;
+        this.rowsRead = builder.rowsRead;
+        this.seatsImported = builder.seatsImported;
+        this.rowsRejected = builder.rowsRejected;
+        this.chunksCommitted = builder.chunksCommitted;
+        this.errors = builder.errors;
+        this.errorsTruncated = builder.errorsTruncated;
+        this.durationMs = builder.durationMs;
+    }
+
+    // Builder Pattern
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String concertId;
+        private long rowsRead;
+        private long seatsImported;
+        private long rowsRejected;
+        private long chunksCommitted;
+        private List<SeatImportErrorDTO> errors = List.of();
+        private boolean errorsTruncated;
+        private long durationMs;
+
+        public Builder concertId(String concertId) { this.concertId = concertId; return this; }
+        public Builder rowsRead(long rowsRead) { this.rowsRead = rowsRead; return this; }
+        public Builder seatsImported(long seatsImported) { this.seatsImported = seatsImported; return this; }
+        public Builder rowsRejected(long rowsRejected) { this.rowsRejected = rowsRejected; return this; }
+        public Builder chunksCommitted(long chunksCommitted) { this.chunksCommitted = chunksCommitted; return this; }
+        public Builder errors(List<SeatImportErrorDTO> errors) { this.errors = errors; return this; }
+        public Builder errorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; return this; }
+        public Builder durationMs(long durationMs) { this.durationMs = durationMs; return this; }
+
+        public SeatImportResultDTO build() {
+            return new SeatImportResultDTO(this);
+        }
+    }
+
+    // Getters
+    public String getConcertId() { return concertId; }
+    public long getRowsRead() { return rowsRead; }
+    public long getSeatsImported() { return seatsImported; }
+    public long getRowsRejected() { return rowsRejected; }
+    public long getChunksCommitted() { return chunksCommitted; }
+    public List<SeatImportErrorDTO> getErrors() { return errors; }
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public long getDurationMs() { return durationMs; }
+}
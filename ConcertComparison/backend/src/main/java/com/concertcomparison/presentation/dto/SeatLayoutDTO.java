@@ -0,0 +1,39 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Unveränderliches Seat-Layout eines Konzerts in einer bestimmten Layout-Version.
+ *
+ * Ändert sich nur bei createSeats/replaceSeats und kann daher vom Client
+ * dauerhaft zwischengespeichert werden. Der volatile Status wird separat
+ * über {@link SeatStatusVectorDTO} abgefragt.
+ */
+@Schema(description = "Statisches Seat-Layout eines Konzerts (Reihenfolge = Index im Status-Vektor)")
+public class SeatLayoutDTO {
+
+    private String concertId;
+    private long layoutVersion;
+    private List<SeatLayoutEntryDTO> seats;
+
+    public SeatLayoutDTO() {}
+
+    public SeatLayoutDTO(String concertId, long layoutVersion, List<SeatLayoutEntryDTO> seats) {
+        this.concertId = concertId;
+        this.layoutVersion = layoutVersion;
+        this.seats = seats;
+    }
+
+    public String getConcertId() {
+        return concertId;
+    }
+
+    public long getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    public List<SeatLayoutEntryDTO> getSeats() {
+        return seats;
+    }
+}
@@ -0,0 +1,36 @@
+package com.concertcomparison.presentation.dto;
+
+/**
+ * Statische Daten eines Sitzplatzes im Seat-Layout (ohne Status).
+ *
+ * Die Position im Layout entspricht dem Index im Status-Vektor.
+ */
+public class SeatLayoutEntryDTO {
+
+    private String id;
+    private String block;
+    private String category;
+    private String row;
+    private String number;
+    private Double price;
+
+    // Constructors
+    public SeatLayoutEntryDTO() {}
+
+    public SeatLayoutEntryDTO(String id, String block, String category, String row, String number, Double price) {
+        this.id = id;
+        this.block = block;
+        this.category = category;
+        this.row = row;
+        this.number = number;
+        this.price = price;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getBlock() { return block; }
+    public String getCategory() { return category; }
+    public String getRow() { return row; }
+    public String getNumber() { return number; }
+    public Double getPrice() { return price; }
+}
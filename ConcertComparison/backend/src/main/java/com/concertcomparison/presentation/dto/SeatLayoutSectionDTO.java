@@ -0,0 +1,104 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Eine Sektion im deklarativen Seat-Layout: Block × Reihen × Plätze mit einheitlicher Kategorie und Preis.
+ *
+ * Beispiel: Block A, Reihen 1-20, Plätze 1-30 → 600 Seats mit Nummern A-1-1 … A-20-30.
+ */
+@Schema(description = "Sektion eines deklarativen Seat-Layouts")
+public class SeatLayoutSectionDTO {
+
+    @NotBlank(message = "Block is required")
+    @Size(max = 50)
+    @Schema(description = "Bereich/Block", example = "Block A")
+    private String block;
+
+    @NotBlank(message = "Prefix is required")
+    @Size(max = 8)
+    @Schema(description = "Präfix der Seat-Nummer (<prefix>-<reihe>-<platz>)", example = "A")
+    private String prefix;
+
+    @NotBlank(message = "Category is required")
+    @Size(max = 50)
+    @Schema(description = "Preiskategorie", example = "CATEGORY_A")
+    private String category;
+
+    @NotNull(message = "rowFrom is required")
+    @Min(1)
+    @Max(9999)
+    @Schema(description = "Erste Reihe (inklusiv)", example = "1")
+    private Integer rowFrom;
+
+    @NotNull(message = "rowTo is required")
+    @Min(1)
+    @Max(9999)
+    @Schema(description = "Letzte Reihe (inklusiv)", example = "20")
+    private Integer rowTo;
+
+    @NotNull(message = "seatFrom is required")
+    @Min(1)
+    @Max(9999)
+    @Schema(description = "Erster Platz je Reihe (inklusiv)", example = "1")
+    private Integer seatFrom;
+
+    @NotNull(message = "seatTo is required")
+    @Min(1)
+    @Max(9999)
+    @Schema(description = "Letzter Platz je Reihe (inklusiv)", example = "30")
+    private Integer seatTo;
+
+    @NotNull(message = "Price is required")
+    @Positive(message = "Price must be positive")
+    @Schema(description = "Preis pro Sitzplatz in EUR", example = "59.99")
+    private Double price;
+
+    // ==================== CONSTRUCTORS ====================
+
+    public SeatLayoutSectionDTO() {}
+
+    public SeatLayoutSectionDTO(String block, String prefix, String category,
+                                Integer rowFrom, Integer rowTo, Integer seatFrom, Integer seatTo, Double price) {
+        this.block = block;
+        this.prefix = prefix;
+        this.category = category;
+        this.rowFrom = rowFrom;
+        this.rowTo = rowTo;
+        this.seatFrom = seatFrom;
+        this.seatTo = seatTo;
+        this.price = price;
+    }
+
+    // ==================== GETTERS & SETTERS ====================
+
+    public String getBlock() { return block; }
+    public void setBlock(String block) { this.block = block; }
+
+    public String getPrefix() { return prefix; }
+    public void setPrefix(String prefix) { this.prefix = prefix; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public Integer getRowFrom() { return rowFrom; }
+    public void setRowFrom(Integer rowFrom) { this.rowFrom = rowFrom; }
+
+    public Integer getRowTo() { return rowTo; }
+    public void setRowTo(Integer rowTo) { this.rowTo = rowTo; }
+
+    public Integer getSeatFrom() { return seatFrom; }
+    public void setSeatFrom(Integer seatFrom) { this.seatFrom = seatFrom; }
+
+    public Integer getSeatTo() { return seatTo; }
+    public void setSeatTo(Integer seatTo) { this.seatTo = seatTo; }
+
+    public Double getPrice() { return price; }
+    public void setPrice(Double price) { this.price = price; }
+}
@@ -0,0 +1,70 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Deklaratives Seat-Layout (PUT /api/concerts/{id}/seats/layout, GET /api/events/{id}/seats/layout/spec).
+ *
+ * Request: nur sections. Response: zusätzlich Concert-ID, Layout-Version und Seat-Anzahl.
+ * Die Reihenfolge Sektion → Reihe → Platz entspricht dem Index im Status-Vektor.
+ */
+@Schema(description = "Kompaktes Seat-Layout, das serverseitig zu Seats expandiert wird")
+public class SeatLayoutSpecDTO {
+
+    @Schema(description = "Concert-ID", accessMode = Schema.AccessMode.READ_ONLY)
+    private String concertId;
+
+    @Schema(description = "Layout-Version", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long layoutVersion;
+
+    @Schema(description = "Anzahl generierter Seats", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long seatCount;
+
+    @NotEmpty(message = "At least one section is required")
+    @Size(max = 500, message = "At most 500 sections are allowed")
+    @Valid
+    @Schema(description = "Sektionen in Generierungsreihenfolge")
+    private List<SeatLayoutSectionDTO> sections;
+
+    // ==================== CONSTRUCTORS ====================
+
+    public SeatLayoutSpecDTO() {}
+
+    public SeatLayoutSpecDTO(List<SeatLayoutSectionDTO> sections) {
+        this.sections = sections;
+    }
+
+    public SeatLayoutSpecDTO(String concertId, Long layoutVersion, Long seatCount, List<SeatLayoutSectionDTO> sections) {
+        this.concertId = concertId;
+        this.layoutVersion = layoutVersion;
+        this.seatCount = seatCount;
+        this.sections = sections;
+    }
+
+    // ==================== GETTERS & SETTERS ====================
+
+    public String getConcertId() {
+        return concertId;
+    }
+
+    public Long getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    public Long getSeatCount() {
+        return seatCount;
+    }
+
+    public List<SeatLayoutSectionDTO> getSections() {
+        return sections;
+    }
+
+    public void setSections(List<SeatLayoutSectionDTO> sections) {
+        this.sections = sections;
+    }
+}
@@ -0,0 +1,18 @@
+package com.concertcomparison.presentation.dto;
+
+/**
+ * Modus für PUT /api/concerts/{id}/seats.
+ */
+public enum SeatReplaceMode {
+
+    /**
+     * Abgleich über die Sitzplatznummer: nur geänderte Seats werden aktualisiert,
+     * neue eingefügt und entfernte AVAILABLE Seats gelöscht. Seat-IDs bleiben stabil.
+     */
+    RECONCILE,
+
+    /**
+     * Alle Seats löschen und neu anlegen (inkl. HELD/SOLD, alle Seat-IDs ändern sich).
+     */
+    FULL
+}
@@ -0,0 +1,26 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Ergebnis von PUT /api/concerts/{id}/seats.
+ *
+ * @param inserted  neu angelegte Seats
+ * @param updated   geänderte Seats (Kategorie, Block, Reihe, Nummer oder Preis)
+ * @param deleted   gelöschte Seats
+ * @param unchanged unveränderte Seats
+ * @param retained  Seats, die nicht AVAILABLE sind und deshalb unverändert bzw. erhalten blieben
+ * @param noOp      true, wenn das hochgeladene Seat-Set identisch zum letzten Upload war
+ */
+@Schema(description = "Ergebnis des Ersetzens/Abgleichens der Sitzplätze")
+public record SeatReplaceResultDTO(
+    String concertId,
+    SeatReplaceMode mode,
+    int inserted,
+    int updated,
+    int deleted,
+    int unchanged,
+    int retained,
+    boolean noOp,
+    long layoutVersion
+) {}
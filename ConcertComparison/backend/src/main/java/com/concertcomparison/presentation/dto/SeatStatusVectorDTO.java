@@ -0,0 +1,40 @@
+package com.concertcomparison.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Kompakter Status-Vektor aller Seats eines Konzerts.
+ *
+ * statuses enthält ein Zeichen pro Seat in Layout-Reihenfolge
+ * (A = AVAILABLE, H = HELD, S = SOLD). Weicht layoutVersion von der
+ * Version des beim Client gespeicherten Layouts ab, muss das Layout neu geladen werden.
+ */
+@Schema(description = "Status-Vektor: ein Zeichen pro Seat in Layout-Reihenfolge (A/H/S)")
+public class SeatStatusVectorDTO {
+
+    private String concertId;
+    private long layoutVersion;
+
+    @Schema(example = "AAHSA")
+    private String statuses;
+
+    public SeatStatusVectorDTO() {}
+
+    public SeatStatusVectorDTO(String concertId, long layoutVersion, String statuses) {
+        this.concertId = concertId;
+        this.layoutVersion = layoutVersion;
+        this.statuses = statuses;
+    }
+
+    public String getConcertId() {
+        return concertId;
+    }
+
+    public long getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    public String getStatuses() {
+        return statuses;
+    }
+}
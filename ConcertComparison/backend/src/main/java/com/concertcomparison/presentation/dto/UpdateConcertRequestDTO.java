@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
  * - date: Muss in der Zukunft liegen
  * - venue: Nicht leer, maximal 500 Zeichen
  * - description: Optional, maximal 2000 Zeichen
+ * - onSaleAt: Optional, Verkaufsstart (nicht nach dem Konzertdatum)
  */
 @Schema(description = "Request zum Aktualisieren eines bestehenden Konzerts")
 public class UpdateConcertRequestDTO {
@@ -52,6 +53,13 @@ public class UpdateConcertRequestDTO {
     )
     private String description;
     
+    @Schema(
+        description = "Optionaler Verkaufsstart (ISO 8601); Caches werden vorher vorgewärmt",
+        example = "2025-03-01T10:00:00",
+        nullable = true
+    )
+    private LocalDateTime onSaleAt;
+    
     // ==================== CONSTRUCTORS ====================
     
     public UpdateConcertRequestDTO() {}
@@ -96,4 +104,12 @@ public class UpdateConcertRequestDTO {
     public void setDescription(String description) {
         this.description = description;
     }
+    
+    public LocalDateTime getOnSaleAt() {
+        return onSaleAt;
+    }
+    
+    public void setOnSaleAt(LocalDateTime onSaleAt) {
+        this.onSaleAt = onSaleAt;
+    }
 }
@@ -215,6 +215,66 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    /**
+     * Behandelt ServiceOverloadedException (adaptive Nebenläufigkeitsgrenze erreicht).
+     * HTTP Status: 503 SERVICE_UNAVAILABLE
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponseDTO> handleServiceOverloaded(
+            ServiceOverloadedException ex,
+            HttpServletRequest request) {
+        Locale locale = LocaleContextHolder.getLocale();
+        
+        String message = messageSource.getMessage(
+                "error.service.overloaded",
+                new Object[]{ex.getRetryAfterSeconds()},
+                ex.getMessage(),
+                locale
+        );
+        
+        ErrorResponseDTO response = ErrorResponseDTO.builder()
+                .code("SERVICE_OVERLOADED")
+                .message(message)
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .retryAfter((int) ex.getRetryAfterSeconds())
+                .build();
+        
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    /**
+     * Behandelt HoldQuotaExceededException (User hält bereits zu viele aktive Holds).
+     * HTTP Status: 429 TOO_MANY_REQUESTS
+     */
+    @ExceptionHandler(HoldQuotaExceededException.class)
+    public ResponseEntity<ErrorResponseDTO> handleHoldQuotaExceeded(
+            HoldQuotaExceededException ex,
+            HttpServletRequest request) {
+        Locale locale = LocaleContextHolder.getLocale();
+        
+        String message = messageSource.getMessage(
+                ex.isGlobal() ? "error.hold.quota-exceeded.global" : "error.hold.quota-exceeded.concert",
+                new Object[]{ex.getLimit()},
+                ex.getMessage(),
+                locale
+        );
+        
+        ErrorResponseDTO response = ErrorResponseDTO.builder()
+                .code("HOLD_QUOTA_EXCEEDED")
+                .message(message)
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+    }
+
     /**
      * Behandelt ConcertNotFoundException.
      * HTTP Status: 404 NOT_FOUND
@@ -1,11 +1,15 @@
 package com.concertcomparison.application.service;
 
+import com.concertcomparison.domain.event.ConcertChangedEvent;
 import com.concertcomparison.domain.exception.InvalidConcertDateException;
 import com.concertcomparison.domain.model.Concert;
 import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.ConcertSummaryView;
 import com.concertcomparison.domain.repository.ConcertFilterCriteria;
 import com.concertcomparison.domain.repository.SeatRepository;
 import com.concertcomparison.domain.repository.SeatAvailabilityAggregate;
+import com.concertcomparison.infrastructure.cache.ConcertCatalogCache;
+import com.concertcomparison.infrastructure.search.ConcertFacetIndex;
 import com.concertcomparison.presentation.dto.CreateConcertRequestDTO;
 import com.concertcomparison.presentation.dto.CreateSeatRequestDTO;
 import com.concertcomparison.presentation.dto.ConcertResponseDTO;
@@ -19,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -61,6 +66,15 @@ class ConcertApplicationServiceTest {
     @Mock
     private SeatRepository seatRepository;
     
+    @Mock
+    private ConcertFacetIndex facetIndex;
+    
+    @Mock
+    private ConcertCatalogCache catalogCache;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private ConcertApplicationService concertApplicationService;
     
@@ -175,6 +189,7 @@ class ConcertApplicationServiceTest {
             assertThat(response.getDate()).isEqualTo(FUTURE_DATE);
             
             verify(concertRepository, times(1)).save(any(Concert.class));
+            verify(eventPublisher).publishEvent(any(ConcertChangedEvent.class));
         }
         
         @Test
@@ -454,6 +469,8 @@ class ConcertApplicationServiceTest {
             // Assert
             verify(concertRepository, times(1)).findById(1L);
             verify(seatRepository, times(1)).saveAllBatch(anyList());
+            assertThat(concert.getSeatLayoutVersion()).isEqualTo(1L);
+            verify(concertRepository).save(concert);
         }
         
         @Test
@@ -539,7 +556,8 @@ class ConcertApplicationServiceTest {
         @DisplayName("Sollte leere Liste zurückgeben wenn keine Concerts existieren")
         void shouldReturnEmptyListWhenNoConcertsExist() {
             // Arrange
-            when(concertRepository.findAll()).thenReturn(new ArrayList<>());
+            when(catalogCache.concertIds()).thenReturn(List.of());
+            when(catalogCache.summaries(List.of())).thenReturn(new ArrayList<>());
             
             // Act
             List<ConcertResponseDTO> concerts = concertApplicationService.getAllConcerts();
@@ -552,12 +570,13 @@ class ConcertApplicationServiceTest {
         @DisplayName("Sollte alle Concerts zurückgeben")
         void shouldReturnAllConcerts() {
             // Arrange
-            Concert concert1 = Concert.createConcert("Concert 1", FUTURE_DATE, "Venue 1", "Desc 1");
-            concert1.setId(1L);
-            Concert concert2 = Concert.createConcert("Concert 2", FUTURE_DATE.plusMonths(1), "Venue 2", "Desc 2");
-            concert2.setId(2L);
+            ConcertSummaryView concert1 = new ConcertSummaryView(
+                1L, "Concert 1", FUTURE_DATE, "Venue 1", "Desc 1", null, null, null);
+            ConcertSummaryView concert2 = new ConcertSummaryView(
+                2L, "Concert 2", FUTURE_DATE.plusMonths(1), "Venue 2", "Desc 2", null, null, null);
             
-            when(concertRepository.findAll()).thenReturn(Arrays.asList(concert1, concert2));
+            when(catalogCache.concertIds()).thenReturn(List.of(1L, 2L));
+            when(catalogCache.summaries(List.of(1L, 2L))).thenReturn(Arrays.asList(concert1, concert2));
             
             // Act
             List<ConcertResponseDTO> concerts = concertApplicationService.getAllConcerts();
@@ -0,0 +1,149 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.presentation.dto.ConcertComparisonItemDTO;
+import com.concertcomparison.presentation.dto.ConcertComparisonResponseDTO;
+import com.concertcomparison.presentation.dto.ConcertInventorySummaryDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests für ConcertComparisonService (Fan-out, Latenz-Budget, Partial Results).
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcertComparisonService Unit Tests")
+class ConcertComparisonServiceTest {
+
+    private static final long TIMEOUT_MS = 200;
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private InventorySummaryService inventorySummaryService;
+
+    private ConcertComparisonService comparisonService;
+
+    @BeforeEach
+    void setUp() {
+        comparisonService = new ConcertComparisonService(
+            concertRepository, inventorySummaryService, 3, TIMEOUT_MS, 4, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        comparisonService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Sollte Konzerte in Request-Reihenfolge mit Inventar liefern")
+    void shouldCompareConcertsInRequestOrder() {
+        when(concertRepository.findAllById(anyIterable()))
+            .thenReturn(List.of(concert(1L, "Alpha"), concert(2L, "Beta")));
+        when(inventorySummaryService.getInventorySummary(1L)).thenReturn(summary(1L, 10));
+        when(inventorySummaryService.getInventorySummary(2L)).thenReturn(summary(2L, 0));
+
+        ConcertComparisonResponseDTO response = comparisonService.compareConcerts(List.of(2L, 1L, 2L));
+
+        assertThat(response.isComplete()).isTrue();
+        assertThat(response.getConcerts())
+            .extracting(ConcertComparisonItemDTO::getName, ConcertComparisonItemDTO::getStatus)
+            .containsExactly(
+                tuple("Beta", ConcertComparisonItemDTO.STATUS_COMPLETE),
+                tuple("Alpha", ConcertComparisonItemDTO.STATUS_COMPLETE)
+            );
+        assertThat(response.getConcerts().get(1).getInventory().getAvailableSeats()).isEqualTo(10);
+        assertThat(response.getNotFoundIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Sollte fehlende Konzerte als notFound kennzeichnen")
+    void shouldReportNotFoundIds() {
+        when(concertRepository.findAllById(anyIterable())).thenReturn(List.of(concert(1L, "Alpha")));
+        when(inventorySummaryService.getInventorySummary(1L)).thenReturn(summary(1L, 5));
+
+        ConcertComparisonResponseDTO response = comparisonService.compareConcerts(List.of(1L, 99L));
+
+        assertThat(response.getConcerts()).hasSize(1);
+        assertThat(response.getNotFoundIds()).containsExactly("99");
+        verify(inventorySummaryService, never()).getInventorySummary(99L);
+    }
+
+    @Test
+    @DisplayName("Sollte langsame Konzerte nach Ablauf des Budgets als TIMEOUT liefern")
+    void shouldReturnPartialResultOnTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(concertRepository.findAllById(anyIterable()))
+            .thenReturn(List.of(concert(1L, "Alpha"), concert(2L, "Slow")));
+        when(inventorySummaryService.getInventorySummary(1L)).thenReturn(summary(1L, 5));
+        when(inventorySummaryService.getInventorySummary(2L)).thenAnswer(invocation -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            }
+            return summary(2L, 5);
+        });
+
+        long start = System.nanoTime();
+        ConcertComparisonResponseDTO response = comparisonService.compareConcerts(List.of(1L, 2L));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        assertThat(response.isComplete()).isFalse();
+        assertThat(response.getConcerts())
+            .extracting(ConcertComparisonItemDTO::getStatus)
+            .containsExactly(ConcertComparisonItemDTO.STATUS_COMPLETE, ConcertComparisonItemDTO.STATUS_TIMEOUT);
+        assertThat(response.getConcerts().get(1).getInventory()).isNull();
+        assertThat(elapsedMs).isLessThan(TIMEOUT_MS + 1000);
+        // Budget gilt auch für den Pool-Thread: der langsame Task wird unterbrochen
+        await().atMost(Duration.ofSeconds(1)).untilTrue(interrupted);
+    }
+
+    @Test
+    @DisplayName("Sollte fehlschlagen wenn mehr als max-concerts IDs übergeben werden")
+    void shouldRejectTooManyConcerts() {
+        assertThatThrownBy(() -> comparisonService.compareConcerts(List.of(1L, 2L, 3L, 4L)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> comparisonService.compareConcerts(Collections.emptyList()))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(concertRepository, inventorySummaryService);
+    }
+
+    private static Concert concert(Long id, String name) {
+        Concert concert = Concert.createConcert(name, LocalDateTime.now().plusMonths(1), "Arena", null);
+        concert.setId(id);
+        return concert;
+    }
+
+    private static ConcertInventorySummaryDTO summary(Long concertId, long available) {
+        return ConcertInventorySummaryDTO.builder()
+            .concertId(String.valueOf(concertId))
+            .totalSeats(10)
+            .availableSeats(available)
+            .minPrice(50.0)
+            .maxPrice(100.0)
+            .build();
+    }
+}
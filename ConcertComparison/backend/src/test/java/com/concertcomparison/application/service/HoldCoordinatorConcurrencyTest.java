@@ -0,0 +1,122 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.exception.SeatNotAvailableException;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.ReservationRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.cache.SeatConcertLookup;
+import com.concertcomparison.infrastructure.metrics.BookingMetrics;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmapRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency Tests für den HoldCoordinator: Jede Strategie (auch der adaptive Wechsel
+ * mitten im Ansturm) vergibt einen Hot Seat genau einmal.
+ *
+ * KEIN @Transactional: parallele Threads müssen committed Testdaten sehen.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("HoldCoordinator Concurrency Tests")
+class HoldCoordinatorConcurrencyTest {
+
+    private static final int THREADS = 30;
+
+    @Autowired
+    private HoldApplicationService optimisticService;
+
+    @Autowired
+    private SeatConcertLookup seatConcertLookup;
+
+    @Autowired
+    private SeatStatusBitmapRegistry seatStatusRegistry;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private Long hotSeatId;
+
+    @BeforeEach
+    void setUp() {
+        cleanupDatabase();
+        hotSeatId = seatRepository.save(new Seat(1L, "HOT-1", "VIP", "Block A", "1", "1", 199.0)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupDatabase();
+    }
+
+    private void cleanupDatabase() {
+        reservationRepository.deleteAll();
+        seatRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"ADAPTIVE", "OPTIMISTIC", "QUEUED"})
+    @DisplayName("Hot Seat: genau 1 Erfolg, alle anderen Requests sind Konflikte")
+    void shouldHoldHotSeatExactlyOnce(String strategy) throws InterruptedException {
+        // Niedrige min-samples, damit ADAPTIVE während des Ansturms eskaliert
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HoldCoordinator coordinator = new HoldCoordinator(optimisticService, seatConcertLookup, seatStatusRegistry,
+            new HoldQuotaTracker(meterRegistry, true, 8, 20), meterRegistry,
+            new BookingMetrics(meterRegistry), strategy, 0.5, 3, 256, 5000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        for (int i = 0; i < THREADS; i++) {
+            String userId = "user-" + i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    coordinator.createHold(hotSeatId, userId);
+                    successes.incrementAndGet();
+                } catch (SeatNotAvailableException | IllegalStateException | OptimisticLockingFailureException e) {
+                    conflicts.incrementAndGet();
+                } catch (Exception e) {
+                    unexpected.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        boolean completed = done.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(completed).isTrue();
+        assertThat(successes.get()).isEqualTo(1);
+        assertThat(conflicts.get()).isEqualTo(THREADS - 1);
+        assertThat(unexpected.get()).isZero();
+        assertThat(seatRepository.findById(hotSeatId).orElseThrow().getStatus()).isEqualTo(SeatStatus.HELD);
+        assertThat(reservationRepository.findAll()).hasSize(1);
+    }
+}
@@ -0,0 +1,328 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.exception.HoldQuotaExceededException;
+import com.concertcomparison.domain.exception.SeatNotAvailableException;
+import com.concertcomparison.domain.exception.SeatNotFoundException;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.cache.SeatConcertLookup;
+import com.concertcomparison.infrastructure.metrics.BookingMetrics;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmap;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmapRegistry;
+import com.concertcomparison.presentation.dto.HoldResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HoldCoordinator Unit Tests")
+class HoldCoordinatorTest {
+
+    private static final Long SEAT_ID = 11L;
+    private static final Long CONCERT_ID = 1L;
+
+    @Mock
+    private HoldApplicationService optimisticService;
+
+    @Mock
+    private SeatStatusBitmapRegistry seatStatusRegistry;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    private MeterRegistry meterRegistry;
+    private HoldQuotaTracker quotaTracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        quotaTracker = new HoldQuotaTracker(meterRegistry, true, 100, 100);
+        lenient().when(seatRepository.findConcertIdById(anyLong())).thenReturn(Optional.of(CONCERT_ID));
+        // Ohne bekannte Seats gilt jeder Seat vor dem Versuch als verfügbar
+        lenient().when(seatStatusRegistry.getOrLoad(anyLong())).thenReturn(bitmap());
+    }
+
+    private static SeatStatusBitmap bitmap(long... soldSeatIds) {
+        SeatStatus[] statuses = new SeatStatus[soldSeatIds.length];
+        Arrays.fill(statuses, SeatStatus.SOLD);
+        return new SeatStatusBitmap(1, soldSeatIds, statuses);
+    }
+
+    private HoldCoordinator coordinator(String strategy) {
+        return new HoldCoordinator(optimisticService, new SeatConcertLookup(seatRepository), seatStatusRegistry,
+            quotaTracker, meterRegistry, new BookingMetrics(meterRegistry), strategy, 0.5, 10, 256, 500);
+    }
+
+    private static HoldResponseDTO response(Long seatId) {
+        return new HoldResponseDTO("1", String.valueOf(seatId), 900, LocalDateTime.now().plusMinutes(15));
+    }
+
+    private double attempts(String strategy, String outcome) {
+        return meterRegistry.counter("hold.attempts", "strategy", strategy, "outcome", outcome).count();
+    }
+
+    private long bookingHolds(String concert, String outcome) {
+        return meterRegistry.timer(BookingMetrics.HOLD, "concert", concert, "outcome", outcome).count();
+    }
+
+    @Nested
+    @DisplayName("Adaptive Auswahl")
+    class Adaptive {
+
+        @Test
+        @DisplayName("Ohne Konflikte läuft der Hold optimistisch")
+        void shouldUseOptimisticWithoutContention() {
+            HoldCoordinator coordinator = coordinator("ADAPTIVE");
+            when(optimisticService.createHold(SEAT_ID, "user-1")).thenReturn(response(SEAT_ID));
+
+            coordinator.createHold(SEAT_ID, "user-1");
+
+            verify(optimisticService).createHold(SEAT_ID, "user-1");
+            assertThat(attempts("optimistic", "success")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Unter min-samples bleibt es trotz Konflikten optimistisch")
+        void shouldIgnoreRateBelowMinSamples() {
+            HoldCoordinator coordinator = coordinator("ADAPTIVE");
+            when(optimisticService.createHold(anyLong(), anyString()))
+                .thenThrow(new SeatNotAvailableException("vergeben"));
+
+            for (int i = 0; i < 9; i++) {
+                assertThatThrownBy(() -> coordinator.createHold(SEAT_ID, "user"))
+                    .isInstanceOf(SeatNotAvailableException.class);
+            }
+
+            assertThat(coordinator.selectStrategy(SEAT_ID, CONCERT_ID)).isEqualTo(HoldCoordinator.Strategy.OPTIMISTIC);
+            assertThat(attempts("optimistic", "conflict")).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("Mittlere Konfliktrate bleibt optimistisch, hohe schaltet auf Warteschlange")
+        void shouldEscalateWithConflictRate() {
+            HoldCoordinator coordinator = coordinator("ADAPTIVE");
+            when(optimisticService.createHold(anyLong(), anyString())).thenReturn(response(SEAT_ID));
+
+            // 3 Konflikte, 7 Erfolge → Rate 0.3
+            when(optimisticService.createHold(SEAT_ID, "loser"))
+                .thenThrow(new SeatNotAvailableException("vergeben"));
+            for (int i = 0; i < 7; i++) {
+                coordinator.createHold(SEAT_ID, "winner");
+            }
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> coordinator.createHold(SEAT_ID, "loser"))
+                    .isInstanceOf(SeatNotAvailableException.class);
+            }
+            assertThat(coordinator.selectStrategy(SEAT_ID, CONCERT_ID)).isEqualTo(HoldCoordinator.Strategy.OPTIMISTIC);
+
+            // Weitere Konflikte → Rate 7/14 = 0.5
+            for (int i = 0; i < 4; i++) {
+                assertThatThrownBy(() -> coordinator.createHold(SEAT_ID, "loser"))
+                    .isInstanceOf(SeatNotAvailableException.class);
+            }
+
+            assertThat(coordinator.selectStrategy(SEAT_ID, CONCERT_ID)).isEqualTo(HoldCoordinator.Strategy.QUEUED);
+            assertThat(attempts("optimistic", "conflict")).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("Heißes Konzert macht auch bisher unbeteiligte Seats vorsichtiger")
+        void shouldUseConcertContentionForColdSeats() {
+            HoldCoordinator coordinator = coordinator("ADAPTIVE");
+            when(optimisticService.createHold(anyLong(), anyString()))
+                .thenThrow(new SeatNotAvailableException("vergeben"));
+            for (long seatId = 100; seatId < 120; seatId++) {
+                long id = seatId;
+                assertThatThrownBy(() -> coordinator.createHold(id, "user"))
+                    .isInstanceOf(SeatNotAvailableException.class);
+            }
+
+            assertThat(coordinator.selectStrategy(999L, CONCERT_ID)).isEqualTo(HoldCoordinator.Strategy.QUEUED);
+            assertThat(coordinator.selectStrategy(999L, 2L)).isEqualTo(HoldCoordinator.Strategy.OPTIMISTIC);
+        }
+
+        @Test
+        @DisplayName("Holds auf bereits verkaufte Seats zählen nicht als Konflikt")
+        void shouldNotCountSoldSeatsAsConflict() {
+            HoldCoordinator coordinator = coordinator("ADAPTIVE");
+            when(seatStatusRegistry.getOrLoad(CONCERT_ID)).thenReturn(bitmap(SEAT_ID));
+            when(optimisticService.createHold(anyLong(), anyString()))
+                .thenThrow(new SeatNotAvailableException("verkauft"));
+
+            for (int i = 0; i < 20; i++) {
+                assertThatThrownBy(() -> coordinator.createHold(SEAT_ID, "user"))
+                    .isInstanceOf(SeatNotAvailableException.class);
+            }
+
+            assertThat(coordinator.selectStrategy(SEAT_ID, CONCERT_ID)).isEqualTo(HoldCoordinator.Strategy.OPTIMISTIC);
+            assertThat(attempts("optimistic", "conflict")).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("Nach dem Ausverkauf klingt die Konfliktrate wieder ab")
+        void shouldDecayAfterSellOut() {
+            HoldCoordinator coordinator = coordinator("ADAPTIVE");
+            when(optimisticService.createHold(anyLong(), anyString()))
+                .thenThrow(new SeatNotAvailableException("vergeben"));
+            long[] seatIds = new long[20];
+            for (int i = 0; i < seatIds.length; i++) {
+                long id = 100 + i;
+                seatIds[i] = id;
+                assertThatThrownBy(() -> coordinator.createHold(id, "user"))
+                    .isInstanceOf(SeatNotAvailableException.class);
+            }
+            assertThat(coordinator.selectStrategy(999L, CONCERT_ID)).isEqualTo(HoldCoordinator.Strategy.QUEUED);
+
+            // Alle Seats verkauft: weitere Versuche scheitern ohne Rennen
+            when(seatStatusRegistry.getOrLoad(CONCERT_ID)).thenReturn(bitmap(seatIds));
+            for (int i = 0; i < 30; i++) {
+                long id = seatIds[i % seatIds.length];
+                assertThatThrownBy(() -> coordinator.createHold(id, "user"))
+                    .isInstanceOf(SeatNotAvailableException.class);
+            }
+
+            assertThat(coordinator.selectStrategy(999L, CONCERT_ID)).isEqualTo(HoldCoordinator.Strategy.OPTIMISTIC);
+        }
+    }
+
+    @Nested
+    @DisplayName("Feste Strategie und Fehlerbehandlung")
+    class FixedAndErrors {
+
+        @Test
+        @DisplayName("Feste Strategie wird unabhängig von der Konfliktrate verwendet")
+        void shouldUseFixedStrategy() {
+            HoldCoordinator coordinator = coordinator("optimistic");
+            when(optimisticService.createHold(anyLong(), anyString()))
+                .thenThrow(new SeatNotAvailableException("vergeben"));
+            for (int i = 0; i < 20; i++) {
+                assertThatThrownBy(() -> coordinator.createHold(SEAT_ID, "user-1"))
+                    .isInstanceOf(SeatNotAvailableException.class);
+            }
+
+            assertThat(coordinator.selectStrategy(SEAT_ID, CONCERT_ID)).isEqualTo(HoldCoordinator.Strategy.OPTIMISTIC);
+            assertThat(attempts("queued", "conflict")).isZero();
+        }
+
+        @Test
+        @DisplayName("QUEUED läuft über den optimistischen Pfad")
+        void shouldRunQueuedThroughOptimisticPath() {
+            HoldCoordinator coordinator = coordinator("QUEUED");
+            when(optimisticService.createHold(SEAT_ID, "user-1")).thenReturn(response(SEAT_ID));
+
+            assertThat(coordinator.createHold(SEAT_ID, "user-1").seatId()).isEqualTo("11");
+            assertThat(attempts("queued", "success")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Lock-Timeout wird als SeatNotAvailableException gemeldet und zählt als Konflikt")
+        void shouldTranslateLockTimeout() {
+            HoldCoordinator coordinator = coordinator("OPTIMISTIC");
+            when(seatStatusRegistry.getOrLoad(CONCERT_ID)).thenReturn(bitmap(SEAT_ID));
+            when(optimisticService.createHold(SEAT_ID, "user-1"))
+                .thenThrow(new CannotAcquireLockException("Timeout"));
+
+            assertThatThrownBy(() -> coordinator.createHold(SEAT_ID, "user-1"))
+                .isInstanceOf(SeatNotAvailableException.class)
+                .hasMessageContaining("gesperrt");
+            assertThat(attempts("optimistic", "conflict")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("IllegalStateException zählt als Fehler, nicht als Konflikt, und eskaliert nicht")
+        void shouldNotCountIllegalStateAsConflict() {
+            HoldCoordinator coordinator = coordinator("ADAPTIVE");
+            when(optimisticService.createHold(anyLong(), anyString()))
+                .thenThrow(new IllegalStateException("Ungültiger Zustand"));
+            for (int i = 0; i < 20; i++) {
+                assertThatThrownBy(() -> coordinator.createHold(SEAT_ID, "user-1"))
+                    .isInstanceOf(IllegalStateException.class);
+            }
+
+            assertThat(attempts("optimistic", "error")).isEqualTo(20);
+            assertThat(attempts("optimistic", "conflict")).isZero();
+            assertThat(coordinator.selectStrategy(SEAT_ID, CONCERT_ID)).isEqualTo(HoldCoordinator.Strategy.OPTIMISTIC);
+        }
+
+        @Test
+        @DisplayName("Unbekannter Seat → SeatNotFoundException ohne Hold-Versuch")
+        void shouldRejectUnknownSeat() {
+            HoldCoordinator coordinator = coordinator("ADAPTIVE");
+            when(seatRepository.findConcertIdById(404L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> coordinator.createHold(404L, "user-1"))
+                .isInstanceOf(SeatNotFoundException.class);
+            verifyNoInteractions(optimisticService);
+            assertThat(bookingHolds("unknown", "not_found")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Ungültige Schwellwerte werden abgelehnt")
+        void shouldRejectInvalidThresholds() {
+            assertThatThrownBy(() -> new HoldCoordinator(optimisticService, new SeatConcertLookup(seatRepository),
+                seatStatusRegistry, quotaTracker, meterRegistry, new BookingMetrics(meterRegistry),
+                "ADAPTIVE", 1.5, 10, 256, 500))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Hold-Quota")
+    class Quota {
+
+        @BeforeEach
+        void setUpQuota() {
+            quotaTracker = new HoldQuotaTracker(meterRegistry, true, 2, 3);
+        }
+
+        @Test
+        @DisplayName("Erreichte Concert-Quota → HoldQuotaExceededException ohne Hold-Versuch, als rejected gemessen")
+        void shouldRejectWhenConcertQuotaReached() {
+            HoldCoordinator coordinator = coordinator("OPTIMISTIC");
+            when(optimisticService.createHold(anyLong(), anyString())).thenReturn(response(SEAT_ID));
+            coordinator.createHold(1L, "bot");
+            coordinator.createHold(2L, "bot");
+
+            assertThatThrownBy(() -> coordinator.createHold(3L, "bot"))
+                .isInstanceOf(HoldQuotaExceededException.class)
+                .satisfies(e -> assertThat(((HoldQuotaExceededException) e).isGlobal()).isFalse());
+            verify(optimisticService, times(2)).createHold(anyLong(), anyString());
+            assertThat(quotaTracker.activeHolds("bot", CONCERT_ID)).isEqualTo(2);
+            assertThat(bookingHolds("1", "success")).isEqualTo(2);
+            assertThat(bookingHolds("1", "rejected")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Gescheiterter Hold gibt den Quota-Slot zurück")
+        void shouldReleaseSlotWhenHoldFails() {
+            HoldCoordinator coordinator = coordinator("OPTIMISTIC");
+            when(optimisticService.createHold(anyLong(), anyString()))
+                .thenThrow(new SeatNotAvailableException("vergeben"));
+
+            for (int i = 0; i < 5; i++) {
+                assertThatThrownBy(() -> coordinator.createHold(SEAT_ID, "user-1"))
+                    .isInstanceOf(SeatNotAvailableException.class);
+            }
+
+            assertThat(quotaTracker.activeHolds("user-1")).isZero();
+        }
+    }
+}
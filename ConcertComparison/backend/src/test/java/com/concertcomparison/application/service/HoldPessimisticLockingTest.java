@@ -1,5 +1,6 @@
 package com.concertcomparison.application.service;
 
+import com.concertcomparison.domain.exception.SeatNotAvailableException;
 import com.concertcomparison.domain.model.Reservation;
 import com.concertcomparison.domain.model.Seat;
 import com.concertcomparison.domain.model.SeatStatus;
@@ -106,13 +107,13 @@ class HoldPessimisticLockingTest {
                     HoldResponseDTO result = pessimisticService.createHoldWithPessimisticLock(testSeatId, userId);
                     successCount.incrementAndGet();
 
-                } catch (IllegalStateException e) {
+                } catch (SeatNotAvailableException e) {
                     // Erwarteter Fall: Seat bereits HELD (nach dem 1. Erfolg)
                     if (e.getMessage().contains("bereits") || e.getMessage().contains("nicht verfügbar")) {
                         seatNotAvailableCount.incrementAndGet();
                     } else {
                         unexpectedErrorCount.incrementAndGet();
-                        System.err.println("Unexpected IllegalStateException: " + e.getMessage());
+                        System.err.println("Unexpected SeatNotAvailableException: " + e.getMessage());
                     }
                 } catch (Exception e) {
                     // NICHT erwartet: Keine OptimisticLockException!
@@ -167,7 +168,7 @@ class HoldPessimisticLockingTest {
                     
                     try {
                         pessimisticService.createHoldWithPessimisticLock(testSeatId, userId);
-                    } catch (IllegalStateException e) {
+                    } catch (SeatNotAvailableException e) {
                         // Expected für alle außer dem ersten
                     }
                     
@@ -2,6 +2,7 @@ package com.concertcomparison.application.service;
 
 import com.concertcomparison.config.TestPaymentConfiguration;
 import com.concertcomparison.domain.exception.ReservationExpiredException;
+import com.concertcomparison.domain.exception.SeatNotHeldException;
 import com.concertcomparison.domain.model.*;
 import com.concertcomparison.domain.repository.OrderRepository;
 import com.concertcomparison.domain.repository.ReservationRepository;
@@ -198,7 +199,7 @@ class OrderApplicationServiceTest {
 
         // Act & Assert
         assertThatThrownBy(() -> orderApplicationService.purchaseTicket(savedReservation.getId(), USER_ID, PaymentMethod.CREDIT_CARD))
-            .isInstanceOf(IllegalStateException.class)
+            .isInstanceOf(SeatNotHeldException.class)
             .hasMessageContaining("ist nicht reserviert");
 
         // Verify keine Order erstellt
@@ -7,6 +7,7 @@ import com.concertcomparison.domain.repository.SeatRepository;
 import com.concertcomparison.presentation.dto.AvailabilityByCategoryDTO;
 import com.concertcomparison.presentation.dto.SeatAvailabilityResponseDTO;
 import com.concertcomparison.presentation.dto.SeatResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -39,6 +43,9 @@ class SeatApplicationServiceIntegrationTest {
     @Autowired
     private ConcertRepository concertRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private Concert testConcert;
     private Seat vipSeat1;
     private Seat vipSeat2;
@@ -71,10 +78,10 @@ class SeatApplicationServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("getSeatAvailability sollte alle Seats mit String IDs zurückgeben")
-    void getSeatAvailability_ShouldReturnAllSeats_WithStringIds() {
+    @DisplayName("writeSeatAvailability sollte alle Seats mit String IDs zurückgeben")
+    void writeSeatAvailability_ShouldReturnAllSeats_WithStringIds() {
         // Act
-        SeatAvailabilityResponseDTO result = seatApplicationService.getSeatAvailability(testConcert.getId());
+        SeatAvailabilityResponseDTO result = readSeatAvailability(testConcert.getId());
 
         // Assert
         assertThat(result.getConcertId()).isEqualTo(String.valueOf(testConcert.getId()));
@@ -90,10 +97,10 @@ class SeatApplicationServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("getSeatAvailability sollte availabilityByCategory als Array zurückgeben")
-    void getSeatAvailability_ShouldReturnAvailabilityByCategory_AsArray() {
+    @DisplayName("writeSeatAvailability sollte availabilityByCategory als Array zurückgeben")
+    void writeSeatAvailability_ShouldReturnAvailabilityByCategory_AsArray() {
         // Act
-        SeatAvailabilityResponseDTO result = seatApplicationService.getSeatAvailability(testConcert.getId());
+        SeatAvailabilityResponseDTO result = readSeatAvailability(testConcert.getId());
 
         // Assert
         List<AvailabilityByCategoryDTO> availability = result.getAvailabilityByCategory();
@@ -105,14 +112,14 @@ class SeatApplicationServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("getSeatAvailability sollte Availability korrekt aggregieren")
-    void getSeatAvailability_ShouldAggregateAvailabilityCorrectly() {
+    @DisplayName("writeSeatAvailability sollte Availability korrekt aggregieren")
+    void writeSeatAvailability_ShouldAggregateAvailabilityCorrectly() {
         // Arrange: Hold einen VIP Seat
         vipSeat2.hold(String.valueOf(vipSeat2.getId()), 15);
         seatRepository.save(vipSeat2);
         
         // Act
-        SeatAvailabilityResponseDTO result = seatApplicationService.getSeatAvailability(testConcert.getId());
+        SeatAvailabilityResponseDTO result = readSeatAvailability(testConcert.getId());
 
         // Assert
         AvailabilityByCategoryDTO vipAvailability = result.getAvailabilityByCategory().stream()
@@ -126,8 +133,8 @@ class SeatApplicationServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("getSeatAvailability sollte leere Liste zurückgeben wenn keine Seats vorhanden")
-    void getSeatAvailability_ShouldReturnEmpty_WhenNoSeats() {
+    @DisplayName("writeSeatAvailability sollte leere Liste zurückgeben wenn keine Seats vorhanden")
+    void writeSeatAvailability_ShouldReturnEmpty_WhenNoSeats() {
         // Arrange: Create concert without seats
         Concert emptyConcert = Concert.createConcert(
             "Empty Concert",
@@ -138,7 +145,7 @@ class SeatApplicationServiceIntegrationTest {
         emptyConcert = concertRepository.save(emptyConcert);
 
         // Act
-        SeatAvailabilityResponseDTO result = seatApplicationService.getSeatAvailability(emptyConcert.getId());
+        SeatAvailabilityResponseDTO result = readSeatAvailability(emptyConcert.getId());
 
         // Assert
         assertThat(result.getConcertId()).isEqualTo(String.valueOf(emptyConcert.getId()));
@@ -147,15 +154,15 @@ class SeatApplicationServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("getSeatAvailability sollte SOLD Seats korrekt zählen")
-    void getSeatAvailability_ShouldCountSoldSeatsCorrectly() {
+    @DisplayName("writeSeatAvailability sollte SOLD Seats korrekt zählen")
+    void writeSeatAvailability_ShouldCountSoldSeatsCorrectly() {
         // Arrange: Hold and Sell one VIP seat
         vipSeat1.hold(String.valueOf(vipSeat1.getId()), 15);
         vipSeat1.sell(String.valueOf(vipSeat1.getId()));
         seatRepository.save(vipSeat1);
         
         // Act
-        SeatAvailabilityResponseDTO result = seatApplicationService.getSeatAvailability(testConcert.getId());
+        SeatAvailabilityResponseDTO result = readSeatAvailability(testConcert.getId());
 
         // Assert
         AvailabilityByCategoryDTO vipAvailability = result.getAvailabilityByCategory().stream()
@@ -169,8 +176,8 @@ class SeatApplicationServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("getSeatAvailability sollte verschiedene Status pro Kategorie korrekt aggregieren")
-    void getSeatAvailability_ShouldAggregateMixedStatusesCorrectly() {
+    @DisplayName("writeSeatAvailability sollte verschiedene Status pro Kategorie korrekt aggregieren")
+    void writeSeatAvailability_ShouldAggregateMixedStatusesCorrectly() {
         // Arrange: Create more VIP seats with different statuses
         Seat vipSeat3 = new Seat(testConcert.getId(), "VIP-A-3", "VIP", "Block A", "1", "3", 129.99);
         vipSeat3.hold(String.valueOf(100), 15);
@@ -182,7 +189,7 @@ class SeatApplicationServiceIntegrationTest {
         vipSeat4 = seatRepository.save(vipSeat4);
 
         // Act
-        SeatAvailabilityResponseDTO result = seatApplicationService.getSeatAvailability(testConcert.getId());
+        SeatAvailabilityResponseDTO result = readSeatAvailability(testConcert.getId());
 
         // Assert
         AvailabilityByCategoryDTO vipAvailability = result.getAvailabilityByCategory().stream()
@@ -194,4 +201,46 @@ class SeatApplicationServiceIntegrationTest {
         assertThat(vipAvailability.getHeld()).isEqualTo(1);       // vipSeat4
         assertThat(vipAvailability.getSold()).isEqualTo(1);       // vipSeat3
     }
+
+    @Test
+    @DisplayName("writeSeatAvailability sollte Seats nach ID sortiert schreiben")
+    void writeSeatAvailability_ShouldWriteSeatsOrderedById() throws Exception {
+        // Arrange
+        Seat vipSeat3 = new Seat(testConcert.getId(), "VIP-A-3", "VIP", "Block A", "1", "3", 129.99);
+        vipSeat3.hold(String.valueOf(100), 15);
+        vipSeat3 = seatRepository.save(vipSeat3);
+
+        // Act
+        SeatAvailabilityResponseDTO result = readSeatAvailability(testConcert.getId());
+
+        // Assert
+        assertThat(result.getSeats()).extracting(SeatResponseDTO::getId).containsExactly(
+            String.valueOf(vipSeat1.getId()), String.valueOf(vipSeat2.getId()),
+            String.valueOf(regularSeat.getId()), String.valueOf(vipSeat3.getId()));
+        assertThat(result.getSeats().get(3).getStatus()).isEqualTo("HELD");
+    }
+
+    @Test
+    @DisplayName("writeSeatAvailability sollte für Konzert ohne Seats leere Arrays schreiben")
+    void writeSeatAvailability_ShouldWriteEmptyArrays() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        seatApplicationService.writeSeatAvailability(999_999L, out);
+
+        // Assert
+        assertThat(objectMapper.readTree(out.toByteArray()))
+            .isEqualTo(objectMapper.valueToTree(SeatAvailabilityResponseDTO.empty("999999")));
+    }
+
+    private SeatAvailabilityResponseDTO readSeatAvailability(Long concertId) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            seatApplicationService.writeSeatAvailability(concertId, out);
+            return objectMapper.readValue(out.toByteArray(), SeatAvailabilityResponseDTO.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
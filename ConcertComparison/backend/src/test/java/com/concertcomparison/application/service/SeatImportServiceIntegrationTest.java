@@ -0,0 +1,132 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.exception.ConcertNotFoundException;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.seatimport.SeatImportFormat;
+import com.concertcomparison.presentation.dto.SeatImportResultDTO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration Tests für den Streaming-Seat-Import (Chunk-Größe im Test: 2).
+ */
+@SpringBootTest(properties = {
+    "concert.seat-import.chunk-size=2",
+    "concert.seat-import.max-reported-errors=1"
+})
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SeatImportService Integration Tests")
+class SeatImportServiceIntegrationTest {
+
+    @Autowired
+    private SeatImportService seatImportService;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Concert concert;
+
+    @BeforeEach
+    void setUp() {
+        concert = concertRepository.save(Concert.createConcert(
+            "Import Festival", LocalDateTime.now().plusDays(30), "Arena", "Import Test"));
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("CSV-Import schreibt gültige Zeilen in Chunks und meldet ungültige Zeilen")
+    void importsCsvInChunks() throws Exception {
+        String csv = "seatNumber,category,block,row,number,price\n"
+            + "A-1-1,CATEGORY_A,Block A,1,1,49.0\n"
+            + "A-1-2,CATEGORY_A,Block A,1,2,-5\n"
+            + "A-1-3,CATEGORY_A,Block A,1,3,49.0\n"
+            + "A-1-4,CATEGORY_A,Block A,1,4,abc\n"
+            + "A-1-5,CATEGORY_A,Block A,1,5,49.0\n";
+        long layoutVersion = concert.getSeatLayoutVersion();
+
+        SeatImportResultDTO result = seatImportService.importSeats(concert.getId(), SeatImportFormat.CSV, body(csv));
+
+        assertThat(result.getRowsRead()).isEqualTo(5);
+        assertThat(result.getSeatsImported()).isEqualTo(3);
+        assertThat(result.getRowsRejected()).isEqualTo(2);
+        assertThat(result.getChunksCommitted()).isEqualTo(2);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.lineNumber()).isEqualTo(3);
+            assertThat(error.message()).contains("price");
+        });
+        assertThat(result.isErrorsTruncated()).isTrue();
+
+        assertThat(seatRepository.findByConcertId(concert.getId())).hasSize(3);
+        assertThat(concertRepository.findById(concert.getId()).orElseThrow().getSeatLayoutVersion())
+            .isGreaterThan(layoutVersion);
+        assertThat(seatImportService.getProgress(concert.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("NDJSON-Import legt alle gültigen Seats an")
+    void importsNdjson() throws Exception {
+        String ndjson = "{\"seatNumber\":\"V-1\",\"category\":\"VIP\",\"block\":\"V\",\"row\":\"1\",\"number\":\"1\",\"price\":150.0}\n"
+            + "{\"seatNumber\":\"V-2\",\"category\":\"VIP\",\"block\":\"V\",\"row\":\"1\",\"number\":\"2\",\"price\":150.0}\n";
+
+        SeatImportResultDTO result = seatImportService.importSeats(concert.getId(), SeatImportFormat.NDJSON, body(ndjson));
+
+        assertThat(result.getSeatsImported()).isEqualTo(2);
+        assertThat(result.getChunksCommitted()).isEqualTo(1);
+        assertThat(seatRepository.findByConcertId(concert.getId()))
+            .extracting(seat -> seat.getSeatNumber())
+            .containsExactlyInAnyOrder("V-1", "V-2");
+    }
+
+    @Test
+    @DisplayName("Persistence Context hält nach dem Import keine Seats, auch bei offenem äußeren EntityManager")
+    void keepsPersistenceContextBounded() throws Exception {
+        StringBuilder csv = new StringBuilder("seatNumber,category,block,row,number,price\n");
+        for (int i = 1; i <= 7; i++) {
+            csv.append("P-").append(i).append(",STANDARD,Block P,1,").append(i).append(",39.0\n");
+        }
+
+        // Die Testtransaktion spannt wie Open-in-View einen EntityManager über alle Chunks
+        SeatImportResultDTO result = seatImportService.importSeats(concert.getId(), SeatImportFormat.CSV, body(csv.toString()));
+
+        assertThat(result.getSeatsImported()).isEqualTo(7);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityKeys())
+            .noneMatch(key -> ((EntityKey) key).getEntityName().equals(Seat.class.getName()));
+        assertThat(seatRepository.countByConcertId(concert.getId())).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Import für unbekanntes Concert wirft ConcertNotFoundException")
+    void unknownConcertThrows() {
+        assertThatThrownBy(() -> seatImportService.importSeats(999_999L, SeatImportFormat.CSV, body("")))
+            .isInstanceOf(ConcertNotFoundException.class);
+    }
+}
@@ -0,0 +1,139 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.exception.ResourceNotFoundException;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.presentation.dto.CreateSeatRequestDTO;
+import com.concertcomparison.presentation.dto.SeatLayoutSectionDTO;
+import com.concertcomparison.presentation.dto.SeatLayoutSpecDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration Tests für das serverseitige Generieren von Seats aus einem deklarativen Layout.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Seat-Layout Generierung Integration Tests")
+class SeatLayoutGenerationIntegrationTest {
+
+    @Autowired
+    private SeatLayoutApplicationService seatLayoutApplicationService;
+
+    @Autowired
+    private ConcertApplicationService concertApplicationService;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    private Long concertId;
+
+    @BeforeEach
+    void setUp() {
+        Concert concert = concertRepository.save(Concert.createConcert(
+            "Layout Festival", LocalDateTime.now().plusDays(30), "Stadion", "Layout Test"));
+        concertId = concert.getId();
+        seatRepository.save(new Seat(concertId, "OLD-1", "VIP", "Alt", "1", "1", 10.0));
+    }
+
+    private static SeatLayoutSpecDTO layout() {
+        return new SeatLayoutSpecDTO(List.of(
+            new SeatLayoutSectionDTO("Block A", "A", "CATEGORY_A", 1, 3, 1, 4, 59.0),
+            new SeatLayoutSectionDTO("Loge", "V", "VIP", 1, 1, 1, 2, 149.0)
+        ));
+    }
+
+    @Test
+    @DisplayName("Layout ersetzt vorhandene Seats und wird gespeichert")
+    void generatesSeatsAndStoresSpec() {
+        SeatLayoutSpecDTO result = seatLayoutApplicationService.generateSeats(concertId, layout());
+
+        assertThat(result.getSeatCount()).isEqualTo(14);
+        assertThat(result.getLayoutVersion()).isEqualTo(1);
+
+        List<Seat> seats = seatRepository.findByConcertId(concertId).stream()
+            .sorted(Comparator.comparing(Seat::getId))
+            .toList();
+        assertThat(seats).hasSize(14);
+        assertThat(seats).extracting(Seat::getSeatNumber)
+            .startsWith("A-1-1", "A-1-2")
+            .endsWith("V-1-1", "V-1-2")
+            .doesNotContain("OLD-1");
+
+        SeatLayoutSpecDTO stored = seatLayoutApplicationService.getSeatLayoutSpec(concertId);
+        assertThat(stored.getLayoutVersion()).isEqualTo(1);
+        assertThat(stored.getSections()).hasSize(2);
+        assertThat(stored.getSections().get(1).getCategory()).isEqualTo("VIP");
+        assertThat(stored.getSections().get(1).getPrice()).isEqualTo(149.0);
+    }
+
+    @Test
+    @DisplayName("Einzeln angelegte Seats verwerfen das gespeicherte Layout")
+    void individualSeatChangesDropSpec() {
+        seatLayoutApplicationService.generateSeats(concertId, layout());
+
+        concertApplicationService.createSeats(concertId, List.of(
+            new CreateSeatRequestDTO("X-1", "VIP", "Extra", "1", "1", 99.0)));
+
+        assertThatThrownBy(() -> seatLayoutApplicationService.getSeatLayoutSpec(concertId))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("HELD oder SOLD Seats verhindern das Ersetzen, alle vorhandenen Seats bleiben erhalten")
+    void rejectsLayoutWhenSeatsAreHeldOrSold() {
+        Seat held = new Seat(concertId, "OLD-2", "VIP", "Alt", "1", "2", 10.0);
+        held.hold("RES-1", 15);
+        seatRepository.save(held);
+        long layoutVersion = concertRepository.findById(concertId).orElseThrow().getSeatLayoutVersion();
+
+        try {
+            assertThatThrownBy(() -> seatLayoutApplicationService.generateSeats(concertId, layout()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("reservierte oder verkaufte");
+
+            // Auch das DELETE der AVAILABLE Seats wurde zurückgerollt
+            assertThat(seatRepository.findByConcertId(concertId))
+                .extracting(Seat::getSeatNumber)
+                .containsExactlyInAnyOrder("OLD-1", "OLD-2");
+            assertThat(concertRepository.findById(concertId).orElseThrow().getSeatLayoutVersion())
+                .isEqualTo(layoutVersion);
+        } finally {
+            seatRepository.findByConcertId(concertId).forEach(seatRepository::delete);
+            concertRepository.deleteById(concertId);
+        }
+    }
+
+    @Test
+    @DisplayName("Überlappende Sektionen werden mit IllegalArgumentException abgelehnt")
+    void rejectsOverlappingSections() {
+        SeatLayoutSpecDTO overlapping = new SeatLayoutSpecDTO(List.of(
+            new SeatLayoutSectionDTO("Block A", "A", "CATEGORY_A", 1, 3, 1, 4, 59.0),
+            new SeatLayoutSectionDTO("Block A2", "A", "CATEGORY_B", 3, 5, 4, 8, 39.0)
+        ));
+
+        assertThatThrownBy(() -> seatLayoutApplicationService.generateSeats(concertId, overlapping))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(seatRepository.findByConcertId(concertId)).hasSize(1);
+    }
+}
@@ -0,0 +1,162 @@
+package com.concertcomparison.application.service;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.presentation.dto.CreateSeatRequestDTO;
+import com.concertcomparison.presentation.dto.SeatReplaceMode;
+import com.concertcomparison.presentation.dto.SeatReplaceResultDTO;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration Tests für replaceSeats im Abgleich-Modus (RECONCILE) und im FULL-Modus.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("replaceSeats Abgleich Integration Tests")
+class SeatReplaceReconciliationIntegrationTest {
+
+    @Autowired
+    private ConcertApplicationService concertApplicationService;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long concertId;
+    private Seat seat1;
+    private Seat seat3;
+
+    @BeforeEach
+    void setUp() {
+        concertId = concertRepository.save(Concert.createConcert(
+            "Reconcile Festival", LocalDateTime.now().plusDays(30), "Halle", "Abgleich Test")).getId();
+
+        seat1 = seatRepository.save(new Seat(concertId, "A-1", "CATEGORY_A", "Block A", "1", "1", 50.0));
+        seatRepository.save(new Seat(concertId, "A-2", "CATEGORY_A", "Block A", "1", "2", 50.0));
+        seat3 = new Seat(concertId, "A-3", "CATEGORY_A", "Block A", "1", "3", 50.0);
+        seat3.hold("res-1", 15);
+        seat3 = seatRepository.save(seat3);
+        seatRepository.save(new Seat(concertId, "A-5", "CATEGORY_A", "Block A", "1", "5", 50.0));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static CreateSeatRequestDTO seat(String seatNumber, String category, double price) {
+        return new CreateSeatRequestDTO(seatNumber, category, "Block A", "1", seatNumber.substring(2), price);
+    }
+
+    private Map<String, Seat> seatsBySeatNumber() {
+        entityManager.flush();
+        entityManager.clear();
+        return seatRepository.findByConcertId(concertId).stream()
+            .collect(Collectors.toMap(Seat::getSeatNumber, Function.identity()));
+    }
+
+    @Test
+    @DisplayName("RECONCILE schreibt nur Änderungen und behält Seat-IDs sowie HELD Seats")
+    void reconcilesBySeatNumber() {
+        SeatReplaceResultDTO result = concertApplicationService.replaceSeats(concertId, List.of(
+            seat("A-1", "CATEGORY_A", 50.0),
+            seat("A-2", "VIP", 80.0),
+            seat("A-4", "CATEGORY_A", 50.0)
+        ), SeatReplaceMode.RECONCILE);
+
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.retained()).isEqualTo(1);
+        assertThat(result.noOp()).isFalse();
+        assertThat(result.layoutVersion()).isEqualTo(1);
+
+        Map<String, Seat> seats = seatsBySeatNumber();
+        assertThat(seats).containsOnlyKeys("A-1", "A-2", "A-3", "A-4");
+        assertThat(seats.get("A-1").getId()).isEqualTo(seat1.getId());
+        assertThat(seats.get("A-2").getCategory()).isEqualTo("VIP");
+        assertThat(seats.get("A-2").getPrice()).isEqualTo(80.0);
+        assertThat(seats.get("A-3").getId()).isEqualTo(seat3.getId());
+        assertThat(seats.get("A-3").isHeld()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Identischer Upload ist ein No-Op (Seat-Set-Hash)")
+    void identicalUploadIsNoOp() {
+        seatRepository.deleteAllByConcertId(concertId);
+        List<CreateSeatRequestDTO> upload = List.of(
+            seat("B-1", "CATEGORY_B", 30.0),
+            seat("B-2", "CATEGORY_B", 30.0)
+        );
+
+        SeatReplaceResultDTO first = concertApplicationService.replaceSeats(concertId, upload, SeatReplaceMode.RECONCILE);
+        SeatReplaceResultDTO second = concertApplicationService.replaceSeats(
+            concertId, List.of(upload.get(1), upload.get(0)), SeatReplaceMode.RECONCILE);
+
+        assertThat(first.noOp()).isFalse();
+        assertThat(first.inserted()).isEqualTo(2);
+        assertThat(second.noOp()).isTrue();
+        assertThat(second.layoutVersion()).isEqualTo(first.layoutVersion());
+        assertThat(seatsBySeatNumber()).containsOnlyKeys("B-1", "B-2");
+    }
+
+    @Test
+    @DisplayName("Upload mit HELD Seats wird nicht als Hash gemerkt")
+    void uploadWithRetainedSeatsIsNotHashed() {
+        List<CreateSeatRequestDTO> upload = List.of(seat("A-1", "CATEGORY_A", 50.0));
+
+        concertApplicationService.replaceSeats(concertId, upload, SeatReplaceMode.RECONCILE);
+        SeatReplaceResultDTO second = concertApplicationService.replaceSeats(concertId, upload, SeatReplaceMode.RECONCILE);
+
+        assertThat(second.noOp()).isFalse();
+        assertThat(second.retained()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("FULL löscht alle Seats inklusive HELD und legt sie neu an")
+    void fullModeReplacesEverything() {
+        SeatReplaceResultDTO result = concertApplicationService.replaceSeats(concertId, List.of(
+            seat("A-1", "CATEGORY_A", 50.0)
+        ), SeatReplaceMode.FULL);
+
+        assertThat(result.deleted()).isEqualTo(4);
+        assertThat(result.inserted()).isEqualTo(1);
+
+        Map<String, Seat> seats = seatsBySeatNumber();
+        assertThat(seats).containsOnlyKeys("A-1");
+        assertThat(seats.get("A-1").getId()).isNotEqualTo(seat1.getId());
+    }
+
+    @Test
+    @DisplayName("Doppelte Sitzplatznummern werden abgelehnt")
+    void rejectsDuplicateSeatNumbers() {
+        assertThatThrownBy(() -> concertApplicationService.replaceSeats(concertId, List.of(
+            seat("A-1", "CATEGORY_A", 50.0),
+            seat("A-1", "VIP", 90.0)
+        ), SeatReplaceMode.RECONCILE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("A-1");
+    }
+}
@@ -0,0 +1,171 @@
+package com.concertcomparison.benchmark;
+
+import com.concertcomparison.application.service.HoldApplicationService;
+import com.concertcomparison.application.service.HoldCoordinator;
+import com.concertcomparison.domain.exception.SeatNotAvailableException;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ReservationRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.cache.SeatConcertLookup;
+import com.concertcomparison.infrastructure.metrics.BookingMetrics;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmapRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark der Hold-Strategien (OPTIMISTIC, QUEUED, ADAPTIVE) unter zwei Lastprofilen:
+ * - hot: alle Threads auf wenige Seats (Verkaufsstart)
+ * - spread: Threads auf viele Seats verteilt (normale Last)
+ *
+ * Läuft nicht im normalen Build, sondern nur explizit:
+ * {@code ./mvnw test -Dbenchmark=true -Dtest=HoldStrategyBenchmarkTest}
+ *
+ * Gibt pro Strategie Dauer, Requests/s, Erfolge, Konflikte und unerwartete Fehler aus.
+ * Erwartung: bei "spread" ist OPTIMISTIC am schnellsten, bei "hot" liegt QUEUED
+ * vorne; ADAPTIVE sollte in beiden Profilen nahe an der jeweils besten Strategie liegen.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Hold Strategy Benchmark")
+class HoldStrategyBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoldStrategyBenchmarkTest.class);
+
+    private static final String[] STRATEGIES = {"OPTIMISTIC", "QUEUED", "ADAPTIVE"};
+    private static final int THREADS = 32;
+    private static final int REQUESTS = 2_000;
+    private static final int HOT_SEATS = 5;
+    private static final int SPREAD_SEATS = 2_000;
+
+    @Autowired
+    private HoldApplicationService optimisticService;
+
+    @Autowired
+    private SeatConcertLookup seatConcertLookup;
+
+    @Autowired
+    private SeatStatusBitmapRegistry seatStatusRegistry;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        seatRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Hot Seats: wenige Seats, viele parallele Requests")
+    void benchmarkHotSeats() throws InterruptedException {
+        runProfile("hot", HOT_SEATS);
+    }
+
+    @Test
+    @DisplayName("Spread: Requests auf viele Seats verteilt")
+    void benchmarkSpreadSeats() throws InterruptedException {
+        runProfile("spread", SPREAD_SEATS);
+    }
+
+    private void runProfile(String profile, int seatCount) throws InterruptedException {
+        for (String strategy : STRATEGIES) {
+            reservationRepository.deleteAll();
+            seatRepository.deleteAll();
+            List<Long> seatIds = createSeats(seatCount);
+
+            // Quota deaktiviert: der Benchmark vergleicht nur die Locking-Strategien
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            HoldCoordinator coordinator = new HoldCoordinator(optimisticService, seatConcertLookup, seatStatusRegistry,
+                new HoldQuotaTracker(meterRegistry, false, 1, 1), meterRegistry,
+                new BookingMetrics(meterRegistry), strategy, 0.5, 10, 4096, 5000);
+
+            Result result = run(coordinator, seatIds);
+
+            logger.info("BENCHMARK hold-strategy profile={} strategy={} requests={} timeMs={} requestsPerSecond={} "
+                    + "successes={} conflicts={} errors={}",
+                profile, strategy, REQUESTS, result.elapsedNanos() / 1_000_000,
+                REQUESTS * 1_000_000_000L / Math.max(1, result.elapsedNanos()),
+                result.successes(), result.conflicts(), result.errors());
+
+            // Jeder Seat wird höchstens einmal vergeben
+            assertThat(result.successes()).isLessThanOrEqualTo(seatCount);
+            assertThat(reservationRepository.findAll()).hasSize(result.successes());
+        }
+    }
+
+    private Result run(HoldCoordinator coordinator, List<Long> seatIds) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            String userId = "bench-user-" + i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    Long seatId = seatIds.get(ThreadLocalRandom.current().nextInt(seatIds.size()));
+                    coordinator.createHold(seatId, userId);
+                    successes.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (SeatNotAvailableException | IllegalStateException | ConcurrencyFailureException e) {
+                    conflicts.incrementAndGet();
+                } catch (RuntimeException e) {
+                    errors.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        return new Result(elapsed, successes.get(), conflicts.get(), errors.get());
+    }
+
+    private List<Long> createSeats(int count) {
+        List<Seat> seats = IntStream.rangeClosed(1, count)
+            .mapToObj(i -> new Seat(1L, "B-" + i, "STANDARD", "Block B", String.valueOf(i / 50), String.valueOf(i % 50), 59.0))
+            .toList();
+        List<Long> ids = new ArrayList<>(count);
+        for (Seat seat : seatRepository.saveAllBatch(seats)) {
+            ids.add(seat.getId());
+        }
+        return ids;
+    }
+
+    private record Result(long elapsedNanos, int successes, int conflicts, int errors) {}
+}
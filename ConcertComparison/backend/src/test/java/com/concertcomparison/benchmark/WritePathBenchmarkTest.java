@@ -0,0 +1,145 @@
+package com.concertcomparison.benchmark;
+
+import com.concertcomparison.application.service.ConcertApplicationService;
+import com.concertcomparison.application.service.HoldApplicationService;
+import com.concertcomparison.application.service.OrderApplicationService;
+import com.concertcomparison.config.TestPaymentConfiguration;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.PaymentMethod;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.presentation.dto.CreateSeatRequestDTO;
+import com.concertcomparison.presentation.dto.HoldResponseDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark für die schreibenden Pfade (Bulk-Seat-Anlage, Hold + Kauf).
+ *
+ * Läuft nicht im normalen Build, sondern nur explizit:
+ * {@code ./mvnw test -Dbenchmark=true -Dtest=WritePathBenchmarkTest}
+ *
+ * Gibt Durchsatz und Anzahl vorbereiteter JDBC-Statements pro Szenario aus
+ * (Hibernate Statistics), damit Änderungen an ID-Generierung und Batching
+ * vergleichbar bleiben.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(TestPaymentConfiguration.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Write Path Benchmark")
+class WritePathBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(WritePathBenchmarkTest.class);
+
+    private static final int BULK_SEATS = 5_000;
+    private static final int BULK_ROUNDS = 3;
+    private static final int HOLD_PURCHASES = 500;
+
+    @Autowired
+    private ConcertApplicationService concertApplicationService;
+
+    @Autowired
+    private HoldApplicationService holdApplicationService;
+
+    @Autowired
+    private OrderApplicationService orderApplicationService;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Bulk-Seat-Anlage: Seats pro Sekunde")
+    void benchmarkBulkSeatCreation() {
+        Statistics statistics = statistics();
+        List<CreateSeatRequestDTO> seats = seatRequests(BULK_SEATS);
+
+        // Warmup (JIT, Connection Pool, Sequence-Blöcke)
+        concertApplicationService.createSeats(newConcert("Warmup").getId(), seatRequests(500));
+
+        for (int round = 1; round <= BULK_ROUNDS; round++) {
+            Long concertId = newConcert("Bulk " + round).getId();
+            statistics.clear();
+
+            long start = System.nanoTime();
+            concertApplicationService.createSeats(concertId, seats);
+            long elapsedNanos = System.nanoTime() - start;
+
+            logger.info("BENCHMARK bulk-seats round={} seats={} timeMs={} seatsPerSecond={} preparedStatements={}",
+                round, BULK_SEATS, elapsedNanos / 1_000_000, perSecond(BULK_SEATS, elapsedNanos),
+                statistics.getPrepareStatementCount());
+
+            assertThat(seatRepository.countByConcertId(concertId)).isEqualTo(BULK_SEATS);
+        }
+    }
+
+    @Test
+    @DisplayName("Hold + Kauf: Vorgänge pro Sekunde")
+    void benchmarkHoldAndPurchase() {
+        Statistics statistics = statistics();
+        Long concertId = newConcert("Hold Path").getId();
+        concertApplicationService.createSeats(concertId, seatRequests(HOLD_PURCHASES));
+        List<Long> seatIds = seatRepository.findByConcertId(concertId).stream()
+            .map(Seat::getId)
+            .toList();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < seatIds.size(); i++) {
+            String userId = "bench-user-" + i;
+            HoldResponseDTO hold = holdApplicationService.createHold(seatIds.get(i), userId);
+            orderApplicationService.purchaseTicket(Long.valueOf(hold.holdId()), userId, PaymentMethod.CREDIT_CARD);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        logger.info("BENCHMARK hold-purchase operations={} timeMs={} opsPerSecond={} preparedStatements={}",
+            seatIds.size(), elapsedNanos / 1_000_000, perSecond(seatIds.size(), elapsedNanos),
+            statistics.getPrepareStatementCount());
+
+        assertThat(seatRepository.findByConcertIdAndStatus(concertId, SeatStatus.SOLD)).hasSize(seatIds.size());
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Concert newConcert(String name) {
+        return concertRepository.save(
+            Concert.createConcert(name, LocalDateTime.now().plusDays(60), "Benchmark Arena", null));
+    }
+
+    private static List<CreateSeatRequestDTO> seatRequests(int count) {
+        return IntStream.rangeClosed(1, count)
+            .mapToObj(i -> new CreateSeatRequestDTO(
+                "S-" + i, i % 10 == 0 ? "VIP" : "STANDARD", "Block " + (i / 500), String.valueOf(i / 25), String.valueOf(i % 25), 59.0))
+            .toList();
+    }
+
+    private static long perSecond(int operations, long elapsedNanos) {
+        return elapsedNanos == 0 ? 0 : operations * 1_000_000_000L / elapsedNanos;
+    }
+}
@@ -241,6 +241,40 @@ class ConcertTest {
         }
     }
 
+    @Nested
+    @DisplayName("Business Method - scheduleOnSale()")
+    class ScheduleOnSaleTests {
+
+        @Test
+        @DisplayName("Sollte Verkaufsstart setzen und wieder entfernen können")
+        void shouldScheduleAndClearOnSale() {
+            // Given
+            LocalDateTime date = LocalDateTime.now().plusDays(30);
+            Concert concert = Concert.createConcert("On Sale Show", date, "Arena", null);
+
+            // When
+            concert.scheduleOnSale(date.minusDays(20));
+
+            // Then
+            assertThat(concert.getOnSaleAt()).isEqualTo(date.minusDays(20));
+            concert.scheduleOnSale(null);
+            assertThat(concert.getOnSaleAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("Sollte IllegalArgumentException werfen wenn Verkaufsstart nach dem Konzert liegt")
+        void shouldRejectOnSaleAfterConcert() {
+            // Given
+            LocalDateTime date = LocalDateTime.now().plusDays(30);
+            Concert concert = Concert.createConcert("On Sale Show", date, "Arena", null);
+
+            // When & Then
+            assertThatThrownBy(() -> concert.scheduleOnSale(date.plusHours(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Verkaufsstart");
+        }
+    }
+
     @Nested
     @DisplayName("Equals & HashCode")
     class EqualsAndHashCodeTests {
@@ -0,0 +1,112 @@
+package com.concertcomparison.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SeatLayoutSpec Tests")
+class SeatLayoutSpecTest {
+
+    private static SeatLayoutSpec.Section section(String prefix, int rowFrom, int rowTo, int seatFrom, int seatTo) {
+        return new SeatLayoutSpec.Section("Block " + prefix, prefix, "CATEGORY_A", rowFrom, rowTo, seatFrom, seatTo, 49.99);
+    }
+
+    @Nested
+    @DisplayName("Generierung")
+    class Generation {
+
+        @Test
+        @DisplayName("Seats werden in Reihenfolge Sektion → Reihe → Platz generiert")
+        void generatesSeatsInLayoutOrder() {
+            SeatLayoutSpec spec = new SeatLayoutSpec(List.of(
+                section("A", 1, 2, 1, 2),
+                new SeatLayoutSpec.Section("Loge", "V", "VIP", 5, 5, 10, 11, 150.0)
+            ));
+
+            List<Seat> seats = new ArrayList<>();
+            spec.generateSeats(7L).forEach(seats::add);
+
+            assertThat(spec.seatCount()).isEqualTo(6);
+            assertThat(seats).extracting(Seat::getSeatNumber)
+                .containsExactly("A-1-1", "A-1-2", "A-2-1", "A-2-2", "V-5-10", "V-5-11");
+            assertThat(seats.get(4).getCategory()).isEqualTo("VIP");
+            assertThat(seats.get(4).getBlock()).isEqualTo("Loge");
+            assertThat(seats.get(4).getRow()).isEqualTo("5");
+            assertThat(seats.get(4).getNumber()).isEqualTo("10");
+            assertThat(seats.get(4).getPrice()).isEqualTo(150.0);
+            assertThat(seats).allSatisfy(seat -> {
+                assertThat(seat.getConcertId()).isEqualTo(7L);
+                assertThat(seat.getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+            });
+        }
+
+        @Test
+        @DisplayName("Iterable kann mehrfach durchlaufen werden")
+        void iterableIsReusable() {
+            SeatLayoutSpec spec = new SeatLayoutSpec(List.of(section("A", 1, 3, 1, 4)));
+            Iterable<Seat> seats = spec.generateSeats(1L);
+
+            assertThat(seats).hasSize(12);
+            assertThat(seats).hasSize(12);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validierung")
+    class Validation {
+
+        @Test
+        @DisplayName("Leeres Layout wird abgelehnt")
+        void rejectsEmptyLayout() {
+            assertThatThrownBy(() -> new SeatLayoutSpec(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Überlappende Sektionen mit gleichem Präfix werden abgelehnt")
+        void rejectsOverlappingSections() {
+            assertThatThrownBy(() -> new SeatLayoutSpec(List.of(
+                section("A", 1, 10, 1, 20),
+                section("A", 10, 12, 15, 30)
+            )))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("überschneiden");
+        }
+
+        @Test
+        @DisplayName("Angrenzende Sektionen mit gleichem Präfix sind erlaubt")
+        void allowsAdjacentSections() {
+            SeatLayoutSpec spec = new SeatLayoutSpec(List.of(
+                section("A", 1, 10, 1, 20),
+                section("A", 11, 12, 1, 20)
+            ));
+
+            assertThat(spec.seatCount()).isEqualTo(240);
+        }
+
+        @Test
+        @DisplayName("Ungültige Bereiche, Präfixe und Preise werden abgelehnt")
+        void rejectsInvalidSections() {
+            assertThatThrownBy(() -> section("A", 5, 4, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> section("A", 1, 1, 0, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> section("A", 1, 10_000, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> section("TOOLONGPREFIX", 1, 1, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new SeatLayoutSpec.Section("A", "A", "VIP", 1, 1, 1, 1, 0.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Layouts über MAX_SEATS werden abgelehnt")
+        void rejectsTooManySeats() {
+            assertThatThrownBy(() -> new SeatLayoutSpec(List.of(section("A", 1, 9999, 1, 9999))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(SeatLayoutSpec.MAX_SEATS));
+        }
+    }
+}
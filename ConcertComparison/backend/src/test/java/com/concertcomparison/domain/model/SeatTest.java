@@ -345,4 +345,44 @@ class SeatTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("ExpiresAt darf nicht in der Vergangenheit liegen");
     }
+
+    @Test
+    @DisplayName("changeLayout sollte geänderte Attribute übernehmen und true liefern")
+    void changeLayout_ShouldApplyChanges() {
+        // Arrange
+        Seat seat = new Seat(CONCERT_ID, SEAT_NUMBER, CATEGORY, BLOCK, ROW, NUMBER, PRICE);
+
+        // Act
+        boolean changed = seat.changeLayout("CATEGORY_A", BLOCK, ROW, NUMBER, 79.99);
+
+        // Assert
+        assertThat(changed).isTrue();
+        assertThat(seat.getCategory()).isEqualTo("CATEGORY_A");
+        assertThat(seat.getPrice()).isEqualTo(79.99);
+        assertThat(seat.getSeatNumber()).isEqualTo(SEAT_NUMBER);
+    }
+
+    @Test
+    @DisplayName("changeLayout ohne Änderung sollte false liefern, auch für HELD Seats")
+    void changeLayout_WithoutChanges_ShouldReturnFalse() {
+        // Arrange
+        Seat seat = new Seat(CONCERT_ID, SEAT_NUMBER, CATEGORY, BLOCK, ROW, NUMBER, PRICE);
+        seat.hold("res-123", 15);
+
+        // Act & Assert
+        assertThat(seat.changeLayout(CATEGORY, BLOCK, ROW, NUMBER, PRICE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("changeLayout sollte Änderungen an HELD Seats ablehnen")
+    void changeLayout_ShouldRejectChangesOnHeldSeat() {
+        // Arrange
+        Seat seat = new Seat(CONCERT_ID, SEAT_NUMBER, CATEGORY, BLOCK, ROW, NUMBER, PRICE);
+        seat.hold("res-123", 15);
+
+        // Act & Assert
+        assertThatThrownBy(() -> seat.changeLayout(CATEGORY, BLOCK, ROW, NUMBER, 10.0))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(seat.getPrice()).isEqualTo(PRICE);
+    }
 }
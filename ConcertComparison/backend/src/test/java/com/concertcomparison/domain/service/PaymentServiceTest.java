@@ -122,10 +122,24 @@ class PaymentServiceTest {
         
         // Then
         assertFalse(result.isSuccess());
+        assertFalse(result.isDeferred());
         assertEquals(errorMsg, result.getErrorMessage());
         assertNull(result.getTransactionId());
     }
-    
+
+    @Test
+    @DisplayName("PaymentResult.deferred() sollte weder Success noch Failure sein")
+    void testPaymentResultDeferred() {
+        // When
+        PaymentResult result = PaymentResult.deferred("Circuit Breaker offen");
+
+        // Then
+        assertFalse(result.isSuccess());
+        assertTrue(result.isDeferred());
+        assertEquals("Circuit Breaker offen", result.getErrorMessage());
+        assertNull(result.getTransactionId());
+    }
+
     @Test
     @DisplayName("PaymentResult.success() sollte Exception werfen bei leerer TransactionId")
     void testPaymentResultSuccessWithEmptyTransactionId() {
@@ -0,0 +1,119 @@
+package com.concertcomparison.infrastructure.cache;
+
+import com.concertcomparison.domain.event.ConcertChangedEvent;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.ConcertSummaryView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcertCatalogCache Unit Tests")
+class ConcertCatalogCacheTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private ConcertCatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(
+            ConcertCatalogCache.CONCERT_BY_ID_CACHE, ConcertCatalogCache.CONCERT_IDS_CACHE);
+        catalogCache = new ConcertCatalogCache(cacheManager, concertRepository);
+    }
+
+    private static ConcertSummaryView summary(Long id, String name) {
+        return new ConcertSummaryView(id, name, LocalDateTime.now().plusDays(10), "Arena", null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Liste lädt nur fehlende Einträge nach und behält die Reihenfolge der IDs")
+    void shouldAssembleListFromCachedEntries() {
+        when(concertRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(concertRepository.findSummaryById(2L)).thenReturn(Optional.of(summary(2L, "Cached")));
+        when(concertRepository.findSummariesByIds(List.of(1L, 3L)))
+            .thenReturn(List.of(summary(3L, "Three"), summary(1L, "One")));
+        catalogCache.summary(2L);
+
+        List<ConcertSummaryView> first = catalogCache.summaries(catalogCache.concertIds());
+        List<ConcertSummaryView> second = catalogCache.summaries(catalogCache.concertIds());
+
+        assertThat(first).extracting(ConcertSummaryView::name).containsExactly("One", "Cached", "Three");
+        assertThat(second).isEqualTo(first);
+        verify(concertRepository, times(1)).findAllIds();
+        verify(concertRepository, times(1)).findSummariesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Update ersetzt genau einen Eintrag, die ID-Liste bleibt warm")
+    void updateShouldReplaceSingleEntry() {
+        when(concertRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(concertRepository.findSummariesByIds(List.of(1L, 2L)))
+            .thenReturn(List.of(summary(1L, "One"), summary(2L, "Two")));
+        catalogCache.summaries(catalogCache.concertIds());
+        when(concertRepository.findSummaryById(2L)).thenReturn(Optional.of(summary(2L, "Two (verlegt)")));
+
+        catalogCache.apply(ConcertChangedEvent.updated(2L));
+
+        assertThat(catalogCache.summaries(catalogCache.concertIds()))
+            .extracting(ConcertSummaryView::name).containsExactly("One", "Two (verlegt)");
+        verify(concertRepository, times(1)).findAllIds();
+        verify(concertRepository, times(1)).findSummariesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Anlegen und Löschen verwerfen die ID-Liste, unbekannte IDs werden nicht gecacht")
+    void createAndDeleteShouldInvalidateIdList() {
+        when(concertRepository.findAllIds())
+            .thenReturn(List.of(1L))
+            .thenReturn(List.of(1L, 2L))
+            .thenReturn(List.of(2L));
+        when(concertRepository.findSummaryById(2L)).thenReturn(Optional.of(summary(2L, "Neu")));
+        assertThat(catalogCache.concertIds()).containsExactly(1L);
+
+        catalogCache.apply(ConcertChangedEvent.created(2L));
+        assertThat(catalogCache.concertIds()).containsExactly(1L, 2L);
+        assertThat(cacheManager.getCache(ConcertCatalogCache.CONCERT_BY_ID_CACHE).get(2L)).isNotNull();
+
+        catalogCache.apply(ConcertChangedEvent.deleted(1L));
+        assertThat(catalogCache.concertIds()).containsExactly(2L);
+
+        when(concertRepository.findSummaryById(99L)).thenReturn(Optional.empty());
+        assertThat(catalogCache.summary(99L)).isEmpty();
+        assertThat(cacheManager.getCache(ConcertCatalogCache.CONCERT_BY_ID_CACHE).get(99L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Update während des Nachladens wird nicht vom älteren Query-Ergebnis überschrieben")
+    void missShouldNotOverwriteConcurrentUpdate() {
+        Cache byId = cacheManager.getCache(ConcertCatalogCache.CONCERT_BY_ID_CACHE);
+        when(concertRepository.findSummaryById(2L)).thenAnswer(invocation -> {
+            // Update committet und schreibt den frischen Eintrag, während der alte Stand gelesen wird
+            byId.put(2L, summary(2L, "Two (verlegt)"));
+            return Optional.of(summary(2L, "Two"));
+        });
+        when(concertRepository.findSummariesByIds(List.of(3L))).thenAnswer(invocation -> {
+            byId.put(3L, summary(3L, "Three (verlegt)"));
+            return List.of(summary(3L, "Three"));
+        });
+
+        assertThat(catalogCache.summary(2L)).map(ConcertSummaryView::name).contains("Two (verlegt)");
+        assertThat(catalogCache.summaries(List.of(2L, 3L)))
+            .extracting(ConcertSummaryView::name).containsExactly("Two (verlegt)", "Three (verlegt)");
+        assertThat(byId.get(3L, ConcertSummaryView.class).name()).isEqualTo("Three (verlegt)");
+    }
+}
@@ -0,0 +1,113 @@
+package com.concertcomparison.infrastructure.cache;
+
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker.ListingVersion;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker.SeatMapVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ContentVersionTracker Unit Tests")
+class ContentVersionTrackerTest {
+
+    private ContentVersionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ContentVersionTracker();
+    }
+
+    @Nested
+    @DisplayName("Seat-Map ETags")
+    class SeatMapETags {
+
+        @Test
+        @DisplayName("ETag ist quoted und unterscheidet Repräsentationen")
+        void shouldDifferPerRepresentation() {
+            SeatMapVersion version = tracker.seatMapVersion(1L);
+
+            assertThat(version.eTag("json")).startsWith("\"").endsWith("\"");
+            assertThat(version.eTag("json")).isNotEqualTo(version.eTag("bitmap"));
+        }
+
+        @Test
+        @DisplayName("Ohne Änderung bleibt der ETag stabil")
+        void shouldBeStableWithoutChange() {
+            assertThat(tracker.seatMapVersion(1L)).isEqualTo(tracker.seatMapVersion(1L));
+        }
+
+        @Test
+        @DisplayName("Seat-Status-Änderung ändert ETag und Cache-Zähler, Last-Modified sinkt nie")
+        void shouldChangeWithSeatStatusChange() {
+            SeatMapVersion before = tracker.seatMapVersion(1L);
+
+            tracker.seatStatusChanged(1L);
+            SeatMapVersion after = tracker.seatMapVersion(1L);
+
+            assertThat(after.eTag("json")).isNotEqualTo(before.eTag("json"));
+            assertThat(after.counter()).isGreaterThan(before.counter());
+            assertThat(after.lastModified()).isGreaterThanOrEqualTo(before.lastModified());
+        }
+
+        @Test
+        @DisplayName("Concert-Änderung ändert ETag und Cache-Zähler")
+        void shouldChangeWithConcertChange() {
+            tracker.seatStatusChanged(1L);
+            SeatMapVersion before = tracker.seatMapVersion(1L);
+
+            tracker.concertChanged(1L);
+            SeatMapVersion after = tracker.seatMapVersion(1L);
+
+            assertThat(after.eTag("json")).isNotEqualTo(before.eTag("json"));
+            assertThat(after.counter()).isGreaterThan(before.counter());
+        }
+
+        @Test
+        @DisplayName("Änderung an einem Konzert lässt andere Konzerte unverändert")
+        void shouldNotAffectOtherConcerts() {
+            SeatMapVersion before = tracker.seatMapVersion(2L);
+
+            tracker.seatStatusChanged(1L);
+            tracker.concertChanged(1L);
+
+            assertThat(tracker.seatMapVersion(2L)).isEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("ETags eines anderen Prozesses werden nicht als gültig erkannt")
+        void shouldIncludeEpoch() {
+            SeatMapVersion version = tracker.seatMapVersion(1L);
+
+            assertThat(version.eTag("json")).contains(version.epochTag());
+        }
+    }
+
+    @Nested
+    @DisplayName("Listing ETags")
+    class ListingETags {
+
+        @Test
+        @DisplayName("Seat-Status- und Concert-Änderungen ändern den Listing-ETag")
+        void shouldChangeWithAnyChange() {
+            ListingVersion initial = tracker.listingVersion();
+
+            tracker.seatStatusChanged(1L);
+            ListingVersion afterSeatChange = tracker.listingVersion();
+            tracker.concertChanged(2L);
+            ListingVersion afterConcertChange = tracker.listingVersion();
+
+            assertThat(afterSeatChange.eTag()).isNotEqualTo(initial.eTag());
+            assertThat(afterConcertChange.eTag()).isNotEqualTo(afterSeatChange.eTag());
+            assertThat(afterConcertChange.lastModified()).isGreaterThanOrEqualTo(initial.lastModified());
+        }
+
+        @Test
+        @DisplayName("Ohne Änderung bleibt der Listing-ETag stabil")
+        void shouldBeStableWithoutChange() {
+            assertThat(tracker.listingVersion()).isEqualTo(tracker.listingVersion());
+            assertThat(tracker.listingVersion().lastModified()).isPositive();
+        }
+    }
+}
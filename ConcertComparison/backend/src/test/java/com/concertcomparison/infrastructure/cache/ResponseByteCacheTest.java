@@ -0,0 +1,197 @@
+package com.concertcomparison.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ResponseByteCache Unit Tests")
+class ResponseByteCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseByteCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ResponseByteCache(new ObjectMapper(), meterRegistry, 1_000_000, 64, 300);
+        loads = new AtomicInteger();
+    }
+
+    private Map<String, String> load(String value) {
+        loads.incrementAndGet();
+        return Map.of("value", value);
+    }
+
+    @Nested
+    @DisplayName("Caching")
+    class Caching {
+
+        @Test
+        @DisplayName("Gleiche Version wird nur einmal serialisiert")
+        void shouldEncodeOncePerVersion() {
+            EncodedResponse first = cache.getOrEncode(1L, "seats", 0, () -> load("a"));
+            EncodedResponse second = cache.getOrEncode(1L, "seats", 0, () -> load("b"));
+
+            assertThat(second).isSameAs(first);
+            assertThat(loads).hasValue(1);
+            assertThat(new String(first.identity())).isEqualTo("{\"value\":\"a\"}");
+        }
+
+        @Test
+        @DisplayName("Neue Version oder andere Repräsentation wird neu serialisiert")
+        void shouldEncodeAgainForNewVersion() {
+            cache.getOrEncode(1L, "seats", 0, () -> load("a"));
+            cache.getOrEncode(1L, "seats", 1, () -> load("a"));
+            cache.getOrEncode(1L, "concert", 1, () -> load("a"));
+
+            assertThat(loads).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("invalidateConcert entfernt nur Einträge des Konzerts")
+        void shouldInvalidateConcert() {
+            cache.getOrEncode(1L, "seats", 0, () -> load("a"));
+            cache.getOrEncode(2L, "seats", 0, () -> load("b"));
+
+            cache.invalidateConcert(1L);
+
+            assertThat(cache.estimatedSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Exceptions des Loaders werden weitergereicht und nicht gecacht")
+        void shouldPropagateLoaderException() {
+            assertThatThrownBy(() -> cache.getOrEncode(1L, "seats", 0, () -> {
+                throw new IllegalArgumentException("boom");
+            })).isInstanceOf(IllegalArgumentException.class);
+
+            assertThat(cache.estimatedSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("Gleichzeitige Misses derselben Version serialisieren nur einmal")
+        void shouldCoalesceConcurrentMisses() throws Exception {
+            int callers = 8;
+            CountDownLatch loaderStarted = new CountDownLatch(1);
+            CountDownLatch releaseLoader = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(callers);
+            try {
+                List<Future<EncodedResponse>> results = new ArrayList<>();
+                results.add(executor.submit(() -> cache.getOrEncode(1L, "seats", 3, () -> {
+                    loaderStarted.countDown();
+                    awaitQuietly(releaseLoader);
+                    return load("a");
+                })));
+                assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                for (int i = 1; i < callers; i++) {
+                    results.add(executor.submit(() -> cache.getOrEncode(1L, "seats", 3, () -> load("b"))));
+                }
+                while (meterRegistry.counter("cache.singleflight.coalesced", "cache", "responseByteCache").count()
+                        < callers - 1) {
+                    Thread.sleep(5);
+                }
+                releaseLoader.countDown();
+
+                for (Future<EncodedResponse> result : results) {
+                    assertThat(new String(result.get(5, TimeUnit.SECONDS).identity())).isEqualTo("{\"value\":\"a\"}");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(loads).hasValue(1);
+            assertThat(meterRegistry.counter("cache.singleflight.loads", "cache", "responseByteCache").count())
+                .isEqualTo(1);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoding")
+    class Encoding {
+
+        @Test
+        @DisplayName("Kleine Responses werden nicht komprimiert")
+        void shouldSkipGzipForSmallResponses() {
+            EncodedResponse encoded = cache.getOrEncode(1L, "seats", 0, () -> load("a"));
+
+            assertThat(encoded.hasGzip()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Große Responses werden nur komprimiert gehalten")
+        void shouldKeepOnlyGzipForLargeResponses() {
+            String large = "x".repeat(500);
+            EncodedResponse encoded = cache.getOrEncode(1L, "seats", 0, () -> load(large));
+
+            assertThat(encoded.hasGzip()).isTrue();
+            assertThat(encoded.weight()).isLessThan(large.length());
+            assertThat(new String(encoded.identity())).isEqualTo("{\"value\":\"" + large + "\"}");
+        }
+
+        @Test
+        @DisplayName("Große Responses werden bei Accept-Encoding gzip komprimiert ausgeliefert")
+        void shouldWriteGzipWhenAccepted() throws Exception {
+            String large = "x".repeat(500);
+            EncodedResponse encoded = cache.getOrEncode(1L, "seats", 0, () -> load(large));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            encoded.writeTo(response, "br, gzip");
+
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+                assertThat(in.readAllBytes()).isEqualTo(encoded.identity());
+            }
+        }
+
+        @Test
+        @DisplayName("Ohne Accept-Encoding werden unkomprimierte Bytes geschrieben")
+        void shouldWriteIdentityWithoutAcceptEncoding() throws Exception {
+            EncodedResponse encoded = cache.getOrEncode(1L, "seats", 0, () -> load("x".repeat(500)));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            encoded.writeTo(response, null);
+
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(response.getContentAsString()).isEqualTo("{\"value\":\"" + "x".repeat(500) + "\"}");
+            assertThat(response.getContentType()).startsWith("application/json");
+        }
+
+        @Test
+        @DisplayName("gzip;q=0 gilt als Ablehnung")
+        void shouldRespectZeroQuality() {
+            assertThat(EncodedResponse.acceptsGzip("gzip;q=0")).isFalse();
+            assertThat(EncodedResponse.acceptsGzip("deflate, gzip;q=0.5")).isTrue();
+            assertThat(EncodedResponse.acceptsGzip("deflate")).isFalse();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.concertcomparison.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Unit Tests")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<Long, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("seats", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Wartende Aufrufer erhalten die Exception des laufenden Loads")
+    void shouldShareLoaderException() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+            loaderStarted.countDown();
+            awaitQuietly(releaseLoader);
+            throw new IllegalArgumentException("Concert 1 nicht gefunden");
+        }));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> "unused"));
+        while (meterRegistry.counter("cache.singleflight.coalesced", "cache", "seats").count() < 1) {
+            Thread.sleep(5);
+        }
+        releaseLoader.countDown();
+
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Nach Abschluss startet der nächste Miss einen neuen Load, andere Schlüssel sind unabhängig")
+    void shouldLoadAgainAfterCompletion() {
+        assertThat(singleFlight.execute(1L, () -> "v1")).isEqualTo("v1");
+        assertThat(singleFlight.execute(1L, () -> "v2")).isEqualTo("v2");
+        assertThat(singleFlight.execute(2L, () -> "other")).isEqualTo("other");
+
+        assertThat(meterRegistry.counter("cache.singleflight.loads", "cache", "seats").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("cache.singleflight.coalesced", "cache", "seats").count()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
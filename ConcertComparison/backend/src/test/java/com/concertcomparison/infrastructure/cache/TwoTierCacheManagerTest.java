@@ -0,0 +1,123 @@
+package com.concertcomparison.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TwoTierCacheManager Unit Tests")
+class TwoTierCacheManagerTest {
+
+    private static final String CACHE = "seatAvailability";
+
+    private LoopbackCacheInvalidationBus busA;
+    private LoopbackCacheInvalidationBus busB;
+    private ConcurrentMapCacheManager sharedTier;
+    private TwoTierCacheManager nodeA;
+    private TwoTierCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        busA = new LoopbackCacheInvalidationBus("node-a");
+        busB = busA.joinAs("node-b");
+        sharedTier = new ConcurrentMapCacheManager(CACHE);
+        nodeA = new TwoTierCacheManager(new ConcurrentMapCacheManager(CACHE), sharedTier, busA);
+        nodeB = new TwoTierCacheManager(new ConcurrentMapCacheManager(CACHE), sharedTier, busB);
+    }
+
+    @Test
+    @DisplayName("Evict auf einem Knoten verwirft den L1 aller anderen Knoten")
+    void evictShouldInvalidateOtherNodes() {
+        nodeA.getCache(CACHE).put(1L, "v1");
+        nodeB.getCache(CACHE).get(1L);
+        assertThat(localValue(nodeB, 1L)).isEqualTo("v1");
+
+        nodeA.getCache(CACHE).evict(1L);
+
+        assertThat(nodeB.getCache(CACHE).get(1L)).isNull();
+        assertThat(sharedTier.getCache(CACHE).get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Clear wird als Invalidierung des ganzen Caches verteilt")
+    void clearShouldInvalidateOtherNodes() {
+        nodeB.getCache(CACHE).put(1L, "v1");
+        nodeB.getCache(CACHE).put(2L, "v2");
+
+        nodeA.getCache(CACHE).clear();
+
+        assertThat(nodeB.getCache(CACHE).get(1L)).isNull();
+        assertThat(nodeB.getCache(CACHE).get(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("L1-Miss liest aus dem geteilten L2, der Loader läuft nur einmal im Cluster")
+    void shouldReadThroughSharedTier() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String fromA = nodeA.getCache(CACHE).get(7L, () -> "seats-" + loads.incrementAndGet());
+        String fromB = nodeB.getCache(CACHE).get(7L, () -> "seats-" + loads.incrementAndGet());
+
+        assertThat(fromA).isEqualTo("seats-1");
+        assertThat(fromB).isEqualTo("seats-1");
+        assertThat(loads).hasValue(1);
+        assertThat(localValue(nodeB, 7L)).isEqualTo("seats-1");
+    }
+
+    @Test
+    @DisplayName("putIfAbsent überschreibt keinen vorhandenen Eintrag, auch nicht aus dem L2")
+    void putIfAbsentShouldKeepExistingEntry() {
+        nodeA.getCache(CACHE).put(7L, "fresh");
+
+        Cache.ValueWrapper existing = nodeB.getCache(CACHE).putIfAbsent(7L, "stale");
+
+        assertThat(existing).isNotNull();
+        assertThat(existing.get()).isEqualTo("fresh");
+        assertThat(localValue(nodeB, 7L)).isEqualTo("fresh");
+        assertThat(nodeA.getCache(CACHE).get(7L, String.class)).isEqualTo("fresh");
+        assertThat(nodeB.getCache(CACHE).putIfAbsent(8L, "new")).isNull();
+        assertThat(nodeA.getCache(CACHE).get(8L, String.class)).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("Ohne L2 cacht jeder Knoten nur lokal")
+    void shouldWorkWithoutSharedTier() {
+        TwoTierCacheManager localOnly = new TwoTierCacheManager(
+            new ConcurrentMapCacheManager(CACHE), null, new LoopbackCacheInvalidationBus("solo"));
+
+        localOnly.getCache(CACHE).put(1L, "v1");
+
+        assertThat(localOnly.hasSharedTier()).isFalse();
+        assertThat(localOnly.getCache(CACHE).get(1L, String.class)).isEqualTo("v1");
+        assertThat(localOnly.getCache("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("Eigene Nachrichten werden nicht an den sendenden Knoten zugestellt")
+    void shouldNotDeliverToSender() {
+        List<CacheInvalidation> receivedByA = new ArrayList<>();
+        List<CacheInvalidation> receivedByB = new ArrayList<>();
+        busA.subscribe(receivedByA::add);
+        busB.subscribe(receivedByB::add);
+
+        busA.publish(new CacheInvalidation.ConcertInvalidated(1L, null));
+
+        assertThat(receivedByA).isEmpty();
+        assertThat(receivedByB).containsExactly(new CacheInvalidation.ConcertInvalidated(1L, null));
+    }
+
+    private Object localValue(TwoTierCacheManager node, Object key) {
+        // Nativer Cache ist der L1 des Knotens
+        @SuppressWarnings("unchecked")
+        var nativeCache = (ConcurrentMap<Object, Object>) node.getCache(CACHE).getNativeCache();
+        return nativeCache.get(key);
+    }
+}
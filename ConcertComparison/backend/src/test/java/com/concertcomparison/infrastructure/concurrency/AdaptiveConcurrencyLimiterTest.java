@@ -0,0 +1,105 @@
+package com.concertcomparison.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveConcurrencyLimiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter("test", initialLimit, 2, 100, 0.2, 1.5, 100, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Über dem Limit wird sofort abgelehnt, Metriken zeigen Limit, In-Flight und Ablehnungen")
+    void shouldRejectAtLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(meterRegistry.get("concurrency.limit").tag("limiter", "test").gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.get("concurrency.inflight").tag("limiter", "test").gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.get("concurrency.rejected").tag("limiter", "test").counter().count()).isEqualTo(1);
+
+        limiter.release(FAST, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Steigende Latenz senkt das Limit, aber nie unter min-limit")
+    void shouldShrinkWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(20);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW, false);
+        }
+
+        assertThat(limiter.limit()).isLessThan(20).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Bei stabiler Latenz wächst das Limit nur unter Auslastung")
+    void shouldGrowOnlyWhenUtilized() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(20);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 20; i++) {
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.limit()).isGreaterThan(20);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Fehler senken das Limit multiplikativ")
+    void shouldBackOffOnDrop() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        limiter.tryAcquire();
+
+        limiter.release(FAST, true);
+
+        assertThat(limiter.limit()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("Ungültige Grenzen werden abgelehnt")
+    void shouldRejectInvalidBounds() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("x", 1, 2, 10, 0.2, 1.5, 100, meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("x", 5, 2, 10, 0.2, 0.8, 100, meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package com.concertcomparison.infrastructure.concurrency;
+
+import com.concertcomparison.domain.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConcurrencyLimitInterceptor Unit Tests")
+class ConcurrencyLimitInterceptorTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter("order", 2, 1, 10, 0.2, 1.5, 100, new SimpleMeterRegistry());
+        interceptor = new ConcurrencyLimitInterceptor(limiter, 3);
+    }
+
+    @Test
+    @DisplayName("Volles Limit → ServiceOverloadedException mit Retry-After")
+    void shouldFailFastWhenLimitReached() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, null)).isTrue();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, null)).isTrue();
+
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, null))
+            .isInstanceOf(ServiceOverloadedException.class)
+            .satisfies(e -> assertThat(((ServiceOverloadedException) e).getRetryAfterSeconds()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("Abschluss gibt den Platz frei, 5xx zählt als Fehler")
+    void shouldReleaseOnCompletion() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        response.setStatus(500);
+
+        interceptor.afterCompletion(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+}
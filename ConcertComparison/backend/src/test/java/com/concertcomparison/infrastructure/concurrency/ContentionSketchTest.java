@@ -0,0 +1,76 @@
+package com.concertcomparison.infrastructure.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ContentionSketch Unit Tests")
+class ContentionSketchTest {
+
+    private ContentionSketch sketch;
+
+    @BeforeEach
+    void setUp() {
+        sketch = new ContentionSketch(64);
+    }
+
+    @Test
+    @DisplayName("Unbekannter Schlüssel hat keine Versuche und Konfliktrate 0")
+    void shouldReturnZeroForUnknownKey() {
+        ContentionSketch.Estimate estimate = sketch.estimate(42L);
+
+        assertThat(estimate.attempts()).isZero();
+        assertThat(estimate.conflictRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("Konfliktrate entspricht dem Verhältnis Konflikte / Versuche")
+    void shouldEstimateConflictRate() {
+        for (int i = 0; i < 8; i++) {
+            sketch.record(7L, i % 4 == 0);
+        }
+
+        ContentionSketch.Estimate estimate = sketch.estimate(7L);
+
+        assertThat(estimate.attempts()).isEqualTo(8);
+        assertThat(estimate.conflicts()).isEqualTo(2);
+        assertThat(estimate.conflictRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    @DisplayName("Heißer Schlüssel färbt kalte Schlüssel nicht ein (Minimum über alle Zeilen)")
+    void shouldKeepKeysApart() {
+        for (int i = 0; i < 50; i++) {
+            sketch.record(1L, true);
+        }
+        sketch.record(2L, false);
+
+        assertThat(sketch.estimate(1L).conflictRate()).isEqualTo(1.0);
+        assertThat(sketch.estimate(2L).conflictRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("Zähler werden nach width * 10 Versuchen halbiert")
+    void shouldAgeCounters() {
+        // Breite 64 → Halbierung nach 640 Versuchen
+        for (int i = 0; i < 639; i++) {
+            sketch.record(1L, true);
+        }
+        assertThat(sketch.estimate(1L).attempts()).isEqualTo(639);
+
+        sketch.record(1L, true);
+
+        assertThat(sketch.estimate(1L).attempts()).isEqualTo(320);
+        assertThat(sketch.estimate(1L).conflictRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Zu kleine Breite wird abgelehnt")
+    void shouldRejectTinyWidth() {
+        assertThatThrownBy(() -> new ContentionSketch(8))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
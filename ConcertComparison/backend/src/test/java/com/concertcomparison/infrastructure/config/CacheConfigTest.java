@@ -0,0 +1,101 @@
+package com.concertcomparison.infrastructure.config;
+
+import com.concertcomparison.infrastructure.cache.CachePolicyProperties;
+import com.concertcomparison.infrastructure.cache.CacheReloader;
+import com.concertcomparison.infrastructure.cache.LoopbackCacheInvalidationBus;
+import com.concertcomparison.infrastructure.cache.TwoTierCacheManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CacheConfig Unit Tests")
+class CacheConfigTest {
+
+    private StaticListableBeanFactory beanFactory;
+    private ObjectProvider<CacheReloader> reloaders;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new StaticListableBeanFactory();
+        reloaders = beanFactory.getBeanProvider(CacheReloader.class);
+    }
+
+    @Test
+    @DisplayName("Gewichtsbasierte Policy verdrängt nach Elementanzahl statt nach Einträgen")
+    void shouldEvictByWeight() {
+        CachePolicyProperties.Policy policy = new CachePolicyProperties.Policy();
+        policy.setMaximumWeight(10L);
+        Cache<Object, Object> cache = CacheConfig.buildCache("inventorySummary", policy, reloaders);
+
+        cache.put(1L, List.of(1, 2, 3, 4, 5, 6, 7, 8));
+        cache.put(2L, List.of(1, 2, 3, 4, 5, 6, 7, 8));
+        cache.cleanUp();
+
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Refresh liefert den alten Wert und lädt im Hintergrund über den Reloader neu")
+    void shouldRefreshAheadWithoutBlockingReaders() throws InterruptedException {
+        AtomicInteger reloads = new AtomicInteger();
+        beanFactory.addBean("reloader", CacheReloader.of("concertIds", key -> "fresh-" + reloads.incrementAndGet()));
+        CachePolicyProperties.Policy policy = new CachePolicyProperties.Policy();
+        policy.setRefreshAfterWrite(Duration.ofMillis(1));
+        Cache<Object, Object> cache = CacheConfig.buildCache("concertIds", policy, reloaders);
+
+        cache.put("all", "stale");
+        Thread.sleep(5);
+
+        assertThat(cache.getIfPresent("all")).isIn("stale", "fresh-1");
+        for (int i = 0; i < 100 && reloads.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(10);
+        assertThat(cache.asMap().get("all")).isEqualTo("fresh-1");
+    }
+
+    @Test
+    @DisplayName("Größe und Gewicht gleichzeitig sind eine Fehlkonfiguration")
+    void shouldRejectSizeAndWeightTogether() {
+        CachePolicyProperties.Policy policy = new CachePolicyProperties.Policy();
+        policy.setMaximumSize(10L);
+        policy.setMaximumWeight(10L);
+
+        assertThatThrownBy(() -> CacheConfig.buildCache("seatLayout", policy, reloaders))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("seatLayout");
+    }
+
+    @Test
+    @DisplayName("Hit/Miss-Statistiken jedes Caches werden als Micrometer-Metriken registriert")
+    void shouldBindStatsToMicrometer() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<CacheManager> noSharedTier = beanFactory.getBeanProvider(CacheManager.class);
+        TwoTierCacheManager cacheManager = new CacheConfig().cacheManager(
+            new LoopbackCacheInvalidationBus("solo"), noSharedTier, new CachePolicyProperties(), reloaders, meterRegistry);
+
+        cacheManager.getCache("inventorySummary").put(1L, "seats");
+        cacheManager.getCache("inventorySummary").get(1L);
+        cacheManager.getCache("inventorySummary").get(2L);
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "inventorySummary", "result", "hit")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "inventorySummary", "result", "miss")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("cache.size").tag("cache", "seatLayout").gauge()).isNotNull();
+    }
+}
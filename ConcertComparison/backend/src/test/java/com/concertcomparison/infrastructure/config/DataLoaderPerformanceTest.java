@@ -2,16 +2,19 @@ package com.concertcomparison.infrastructure.config;
 
 import com.concertcomparison.domain.model.Concert;
 import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.model.SeatStatus;
 import com.concertcomparison.domain.repository.ConcertRepository;
 import com.concertcomparison.domain.repository.SeatRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -19,9 +22,19 @@ import static org.assertj.core.api.Assertions.*;
 /**
  * Integration Tests für DataLoaderPerformance.
  * 
- * Verifiziert, dass die Performance Mock-Daten korrekt geladen werden.
+ * Verifiziert, dass der synthetische Datensatz (hier: 2 Konzerte à 150 Seats, 5 Users)
+ * konsistent generiert wird.
  */
-@SpringBootTest
+@SpringBootTest(properties = {
+    "concert.dataset.preset=SMALL",
+    "concert.dataset.concerts=2",
+    "concert.dataset.seats-per-concert=150",
+    "concert.dataset.users=5",
+    "concert.dataset.held-ratio=0.2",
+    "concert.dataset.sold-ratio=0.4",
+    "concert.dataset.available-seats-per-concert=100",
+    "concert.dataset.batch-size=64"
+})
 @ActiveProfiles("performance")
 @Transactional
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
@@ -34,158 +47,78 @@ class DataLoaderPerformanceTest {
     @Autowired
     private SeatRepository seatRepository;
 
-    @Test
-    @DisplayName("Performance DataLoader lädt 2 Concerts")
-    void performanceDataLoader_Loads2Concerts() {
-        // Act
-        List<Concert> concerts = concertRepository.findAll();
-
-        // Assert - Nur die Performance Concerts zählen (DevDataLoader könnte auch aktiv sein)
-        List<Concert> performanceConcerts = concerts.stream()
-            .filter(c -> c.getName().contains("Ed Sheeran") || c.getName().contains("Taylor Swift"))
-            .toList();
-        
-        assertThat(performanceConcerts).hasSize(2);
-        
-        assertThat(performanceConcerts)
-            .extracting(Concert::getName)
-            .contains(
-                "Ed Sheeran - Stadion Tour 2026",
-                "Taylor Swift - The Eras Tour 2026"
-            );
-    }
-
-    @Test
-    @DisplayName("Performance DataLoader - Concert 1 hat 100 Seats")
-    void performanceDataLoader_Concert1Has100Seats() {
-        // Act - Finde Concert 1
-        Concert concert1 = concertRepository.findAll().stream()
-            .filter(c -> c.getName().contains("Ed Sheeran"))
-            .findFirst()
-            .orElseThrow();
-        
-        long seatCount = seatRepository.countByConcertId(concert1.getId());
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
-        // Assert
-        assertThat(seatCount).isEqualTo(100);
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
     }
 
     @Test
-    @DisplayName("Performance DataLoader - Concert 2 hat 150 Seats")
-    void performanceDataLoader_Concert2Has150Seats() {
-        // Act - Finde Concert 2
-        Concert concert2 = concertRepository.findAll().stream()
-            .filter(c -> c.getName().contains("Taylor Swift"))
-            .findFirst()
-            .orElseThrow();
-        
-        long seatCount = seatRepository.countByConcertId(concert2.getId());
+    @DisplayName("Performance DataLoader lädt 2 Concerts mit je 150 Seats")
+    void performanceDataLoader_LoadsConfiguredSize() {
+        // Act
+        List<Concert> concerts = concertRepository.findAll();
 
         // Assert
-        assertThat(seatCount).isEqualTo(150);
+        assertThat(concerts)
+            .extracting(Concert::getName)
+            .containsExactlyInAnyOrder("Performance Concert 1", "Performance Concert 2");
+        assertThat(concerts).allMatch(c -> c.getDate().isAfter(LocalDateTime.now()));
+        assertThat(seatRepository.countByConcertId(1L)).isEqualTo(150);
+        assertThat(seatRepository.countByConcertId(2L)).isEqualTo(150);
     }
 
     @Test
-    @DisplayName("Performance DataLoader - Concert 1 Seat-Verteilung")
-    void performanceDataLoader_Concert1SeatDistribution() {
-        // Act - Finde Concert 1
-        Concert concert1 = concertRepository.findAll().stream()
-            .filter(c -> c.getName().contains("Ed Sheeran"))
-            .findFirst()
-            .orElseThrow();
-        
-        List<Seat> seats = seatRepository.findByConcertId(concert1.getId());
-
-        // Count by category
-        long vipCount = seats.stream()
-            .filter(s -> s.getCategory().equals("VIP"))
-            .count();
-        
-        long catACount = seats.stream()
-            .filter(s -> s.getCategory().equals("CATEGORY_A"))
-            .count();
-        
-        long catBCount = seats.stream()
-            .filter(s -> s.getCategory().equals("CATEGORY_B"))
-            .count();
+    @DisplayName("Performance DataLoader - Seat-IDs sind deterministisch, die ersten 100 Seats AVAILABLE")
+    void performanceDataLoader_FirstSeatsAvailable() {
+        // Act
+        List<Seat> concert2Seats = seatRepository.findByConcertId(2L);
 
-        // Assert
-        assertThat(vipCount).isEqualTo(50);
-        assertThat(catACount).isEqualTo(30);
-        assertThat(catBCount).isEqualTo(20);
+        // Assert - Seat i von Concert k hat ID (k - 1) * 150 + i
+        assertThat(concert2Seats)
+            .extracting(Seat::getId)
+            .containsExactlyInAnyOrderElementsOf(
+                java.util.stream.LongStream.rangeClosed(151, 300).boxed().toList());
+        assertThat(concert2Seats)
+            .filteredOn(seat -> seat.getId() <= 250)
+            .allMatch(seat -> seat.getStatus() == SeatStatus.AVAILABLE);
     }
 
     @Test
-    @DisplayName("Performance DataLoader - Concert 2 Seat-Verteilung")
-    void performanceDataLoader_Concert2SeatDistribution() {
-        // Act - Finde Concert 2
-        Concert concert2 = concertRepository.findAll().stream()
-            .filter(c -> c.getName().contains("Taylor Swift"))
-            .findFirst()
-            .orElseThrow();
-        
-        List<Seat> seats = seatRepository.findByConcertId(concert2.getId());
-
-        // Count by category
-        long vipCount = seats.stream()
-            .filter(s -> s.getCategory().equals("VIP"))
-            .count();
-        
-        long catACount = seats.stream()
-            .filter(s -> s.getCategory().equals("CATEGORY_A"))
-            .count();
-        
-        long catBCount = seats.stream()
-            .filter(s -> s.getCategory().equals("CATEGORY_B"))
-            .count();
+    @DisplayName("Performance DataLoader - HELD Seats haben Reservierungen, SOLD Seats Orders mit Payment")
+    void performanceDataLoader_ConsistentHoldsAndOrders() {
+        // Act
+        long held = count("SELECT COUNT(*) FROM seats WHERE status = 'HELD'");
+        long sold = count("SELECT COUNT(*) FROM seats WHERE status = 'SOLD'");
 
         // Assert
-        assertThat(vipCount).isEqualTo(75);
-        assertThat(catACount).isEqualTo(50);
-        assertThat(catBCount).isEqualTo(25);
+        assertThat(held + sold).isPositive().isLessThanOrEqualTo(100);
+        assertThat(count("SELECT COUNT(*) FROM reservations WHERE status = 'ACTIVE'")).isEqualTo(held);
+        assertThat(count("SELECT COUNT(*) FROM seats s JOIN reservations r "
+            + "ON s.hold_reservation_id = CAST(r.id AS VARCHAR) WHERE s.status = 'HELD'")).isEqualTo(held);
+        assertThat(count("SELECT COUNT(*) FROM orders o JOIN seats s ON o.seat_id = s.id "
+            + "WHERE s.status = 'SOLD' AND o.status = 'CONFIRMED'")).isEqualTo(sold);
+        assertThat(count("SELECT COUNT(*) FROM payments")).isEqualTo(sold);
     }
 
     @Test
-    @DisplayName("Performance DataLoader - Alle Seats sind AVAILABLE")
-    void performanceDataLoader_AllSeatsAvailable() {
-        // Act - Finde beide Concerts
-        Concert concert1 = concertRepository.findAll().stream()
-            .filter(c -> c.getName().contains("Ed Sheeran"))
-            .findFirst()
-            .orElseThrow();
-        Concert concert2 = concertRepository.findAll().stream()
-            .filter(c -> c.getName().contains("Taylor Swift"))
-            .findFirst()
-            .orElseThrow();
-        
-        List<Seat> concert1Seats = seatRepository.findByConcertId(concert1.getId());
-        List<Seat> concert2Seats = seatRepository.findByConcertId(concert2.getId());
-
-        // Assert
-        assertThat(concert1Seats)
-            .allMatch(seat -> seat.getStatus().toString().equals("AVAILABLE"));
-        
-        assertThat(concert2Seats)
-            .allMatch(seat -> seat.getStatus().toString().equals("AVAILABLE"));
+    @DisplayName("Performance DataLoader - Admin, Test-User und 5 Perf-User")
+    void performanceDataLoader_LoadsUsers() {
+        assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(7);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE role = 'ADMIN'")).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("Performance DataLoader - Gesamt 250 Seats")
-    void performanceDataLoader_Total250Seats() {
-        // Act - Finde beide Concerts
-        Concert concert1 = concertRepository.findAll().stream()
-            .filter(c -> c.getName().contains("Ed Sheeran"))
-            .findFirst()
-            .orElseThrow();
-        Concert concert2 = concertRepository.findAll().stream()
-            .filter(c -> c.getName().contains("Taylor Swift"))
-            .findFirst()
-            .orElseThrow();
-        
-        long totalSeats = seatRepository.countByConcertId(concert1.getId()) + 
-                         seatRepository.countByConcertId(concert2.getId());
+    @DisplayName("Performance DataLoader - Sequences liegen hinter den generierten IDs")
+    void performanceDataLoader_SequencesRestarted() {
+        // Act
+        Concert concert = concertRepository.save(Concert.createConcert(
+            "Neues Konzert", LocalDateTime.now().plusDays(10), "Arena", "Nach dem Datensatz angelegt"));
+        Seat seat = seatRepository.save(new Seat(concert.getId(), "X-1", "VIP", "Block X", "1", "1", 99.0));
 
         // Assert
-        assertThat(totalSeats).isEqualTo(250);
+        assertThat(concert.getId()).isGreaterThan(2L);
+        assertThat(seat.getId()).isGreaterThan(300L);
     }
 }
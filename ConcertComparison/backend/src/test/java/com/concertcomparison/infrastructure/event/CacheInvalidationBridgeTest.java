@@ -0,0 +1,117 @@
+package com.concertcomparison.infrastructure.event;
+
+import com.concertcomparison.domain.event.ConcertChangedEvent;
+import com.concertcomparison.domain.event.SeatStatusChangedEvent;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker;
+import com.concertcomparison.infrastructure.cache.LoopbackCacheInvalidationBus;
+import com.concertcomparison.infrastructure.cache.ResponseByteCache;
+import com.concertcomparison.infrastructure.cache.TwoTierCacheManager;
+import com.concertcomparison.infrastructure.search.ConcertFacetIndex;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmapRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Zwei Knoten im selben Prozess: Änderungen auf Knoten A müssen die
+ * knotenlokalen Strukturen von Knoten B invalidieren.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationBridge Unit Tests")
+class CacheInvalidationBridgeTest {
+
+    private static final Long CONCERT_ID = 5L;
+
+    @Mock
+    private SeatStatusBitmapRegistry bitmapA;
+    @Mock
+    private ConcertFacetIndex facetIndexA;
+    @Mock
+    private ResponseByteCache responseCacheA;
+
+    @Mock
+    private SeatStatusBitmapRegistry bitmapB;
+    @Mock
+    private ConcertFacetIndex facetIndexB;
+    @Mock
+    private ResponseByteCache responseCacheB;
+
+    private CacheInvalidationBridge bridgeA;
+    private TwoTierCacheManager cacheManagerB;
+    private ContentVersionTracker versionsA;
+    private ContentVersionTracker versionsB;
+
+    @BeforeEach
+    void setUp() {
+        LoopbackCacheInvalidationBus busA = new LoopbackCacheInvalidationBus("node-a");
+        LoopbackCacheInvalidationBus busB = busA.joinAs("node-b");
+        TwoTierCacheManager cacheManagerA = new TwoTierCacheManager(
+            new ConcurrentMapCacheManager("inventorySummary", "concertById", "concertIds"), null, busA);
+        cacheManagerB = new TwoTierCacheManager(
+            new ConcurrentMapCacheManager("inventorySummary", "concertById", "concertIds"), null, busB);
+
+        versionsA = new ContentVersionTracker();
+        versionsB = new ContentVersionTracker();
+
+        bridgeA = new CacheInvalidationBridge(busA, cacheManagerA, bitmapA, facetIndexA, responseCacheA, versionsA);
+        new CacheInvalidationBridge(busB, cacheManagerB, bitmapB, facetIndexB, responseCacheB, versionsB);
+    }
+
+    @Test
+    @DisplayName("Seat-Statuswechsel auf A wird auf B als Delta angewendet")
+    void seatStatusChangeShouldReachOtherNode() {
+        cacheManagerB.getCache("inventorySummary").put(CONCERT_ID, "stale");
+        String eTagA = versionsA.seatMapVersion(CONCERT_ID).eTag("json");
+        String eTagB = versionsB.seatMapVersion(CONCERT_ID).eTag("json");
+
+        bridgeA.handleSeatStatusChanged(SeatStatusChangedEvent.holdCreated(42L, CONCERT_ID, "user"));
+
+        assertThat(cacheManagerB.getCache("inventorySummary").get(CONCERT_ID)).isNull();
+        InOrder inOrder = inOrder(bitmapB, facetIndexB, responseCacheB);
+        inOrder.verify(bitmapB).applyStatusChange(CONCERT_ID, 42L, SeatStatus.HELD);
+        inOrder.verify(facetIndexB).applySeatStatusChange(CONCERT_ID, SeatStatus.AVAILABLE, SeatStatus.HELD);
+        inOrder.verify(responseCacheB).invalidateConcert(CONCERT_ID);
+        verifyNoInteractions(bitmapA, facetIndexA, responseCacheA);
+        assertThat(versionsB.seatMapVersion(CONCERT_ID).eTag("json")).isNotEqualTo(eTagB);
+        assertThat(versionsA.seatMapVersion(CONCERT_ID).eTag("json")).isEqualTo(eTagA);
+    }
+
+    @Test
+    @DisplayName("Ersetzte Seats verwerfen auf B Bitmap und Concert-Eintrag, die ID-Liste bleibt")
+    void seatsChangedShouldInvalidateConcertOnOtherNode() {
+        cacheManagerB.getCache("concertById").put(CONCERT_ID, "stale");
+        cacheManagerB.getCache("concertIds").put("all", "ids");
+        String listingETagB = versionsB.listingVersion().eTag();
+
+        bridgeA.handleConcertChanged(ConcertChangedEvent.seatsChanged(CONCERT_ID));
+
+        assertThat(cacheManagerB.getCache("concertById").get(CONCERT_ID)).isNull();
+        assertThat(cacheManagerB.getCache("concertIds").get("all")).isNotNull();
+        verify(bitmapB).invalidate(CONCERT_ID);
+        verify(facetIndexB).refreshConcert(CONCERT_ID);
+        assertThat(versionsB.seatMapVersion(CONCERT_ID).concertVersion()).isEqualTo(1);
+        assertThat(versionsB.listingVersion().eTag()).isNotEqualTo(listingETagB);
+    }
+
+    @Test
+    @DisplayName("Gelöschtes Concert wird auf B aus dem Facetten-Index entfernt")
+    void deletedConcertShouldBeRemovedOnOtherNode() {
+        cacheManagerB.getCache("concertIds").put("all", "ids");
+
+        bridgeA.handleConcertChanged(ConcertChangedEvent.deleted(CONCERT_ID));
+
+        assertThat(cacheManagerB.getCache("concertIds").get("all")).isNull();
+        verify(facetIndexB).removeConcert(CONCERT_ID);
+        verify(facetIndexB, never()).refreshConcert(anyLong());
+        verify(responseCacheB).invalidateConcert(CONCERT_ID);
+    }
+}
@@ -0,0 +1,79 @@
+package com.concertcomparison.infrastructure.metrics;
+
+import com.concertcomparison.domain.exception.HoldQuotaExceededException;
+import com.concertcomparison.domain.exception.ReservationExpiredException;
+import com.concertcomparison.domain.exception.SeatNotAvailableException;
+import com.concertcomparison.domain.exception.SeatNotHeldException;
+import com.concertcomparison.domain.exception.SeatNotFoundException;
+import com.concertcomparison.infrastructure.config.MetricsConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookingMetrics Unit Tests")
+class BookingMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private BookingMetrics bookingMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bookingMetrics = new BookingMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Exceptions werden auf outcome-Tags abgebildet")
+    void shouldClassifyFailures() {
+        assertThat(BookingMetrics.Outcome.of(null)).isEqualTo(BookingMetrics.Outcome.SUCCESS);
+        assertThat(BookingMetrics.Outcome.of(new SeatNotFoundException(1L))).isEqualTo(BookingMetrics.Outcome.NOT_FOUND);
+        assertThat(BookingMetrics.Outcome.of(new SeatNotAvailableException("vergeben")))
+            .isEqualTo(BookingMetrics.Outcome.CONFLICT);
+        assertThat(BookingMetrics.Outcome.of(new OptimisticLockingFailureException("version")))
+            .isEqualTo(BookingMetrics.Outcome.CONFLICT);
+        assertThat(BookingMetrics.Outcome.of(new SeatNotHeldException("nicht reserviert")))
+            .isEqualTo(BookingMetrics.Outcome.CONFLICT);
+        assertThat(BookingMetrics.Outcome.of(new IllegalStateException("Programmierfehler")))
+            .isEqualTo(BookingMetrics.Outcome.ERROR);
+        assertThat(BookingMetrics.Outcome.of(new ReservationExpiredException("abgelaufen")))
+            .isEqualTo(BookingMetrics.Outcome.EXPIRED);
+        assertThat(BookingMetrics.Outcome.of(new HoldQuotaExceededException("zu viele", "bot", 1L, 3)))
+            .isEqualTo(BookingMetrics.Outcome.REJECTED);
+        assertThat(BookingMetrics.Outcome.of(new RuntimeException("db down"))).isEqualTo(BookingMetrics.Outcome.ERROR);
+    }
+
+    @Test
+    @DisplayName("Timer und Counter tragen Concert und Ergebnis als Tags")
+    void shouldTagByConcertAndOutcome() {
+        bookingMetrics.recordHold(bookingMetrics.start(), 7L, null);
+        bookingMetrics.recordHold(bookingMetrics.start(), 7L, new SeatNotAvailableException("vergeben"));
+        bookingMetrics.recordPurchase(bookingMetrics.start(), null, new SeatNotFoundException(1L));
+        bookingMetrics.recordPayment(bookingMetrics.start(), 7L, BookingMetrics.Outcome.FAILED);
+        bookingMetrics.holdReleased(7L, BookingMetrics.ReleaseReason.EXPIRED);
+
+        assertThat(meterRegistry.timer(BookingMetrics.HOLD, "concert", "7", "outcome", "success").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer(BookingMetrics.HOLD, "concert", "7", "outcome", "conflict").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer(BookingMetrics.PURCHASE, "concert", "unknown", "outcome", "not_found").count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.timer(BookingMetrics.PAYMENT, "concert", "7", "outcome", "failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter(BookingMetrics.HOLD_RELEASED, "concert", "7", "reason", "expired").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Tag-Limit verwirft Meter für weitere Concerts")
+    void shouldLimitConcertTags() {
+        meterRegistry.config().meterFilter(new MetricsConfig().bookingConcertTagLimit(2));
+
+        for (long concertId = 1; concertId <= 5; concertId++) {
+            bookingMetrics.recordHold(bookingMetrics.start(), concertId, null);
+        }
+
+        assertThat(meterRegistry.find(BookingMetrics.HOLD).timers()).hasSize(2);
+    }
+}
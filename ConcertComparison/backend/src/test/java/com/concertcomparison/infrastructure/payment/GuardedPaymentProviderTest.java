@@ -0,0 +1,109 @@
+package com.concertcomparison.infrastructure.payment;
+
+import com.concertcomparison.domain.exception.PaymentOutcomeUnknownException;
+import com.concertcomparison.domain.exception.PaymentProviderUnavailableException;
+import com.concertcomparison.domain.service.PaymentService;
+import com.concertcomparison.domain.service.PaymentService.PaymentResult;
+import com.concertcomparison.infrastructure.resilience.Bulkhead;
+import com.concertcomparison.infrastructure.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit Tests gegen den In-Process Mock Provider: testMode=true antwortet sofort,
+ * testMode=false braucht 1-3 Sekunden und löst damit die kurzen Timeouts aus.
+ */
+@DisplayName("GuardedPaymentProvider Unit Tests")
+class GuardedPaymentProviderTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(500);
+
+    private MeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new CircuitBreaker("payment", 50, 10, 2, Duration.ofMinutes(1), 1, meterRegistry);
+        bulkhead = new Bulkhead("payment", 1, 1, TIMEOUT, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkhead.close();
+    }
+
+    private GuardedPaymentProvider provider(boolean fast) {
+        return new GuardedPaymentProvider(new PaymentService(42L, fast), circuitBreaker, bulkhead);
+    }
+
+    @Test
+    @DisplayName("Schneller Provider: Ergebnis wird durchgereicht, Breaker bleibt CLOSED")
+    void shouldPassThroughResult() {
+        PaymentResult result = provider(true).processPayment();
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get("circuitbreaker.calls").tag("outcome", "success").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Langsamer Provider: Timeout ergibt unbekanntes Ergebnis, wiederholte Timeouts öffnen den Breaker")
+    void shouldTimeOutAndOpenBreaker() {
+        GuardedPaymentProvider slow = provider(false);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(slow::processPayment)
+            .isInstanceOf(PaymentOutcomeUnknownException.class)
+            .hasMessageContaining("Zeitüberschreitung");
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertThat(elapsed).isLessThan(Duration.ofMillis(900));
+
+        assertThatThrownBy(slow::processPayment).isInstanceOf(PaymentOutcomeUnknownException.class);
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("bulkhead.timeouts").tag("name", "payment").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Offener Breaker: Provider wird nicht aufgerufen, Ablehnung wird gezählt")
+    void shouldRejectWhenBreakerOpen() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThatThrownBy(() -> provider(true).processPayment())
+            .isInstanceOf(PaymentProviderUnavailableException.class)
+            .hasMessageContaining("Circuit Breaker");
+        assertThat(meterRegistry.get("circuitbreaker.rejected").tag("name", "payment").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Bulkhead und Warteschlange voll: sofortige Ablehnung ohne Breaker-Fehler")
+    void shouldRejectWhenBulkheadFull() {
+        GuardedPaymentProvider slow = provider(false);
+        CompletableFuture<PaymentResult> running = CompletableFuture.supplyAsync(slow::processPayment);
+        await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(10)).until(() -> bulkhead.active() == 1);
+        CompletableFuture<PaymentResult> waiting = CompletableFuture.supplyAsync(slow::processPayment);
+        await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(10)).until(() -> bulkhead.queued() == 1);
+
+        assertThatThrownBy(slow::processPayment)
+            .isInstanceOf(PaymentProviderUnavailableException.class)
+            .hasMessageContaining("Bulkhead");
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("name", "payment").counter().count()).isEqualTo(1);
+
+        assertThatThrownBy(running::join).hasCauseInstanceOf(PaymentOutcomeUnknownException.class);
+        assertThatThrownBy(waiting::join).hasCauseInstanceOf(PaymentOutcomeUnknownException.class);
+        assertThat(meterRegistry.get("circuitbreaker.calls").tag("outcome", "failure").counter().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,189 @@
+package com.concertcomparison.infrastructure.quota;
+
+import com.concertcomparison.domain.exception.HoldQuotaExceededException;
+import com.concertcomparison.domain.repository.ActiveHoldCount;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HoldQuotaTracker Unit Tests")
+class HoldQuotaTrackerTest {
+
+    private MeterRegistry meterRegistry;
+    private HoldQuotaTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new HoldQuotaTracker(meterRegistry, true, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Concert-Quota greift pro Concert, andere Concerts bleiben frei")
+    void shouldEnforcePerConcertQuota() {
+        tracker.acquire("bot", 1L);
+        tracker.acquire("bot", 1L);
+
+        assertThatThrownBy(() -> tracker.acquire("bot", 1L))
+            .isInstanceOf(HoldQuotaExceededException.class)
+            .hasMessageContaining("Concert 1");
+        tracker.acquire("bot", 2L);
+
+        assertThat(tracker.activeHolds("bot", 1L)).isEqualTo(2);
+        assertThat(tracker.activeHolds("bot")).isEqualTo(3);
+        assertThat(meterRegistry.counter("hold.quota.rejections", "scope", "concert").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Globale Quota greift über alle Concerts")
+    void shouldEnforceGlobalQuota() {
+        tracker.acquire("bot", 1L);
+        tracker.acquire("bot", 2L);
+        tracker.acquire("bot", 3L);
+
+        assertThatThrownBy(() -> tracker.acquire("bot", 4L))
+            .isInstanceOf(HoldQuotaExceededException.class)
+            .satisfies(e -> assertThat(((HoldQuotaExceededException) e).isGlobal()).isTrue());
+        assertThat(tracker.activeHolds("bot")).isEqualTo(3);
+        assertThat(tracker.activeHolds("bot", 4L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Freigabe macht Slots wieder nutzbar und fällt nie unter 0")
+    void shouldReleaseSlots() {
+        tracker.acquire("user", 1L);
+        tracker.acquire("user", 1L);
+
+        tracker.release("user", 1L);
+        tracker.release("user", 1L);
+        tracker.release("user", 1L);
+        tracker.release("unknown", 1L);
+
+        assertThat(tracker.activeHolds("user")).isZero();
+        tracker.acquire("user", 1L);
+        tracker.acquire("user", 1L);
+        assertThat(tracker.activeHolds("user", 1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deaktivierte Quota lässt alle Holds durch")
+    void shouldIgnoreQuotaWhenDisabled() {
+        HoldQuotaTracker disabled = new HoldQuotaTracker(meterRegistry, false, 1, 1);
+
+        for (int i = 0; i < 5; i++) {
+            disabled.acquire("bot", 1L);
+        }
+
+        assertThat(disabled.activeHolds("bot")).isZero();
+    }
+
+    @Test
+    @DisplayName("Abgleich korrigiert Zähler auf den Datenbankstand und entfernt Users ohne Holds")
+    void shouldReconcileWithDatabase() {
+        tracker.acquire("drifted", 1L);
+        tracker.acquire("drifted", 1L);
+        tracker.acquire("gone", 2L);
+
+        HoldQuotaTracker.Snapshot before = tracker.snapshot();
+        tracker.reconcile(before, List.of(
+            new ActiveHoldCount("drifted", 1L, 1),
+            new ActiveHoldCount("restarted", 3L, 2)));
+
+        assertThat(tracker.activeHolds("drifted", 1L)).isEqualTo(1);
+        assertThat(tracker.activeHolds("gone")).isZero();
+        assertThat(tracker.activeHolds("restarted", 3L)).isEqualTo(2);
+        assertThatThrownBy(() -> tracker.acquire("restarted", 3L))
+            .isInstanceOf(HoldQuotaExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Abgleich behält Holds, die nach dem Snapshot belegt oder freigegeben wurden")
+    void shouldKeepChangesAfterSnapshot() {
+        tracker.acquire("user", 1L);
+        tracker.acquire("leaving", 2L);
+        HoldQuotaTracker.Snapshot before = tracker.snapshot();
+
+        // Während der Datenbankabfrage: neuer Hold, noch nicht committed, und eine Freigabe
+        tracker.acquire("user", 1L);
+        tracker.acquire("newcomer", 1L);
+        tracker.release("leaving", 2L);
+
+        tracker.reconcile(before, List.of(
+            new ActiveHoldCount("user", 1L, 1),
+            new ActiveHoldCount("leaving", 2L, 1)));
+
+        assertThat(tracker.activeHolds("user", 1L)).isEqualTo(2);
+        assertThat(tracker.activeHolds("user")).isEqualTo(2);
+        assertThat(tracker.activeHolds("newcomer", 1L)).isEqualTo(1);
+        assertThat(tracker.activeHolds("leaving")).isZero();
+    }
+
+    @Test
+    @DisplayName("Abgleich verliert keine gleichzeitigen Belegungen von Users, die er entfernt")
+    void shouldNotLoseConcurrentAcquires() throws Exception {
+        HoldQuotaTracker relaxed = new HoldQuotaTracker(meterRegistry, true, 1_000_000, 1_000_000);
+        int acquires = 20_000;
+        Thread acquirer = new Thread(() -> {
+            for (int i = 0; i < acquires; i++) {
+                relaxed.acquire("user", 1L);
+                relaxed.release("user", 1L);
+            }
+            relaxed.acquire("user", 1L);
+        });
+        acquirer.start();
+        while (acquirer.isAlive()) {
+            relaxed.reconcile(new HoldQuotaTracker.Snapshot(Map.of()), List.of());
+        }
+        acquirer.join();
+
+        assertThat(relaxed.activeHolds("user", 1L)).isEqualTo(1);
+        assertThat(relaxed.activeHolds("user")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("releaseAfterCommit gibt erst nach Commit frei, restoreAfterCommit belegt erst nach Commit")
+    void shouldBindCounterChangesToCommit() {
+        tracker.acquire("user", 1L);
+        tracker.acquire("user", 1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tracker.releaseAfterCommit("user", 1L);
+            tracker.restoreAfterCommit("user", 2L);
+            assertThat(tracker.activeHolds("user", 1L)).isEqualTo(2);
+            assertThat(tracker.activeHolds("user", 2L)).isZero();
+
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(tracker.activeHolds("user", 1L)).isEqualTo(1);
+        assertThat(tracker.activeHolds("user", 2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("restoreAfterCommit belegt auch über dem Limit (Hold existiert bereits)")
+    void shouldRestoreBeyondQuota() {
+        tracker.acquire("user", 1L);
+        tracker.acquire("user", 1L);
+
+        tracker.restoreAfterCommit("user", 1L);
+
+        assertThat(tracker.activeHolds("user", 1L)).isEqualTo(3);
+        assertThatThrownBy(() -> tracker.acquire("user", 1L))
+            .isInstanceOf(HoldQuotaExceededException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.concertcomparison.infrastructure.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CircuitBreaker Unit Tests")
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private MeterRegistry meterRegistry;
+    private AtomicLong now;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong();
+        breaker = new CircuitBreaker("test", 50, 10, 4, OPEN_DURATION, 2, meterRegistry, now::get);
+    }
+
+    private void call(boolean failure) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (failure) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+
+    private void trip() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Öffnet erst ab minimum-calls und Fehlerquote >= Schwelle")
+    void shouldOpenAtFailureRateThreshold() {
+        call(true);
+        call(true);
+        call(true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        call(false);
+        call(false);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        call(true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("circuitbreaker.state").tag("name", "test").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Offener Breaker lehnt ab und zählt die Ablehnungen")
+    void shouldRejectWhileOpen() {
+        trip();
+
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        assertThat(meterRegistry.get("circuitbreaker.rejected").tag("name", "test").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("circuitbreaker.calls").tag("name", "test").tag("outcome", "failure")
+            .counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Nach open-duration: begrenzte Probeaufrufe, alle erfolgreich → CLOSED")
+    void shouldCloseAfterSuccessfulProbes() {
+        trip();
+        now.addAndGet(OPEN_DURATION.toNanos());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        call(true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Fehler im Probeaufruf öffnet den Breaker erneut")
+    void shouldReopenOnFailedProbe() {
+        trip();
+        now.addAndGet(OPEN_DURATION.toNanos());
+
+        call(true);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Nicht ausgeführter Probeaufruf gibt seine Erlaubnis zurück")
+    void shouldReturnUnusedProbePermit() {
+        trip();
+        now.addAndGet(OPEN_DURATION.toNanos());
+        breaker.tryAcquire();
+        breaker.tryAcquire();
+
+        breaker.onNotExecuted();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Ungültige Konfiguration wird abgelehnt")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new CircuitBreaker("x", 0, 10, 4, OPEN_DURATION, 1, meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CircuitBreaker("x", 50, 10, 11, OPEN_DURATION, 1, meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,235 @@
+package com.concertcomparison.infrastructure.search;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatAvailabilityAggregate;
+import com.concertcomparison.domain.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests für ConcertFacetIndex (Bitset-Postings, Facetten-Zählung, inkrementelle Updates).
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcertFacetIndex Unit Tests")
+class ConcertFacetIndexTest {
+
+    private static final LocalDateTime JULY = LocalDateTime.now().plusYears(1).withMonth(7).withDayOfMonth(10);
+    private static final LocalDateTime AUGUST = JULY.withMonth(8);
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    private ConcertFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ConcertFacetIndex(concertRepository, seatRepository, new double[]{50, 100, 200});
+
+        when(concertRepository.findAll()).thenReturn(List.of(
+            concert(1L, "Rock Night", JULY, "Arena Berlin"),
+            concert(2L, "Jazz Evening", JULY, "Hall Hamburg"),
+            concert(3L, "Pop Festival", AUGUST, "Arena Berlin")
+        ));
+        when(seatRepository.aggregateAvailabilityByConcertIds(anyList())).thenReturn(Map.of(
+            1L, new SeatAvailabilityAggregate(1L, 10, 20, 40.0, 120.0),
+            2L, new SeatAvailabilityAggregate(2L, 0, 5, 80.0, 90.0),
+            3L, new SeatAvailabilityAggregate(3L, 1, 50, 250.0, 300.0)
+        ));
+        index.rebuild();
+    }
+
+    @Nested
+    @DisplayName("search - Filter und Facetten")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Sollte ohne Filter alle Concerts und Facetten-Zählungen liefern")
+        void shouldReturnAllConcertsWithFacets() {
+            ConcertFacetResult result = index.search(ConcertFacetQuery.unfiltered(), PageRequest.of(0, 10));
+
+            assertThat(result.totalElements()).isEqualTo(3);
+            assertThat(result.facets().get(ConcertFacetIndex.FACET_VENUE))
+                .containsEntry("Arena Berlin", 2L)
+                .containsEntry("Hall Hamburg", 1L);
+            assertThat(result.facets().get(ConcertFacetIndex.FACET_PRICE_BUCKET))
+                .containsEntry("0-50", 1L)
+                .containsEntry("50-100", 1L)
+                .containsEntry("200+", 1L);
+            assertThat(result.facets().get(ConcertFacetIndex.FACET_AVAILABILITY))
+                .containsEntry("AVAILABLE", 2L)
+                .containsEntry("SOLD_OUT", 1L);
+        }
+
+        @Test
+        @DisplayName("Sollte Filter verschiedener Facetten per Intersection kombinieren")
+        void shouldIntersectFilters() {
+            String july = JULY.toLocalDate().toString().substring(0, 7);
+            ConcertFacetQuery query = new ConcertFacetQuery(List.of("Arena Berlin"), List.of(july), null, null);
+
+            ConcertFacetResult result = index.search(query, PageRequest.of(0, 10));
+
+            assertThat(result.content()).extracting(ConcertFacetDocument::concertId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("Sollte Facette ohne eigenen Filter zählen (disjunktiv)")
+        void shouldCountFacetIgnoringOwnFilter() {
+            ConcertFacetQuery query = new ConcertFacetQuery(List.of("Hall Hamburg"), null, null, null);
+
+            ConcertFacetResult result = index.search(query, PageRequest.of(0, 10));
+
+            assertThat(result.totalElements()).isEqualTo(1);
+            assertThat(result.facets().get(ConcertFacetIndex.FACET_VENUE))
+                .containsEntry("Arena Berlin", 2L)
+                .containsEntry("Hall Hamburg", 1L);
+            assertThat(result.facets().get(ConcertFacetIndex.FACET_AVAILABILITY))
+                .containsOnlyKeys("SOLD_OUT");
+        }
+
+        @Test
+        @DisplayName("Sollte nach Preis absteigend sortieren und paginieren")
+        void shouldSortByPriceAndPage() {
+            ConcertFacetResult result = index.search(
+                ConcertFacetQuery.unfiltered(),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "price"))
+            );
+
+            assertThat(result.totalElements()).isEqualTo(3);
+            assertThat(result.content()).extracting(ConcertFacetDocument::concertId).containsExactly(3L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Inkrementelle Updates")
+    class IncrementalUpdateTests {
+
+        @Test
+        @DisplayName("Sollte Availability-Facette bei letztem verfügbaren Seat auf SOLD_OUT umhängen")
+        void shouldMoveToSoldOutOnLastSeat() {
+            index.applySeatStatusChange(3L, SeatStatus.AVAILABLE, SeatStatus.HELD);
+
+            ConcertFacetResult result = index.search(
+                new ConcertFacetQuery(null, null, null, List.of("SOLD_OUT")), PageRequest.of(0, 10));
+
+            assertThat(result.content()).extracting(ConcertFacetDocument::concertId).containsExactlyInAnyOrder(2L, 3L);
+            verify(seatRepository, times(1)).aggregateAvailabilityByConcertIds(anyList());
+        }
+
+        @Test
+        @DisplayName("Sollte entferntes Concert nicht mehr liefern und Slot wiederverwenden")
+        void shouldRemoveAndReuseSlot() {
+            index.removeConcert(1L);
+            assertThat(index.size()).isEqualTo(2);
+
+            when(concertRepository.findById(4L)).thenReturn(Optional.of(concert(4L, "Indie Show", AUGUST, "Club Köln")));
+            when(seatRepository.aggregateAvailabilityByConcertIds(List.of(4L)))
+                .thenReturn(Map.of(4L, new SeatAvailabilityAggregate(4L, 5, 5, 30.0, 30.0)));
+            index.refreshConcert(4L);
+
+            ConcertFacetResult result = index.search(ConcertFacetQuery.unfiltered(), PageRequest.of(0, 10));
+            assertThat(result.content()).extracting(ConcertFacetDocument::concertId).containsExactlyInAnyOrder(2L, 3L, 4L);
+            assertThat(result.facets().get(ConcertFacetIndex.FACET_VENUE))
+                .containsEntry("Arena Berlin", 1L)
+                .containsEntry("Club Köln", 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("Sollte Seat-Änderung während des Rebuilds nicht mit dem älteren Snapshot überschreiben")
+        void shouldReapplyChangesRecordedDuringRebuild() {
+            when(concertRepository.findAll()).thenAnswer(invocation -> {
+                // Verkauf wird committed, nachdem der Rebuild die Concerts gelesen hat
+                index.applySeatStatusChange(1L, SeatStatus.AVAILABLE, SeatStatus.SOLD);
+                return List.of(concert(1L, "Rock Night", JULY, "Arena Berlin"));
+            });
+            when(seatRepository.aggregateAvailabilityByConcertIds(anyList())).thenReturn(Map.of(
+                1L, new SeatAvailabilityAggregate(1L, 10, 20, 40.0, 120.0)));
+            when(concertRepository.findById(1L)).thenReturn(Optional.of(concert(1L, "Rock Night", JULY, "Arena Berlin")));
+            when(seatRepository.aggregateAvailabilityByConcertIds(List.of(1L))).thenReturn(Map.of(
+                1L, new SeatAvailabilityAggregate(1L, 9, 20, 40.0, 120.0)));
+
+            index.rebuild();
+
+            ConcertFacetResult result = index.search(ConcertFacetQuery.unfiltered(), PageRequest.of(0, 10));
+            assertThat(result.content()).singleElement()
+                .extracting(ConcertFacetDocument::availableSeats).isEqualTo(9L);
+            verify(concertRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("Sollte bei gleichzeitigen ersten Zugriffen nur einmal aufbauen")
+        void shouldBuildOnceForConcurrentFirstSearches() throws Exception {
+            ConcertFacetIndex fresh = new ConcertFacetIndex(concertRepository, seatRepository, new double[]{50});
+            clearInvocations(concertRepository);
+            CountDownLatch loading = new CountDownLatch(1);
+            when(concertRepository.findAll()).thenAnswer(invocation -> {
+                loading.countDown();
+                Thread.sleep(100);
+                return List.of(concert(1L, "Rock Night", JULY, "Arena Berlin"));
+            });
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<ConcertFacetResult>> searches = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    searches.add(executor.submit(() ->
+                        fresh.search(ConcertFacetQuery.unfiltered(), PageRequest.of(0, 10))));
+                }
+                for (Future<ConcertFacetResult> search : searches) {
+                    assertThat(search.get(5, TimeUnit.SECONDS).totalElements()).isEqualTo(1);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(loading.getCount()).isZero();
+            verify(concertRepository, times(1)).findAll();
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte Preis-Bucket-Labels aus den Grenzen ableiten")
+    void shouldDerivePriceBucketLabels() {
+        assertThat(index.priceBucketOf(49.99)).isEqualTo("0-50");
+        assertThat(index.priceBucketOf(100.0)).isEqualTo("100-200");
+        assertThat(index.priceBucketOf(999.0)).isEqualTo("200+");
+        assertThat(index.priceBucketOf(null)).isNull();
+    }
+
+    private static Concert concert(Long id, String name, LocalDateTime date, String venue) {
+        Concert concert = Concert.createConcert(name, date, venue, null);
+        concert.setId(id);
+        return concert;
+    }
+}
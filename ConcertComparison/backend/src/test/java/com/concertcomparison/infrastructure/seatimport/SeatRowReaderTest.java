@@ -0,0 +1,108 @@
+package com.concertcomparison.infrastructure.seatimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SeatRowReader Tests")
+class SeatRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<SeatImportRow> readAll(SeatImportFormat format, String body) throws Exception {
+        List<SeatImportRow> rows = new ArrayList<>();
+        try (SeatRowReader reader = SeatRowReader.open(format,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), objectMapper)) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("Kopfzeile wird per Name gemappt, Spaltenreihenfolge beliebig")
+        void mapsColumnsByHeaderName() throws Exception {
+            String body = "price,seatNumber,category,block,row,number\n"
+                + "49.5,A-1-1,CATEGORY_A,Block A,1,1\n"
+                + "\n"
+                + "\"1,000.0\",\"VIP \"\"Lounge\"\"\",VIP,Block V,1,2\n";
+
+            List<SeatImportRow> rows = readAll(SeatImportFormat.CSV, body);
+
+            assertThat(rows).hasSize(2);
+            assertThat(rows.get(0).isValid()).isTrue();
+            assertThat(rows.get(0).lineNumber()).isEqualTo(2);
+            assertThat(rows.get(0).seat().getSeatNumber()).isEqualTo("A-1-1");
+            assertThat(rows.get(0).seat().getPrice()).isEqualTo(49.5);
+            assertThat(rows.get(1).lineNumber()).isEqualTo(4);
+            assertThat(rows.get(1).isValid()).isFalse();
+            assertThat(rows.get(1).error()).contains("Preis");
+        }
+
+        @Test
+        @DisplayName("Quoted Felder mit Komma und escaped Quotes werden korrekt gelesen")
+        void parsesQuotedFields() throws Exception {
+            String body = "seatNumber,category,block,row,number,price\n"
+                + "\"VIP \"\"1\"\"\",VIP,\"Block A, links\",1,1,99.0\n";
+
+            List<SeatImportRow> rows = readAll(SeatImportFormat.CSV, body);
+
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.isValid()).isTrue();
+                assertThat(row.seat().getSeatNumber()).isEqualTo("VIP \"1\"");
+                assertThat(row.seat().getBlock()).isEqualTo("Block A, links");
+            });
+        }
+
+        @Test
+        @DisplayName("Fehlende Pflichtspalte in der Kopfzeile wirft IllegalArgumentException")
+        void missingColumnThrows() {
+            String body = "seatNumber,category,block,row,number\nA-1,VIP,A,1,1\n";
+
+            assertThatThrownBy(() -> readAll(SeatImportFormat.CSV, body))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("price");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("Jede Zeile ist ein Seat, defekte Zeilen werden als Fehler gemeldet")
+        void parsesLinesIndependently() throws Exception {
+            String body = "{\"seatNumber\":\"A-1\",\"category\":\"VIP\",\"block\":\"A\",\"row\":\"1\",\"number\":\"1\",\"price\":10.0}\n"
+                + "{\"seatNumber\":\"A-2\",\n"
+                + "{\"seatNumber\":\"A-3\",\"category\":\"VIP\",\"block\":\"A\",\"row\":\"1\",\"number\":\"3\",\"price\":10.0}\n";
+
+            List<SeatImportRow> rows = readAll(SeatImportFormat.NDJSON, body);
+
+            assertThat(rows).hasSize(3);
+            assertThat(rows).extracting(SeatImportRow::isValid).containsExactly(true, false, true);
+            assertThat(rows.get(1).lineNumber()).isEqualTo(2);
+            assertThat(rows.get(2).seat().getNumber()).isEqualTo("3");
+        }
+    }
+
+    @Test
+    @DisplayName("fromContentType ignoriert Parameter und Groß-/Kleinschreibung")
+    void resolvesFormatFromContentType() {
+        assertThat(SeatImportFormat.fromContentType("text/CSV; charset=UTF-8")).contains(SeatImportFormat.CSV);
+        assertThat(SeatImportFormat.fromContentType("application/x-ndjson")).contains(SeatImportFormat.NDJSON);
+        assertThat(SeatImportFormat.fromContentType("application/json")).isEmpty();
+        assertThat(SeatImportFormat.fromContentType(null)).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package com.concertcomparison.infrastructure.seatmap;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.domain.repository.SeatStatusView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatStatusBitmapRegistry Unit Tests")
+class SeatStatusBitmapRegistryTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    private SeatStatusBitmapRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SeatStatusBitmapRegistry(concertRepository, seatRepository, 300);
+        Concert concert = Concert.createConcert("Bitmap Show", LocalDateTime.now().plusDays(10), "Bitmap Hall", null);
+        concert.setId(CONCERT_ID);
+        when(concertRepository.findById(CONCERT_ID)).thenReturn(Optional.of(concert));
+    }
+
+    @Test
+    @DisplayName("Statuswechsel während des Ladens wird nicht vom älteren Snapshot überschrieben")
+    void shouldApplyChangeArrivingDuringLoad() throws Exception {
+        CountDownLatch querying = new CountDownLatch(1);
+        when(seatRepository.findStatusViewsByConcertIdOrderById(CONCERT_ID)).thenAnswer(invocation -> {
+            querying.countDown();
+            Thread.sleep(200);
+            // Snapshot wurde gelesen, bevor der Verkauf committed war
+            return List.of(new SeatStatusView(10L, SeatStatus.AVAILABLE), new SeatStatusView(11L, SeatStatus.AVAILABLE));
+        });
+
+        CompletableFuture<SeatStatusBitmap> loading = CompletableFuture.supplyAsync(() -> registry.getOrLoad(CONCERT_ID));
+        assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+        registry.applyStatusChange(CONCERT_ID, 11L, SeatStatus.SOLD);
+
+        SeatStatusBitmap bitmap = loading.get(5, TimeUnit.SECONDS);
+        assertThat(bitmap.get(1)).isEqualTo(SeatStatus.SOLD);
+        assertThat(registry.getOrLoad(CONCERT_ID)).isSameAs(bitmap);
+    }
+
+    @Test
+    @DisplayName("Gleichzeitige Misses laden die Bitmap nur einmal")
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        when(seatRepository.findStatusViewsByConcertIdOrderById(CONCERT_ID)).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return List.of(new SeatStatusView(10L, SeatStatus.AVAILABLE));
+        });
+
+        CompletableFuture<SeatStatusBitmap> first = CompletableFuture.supplyAsync(() -> registry.getOrLoad(CONCERT_ID));
+        CompletableFuture<SeatStatusBitmap> second = CompletableFuture.supplyAsync(() -> registry.getOrLoad(CONCERT_ID));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second.get(5, TimeUnit.SECONDS));
+        verify(seatRepository, times(1)).findStatusViewsByConcertIdOrderById(CONCERT_ID);
+    }
+}
@@ -0,0 +1,85 @@
+package com.concertcomparison.infrastructure.seatmap;
+
+import com.concertcomparison.domain.model.SeatStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SeatStatusBitmap Unit Tests")
+class SeatStatusBitmapTest {
+
+    @Test
+    @DisplayName("Sollte 2 Bit pro Seat über Wortgrenzen hinweg speichern")
+    void shouldPackStatusesAcrossWords() {
+        int seats = 70;
+        long[] ids = new long[seats];
+        SeatStatus[] statuses = new SeatStatus[seats];
+        for (int i = 0; i < seats; i++) {
+            ids[i] = 100 + i;
+            statuses[i] = SeatStatus.values()[i % 3];
+        }
+
+        SeatStatusBitmap bitmap = new SeatStatusBitmap(3L, ids, statuses);
+
+        for (int i = 0; i < seats; i++) {
+            assertThat(bitmap.get(i)).isEqualTo(statuses[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte Status per Seat-ID liefern, null für unbekannte Seats")
+    void shouldLookUpStatusBySeatId() {
+        SeatStatusBitmap bitmap = new SeatStatusBitmap(
+            0L, new long[]{10, 20}, new SeatStatus[]{SeatStatus.AVAILABLE, SeatStatus.SOLD});
+
+        assertThat(bitmap.statusOf(10)).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(bitmap.statusOf(20)).isEqualTo(SeatStatus.SOLD);
+        assertThat(bitmap.statusOf(15)).isNull();
+    }
+
+    @Test
+    @DisplayName("Sollte Snapshot mit Header und Wörtern kodieren")
+    void shouldEncodeSnapshot() {
+        SeatStatusBitmap bitmap = new SeatStatusBitmap(
+            7L, new long[]{1, 2, 3}, new SeatStatus[]{SeatStatus.AVAILABLE, SeatStatus.HELD, SeatStatus.SOLD});
+
+        ByteBuffer buffer = ByteBuffer.wrap(bitmap.snapshot());
+
+        assertThat(buffer.remaining()).isEqualTo(8 + 4 + 8);
+        assertThat(buffer.getLong()).isEqualTo(7L);
+        assertThat(buffer.getInt()).isEqualTo(3);
+        assertThat(buffer.getLong()).isEqualTo(0b10_01_00L);
+    }
+
+    @Test
+    @DisplayName("Sollte Snapshot bis zur nächsten Änderung wiederverwenden")
+    void shouldReuseSnapshotUntilChange() {
+        SeatStatusBitmap bitmap = new SeatStatusBitmap(
+            0L, new long[]{10, 20}, new SeatStatus[]{SeatStatus.AVAILABLE, SeatStatus.AVAILABLE});
+
+        byte[] first = bitmap.snapshot();
+        assertThat(bitmap.snapshot()).isSameAs(first);
+
+        assertThat(bitmap.set(20, SeatStatus.AVAILABLE)).isTrue();
+        assertThat(bitmap.snapshot()).isSameAs(first);
+
+        assertThat(bitmap.set(20, SeatStatus.SOLD)).isTrue();
+        byte[] second = bitmap.snapshot();
+        assertThat(second).isNotSameAs(first);
+        assertThat(bitmap.get(1)).isEqualTo(SeatStatus.SOLD);
+        assertThat(Arrays.equals(first, second)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Sollte unbekannte Seat-ID ablehnen")
+    void shouldRejectUnknownSeat() {
+        SeatStatusBitmap bitmap = new SeatStatusBitmap(
+            0L, new long[]{10}, new SeatStatus[]{SeatStatus.AVAILABLE});
+
+        assertThat(bitmap.set(11, SeatStatus.HELD)).isFalse();
+    }
+}
@@ -0,0 +1,29 @@
+package com.concertcomparison.infrastructure.sqlstats;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc-Matcher für Statement-Budgets pro Endpoint.
+ *
+ * Liest den Header {@link SqlStatsFilter#STATEMENTS_HEADER}; ein Endpoint, der mehr
+ * Statements ausführt als sein Budget (z.B. durch N+1 beim Laden von Listen), lässt den Test scheitern.
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    public static ResultMatcher atMost(int statements) {
+        return result -> assertThat(statementsOf(result.getResponse().getHeader(SqlStatsFilter.STATEMENTS_HEADER)))
+            .as("SQL-Statements für %s %s",
+                result.getRequest().getMethod(), result.getRequest().getRequestURI())
+            .isLessThanOrEqualTo(statements);
+    }
+
+    public static int statementsOf(String header) {
+        assertThat(header).as("Header %s", SqlStatsFilter.STATEMENTS_HEADER).isNotNull();
+        return Integer.parseInt(header);
+    }
+}
@@ -0,0 +1,73 @@
+package com.concertcomparison.infrastructure.sqlstats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatsDataSource Unit Tests")
+class SqlStatsDataSourceTest {
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(new SqlStatsDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1", "sa", "")));
+        jdbc.execute("CREATE TABLE IF NOT EXISTS probe (id INT PRIMARY KEY)");
+        jdbc.batchUpdate("INSERT INTO probe (id) VALUES (?)", List.of(
+            new Object[]{1}, new Object[]{2}, new Object[]{3}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("DROP TABLE probe");
+        while (SqlStatementStats.stop() != null) {
+            // offene Bereiche eines gescheiterten Tests schließen
+        }
+    }
+
+    @Test
+    @DisplayName("Zählt Statements und gelesene Zeilen im offenen Bereich")
+    void shouldCountStatementsAndRows() {
+        SqlStatementStats stats = SqlStatementStats.start();
+        jdbc.queryForList("SELECT id FROM probe", Integer.class);
+        jdbc.queryForObject("SELECT COUNT(*) FROM probe", Integer.class);
+        jdbc.update("UPDATE probe SET id = id + 10 WHERE id = 1");
+        SqlStatementStats.stop();
+
+        assertThat(stats.statements()).isEqualTo(3);
+        assertThat(stats.rows()).isEqualTo(4);
+        assertThat(stats.jdbcTime()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Innerer Bereich zählt separat und wird in den äußeren übernommen")
+    void shouldPropagateNestedScopes() {
+        SqlStatementStats outer = SqlStatementStats.start();
+        jdbc.queryForList("SELECT id FROM probe", Integer.class);
+        SqlStatementStats inner = SqlStatementStats.start();
+        jdbc.queryForList("SELECT id FROM probe WHERE id = 2", Integer.class);
+        SqlStatementStats.stop();
+        SqlStatementStats.stop();
+
+        assertThat(inner.statements()).isEqualTo(1);
+        assertThat(inner.rows()).isEqualTo(1);
+        assertThat(outer.statements()).isEqualTo(2);
+        assertThat(outer.rows()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Ohne offenen Bereich wird nichts gezählt")
+    void shouldIgnoreStatementsOutsideScope() {
+        jdbc.queryForList("SELECT id FROM probe", Integer.class);
+
+        assertThat(SqlStatementStats.stop()).isNull();
+    }
+}
@@ -0,0 +1,85 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.application.service.SeatApplicationService;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.presentation.dto.SeatResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration Test: Alternative Seats werden in der Datenbank gefiltert (Kategorie,
+ * AVAILABLE, ausgeschlossener Seat), nach Block und Reihe sortiert und auf 5 begrenzt.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Alternative Seats Integration Tests")
+class AlternativeSeatsIntegrationTest {
+
+    @Autowired
+    private SeatApplicationService seatApplicationService;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    private Long concertId;
+
+    @BeforeEach
+    void setUp() {
+        concertId = concertRepository.save(
+            Concert.createConcert("Alternative Show", LocalDateTime.now().plusDays(20), "Alternative Arena", null)).getId();
+    }
+
+    private Seat seat(String category, String block, String row, String number) {
+        return seatRepository.save(new Seat(concertId, block + "-" + row + "-" + number, category, block, row, number, 99.0));
+    }
+
+    @Test
+    @DisplayName("Nur verfügbare Seats der Kategorie ohne den ausgeschlossenen Seat, nach Block und Reihe sortiert")
+    void shouldFilterAndSortInDatabase() {
+        Seat unavailable = seat("VIP", "A", "1", "1");
+        unavailable.hold("RES-1", 15);
+        seatRepository.save(unavailable);
+        Seat sold = seat("VIP", "A", "1", "2");
+        sold.hold("RES-2", 15);
+        sold.sell("RES-2");
+        seatRepository.save(sold);
+        Seat b1 = seat("VIP", "B", "1", "1");
+        Seat a2 = seat("VIP", "A", "2", "1");
+        Seat a1 = seat("VIP", "A", "1", "3");
+        seat("STANDARD", "A", "1", "4");
+
+        List<SeatResponseDTO> alternatives =
+            seatApplicationService.findAlternativeSeats(concertId, "VIP", a1.getId());
+
+        assertThat(alternatives).extracting(SeatResponseDTO::getId)
+            .containsExactly(String.valueOf(a2.getId()), String.valueOf(b1.getId()));
+        assertThat(alternatives).extracting(SeatResponseDTO::getStatus).containsOnly("AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("Höchstens 5 Alternativen, auch ohne ausgeschlossenen Seat")
+    void shouldLimitToFive() {
+        for (int i = 1; i <= 10; i++) {
+            seat("VIP", "A", String.valueOf(i), "1");
+        }
+
+        assertThat(seatApplicationService.findAlternativeSeats(concertId, "VIP", null)).hasSize(5);
+    }
+}
@@ -0,0 +1,109 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.application.service.HoldApplicationService;
+import com.concertcomparison.application.service.OrderApplicationService;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Order;
+import com.concertcomparison.domain.model.OrderStatus;
+import com.concertcomparison.domain.model.PaymentMethod;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.OrderRepository;
+import com.concertcomparison.domain.repository.ReservationRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.domain.service.PaymentService;
+import com.concertcomparison.domain.service.PaymentService.PaymentResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration Test: Im Async-Modus startet die Zahlung erst nach dem Commit des Kaufs.
+ *
+ * Der Provider sieht die Order daher bereits committed, und der Kauf wartet nicht
+ * auf den Provider-Aufruf.
+ */
+@SpringBootTest(properties = "concert.payment.sync-mode=false")
+@ActiveProfiles("test")
+@DisplayName("Async Purchase Payment Integration Tests")
+class AsyncPurchasePaymentIntegrationTest {
+
+    private static final String USER_ID = "async@example.com";
+
+    @MockBean
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrderApplicationService orderApplicationService;
+
+    @Autowired
+    private HoldApplicationService holdApplicationService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    private Long seatId;
+
+    @BeforeEach
+    void setUp() {
+        cleanupDatabase();
+        Concert concert = concertRepository.save(
+            Concert.createConcert("Async Show", LocalDateTime.now().plusDays(30), "Async Hall", null));
+        seatId = seatRepository.save(new Seat(concert.getId(), "A-1", "STANDARD", "A", "1", "1", 49.0)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupDatabase();
+    }
+
+    private void cleanupDatabase() {
+        orderRepository.deleteAll();
+        reservationRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Kauf committed vor dem Provider-Aufruf und liefert die Order PENDING zurück")
+    void shouldCallProviderAfterPurchaseCommit() {
+        AtomicReference<OrderStatus> seenByProvider = new AtomicReference<>();
+        when(paymentService.processPayment()).thenAnswer(invocation -> {
+            seenByProvider.set(orderRepository.findBySeatIdAndStatus(seatId, OrderStatus.PENDING)
+                .map(Order::getStatus).orElse(null));
+            return PaymentResult.success("TXN-ASYNC");
+        });
+        var hold = holdApplicationService.createHold(seatId, USER_ID);
+
+        Order order = orderApplicationService.purchaseTicket(
+            Long.parseLong(hold.holdId()), USER_ID, PaymentMethod.CREDIT_CARD);
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(50)).untilAsserted(() ->
+            assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.CONFIRMED));
+        assertThat(seenByProvider.get()).isEqualTo(OrderStatus.PENDING);
+    }
+}
@@ -0,0 +1,69 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.domain.repository.SeatRowView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration Test: Best-Value-Seat der Inventar-Zusammenfassung lädt genau eine Zeile
+ * pro Kategorie, auch wenn alle Seats einer Kategorie denselben Preis haben.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Cheapest Seat per Category Integration Tests")
+class CheapestSeatPerCategoryIntegrationTest {
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    private Long concertId;
+
+    @BeforeEach
+    void setUp() {
+        concertId = concertRepository.save(
+            Concert.createConcert("Cheap Show", LocalDateTime.now().plusDays(20), "Cheap Arena", null)).getId();
+    }
+
+    private Seat seat(String number, String category, double price) {
+        return seatRepository.save(new Seat(concertId, category + "-" + number, category, category, "1", number, price));
+    }
+
+    @Test
+    @DisplayName("Sollte pro Kategorie nur einen verfügbaren Seat zum Mindestpreis liefern")
+    void shouldReturnOneRowPerCategory() {
+        Seat firstStandard = seat("1", "STANDARD", 49.0);
+        for (int i = 2; i <= 20; i++) {
+            seat(String.valueOf(i), "STANDARD", 49.0);
+        }
+        Seat heldVip = seat("1", "VIP", 99.0);
+        heldVip.hold("RES-1", 15);
+        seatRepository.save(heldVip);
+        Seat cheapestAvailableVip = seat("2", "VIP", 129.0);
+        seat("3", "VIP", 149.0);
+
+        List<SeatRowView> cheapest = seatRepository.findCheapestAvailableSeatsPerCategory(concertId);
+
+        assertThat(cheapest).hasSize(2);
+        assertThat(cheapest).extracting(SeatRowView::seatId)
+            .containsExactly(firstStandard.getId(), cheapestAvailableVip.getId());
+        assertThat(cheapest).extracting(SeatRowView::price).containsExactly(49.0, 129.0);
+    }
+}
@@ -0,0 +1,124 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.application.service.PaymentApplicationService;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Order;
+import com.concertcomparison.domain.model.OrderStatus;
+import com.concertcomparison.domain.model.PaymentMethod;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.OrderRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.domain.service.PaymentService.PaymentResult;
+import com.concertcomparison.infrastructure.payment.DeferredPaymentQueue;
+import com.concertcomparison.infrastructure.resilience.CircuitBreaker;
+import com.concertcomparison.infrastructure.scheduler.DeferredPaymentScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration Test: Zurückgestellte Zahlungen bei offenem Circuit Breaker.
+ *
+ * Gegen den In-Process Mock Provider (TestPaymentConfiguration). Der Scheduler läuft
+ * im Test nicht von selbst, die Läufe werden direkt ausgelöst.
+ */
+@SpringBootTest(properties = {
+    "concert.payment.circuit-breaker.minimum-calls=2",
+    "concert.payment.circuit-breaker.open-duration-ms=300",
+    "concert.payment.circuit-breaker.half-open-calls=1",
+    "concert.payment.deferred.retry-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@DisplayName("Deferred Payment Integration Tests")
+class DeferredPaymentIntegrationTest {
+
+    @Autowired
+    private PaymentApplicationService paymentApplicationService;
+
+    @Autowired
+    private DeferredPaymentScheduler deferredPaymentScheduler;
+
+    @Autowired
+    private DeferredPaymentQueue deferredPaymentQueue;
+
+    @Autowired
+    private CircuitBreaker paymentCircuitBreaker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        cleanupDatabase();
+        Concert concert = concertRepository.save(
+            Concert.createConcert("Deferred Show", LocalDateTime.now().plusDays(30), "Deferred Hall", null));
+        Seat seat = seatRepository.save(new Seat(concert.getId(), "D-1", "STANDARD", "D", "1", "1", 49.0));
+        orderId = orderRepository.save(
+            Order.createOrder(seat.getId(), "deferred@example.com", 49.0, PaymentMethod.CREDIT_CARD, null)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupDatabase();
+    }
+
+    private void cleanupDatabase() {
+        orderRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertRepository.deleteAll();
+    }
+
+    private OrderStatus orderStatus() {
+        return orderRepository.findById(orderId).orElseThrow().getStatus();
+    }
+
+    @Test
+    @DisplayName("Offener Breaker: Order bleibt PENDING in der Queue und wird nach dem Schließen bezahlt")
+    void shouldDeferWhileOpenAndCompleteAfterRecovery() {
+        paymentCircuitBreaker.onFailure();
+        paymentCircuitBreaker.onFailure();
+        assertThat(paymentCircuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        PaymentResult result = paymentApplicationService.processPaymentSync(orderId);
+
+        assertThat(result.isDeferred()).isTrue();
+        assertThat(orderStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(deferredPaymentQueue.contains(orderId)).isTrue();
+        assertThat(meterRegistry.get("circuitbreaker.state").tag("name", "payment").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.payment").tag("outcome", "deferred").timer().count()).isEqualTo(1);
+
+        // Solange der Breaker offen ist, stellt der Scheduler die Order erneut zurück
+        deferredPaymentScheduler.retryDeferredPayments();
+        assertThat(deferredPaymentQueue.contains(orderId)).isTrue();
+
+        await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(100)).untilAsserted(() -> {
+            deferredPaymentScheduler.retryDeferredPayments();
+            assertThat(orderStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        });
+        assertThat(deferredPaymentQueue.size()).isZero();
+        assertThat(paymentCircuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,129 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.application.service.HoldApplicationService;
+import com.concertcomparison.application.service.HoldCoordinator;
+import com.concertcomparison.domain.exception.HoldQuotaExceededException;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.ReservationRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
+import com.concertcomparison.infrastructure.scheduler.HoldQuotaReconcileScheduler;
+import com.concertcomparison.presentation.dto.HoldResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration Test: Hold-Quotas pro User.
+ *
+ * Holds werden committed (keine Test-Transaktion), damit Freigabe nach Commit
+ * und der Abgleich gegen die Datenbank wie in Produktion laufen.
+ */
+@SpringBootTest(properties = {
+    "concert.hold.quota.per-concert=2",
+    "concert.hold.quota.global=3",
+    "concert.hold.quota.reconcile-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@DisplayName("Hold Quota Integration Tests")
+class HoldQuotaIntegrationTest {
+
+    private static final String USER_ID = "quota-user@example.com";
+
+    @Autowired
+    private HoldCoordinator holdCoordinator;
+
+    @Autowired
+    private HoldApplicationService holdApplicationService;
+
+    @Autowired
+    private HoldQuotaTracker holdQuotaTracker;
+
+    @Autowired
+    private HoldQuotaReconcileScheduler reconcileScheduler;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private List<Long> seatIds;
+    private Long otherConcertSeatId;
+
+    @BeforeEach
+    void setUp() {
+        cleanupDatabase();
+        Concert concert = concertRepository.save(
+            Concert.createConcert("Quota Show", LocalDateTime.now().plusDays(20), "Quota Arena", null));
+        Concert other = concertRepository.save(
+            Concert.createConcert("Other Show", LocalDateTime.now().plusDays(21), "Quota Arena", null));
+        seatIds = IntStream.rangeClosed(1, 3)
+            .mapToObj(i -> seatRepository.save(
+                new Seat(concert.getId(), "Q-" + i, "STANDARD", "Q", "1", String.valueOf(i), 49.0)).getId())
+            .toList();
+        otherConcertSeatId = seatRepository.save(
+            new Seat(other.getId(), "O-1", "STANDARD", "O", "1", "1", 49.0)).getId();
+        reconcileScheduler.scheduleReconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupDatabase();
+        reconcileScheduler.scheduleReconcile();
+    }
+
+    private void cleanupDatabase() {
+        reservationRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Dritter Hold für dasselbe Concert wird abgelehnt, Storno gibt den Slot frei")
+    void shouldRejectAboveConcertQuotaUntilRelease() {
+        HoldResponseDTO first = holdCoordinator.createHold(seatIds.get(0), USER_ID);
+        holdCoordinator.createHold(seatIds.get(1), USER_ID);
+
+        assertThatThrownBy(() -> holdCoordinator.createHold(seatIds.get(2), USER_ID))
+            .isInstanceOf(HoldQuotaExceededException.class);
+        assertThat(reservationRepository.findActiveByUserId(USER_ID)).hasSize(2);
+
+        holdApplicationService.releaseHold(Long.valueOf(first.holdId()));
+
+        holdCoordinator.createHold(seatIds.get(2), USER_ID);
+        assertThat(holdQuotaTracker.activeHolds(USER_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Abgleich übernimmt Holds, die am Zähler vorbei angelegt wurden")
+    void shouldReconcileHoldsCreatedOutsideCoordinator() {
+        holdApplicationService.createHold(seatIds.get(0), USER_ID);
+        holdApplicationService.createHold(otherConcertSeatId, USER_ID);
+        assertThat(holdQuotaTracker.activeHolds(USER_ID)).isZero();
+
+        reconcileScheduler.scheduleReconcile();
+
+        assertThat(holdQuotaTracker.activeHolds(USER_ID)).isEqualTo(2);
+        holdCoordinator.createHold(seatIds.get(1), USER_ID);
+        assertThatThrownBy(() -> holdCoordinator.createHold(seatIds.get(2), USER_ID))
+            .isInstanceOf(HoldQuotaExceededException.class)
+            .satisfies(e -> assertThat(((HoldQuotaExceededException) e).isGlobal()).isTrue());
+    }
+}
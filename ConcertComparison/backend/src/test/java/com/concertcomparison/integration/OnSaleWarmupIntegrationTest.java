@@ -0,0 +1,147 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.ReservationRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.health.OnSaleWarmupHealthIndicator;
+import com.concertcomparison.infrastructure.scheduler.OnSaleWarmupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration Test: Vorwärmen vor dem Verkaufsstart.
+ *
+ * Der Scheduler ist deaktiviert, die Läufe werden direkt mit festem "jetzt" ausgelöst.
+ */
+@SpringBootTest(properties = {
+    "concert.warmup.enabled=false",
+    "concert.warmup.lead-minutes=10",
+    "concert.warmup.refresh-minutes=2"
+})
+@ActiveProfiles("test")
+@DisplayName("On-Sale Warm-up Integration Tests")
+class OnSaleWarmupIntegrationTest {
+
+    @Autowired
+    private OnSaleWarmupService warmupService;
+
+    @Autowired
+    private OnSaleWarmupHealthIndicator healthIndicator;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    /** Kürzeste TTL der vorgewärmten Einträge (seatAvailability, inventorySummary, Response-Cache, Bitmap) */
+    private static final Duration SHORTEST_TTL = Duration.ofMinutes(5);
+
+    private LocalDateTime now;
+    private Long dueConcertId;
+    private Long laterConcertId;
+
+    @BeforeEach
+    void setUp() {
+        cleanupDatabase();
+        now = LocalDateTime.now();
+        dueConcertId = createConcert("Due Show", now.plusMinutes(5));
+        laterConcertId = createConcert("Later Show", now.plusHours(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupDatabase();
+    }
+
+    private Long createConcert(String name, LocalDateTime onSaleAt) {
+        Concert concert = Concert.createConcert(name, now.plusDays(30), "Warmup Arena", null);
+        concert.scheduleOnSale(onSaleAt);
+        Long concertId = concertRepository.save(concert).getId();
+        IntStream.rangeClosed(1, 5).forEach(i -> seatRepository.save(
+            new Seat(concertId, "W-" + i, "STANDARD", "W", "1", String.valueOf(i), 59.0)));
+        return concertId;
+    }
+
+    private void cleanupDatabase() {
+        reservationRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Konzert im Vorlauf-Fenster wird einmal vorgewärmt, späteres Konzert nicht")
+    void shouldWarmConcertsInLeadWindow() {
+        cacheManager.getCache("inventorySummary").evict(dueConcertId);
+
+        int warmed = warmupService.warmDueConcerts(now);
+
+        assertThat(warmed).isEqualTo(1);
+        assertThat(warmupService.states()).containsKey(dueConcertId).doesNotContainKey(laterConcertId);
+        assertThat(warmupService.states().get(dueConcertId).status()).isEqualTo(OnSaleWarmupService.Status.WARMED);
+        assertThat(cacheManager.getCache("inventorySummary").get(dueConcertId)).isNotNull();
+        assertThat(cacheManager.getCache("concertById").get(dueConcertId)).isNotNull();
+        assertThat(cacheManager.getCache("inventorySummary").get(laterConcertId)).isNull();
+
+        assertThat(warmupService.warmDueConcerts(now.plusMinutes(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("Readiness meldet UP nach abgeschlossenem Vorwärmen, mit Stand pro Konzert")
+    void healthShouldReportWarmupState() {
+        warmupService.warmDueConcerts(now);
+
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("pending", 0L);
+        assertThat(health.getDetails().get("concerts").toString()).contains("WARMED");
+    }
+
+    @Test
+    @DisplayName("Zum Verkaufsstart sind die vorgewärmten Einträge jünger als ihre TTL")
+    void cachesShouldBeFreshAtOnSale() {
+        LocalDateTime onSaleAt = now.plusMinutes(9);
+        Long concertId = createConcert("Early Show", onSaleAt);
+
+        warmupService.warmDueConcerts(now);
+        Object firstInventory = cacheManager.getCache("inventorySummary").get(concertId).get();
+
+        // Scheduler-Läufe alle 30 Sekunden bis zum Verkaufsstart
+        for (LocalDateTime tick = now.plusSeconds(30); !tick.isAfter(onSaleAt); tick = tick.plusSeconds(30)) {
+            warmupService.warmDueConcerts(tick);
+        }
+
+        OnSaleWarmupService.WarmupState state = warmupService.states().get(concertId);
+        assertThat(state.status()).isEqualTo(OnSaleWarmupService.Status.WARMED);
+        assertThat(Duration.between(state.warmedAt(), onSaleAt)).isLessThan(SHORTEST_TTL);
+        assertThat(cacheManager.getCache("inventorySummary").get(concertId).get()).isNotSameAs(firstInventory);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+
+        // Nach dem Verkaufsstart wird nicht mehr vorgewärmt
+        warmupService.warmDueConcerts(onSaleAt.plusMinutes(3));
+        assertThat(warmupService.states().get(concertId).warmedAt()).isEqualTo(state.warmedAt());
+    }
+}
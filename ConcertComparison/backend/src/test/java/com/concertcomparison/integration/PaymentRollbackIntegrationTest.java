@@ -0,0 +1,110 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.application.service.PaymentApplicationService;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Order;
+import com.concertcomparison.domain.model.PaymentMethod;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.OrderRepository;
+import com.concertcomparison.domain.repository.ReservationRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker;
+import com.concertcomparison.infrastructure.quota.HoldQuotaTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration Test: Der Payment-Rollback (SOLD → HELD) ändert die persistierte
+ * Inhaltsversion der Seat-Map wie jeder andere Statuswechsel und belegt die
+ * Hold-Quota des Users wieder.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Payment Rollback Integration Tests")
+class PaymentRollbackIntegrationTest {
+
+    @Autowired
+    private PaymentApplicationService paymentApplicationService;
+
+    @Autowired
+    private ContentVersionTracker versionTracker;
+
+    @Autowired
+    private HoldQuotaTracker holdQuotaTracker;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    private Long concertId;
+    private Long seatId;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        cleanupDatabase();
+        concertId = concertRepository.save(
+            Concert.createConcert("Rollback Show", LocalDateTime.now().plusDays(30), "Rollback Hall", null)).getId();
+        Seat seat = new Seat(concertId, "R-1", "STANDARD", "R", "1", "1", 49.0);
+        seat.hold("RES-1", 15);
+        seat.sell("RES-1");
+        seatId = seatRepository.save(seat).getId();
+        orderId = orderRepository.save(
+            Order.createOrder(seatId, "rollback@example.com", 49.0, PaymentMethod.CREDIT_CARD, null)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupDatabase();
+    }
+
+    private void cleanupDatabase() {
+        orderRepository.deleteAll();
+        reservationRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Fehlgeschlagene Zahlung ändert den Seat-Map-ETag")
+    void shouldChangeSeatMapETagOnRollback() {
+        String before = versionTracker.seatMapVersion(concertId).eTag("json");
+
+        paymentApplicationService.handlePaymentFailure(orderId, "Karte abgelehnt");
+
+        assertThat(seatRepository.findById(seatId).orElseThrow().getStatus()).isEqualTo(SeatStatus.HELD);
+        assertThat(versionTracker.seatMapVersion(concertId).eTag("json")).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Fehlgeschlagene Zahlung belegt den Hold-Slot des Users wieder")
+    void shouldRestoreHoldQuotaOnRollback() {
+        String userId = orderRepository.findById(orderId).orElseThrow().getUserId();
+        int before = holdQuotaTracker.activeHolds(userId, concertId);
+
+        paymentApplicationService.handlePaymentFailure(orderId, "Karte abgelehnt");
+
+        assertThat(reservationRepository.findActiveBySeatId(seatId)).isPresent();
+        assertThat(holdQuotaTracker.activeHolds(userId, concertId)).isEqualTo(before + 1);
+        holdQuotaTracker.release(userId, concertId);
+    }
+}
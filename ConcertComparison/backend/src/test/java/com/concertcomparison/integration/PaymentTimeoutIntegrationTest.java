@@ -0,0 +1,151 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.application.service.PaymentApplicationService;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Order;
+import com.concertcomparison.domain.model.OrderStatus;
+import com.concertcomparison.domain.model.PaymentMethod;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.OrderRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.domain.service.PaymentService;
+import com.concertcomparison.domain.service.PaymentService.PaymentResult;
+import com.concertcomparison.infrastructure.payment.DeferredPaymentQueue;
+import com.concertcomparison.infrastructure.scheduler.DeferredPaymentScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration Test: Zeitüberschreitung beim Zahlungsanbieter und Wiederaufnahme
+ * liegengebliebener PENDING-Orders.
+ *
+ * Ein Timeout bedeutet "Ergebnis unbekannt": die Order wird weder storniert noch
+ * zurückgerollt, sondern bleibt PENDING und wird zurückgestellt. Der Scheduler läuft
+ * im Test nicht von selbst, die Läufe werden direkt ausgelöst.
+ */
+@SpringBootTest(properties = {
+    "concert.payment.timeout-ms=200",
+    "concert.payment.deferred.retry-interval-ms=3600000",
+    "concert.payment.deferred.recover-after-ms=50"
+})
+@ActiveProfiles("test")
+@DisplayName("Payment Timeout Integration Tests")
+class PaymentTimeoutIntegrationTest {
+
+    @MockBean
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentApplicationService paymentApplicationService;
+
+    @Autowired
+    private DeferredPaymentScheduler deferredPaymentScheduler;
+
+    @Autowired
+    private DeferredPaymentQueue deferredPaymentQueue;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    private Long seatId;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        cleanupDatabase();
+        Concert concert = concertRepository.save(
+            Concert.createConcert("Timeout Show", LocalDateTime.now().plusDays(30), "Timeout Hall", null));
+        Seat seat = new Seat(concert.getId(), "T-1", "STANDARD", "T", "1", "1", 49.0);
+        seat.hold("RES-1", 15);
+        seat.sell("RES-1");
+        seatId = seatRepository.save(seat).getId();
+        orderId = orderRepository.save(
+            Order.createOrder(seatId, "timeout@example.com", 49.0, PaymentMethod.CREDIT_CARD, null)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupDatabase();
+    }
+
+    private void cleanupDatabase() {
+        while (deferredPaymentQueue.poll() != null) {
+            // Queue leeren
+        }
+        orderRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertRepository.deleteAll();
+    }
+
+    private OrderStatus orderStatus() {
+        return orderRepository.findById(orderId).orElseThrow().getStatus();
+    }
+
+    @Test
+    @DisplayName("Timeout: Order bleibt PENDING, Seat bleibt SOLD, Zahlung wird zurückgestellt")
+    void shouldKeepOrderPendingOnTimeout() {
+        when(paymentService.processPayment()).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return PaymentResult.success("TXN-LATE");
+        });
+
+        PaymentResult result = paymentApplicationService.processPaymentSync(orderId);
+
+        assertThat(result.isDeferred()).isTrue();
+        assertThat(result.getErrorMessage()).contains("Zeitüberschreitung");
+        assertThat(orderStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(seatRepository.findById(seatId).orElseThrow().getStatus()).isEqualTo(SeatStatus.SOLD);
+        assertThat(deferredPaymentQueue.contains(orderId)).isTrue();
+        assertThat(meterRegistry.get("booking.payment").tag("outcome", "unknown").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PENDING-Order ohne Queue-Eintrag (z.B. nach Neustart) wird aus der Datenbank wieder aufgenommen")
+    void shouldRecoverPendingOrderFromDatabase() {
+        when(paymentService.processPayment()).thenReturn(PaymentResult.success("TXN-RECOVERED"));
+        assertThat(deferredPaymentQueue.contains(orderId)).isFalse();
+
+        await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(100)).untilAsserted(() -> {
+            deferredPaymentScheduler.retryDeferredPayments();
+            assertThat(orderStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        });
+        assertThat(deferredPaymentQueue.contains(orderId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Unerwarteter Fehler beim erneuten Versuch: Order wird erneut zurückgestellt statt verworfen")
+    void shouldDeferAgainOnUnexpectedError() {
+        when(paymentService.processPayment()).thenThrow(new RuntimeException("Provider-Fehler"));
+        deferredPaymentQueue.defer(orderId);
+
+        deferredPaymentScheduler.retryDeferredPayments();
+
+        assertThat(deferredPaymentQueue.contains(orderId)).isTrue();
+        assertThat(orderStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+}
@@ -1,6 +1,7 @@
 package com.concertcomparison.integration;
 
 import com.concertcomparison.application.service.HoldApplicationService;
+import com.concertcomparison.application.service.InventorySummaryService;
 import com.concertcomparison.application.service.OrderApplicationService;
 import com.concertcomparison.application.service.SeatApplicationService;
 import com.concertcomparison.config.TestPaymentConfiguration;
@@ -8,8 +9,10 @@ import com.concertcomparison.domain.model.*;
 import com.concertcomparison.domain.repository.ConcertRepository;
 import com.concertcomparison.domain.repository.SeatRepository;
 import com.concertcomparison.domain.repository.UserRepository;
+import com.concertcomparison.presentation.dto.ConcertInventorySummaryDTO;
 import com.concertcomparison.presentation.dto.HoldResponseDTO;
 import com.concertcomparison.presentation.dto.SeatAvailabilityResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +23,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.*;
@@ -28,11 +34,13 @@ import static org.assertj.core.api.Assertions.*;
  * Integration Test für Event-gesteuerte Cache-Invalidierung (US-05).
  * 
  * Testet den kompletten Flow:
- * 1. Client ruft Availability ab (wird gecacht)
+ * 1. Client ruft die Inventar-Zusammenfassung ab (wird gecacht)
  * 2. Seat-Änderung (Hold/Purchase) triggert Event
  * 3. EventListener invalidiert Cache
  * 4. Nächster Client-Poll liefert aktuelle Daten
  * 
+ * Die Seat-Map selbst wird ungecacht aus der DB geschrieben und dient als Referenz.
+ * 
  * Nutzt echten Spring Context mit Cache, Events, Repositories.
  */
 @SpringBootTest
@@ -50,6 +58,12 @@ class SeatAvailabilityCacheEvictionIntegrationTest {
     @Autowired
     private SeatApplicationService seatApplicationService;
 
+    @Autowired
+    private InventorySummaryService inventorySummaryService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private ConcertRepository concertRepository;
 
@@ -69,7 +83,7 @@ class SeatAvailabilityCacheEvictionIntegrationTest {
     @BeforeEach
     void setUp() {
         // Cache leeren
-        Cache cache = cacheManager.getCache("seatAvailability");
+        Cache cache = cacheManager.getCache("inventorySummary");
         if (cache != null) {
             cache.clear();
         }
@@ -116,16 +130,19 @@ class SeatAvailabilityCacheEvictionIntegrationTest {
      */
     @Test
     void whenHoldCreated_thenCacheInvalidated_andAvailabilityUpdated() throws InterruptedException {
-        // GIVEN: Initial Availability abrufen (Prime Cache)
+        // GIVEN: Initiales Inventar abrufen (Prime Cache)
+        ConcertInventorySummaryDTO initialInventory = inventorySummaryService.getInventorySummary(concert.getId());
+        assertThat(initialInventory.getAvailableSeats()).isEqualTo(1);
+
         SeatAvailabilityResponseDTO initialAvailability = 
-            seatApplicationService.getSeatAvailability(concert.getId());
+            readSeatAvailability(concert.getId());
         
         assertThat(initialAvailability.getAvailabilityByCategory()).hasSize(1);
         assertThat(initialAvailability.getAvailabilityByCategory().get(0).getAvailable()).isEqualTo(1);
         assertThat(initialAvailability.getAvailabilityByCategory().get(0).getHeld()).isEqualTo(0);
 
         // Verify Cache ist befüllt
-        Cache cache = cacheManager.getCache("seatAvailability");
+        Cache cache = cacheManager.getCache("inventorySummary");
         assertThat(cache).isNotNull();
         assertThat(cache.get(concert.getId())).isNotNull();
 
@@ -140,11 +157,12 @@ class SeatAvailabilityCacheEvictionIntegrationTest {
 
         // THEN: Neue Availability-Abfrage liefert aktuelle Daten (0 AVAILABLE, 1 HELD)
         SeatAvailabilityResponseDTO updatedAvailability = 
-            seatApplicationService.getSeatAvailability(concert.getId());
+            readSeatAvailability(concert.getId());
         
         assertThat(updatedAvailability.getAvailabilityByCategory()).hasSize(1);
         assertThat(updatedAvailability.getAvailabilityByCategory().get(0).getAvailable()).isEqualTo(0);
         assertThat(updatedAvailability.getAvailabilityByCategory().get(0).getHeld()).isEqualTo(1);
+        assertThat(inventorySummaryService.getInventorySummary(concert.getId()).getAvailableSeats()).isZero();
     }
 
     /**
@@ -162,8 +180,9 @@ class SeatAvailabilityCacheEvictionIntegrationTest {
         Thread.sleep(100); // Event-Processing
         
         // Cache primen
+        inventorySummaryService.getInventorySummary(concert.getId());
         SeatAvailabilityResponseDTO afterHold = 
-            seatApplicationService.getSeatAvailability(concert.getId());
+            readSeatAvailability(concert.getId());
         assertThat(afterHold.getAvailabilityByCategory().get(0).getHeld()).isEqualTo(1);
 
         // WHEN: Ticket kaufen
@@ -175,13 +194,13 @@ class SeatAvailabilityCacheEvictionIntegrationTest {
         Thread.sleep(100); // Event-Processing
 
         // THEN: Cache invalidiert
-        Cache cache = cacheManager.getCache("seatAvailability");
+        Cache cache = cacheManager.getCache("inventorySummary");
         assertThat(cache).isNotNull();
         assertThat(cache.get(concert.getId())).isNull();
 
         // THEN: Availability zeigt SOLD, kein HELD mehr (konsistent)
         SeatAvailabilityResponseDTO afterPurchase = 
-            seatApplicationService.getSeatAvailability(concert.getId());
+            readSeatAvailability(concert.getId());
         
         assertThat(afterPurchase.getAvailabilityByCategory()).hasSize(1);
         assertThat(afterPurchase.getAvailabilityByCategory().get(0).getAvailable()).isEqualTo(0);
@@ -203,10 +222,8 @@ class SeatAvailabilityCacheEvictionIntegrationTest {
             seatRepository.save(s);
         }
 
-        // Initial Availability (Prime Cache)
-        SeatAvailabilityResponseDTO initial = 
-            seatApplicationService.getSeatAvailability(concert.getId());
-        assertThat(initial.getAvailabilityByCategory().get(0).getAvailable()).isEqualTo(11);
+        // Initiales Inventar (Prime Cache)
+        assertThat(inventorySummaryService.getInventorySummary(concert.getId()).getAvailableSeats()).isEqualTo(11);
 
         // WHEN: 10 Holds schnell hintereinander erstellen
         var allSeats = seatRepository.findByConcertId(concert.getId());
@@ -220,11 +237,12 @@ class SeatAvailabilityCacheEvictionIntegrationTest {
 
         // THEN: Availability korrekt (1 AVAILABLE, 10 HELD)
         SeatAvailabilityResponseDTO afterHolds = 
-            seatApplicationService.getSeatAvailability(concert.getId());
+            readSeatAvailability(concert.getId());
         
         assertThat(afterHolds.getAvailabilityByCategory().get(0).getAvailable()).isEqualTo(1);
         assertThat(afterHolds.getAvailabilityByCategory().get(0).getHeld()).isEqualTo(10);
         assertThat(afterHolds.getAvailabilityByCategory().get(0).getSold()).isEqualTo(0);
+        assertThat(inventorySummaryService.getInventorySummary(concert.getId()).getAvailableSeats()).isEqualTo(1);
     }
 
     /**
@@ -236,8 +254,9 @@ class SeatAvailabilityCacheEvictionIntegrationTest {
         HoldResponseDTO hold = holdApplicationService.createHold(seat.getId(), user.getId().toString());
         Thread.sleep(100);
         
+        assertThat(inventorySummaryService.getInventorySummary(concert.getId()).getAvailableSeats()).isZero();
         SeatAvailabilityResponseDTO afterHold = 
-            seatApplicationService.getSeatAvailability(concert.getId());
+            readSeatAvailability(concert.getId());
         assertThat(afterHold.getAvailabilityByCategory().get(0).getHeld()).isEqualTo(1);
 
         // WHEN: Hold stornieren
@@ -245,15 +264,26 @@ class SeatAvailabilityCacheEvictionIntegrationTest {
         Thread.sleep(100);
 
         // THEN: Cache invalidiert
-        Cache cache = cacheManager.getCache("seatAvailability");
+        Cache cache = cacheManager.getCache("inventorySummary");
         assertThat(cache).isNotNull();
         assertThat(cache.get(concert.getId())).isNull();
 
         // THEN: Seat wieder AVAILABLE
         SeatAvailabilityResponseDTO afterCancel = 
-            seatApplicationService.getSeatAvailability(concert.getId());
+            readSeatAvailability(concert.getId());
         
         assertThat(afterCancel.getAvailabilityByCategory().get(0).getAvailable()).isEqualTo(1);
         assertThat(afterCancel.getAvailabilityByCategory().get(0).getHeld()).isEqualTo(0);
+        assertThat(inventorySummaryService.getInventorySummary(concert.getId()).getAvailableSeats()).isEqualTo(1);
+    }
+
+    private SeatAvailabilityResponseDTO readSeatAvailability(Long concertId) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            seatApplicationService.writeSeatAvailability(concertId, out);
+            return objectMapper.readValue(out.toByteArray(), SeatAvailabilityResponseDTO.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
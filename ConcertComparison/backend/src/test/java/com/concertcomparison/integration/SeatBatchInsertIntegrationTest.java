@@ -0,0 +1,82 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.application.service.ConcertApplicationService;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.presentation.dto.CreateSeatRequestDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration Test: Seat-Inserts laufen per JDBC-Batch.
+ *
+ * Mit IDENTITY-IDs musste Hibernate jeden Insert einzeln ausführen, um die ID zu
+ * erhalten. Mit Sequence + pooled-lo werden IDs blockweise vergeben und die Inserts
+ * gebündelt - die Anzahl vorbereiteter Statements bleibt weit unter der Seat-Anzahl.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Seat Batch Insert Integration Tests")
+class SeatBatchInsertIntegrationTest {
+
+    private static final int SEAT_COUNT = 120;
+
+    @Autowired
+    private ConcertApplicationService concertApplicationService;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Concert concert;
+
+    @BeforeEach
+    void setUp() {
+        concert = concertRepository.save(
+            Concert.createConcert("Batch Show", LocalDateTime.now().plusDays(20), "Batch Arena", null));
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("createSeats sollte Seats gebündelt statt einzeln einfügen")
+    void createSeats_ShouldInsertInBatches() {
+        // Arrange
+        List<CreateSeatRequestDTO> seats = IntStream.rangeClosed(1, SEAT_COUNT)
+            .mapToObj(i -> new CreateSeatRequestDTO("B-" + i, "STANDARD", "Block B", "1", String.valueOf(i), 49.0))
+            .toList();
+
+        // Act
+        concertApplicationService.createSeats(concert.getId(), seats);
+        entityManager.flush();
+
+        // Assert
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(SEAT_COUNT);
+        // 3 Sequence-Abfragen + 3 Insert-Batches + Concert-Lookup/-Update (statt > 120 Einzel-Inserts)
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+}
@@ -0,0 +1,86 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration Test: Seat-Übergänge als bedingte UPDATEs.
+ *
+ * Der Status wird nur geändert, wenn der Seat noch im erwarteten Zustand ist -
+ * der Verlierer erkennt den Konflikt an der Zeilenanzahl 0, ohne den Seat zu laden.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Seat Guarded Transition Integration Tests")
+class SeatGuardedTransitionIntegrationTest {
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    private Seat seat;
+
+    @BeforeEach
+    void setUp() {
+        Concert concert = concertRepository.save(
+            Concert.createConcert("Guarded Show", LocalDateTime.now().plusDays(20), "Guard Arena", null));
+        seat = seatRepository.save(new Seat(concert.getId(), "G-1", "STANDARD", "G", "1", "1", 59.0));
+    }
+
+    @Test
+    @DisplayName("holdIfAvailable sollte nur den ersten Hold durchlassen")
+    void holdIfAvailable_ShouldOnlyHoldOnce() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15);
+
+        int first = seatRepository.holdIfAvailable(seat.getId(), "101", expiresAt);
+        int second = seatRepository.holdIfAvailable(seat.getId(), "102", expiresAt);
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        Seat reloaded = seatRepository.findById(seat.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(SeatStatus.HELD);
+        assertThat(reloaded.getHoldReservationId()).isEqualTo("101");
+        assertThat(reloaded.getVersion()).isEqualTo(seat.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("sellIfHeld sollte nur für die haltende Reservation verkaufen")
+    void sellIfHeld_ShouldRequireMatchingReservation() {
+        seatRepository.holdIfAvailable(seat.getId(), "201", LocalDateTime.now().plusMinutes(15));
+
+        int foreign = seatRepository.sellIfHeld(seat.getId(), "999");
+        int own = seatRepository.sellIfHeld(seat.getId(), "201");
+        int again = seatRepository.sellIfHeld(seat.getId(), "201");
+
+        assertThat(foreign).isZero();
+        assertThat(own).isEqualTo(1);
+        assertThat(again).isZero();
+        assertThat(seatRepository.findById(seat.getId()).orElseThrow().getStatus()).isEqualTo(SeatStatus.SOLD);
+    }
+
+    @Test
+    @DisplayName("sellIfHeld sollte einen verfügbaren Seat nicht verkaufen")
+    void sellIfHeld_ShouldNotSellAvailableSeat() {
+        int updated = seatRepository.sellIfHeld(seat.getId(), "301");
+
+        assertThat(updated).isZero();
+        assertThat(seatRepository.findById(seat.getId()).orElseThrow().getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+    }
+}
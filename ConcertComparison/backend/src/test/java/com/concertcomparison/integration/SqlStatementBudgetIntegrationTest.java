@@ -0,0 +1,162 @@
+package com.concertcomparison.integration;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Order;
+import com.concertcomparison.domain.model.PaymentMethod;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.model.User;
+import com.concertcomparison.domain.model.UserRole;
+import com.concertcomparison.domain.repository.ConcertRepository;
+import com.concertcomparison.domain.repository.OrderRepository;
+import com.concertcomparison.domain.repository.ReservationRepository;
+import com.concertcomparison.domain.repository.SeatRepository;
+import com.concertcomparison.domain.repository.UserRepository;
+import com.concertcomparison.infrastructure.sqlstats.SqlStatementBudget;
+import com.concertcomparison.infrastructure.sqlstats.SqlStatsFilter;
+import com.concertcomparison.presentation.dto.LoginRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration Test: Statement-Budgets pro Endpoint über die X-SQL-*-Header.
+ *
+ * Ohne Test-Transaktion, damit jeder Request wie in Produktion eigene Statements ausführt
+ * und nicht vom Persistence Context des Tests profitiert.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("SQL Statement Budget Integration Tests")
+class SqlStatementBudgetIntegrationTest {
+
+    private static final String USER_ID = "sql-budget@example.com";
+    private static final String PASSWORD = "password123";
+    private static final int ORDER_HISTORY_BUDGET = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Concert concert;
+    private String jwtToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cleanupDatabase();
+        userRepository.save(User.createUser(USER_ID, passwordEncoder.encode(PASSWORD), "Sql", "Budget", UserRole.USER));
+        concert = concertRepository.save(
+            Concert.createConcert("Budget Show", LocalDateTime.now().plusDays(30), "Budget Hall", null));
+
+        String login = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(USER_ID, PASSWORD))))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        jwtToken = objectMapper.readTree(login).get("token").asText();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupDatabase();
+    }
+
+    private void cleanupDatabase() {
+        orderRepository.deleteAll();
+        reservationRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private void createOrders(int count, int offset) {
+        for (int i = offset; i < offset + count; i++) {
+            Seat seat = seatRepository.save(
+                new Seat(concert.getId(), "B-" + i, "STANDARD", "B", "1", String.valueOf(i), 39.0));
+            orderRepository.save(Order.createOrder(seat.getId(), USER_ID, 39.0, PaymentMethod.CREDIT_CARD, null));
+        }
+    }
+
+    private MvcResult orderHistory(int expectedOrders) throws Exception {
+        return mockMvc.perform(get("/api/users/me/orders")
+                .header("Authorization", "Bearer " + jwtToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(expectedOrders))
+            .andExpect(header().exists(SqlStatsFilter.ROWS_HEADER))
+            .andExpect(header().exists(SqlStatsFilter.TIME_HEADER))
+            .andExpect(SqlStatementBudget.atMost(ORDER_HISTORY_BUDGET))
+            .andReturn();
+    }
+
+    @Test
+    @DisplayName("Order History bleibt im Budget und wächst nicht mit der Anzahl Orders (kein N+1)")
+    void orderHistoryShouldNotGrowWithOrders() throws Exception {
+        createOrders(1, 0);
+        int withOneOrder = SqlStatementBudget.statementsOf(
+            orderHistory(1).getResponse().getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+
+        createOrders(5, 1);
+        int withSixOrders = SqlStatementBudget.statementsOf(
+            orderHistory(6).getResponse().getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+
+        assertThat(withSixOrders).isEqualTo(withOneOrder);
+    }
+
+    @Test
+    @DisplayName("Statements pro Request werden nach Endpoint-Pattern als Metrik erfasst")
+    void shouldRecordMetricPerEndpointPattern() throws Exception {
+        createOrders(2, 0);
+
+        orderHistory(2);
+
+        assertThat(meterRegistry.find("sql.request.statements")
+            .tags("method", "GET", "uri", "/api/users/me/orders")
+            .summary()).isNotNull();
+        assertThat(meterRegistry.find("sql.request.rows")
+            .tags("method", "GET", "uri", "/api/users/me/orders")
+            .summary().totalAmount()).isGreaterThanOrEqualTo(2);
+    }
+}
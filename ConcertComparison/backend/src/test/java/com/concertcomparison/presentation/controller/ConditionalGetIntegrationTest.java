@@ -0,0 +1,123 @@
+package com.concertcomparison.presentation.controller;
+
+import com.concertcomparison.application.service.ConcertApplicationService;
+import com.concertcomparison.application.service.SeatApplicationService;
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.infrastructure.cache.ContentVersionTracker;
+import com.concertcomparison.infrastructure.persistence.JpaConcertRepository;
+import com.concertcomparison.infrastructure.persistence.JpaSeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("Conditional GET Integration Tests")
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JpaConcertRepository concertRepository;
+
+    @Autowired
+    private JpaSeatRepository seatRepository;
+
+    @Autowired
+    private ContentVersionTracker versionTracker;
+
+    @SpyBean
+    private SeatApplicationService seatApplicationService;
+
+    @SpyBean
+    private ConcertApplicationService concertApplicationService;
+
+    private Concert concert;
+
+    @BeforeEach
+    void setUp() {
+        concert = concertRepository.saveAndFlush(
+            Concert.createConcert("Conditional Show", LocalDateTime.now().plusDays(10), "Hall", null));
+        seatRepository.saveAndFlush(new Seat(concert.getId(), "C-1", "CAT", "Block A", "A", "1", 50.0));
+        clearInvocations(seatApplicationService, concertApplicationService);
+    }
+
+    @Test
+    @DisplayName("Seat-Map liefert ETag, Last-Modified und no-cache")
+    void shouldReturnValidatorsForSeatMap() throws Exception {
+        mockMvc.perform(get("/api/events/{id}/seats", concert.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, versionTracker.seatMapVersion(concert.getId()).eTag("json")))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    @DisplayName("Seat-Map mit passendem If-None-Match liefert 304 ohne Service-Aufruf")
+    void shouldReturnNotModifiedForSeatMapWithoutServiceCall() throws Exception {
+        String eTag = versionTracker.seatMapVersion(concert.getId()).eTag("json");
+
+        mockMvc.perform(get("/api/events/{id}/seats", concert.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        verify(seatApplicationService, never()).writeSeatAvailability(any(), any());
+    }
+
+    @Test
+    @DisplayName("Nach Seat-Status-Änderung liefert die Seat-Map wieder 200")
+    void shouldReturnOkAfterChange() throws Exception {
+        String eTag = versionTracker.seatMapVersion(concert.getId()).eTag("json");
+
+        versionTracker.seatStatusChanged(concert.getId());
+
+        mockMvc.perform(get("/api/events/{id}/seats", concert.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, versionTracker.seatMapVersion(concert.getId()).eTag("json")));
+    }
+
+    @Test
+    @DisplayName("Konzertliste mit passendem If-None-Match liefert 304 ohne Service-Aufruf")
+    void shouldReturnNotModifiedForListing() throws Exception {
+        String eTag = versionTracker.listingVersion().eTag();
+
+        mockMvc.perform(get("/api/concerts").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+
+        verify(concertApplicationService, never()).getConcerts(any(), any());
+    }
+
+    @Test
+    @DisplayName("Konzertliste liefert nach Seat-Status-Änderung neuen ETag")
+    void shouldReturnNewListingETagAfterChange() throws Exception {
+        String eTag = versionTracker.listingVersion().eTag();
+
+        versionTracker.seatStatusChanged(concert.getId());
+
+        mockMvc.perform(get("/api/concerts").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, versionTracker.listingVersion().eTag()));
+    }
+}
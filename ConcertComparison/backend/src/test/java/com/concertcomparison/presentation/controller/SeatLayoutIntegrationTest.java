@@ -0,0 +1,141 @@
+package com.concertcomparison.presentation.controller;
+
+import com.concertcomparison.domain.model.Concert;
+import com.concertcomparison.domain.model.Seat;
+import com.concertcomparison.domain.model.SeatStatus;
+import com.concertcomparison.infrastructure.persistence.JpaConcertRepository;
+import com.concertcomparison.infrastructure.persistence.JpaSeatRepository;
+import com.concertcomparison.infrastructure.seatmap.SeatStatusBitmap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("Seat Layout / Status Vector API Integration Tests")
+class SeatLayoutIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JpaConcertRepository concertRepository;
+
+    @Autowired
+    private JpaSeatRepository seatRepository;
+
+    private Concert concert;
+
+    @BeforeEach
+    void setUp() {
+        concert = concertRepository.saveAndFlush(
+            Concert.createConcert("Layout Show", LocalDateTime.now().plusDays(10), "Hall", null));
+
+        addSeat("L-1", SeatStatus.AVAILABLE);
+        addSeat("L-2", SeatStatus.HELD);
+        addSeat("L-3", SeatStatus.SOLD);
+    }
+
+    @Test
+    @DisplayName("Layout liefert Seats ohne Status mit ETag und Content-Location")
+    void shouldReturnLayoutWithETag() throws Exception {
+        mockMvc.perform(get("/api/events/{id}/seats/layout", concert.getId())
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"layout-" + concert.getId() + "-0\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+            .andExpect(header().string(HttpHeaders.CONTENT_LOCATION, "/api/events/" + concert.getId() + "/seats/layout/0"))
+            .andExpect(jsonPath("$.layoutVersion", is(0)))
+            .andExpect(jsonPath("$.seats", hasSize(3)))
+            .andExpect(jsonPath("$.seats[0].number", is("L-1")))
+            .andExpect(jsonPath("$.seats[0].status").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Layout mit passendem If-None-Match liefert 304")
+    void shouldReturnNotModifiedForMatchingETag() throws Exception {
+        mockMvc.perform(get("/api/events/{id}/seats/layout", concert.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"layout-" + concert.getId() + "-0\""))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Versioniertes Layout ist immutable, veraltete Version liefert 404")
+    void shouldServeImmutableVersionedLayout() throws Exception {
+        mockMvc.perform(get("/api/events/{id}/seats/layout/{version}", concert.getId(), 0))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+
+        mockMvc.perform(get("/api/events/{id}/seats/layout/{version}", concert.getId(), 7))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Status-Vektor liefert ein Zeichen pro Seat in Layout-Reihenfolge")
+    void shouldReturnCompactStatusVector() throws Exception {
+        mockMvc.perform(get("/api/events/{id}/seats/status", concert.getId())
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.layoutVersion", is(0)))
+            .andExpect(jsonPath("$.statuses", is("AHS")));
+    }
+
+    @Test
+    @DisplayName("Bitmap-Accept liefert gepackten Status mit 2 Bit pro Seat")
+    void shouldReturnBinaryBitmapViaContentNegotiation() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/{id}/seats/status", concert.getId())
+                .accept(SeatStatusBitmap.MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(SeatStatusBitmap.MEDIA_TYPE))
+            .andExpect(header().string("X-Layout-Version", "0"))
+            .andReturn();
+
+        ByteBuffer body = ByteBuffer.wrap(result.getResponse().getContentAsByteArray());
+        assertThat(body.getLong()).isZero();
+        assertThat(body.getInt()).isEqualTo(3);
+        assertThat(body.getLong()).isEqualTo(0b10_01_00L);
+    }
+
+    @Test
+    @DisplayName("Unbekanntes Konzert liefert 404")
+    void shouldReturnNotFoundForUnknownConcert() throws Exception {
+        mockMvc.perform(get("/api/events/{id}/seats/status", 999_999L))
+            .andExpect(status().isNotFound());
+    }
+
+    @SuppressWarnings("null")
+    private void addSeat(String number, SeatStatus status) {
+        Seat seat = new Seat(concert.getId(), number, "CAT", "Block A", "A", number, 50.0);
+
+        if (status != SeatStatus.AVAILABLE) {
+            seat.hold("res-" + number, LocalDateTime.now().plusMinutes(5));
+        }
+        if (status == SeatStatus.SOLD) {
+            seat.sell("res-" + number);
+        }
+
+        seatRepository.saveAndFlush(seat);
+    }
+}
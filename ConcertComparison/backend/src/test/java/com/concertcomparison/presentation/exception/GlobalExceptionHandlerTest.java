@@ -128,6 +128,46 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getHeaders().get("Retry-After")).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("ServiceOverloadedException sollte 503 SERVICE_UNAVAILABLE mit Retry-After Header zurückgeben")
+    void testHandleServiceOverloaded() {
+        // Arrange
+        ServiceOverloadedException ex = new ServiceOverloadedException("reservation", 12, 1);
+        when(messageSource.getMessage(anyString(), any(), anyString(), any()))
+                .thenReturn("Der Dienst ist gerade stark ausgelastet.");
+
+        // Act
+        ResponseEntity<ErrorResponseDTO> response = handler.handleServiceOverloaded(ex, request);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody().getCode()).isEqualTo("SERVICE_OVERLOADED");
+        assertThat(response.getBody().getRetryAfter()).isEqualTo(1);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("HoldQuotaExceededException sollte 429 TOO_MANY_REQUESTS zurückgeben")
+    void testHandleHoldQuotaExceeded() {
+        // Arrange
+        HoldQuotaExceededException ex = new HoldQuotaExceededException(
+            "Quota erreicht",
+            "bot@example.com",
+            1L,
+            8
+        );
+        when(messageSource.getMessage(anyString(), any(), anyString(), any()))
+                .thenReturn("Sie halten bereits 8 Sitzplätze für dieses Konzert.");
+
+        // Act
+        ResponseEntity<ErrorResponseDTO> response = handler.handleHoldQuotaExceeded(ex, request);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getBody().getCode()).isEqualTo("HOLD_QUOTA_EXCEEDED");
+        assertThat(response.getBody().getMessage()).contains("8");
+    }
+
     // ==================== ResourceNotFound Exception Tests ====================
 
     @Test
@@ -32,11 +32,11 @@ class ConcurrencyStressTest extends Simulation {
   // Helper: Generiere eindeutige User IDs
   val userIdFeeder = Iterator.continually(Map("userId" -> java.util.UUID.randomUUID().toString))
   
-  // Helper: Generiere zufällige Seat IDs (1-100)
-  val seatIdFeeder = Iterator.continually(Map("seatId" -> (scala.util.Random.nextInt(100) + 1)))
+  // Helper: Zufällige, beim Start freie Seat IDs des gewählten Datasets
+  val seatIdFeeder = Iterator.continually(Map("seatId" -> Dataset.randomAvailableSeatId()))
   
-  // Helper: Generiere zufällige Seat IDs (1-50) für Spike
-  val spikeSeatIdFeeder = Iterator.continually(Map("seatId" -> (scala.util.Random.nextInt(50) + 1)))
+  // Helper: Zufällige, beim Start freie Seat IDs für Spike
+  val spikeSeatIdFeeder = Iterator.continually(Map("seatId" -> Dataset.randomAvailableSeatId()))
 
   // Scenario 1: Hot Seat Test - 1000 Nutzer kämpfen um EINEN Seat
   val hotSeatScenario = scenario("Hot Seat - 1000 Concurrent Users")
@@ -44,7 +44,7 @@ class ConcurrencyStressTest extends Simulation {
     .exec(http("Hold Hot Seat")
       .post("/api/seats/1/hold")
       .body(StringBody("""{"userId": "#{userId}"}""")).asJson
-      .check(status.in(200, 409))
+      .check(status.in(200, 409, 503))  // 503 wenn die Nebenläufigkeitsgrenze erreicht ist
       .check(responseTimeInMillis.lte(5000))  // Max 5s unter extremer Last
     )
 
@@ -67,8 +67,8 @@ class ConcurrencyStressTest extends Simulation {
     .exec(http("Hold Seat During Spike")
       .post("/api/seats/#{seatId}/hold")
       .body(StringBody("""{"userId": "#{userId}"}""")).asJson
-      .check(status.in(200, 409, 503))  // 503 Service Unavailable auch akzeptabel
-      .check(responseTimeInMillis.lte(10000))  // Max 10s bei Spitze
+      .check(status.in(200, 409, 503))  // 503 + Retry-After vom adaptiven Limiter statt Warten
+      .check(responseTimeInMillis.lte(3000))  // Limiter lehnt ab, bevor sich die Latenz aufstaut
     )
 
   // Scenario 4: Pessimistic Locking Test - Für kritische Hot Seats
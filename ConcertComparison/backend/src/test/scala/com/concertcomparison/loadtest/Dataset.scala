@@ -0,0 +1,55 @@
+package com.concertcomparison.loadtest
+
+import java.util.concurrent.ThreadLocalRandom
+
+/**
+ * Spiegel der Datensatz-Presets des Backends (DatasetPreset.java, Profil 'performance').
+ *
+ * Auswahl per System Property, passend zum Backend-Start:
+ *   ./mvnw spring-boot:run -Dspring-boot.run.profiles=performance -Dspring-boot.run.arguments=--concert.dataset.preset=LARGE
+ *   ./mvnw gatling:test -Ddataset=large
+ *
+ * Seat-IDs sind deterministisch: Seat i (1-basiert) von Konzert k hat die ID (k - 1) * seatsPerConcert + i.
+ * Die ersten availableSeatsPerConcert Seats jedes Konzerts sind beim Start AVAILABLE.
+ */
+object Dataset {
+
+  final case class Preset(concerts: Int, seatsPerConcert: Int, users: Int, skew: Double)
+
+  val presets: Map[String, Preset] = Map(
+    "small" -> Preset(5, 1000, 100, 1.0),
+    "medium" -> Preset(50, 5000, 10000, 1.0),
+    "large" -> Preset(200, 10000, 100000, 1.2),
+    "hotsale" -> Preset(10, 50000, 50000, 2.0)
+  )
+
+  val name: String = System.getProperty("dataset", "small").toLowerCase
+  val preset: Preset = presets.getOrElse(name,
+    throw new IllegalArgumentException(s"Unbekanntes Dataset '$name', erlaubt: ${presets.keys.mkString(", ")}"))
+  val availableSeatsPerConcert: Int = Integer.getInteger("dataset.availableSeats", 100)
+
+  /** Kumulierte Zipf-Gewichte, damit beliebte Konzerte häufiger angefragt werden (wie im Generator). */
+  private val cumulativeDemand: Array[Double] = {
+    val weights = (1 to preset.concerts).map(k => 1.0 / math.pow(k, preset.skew))
+    val total = weights.sum
+    weights.scanLeft(0.0)(_ + _).tail.map(_ / total).toArray
+  }
+
+  def seatId(concertId: Int, index: Int): Long =
+    (concertId - 1).toLong * preset.seatsPerConcert + index
+
+  /** Konzert-ID, Zipf-verteilt nach Nachfrage. */
+  def randomConcertId(): Int = {
+    val r = ThreadLocalRandom.current().nextDouble()
+    val idx = java.util.Arrays.binarySearch(cumulativeDemand, r)
+    math.min(if (idx >= 0) idx + 1 else -idx, preset.concerts)
+  }
+
+  /** Beim Start freier Seat eines (nachfragegewichteten) Konzerts. */
+  def randomAvailableSeatId(): Long =
+    seatId(randomConcertId(), ThreadLocalRandom.current().nextInt(availableSeatsPerConcert) + 1)
+
+  /** Perf-User-ID (perf-user-1 .. perf-user-N). */
+  def randomUserId(): String =
+    s"perf-user-${ThreadLocalRandom.current().nextInt(math.max(preset.users, 1)) + 1}@example.com"
+}
@@ -13,8 +13,8 @@ import scala.concurrent.duration._
  * - Misst Response Time, Throughput und Error Rate
  * 
  * WICHTIG: Backend muss auf localhost:8080 laufen!
- * Start mit: ./mvnw spring-boot:run
- * Dann: ./mvnw gatling:test
+ * Start mit: ./mvnw spring-boot:run -Dspring-boot.run.profiles=performance
+ * Dann: ./mvnw gatling:test -Ddataset=small (Preset wie im Backend, siehe Dataset)
  */
 class SeatHoldLoadTest extends Simulation {
 
@@ -39,10 +39,10 @@ class SeatHoldLoadTest extends Simulation {
     )
     .pause(100.milliseconds)
 
-  // Scenario 2: Normale Last - Verschiedene Seats parallel
+  // Scenario 2: Normale Last - Verschiedene Seats parallel (Konzerte nach Nachfrage gewichtet, siehe Dataset)
   val randomSeatFeeder = Iterator.continually(Map(
-    "seatId" -> (scala.util.Random.nextInt(50) + 1),
-    "userId" -> s"user-${scala.util.Random.nextInt(100000)}"
+    "seatId" -> Dataset.randomAvailableSeatId(),
+    "userId" -> Dataset.randomUserId()
   ))
   
   val normalLoadScenario = scenario("Normal Load - Different Seats")
@@ -57,8 +57,8 @@ class SeatHoldLoadTest extends Simulation {
 
   // Scenario 3: Burst Traffic - Verkaufsstart Simulation
   val burstSeatFeeder = Iterator.continually(Map(
-    "seatId" -> (scala.util.Random.nextInt(100) + 1),
-    "userId" -> s"user-${scala.util.Random.nextInt(100000)}"
+    "seatId" -> Dataset.randomAvailableSeatId(),
+    "userId" -> Dataset.randomUserId()
   ))
   
   val burstTrafficScenario = scenario("Burst Traffic - Sales Start")
@@ -71,9 +71,12 @@ class SeatHoldLoadTest extends Simulation {
     )
 
   // Scenario 4: Seat Availability Check unter Last
+  val concertIdFeeder = Iterator.continually(Map("concertId" -> Dataset.randomConcertId()))
+
   val availabilityCheckScenario = scenario("Seat Availability Check")
+    .feed(concertIdFeeder)
     .exec(http("Get Seat Availability")
-      .get("/api/events/1/seats")
+      .get("/api/events/#{concertId}/seats")
       .check(status.is(200))
       .check(jsonPath("$.seats").exists)
       .check(responseTimeInMillis.lte(500))